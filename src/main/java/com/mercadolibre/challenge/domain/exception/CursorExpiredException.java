@@ -0,0 +1,11 @@
+package com.mercadolibre.challenge.domain.exception;
+
+/**
+ * Exception thrown when a page cursor points to a catalog version that is no longer retained
+ */
+public class CursorExpiredException extends RuntimeException {
+
+    public CursorExpiredException(long snapshotVersion) {
+        super("Page cursor for catalog version " + snapshotVersion + " has expired, request the first page again");
+    }
+}
@@ -0,0 +1,16 @@
+package com.mercadolibre.challenge.domain.exception;
+
+/**
+ * Exception thrown when the application cannot initialize its data sources
+ * This could be due to missing or unreadable files, or malformed content
+ */
+public class InitializationException extends RuntimeException {
+    
+    public InitializationException(String message) {
+        super(message);
+    }
+    
+    public InitializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
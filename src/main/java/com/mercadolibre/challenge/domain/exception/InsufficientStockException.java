@@ -0,0 +1,11 @@
+package com.mercadolibre.challenge.domain.exception;
+
+/**
+ * Exception thrown when a product does not have enough stock left for a reservation
+ */
+public class InsufficientStockException extends RuntimeException {
+    
+    public InsufficientStockException(String productId, int quantity) {
+        super("Not enough stock to reserve " + quantity + " units of product with id: " + productId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mercadolibre.challenge.domain.exception;
+
+/**
+ * Exception thrown when a stock reservation does not exist, has expired or belongs to another product
+ */
+public class ReservationNotFoundException extends RuntimeException {
+    
+    public ReservationNotFoundException(String id) {
+        super("Stock reservation not found with id: " + id);
+    }
+}
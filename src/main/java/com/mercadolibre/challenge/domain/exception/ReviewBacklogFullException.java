@@ -0,0 +1,11 @@
+package com.mercadolibre.challenge.domain.exception;
+
+/**
+ * Exception thrown when too many submitted reviews are waiting to be persisted to accept another one
+ */
+public class ReviewBacklogFullException extends RuntimeException {
+
+    public ReviewBacklogFullException(int maxPending) {
+        super("Too many reviews waiting to be saved (" + maxPending + "), try again later");
+    }
+}
@@ -0,0 +1,140 @@
+package com.mercadolibre.challenge.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list that grows by appending, sharing its elements with the list it was appended to
+ * Elements live in full chunks of {@value #CHUNK} that are never modified once filled, followed by a partial
+ * tail. Appending copies the tail and the array of chunk references, so adding a few elements to a list of
+ * n costs O(batch + n / {@value #CHUNK}) instead of a copy of every element. The hash code follows the
+ * {@link List#hashCode()} contract and is carried over from the list appended to, so it is never recomputed.
+ * @param <T> the element type, null elements are rejected
+ */
+public final class AppendOnlyList<T> extends AbstractList<T> implements RandomAccess {
+
+    static final int CHUNK = 64;
+
+    private static final AppendOnlyList<?> EMPTY = new AppendOnlyList<>(new Object[0][], new Object[0], 0, 1);
+
+    private final Object[][] chunks;
+    private final Object[] tail;
+    private final int size;
+    private final int hash;
+
+    private AppendOnlyList(Object[][] chunks, Object[] tail, int size, int hash) {
+        this.chunks = chunks;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Get the empty list
+     * @return a list without elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AppendOnlyList<T> empty() {
+        return (AppendOnlyList<T>) EMPTY;
+    }
+
+    /**
+     * Get an append-only list with the elements of a list
+     * @param list the elements, returned as is if it already is an append-only list
+     * @return the list
+     * @throws NullPointerException if an element is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AppendOnlyList<T> copyOf(List<? extends T> list) {
+        return list instanceof AppendOnlyList<?> appendOnly ? (AppendOnlyList<T>) appendOnly
+                : AppendOnlyList.<T>empty().plusAll(list);
+    }
+
+    /**
+     * Get a list with the given elements appended to this one, this list is left untouched
+     * @param appended the elements to append
+     * @return the new list, sharing every full chunk of this one
+     * @throws NullPointerException if an element is null
+     */
+    public AppendOnlyList<T> plusAll(List<? extends T> appended) {
+        if (appended.isEmpty()) {
+            return this;
+        }
+        int nextSize = size + appended.size();
+        int fullChunks = nextSize / CHUNK;
+        Object[][] nextChunks = fullChunks == chunks.length ? chunks : Arrays.copyOf(chunks, fullChunks);
+        Object[] nextTail = new Object[nextSize % CHUNK];
+        int nextHash = hash;
+        int position = size;
+        Object[] current = position / CHUNK < fullChunks ? Arrays.copyOf(tail, CHUNK) : nextTail;
+        System.arraycopy(tail, 0, current, 0, Math.min(tail.length, current.length));
+        for (T element : appended) {
+            Objects.requireNonNull(element, "element");
+            current[position % CHUNK] = element;
+            nextHash = 31 * nextHash + element.hashCode();
+            position++;
+            if (position % CHUNK == 0 && position / CHUNK <= fullChunks) {
+                nextChunks[position / CHUNK - 1] = current;
+                current = position / CHUNK < fullChunks ? new Object[CHUNK] : nextTail;
+            }
+        }
+        return new AppendOnlyList<>(nextChunks, nextTail, nextSize, nextHash);
+    }
+
+    /**
+     * Check whether this list is the given list with elements appended, holding the same instances
+     * Full chunks shared with an append-only list are compared by reference, so the check costs
+     * O(size / {@value #CHUNK}) for a list this one was appended to.
+     * @param prefix the list this one may have been appended to
+     * @return true if every element of the prefix is at the same position in this list
+     */
+    public boolean startsWith(List<?> prefix) {
+        if (prefix.size() > size) {
+            return false;
+        }
+        int from = 0;
+        if (prefix instanceof AppendOnlyList<?> other) {
+            for (int i = 0; i < other.chunks.length; i++) {
+                if (other.chunks[i] != chunks[i]) {
+                    return false;
+                }
+            }
+            from = other.chunks.length * CHUNK;
+        }
+        for (int i = from; i < prefix.size(); i++) {
+            if (prefix.get(i) != get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        int chunk = index / CHUNK;
+        return (T) (chunk < chunks.length ? chunks[chunk][index % CHUNK] : tail[index % CHUNK]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof AppendOnlyList<?> other && other.hash != hash) {
+            return false;
+        }
+        return super.equals(o);
+    }
+}
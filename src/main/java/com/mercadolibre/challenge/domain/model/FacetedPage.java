@@ -0,0 +1,26 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of a filtered listing together with the facet counts of the whole listing
+ * @param <T> the type of elements in the page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedPage<T> {
+    /**
+     * The requested page of the listing
+     */
+    private Page<T> page;
+
+    /**
+     * The facet counts of the listing
+     */
+    private ProductFacets facets;
+}
@@ -0,0 +1,507 @@
+package com.mercadolibre.challenge.domain.model;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Ad hoc product filter, e.g. {@code price < 500 AND rating >= 4.5 AND seller.rating > 4.7}
+ * Comparisons of a field with a value are combined with AND, OR, NOT and parentheses, AND binding tighter
+ * than OR. Keywords and field names ignore case, text values may be bare words or quoted. A comparison on a
+ * field the product has no value for never matches.
+ * The expression is compiled once into a tree of predicates, so testing a product does not walk any syntax.
+ */
+public final class FilterExpression {
+
+    /**
+     * The longest expression accepted
+     */
+    public static final int MAX_LENGTH = 1000;
+
+    // Deeper nesting is rejected rather than risking the stack of the parser
+    private static final int MAX_DEPTH = 32;
+
+    private final Node root;
+    private final Predicate<Product> predicate;
+
+    /**
+     * The fields a filter can compare
+     */
+    public enum Field {
+        ID("id", false),
+        TYPE("type", false),
+        PRICE("price", true),
+        RATING("rating", true),
+        STOCK("stock", true),
+        SELLER_ID("seller.id", false),
+        SELLER_RATING("seller.rating", true),
+        /**
+         * Equal if any payment method of the product has the id, not equal if none has it
+         */
+        PAYMENT_METHOD("paymentMethod", false);
+
+        private final String fieldName;
+        private final boolean numeric;
+
+        Field(String fieldName, boolean numeric) {
+            this.fieldName = fieldName;
+            this.numeric = numeric;
+        }
+
+        /**
+         * Get the name of the field in expressions
+         * @return the name
+         */
+        public String fieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Check whether the field holds numbers, text fields can only be compared for equality
+         * @return true if the field is numeric
+         */
+        public boolean isNumeric() {
+            return numeric;
+        }
+
+        private static Field from(String name) {
+            for (Field field : values()) {
+                if (field.fieldName.equalsIgnoreCase(name)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The comparison operators
+     */
+    public enum Operator {
+        EQ("="),
+        NE("!="),
+        LT("<"),
+        LE("<="),
+        GT(">"),
+        GE(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Get the symbol of the operator in expressions
+         * @return the symbol
+         */
+        public String symbol() {
+            return symbol;
+        }
+
+        /**
+         * Check whether the result of comparing a field value with the expression value satisfies the operator
+         * @param comparison the comparison result, negative, zero or positive
+         * @return true if the operator holds
+         */
+        public boolean holds(int comparison) {
+            return switch (this) {
+                case EQ -> comparison == 0;
+                case NE -> comparison != 0;
+                case LT -> comparison < 0;
+                case LE -> comparison <= 0;
+                case GT -> comparison > 0;
+                case GE -> comparison >= 0;
+            };
+        }
+
+        private static Operator from(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A node of the expression tree
+     */
+    public sealed interface Node permits And, Or, Not, Comparison {
+
+        /**
+         * Compile the node into a predicate
+         * @return the predicate
+         */
+        Predicate<Product> compile();
+    }
+
+    /**
+     * Matches if every operand matches
+     * @param operands at least two operands
+     */
+    public record And(List<Node> operands) implements Node {
+        @Override
+        public Predicate<Product> compile() {
+            List<Predicate<Product>> predicates = operands.stream().map(Node::compile).toList();
+            return product -> {
+                for (Predicate<Product> predicate : predicates) {
+                    if (!predicate.test(product)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(operand -> operand instanceof Or ? "(" + operand + ")" : operand.toString())
+                    .collect(Collectors.joining(" AND "));
+        }
+    }
+
+    /**
+     * Matches if any operand matches
+     * @param operands at least two operands
+     */
+    public record Or(List<Node> operands) implements Node {
+        @Override
+        public Predicate<Product> compile() {
+            List<Predicate<Product>> predicates = operands.stream().map(Node::compile).toList();
+            return product -> {
+                for (Predicate<Product> predicate : predicates) {
+                    if (predicate.test(product)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Node::toString).collect(Collectors.joining(" OR "));
+        }
+    }
+
+    /**
+     * Matches if the operand does not match
+     * @param operand the negated node
+     */
+    public record Not(Node operand) implements Node {
+        @Override
+        public Predicate<Product> compile() {
+            return operand.compile().negate();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + (operand instanceof Comparison ? operand.toString() : "(" + operand + ")");
+        }
+    }
+
+    /**
+     * Compares a field of the product with a value
+     * @param field the field
+     * @param operator the operator
+     * @param value a BigDecimal for numeric fields, a String otherwise
+     */
+    public record Comparison(Field field, Operator operator, Object value) implements Node {
+
+        /**
+         * Get the value of a numeric comparison
+         * @return the value
+         */
+        public BigDecimal number() {
+            return (BigDecimal) value;
+        }
+
+        /**
+         * Get the value of a text comparison
+         * @return the value
+         */
+        public String text() {
+            return (String) value;
+        }
+
+        @Override
+        public Predicate<Product> compile() {
+            return switch (field) {
+                case ID -> equality(Product::getId);
+                case TYPE -> equality(Product::getType);
+                case SELLER_ID -> equality(product -> product.getSeller() == null ? null : product.getSeller().getId());
+                case PAYMENT_METHOD -> {
+                    String id = text();
+                    Predicate<Product> any = product -> product.getPaymentMethods() != null
+                            && product.getPaymentMethods().stream()
+                                    .anyMatch(paymentMethod -> paymentMethod != null && id.equals(paymentMethod.getId()));
+                    yield operator == Operator.EQ ? any : any.negate();
+                }
+                case PRICE -> {
+                    BigDecimal bound = number();
+                    yield product -> product.getPrice() != null && operator.holds(product.getPrice().compareTo(bound));
+                }
+                case RATING -> {
+                    double bound = number().doubleValue();
+                    yield product -> product.getRating() != null && operator.holds(Double.compare(product.getRating(), bound));
+                }
+                case STOCK -> {
+                    double bound = number().doubleValue();
+                    yield product -> product.getStock() != null && operator.holds(Double.compare(product.getStock(), bound));
+                }
+                case SELLER_RATING -> {
+                    double bound = number().doubleValue();
+                    yield product -> product.getSeller() != null && product.getSeller().getRating() != null
+                            && operator.holds(Double.compare(product.getSeller().getRating(), bound));
+                }
+            };
+        }
+
+        private Predicate<Product> equality(Function<Product, String> getter) {
+            String expected = text();
+            boolean equal = operator == Operator.EQ;
+            return product -> {
+                String actual = getter.apply(product);
+                return actual != null && expected.equals(actual) == equal;
+            };
+        }
+
+        @Override
+        public String toString() {
+            String literal = field.isNumeric()
+                    ? number().toPlainString()
+                    : "\"" + text().replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+            return field.fieldName() + " " + operator.symbol() + " " + literal;
+        }
+    }
+
+    private FilterExpression(Node root) {
+        this.root = root;
+        this.predicate = root.compile();
+    }
+
+    /**
+     * Parse and compile an expression
+     * @param source the expression, e.g. "type = smartphone AND (price &lt;= 300 OR rating &gt;= 4.5)"
+     * @return the compiled expression
+     * @throws ProductValidationException if the expression is empty, too long or not valid
+     */
+    public static FilterExpression parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw new ProductValidationException("Filter expression must not be empty");
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new ProductValidationException("Filter expression must not be longer than " + MAX_LENGTH + " characters");
+        }
+        return new FilterExpression(new Parser(source).parse());
+    }
+
+    /**
+     * Get the root of the expression tree
+     * @return the root node
+     */
+    public Node root() {
+        return root;
+    }
+
+    /**
+     * Get the nodes that must all match, the operands of a top level AND or else the root alone
+     * @return the conjuncts
+     */
+    public List<Node> conjuncts() {
+        return root instanceof And and ? and.operands() : List.of(root);
+    }
+
+    /**
+     * Check whether a product matches the expression
+     * @param product the product
+     * @return true if it matches
+     */
+    public boolean test(Product product) {
+        return predicate.test(product);
+    }
+
+    /**
+     * Get the expression in canonical form, with every text value quoted
+     * @return the canonical expression
+     */
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    /**
+     * Recursive descent parser over a list of tokens
+     */
+    private static final class Parser {
+        private final List<Token> tokens;
+        private int position;
+        private int depth;
+
+        private enum Kind { WORD, STRING, OPERATOR, OPEN, CLOSE, END }
+
+        private record Token(Kind kind, String text, int offset) {
+            boolean isKeyword(String keyword) {
+                return kind == Kind.WORD && text.equalsIgnoreCase(keyword);
+            }
+        }
+
+        Parser(String source) {
+            this.tokens = tokenize(source);
+        }
+
+        Node parse() {
+            Node node = or();
+            if (peek().kind() != Kind.END) {
+                throw error(peek(), "unexpected '" + peek().text() + "'");
+            }
+            return node;
+        }
+
+        private Node or() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(and());
+            while (peek().isKeyword("OR")) {
+                position++;
+                operands.add(and());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(List.copyOf(operands));
+        }
+
+        private Node and() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(unary());
+            while (peek().isKeyword("AND")) {
+                position++;
+                operands.add(unary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(List.copyOf(operands));
+        }
+
+        private Node unary() {
+            if (++depth > MAX_DEPTH) {
+                throw error(peek(), "expression nested deeper than " + MAX_DEPTH + " levels");
+            }
+            Token token = peek();
+            Node node;
+            if (token.isKeyword("NOT")) {
+                position++;
+                node = new Not(unary());
+            } else if (token.kind() == Kind.OPEN) {
+                position++;
+                node = or();
+                expect(Kind.CLOSE, "expected ')'");
+            } else {
+                node = comparison();
+            }
+            depth--;
+            return node;
+        }
+
+        private Node comparison() {
+            Token name = expect(Kind.WORD, "expected a field");
+            Field field = Field.from(name.text());
+            if (field == null) {
+                throw error(name, "unknown field '" + name.text() + "'");
+            }
+            Token symbol = expect(Kind.OPERATOR, "expected a comparison operator");
+            Operator operator = Operator.from(symbol.text());
+            if (!field.isNumeric() && operator != Operator.EQ && operator != Operator.NE) {
+                throw error(symbol, "field '" + field.fieldName() + "' can only be compared with = or !=");
+            }
+            Token value = peek();
+            if (value.kind() != Kind.WORD && value.kind() != Kind.STRING) {
+                throw error(value, "expected a value");
+            }
+            position++;
+            if (!field.isNumeric()) {
+                return new Comparison(field, operator, value.text());
+            }
+            try {
+                return new Comparison(field, operator, new BigDecimal(value.text()));
+            } catch (NumberFormatException e) {
+                throw error(value, "field '" + field.fieldName() + "' must be compared with a number");
+            }
+        }
+
+        private Token peek() {
+            return tokens.get(position);
+        }
+
+        private Token expect(Kind kind, String message) {
+            Token token = peek();
+            if (token.kind() != kind) {
+                throw error(token, message);
+            }
+            position++;
+            return token;
+        }
+
+        private ProductValidationException error(Token token, String message) {
+            return new ProductValidationException(
+                    "Invalid filter expression at position " + (token.offset() + 1) + ": " + message);
+        }
+
+        private List<Token> tokenize(String text) {
+            List<Token> result = new ArrayList<>();
+            int i = 0;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '(' || c == ')') {
+                    result.add(new Token(c == '(' ? Kind.OPEN : Kind.CLOSE, String.valueOf(c), i++));
+                } else if (c == '<' || c == '>' || c == '=' || c == '!') {
+                    int start = i++;
+                    if (i < text.length() && text.charAt(i) == '=' && c != '=') {
+                        i++;
+                    }
+                    String symbol = text.substring(start, i);
+                    if (Operator.from(symbol) == null) {
+                        throw new ProductValidationException("Invalid filter expression at position " + (start + 1)
+                                + ": unknown operator '" + symbol + "'");
+                    }
+                    result.add(new Token(Kind.OPERATOR, symbol, start));
+                } else if (c == '"' || c == '\'') {
+                    int start = i++;
+                    StringBuilder value = new StringBuilder();
+                    while (i < text.length() && text.charAt(i) != c) {
+                        if (text.charAt(i) == '\\' && i + 1 < text.length()) {
+                            i++;
+                        }
+                        value.append(text.charAt(i++));
+                    }
+                    if (i == text.length()) {
+                        throw new ProductValidationException("Invalid filter expression at position " + (start + 1)
+                                + ": unterminated string");
+                    }
+                    i++;
+                    result.add(new Token(Kind.STRING, value.toString(), start));
+                } else if (isWordChar(c)) {
+                    int start = i;
+                    while (i < text.length() && isWordChar(text.charAt(i))) {
+                        i++;
+                    }
+                    result.add(new Token(Kind.WORD, text.substring(start, i), start));
+                } else {
+                    throw new ProductValidationException("Invalid filter expression at position " + (i + 1)
+                            + ": unexpected character '" + c + "'");
+                }
+            }
+            result.add(new Token(Kind.END, "end of expression", text.length()));
+            return result;
+        }
+
+        private static boolean isWordChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '_';
+        }
+    }
+}
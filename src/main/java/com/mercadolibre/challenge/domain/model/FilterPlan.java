@@ -0,0 +1,57 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * How a filter expression was answered, returned when the plan is requested
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilterPlan {
+    /**
+     * The expression in canonical form
+     */
+    private String expression;
+
+    /**
+     * How the candidate products were read: FULL_SCAN, TYPE_INDEX, PRICE_INDEX or FACET_BITMAPS
+     */
+    private String accessPath;
+
+    /**
+     * The part of the expression the index narrowed the candidates by, null for a full scan
+     */
+    private String indexCondition;
+
+    /**
+     * The estimated number of candidates of every access path considered
+     */
+    private Map<String, Long> estimatedRows;
+
+    /**
+     * The number of candidates the expression was tested on
+     */
+    private long examinedRows;
+
+    /**
+     * The number of products matching the expression
+     */
+    private long matchedRows;
+
+    /**
+     * The time spent choosing the access path
+     */
+    private long planningMicros;
+
+    /**
+     * The time spent reading and testing the candidates
+     */
+    private long executionMicros;
+}
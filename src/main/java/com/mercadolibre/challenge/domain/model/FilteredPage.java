@@ -0,0 +1,26 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of the products matching a filter expression, with the plan that produced it when requested
+ * @param <T> the type of elements in the page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilteredPage<T> {
+    /**
+     * The requested page of the matches
+     */
+    private Page<T> page;
+
+    /**
+     * The plan of the query, null unless it was requested
+     */
+    private FilterPlan plan;
+}
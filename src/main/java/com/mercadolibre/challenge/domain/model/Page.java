@@ -44,6 +44,11 @@ public class Page<T> {
      */
     private int size;
     
+    /**
+     * The cursor to request the next page with, null on the last page
+     */
+    private PageCursor nextCursor;
+    
     /**
      * Whether there is a previous page
      * @return true if there is a previous page
@@ -0,0 +1,40 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Position after the last element of a page
+ * Pages requested with a cursor start right after the last seen id, read from the same catalog
+ * version the cursor was issued for, a cursor whose version is no longer retained has expired
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageCursor {
+    /**
+     * The catalog version the previous page was read from
+     */
+    private long snapshotVersion;
+
+    /**
+     * The id of the last element of the previous page
+     */
+    private String lastId;
+
+    /**
+     * Creates a cursor positioned after the given id
+     * @param snapshotVersion the catalog version the page was read from
+     * @param lastId the id of the last element of the page
+     * @return a new PageCursor
+     */
+    public static PageCursor of(long snapshotVersion, String lastId) {
+        return PageCursor.builder()
+                .snapshotVersion(snapshotVersion)
+                .lastId(lastId)
+                .build();
+    }
+}
@@ -1,16 +1,20 @@
 package com.mercadolibre.challenge.domain.model;
 
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 /**
  * Represents a request for a page of data
- * Contains information about the requested page number and size
+ * Contains information about the requested page number and size, or the cursor the page starts after,
+ * the order of the elements and the price range they are filtered by
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PageRequest {
@@ -26,6 +30,32 @@ public class PageRequest {
     @Builder.Default
     private int size = 10;
     
+    /**
+     * The cursor the page starts after, the page number is ignored when it is set
+     */
+    private PageCursor cursor;
+    
+    /**
+     * The order of the elements, null for id order
+     */
+    private ProductSort sort;
+    
+    /**
+     * The direction of the order
+     */
+    @Builder.Default
+    private SortDirection direction = SortDirection.ASC;
+    
+    /**
+     * The minimum price, inclusive, null for no minimum
+     */
+    private BigDecimal minPrice;
+    
+    /**
+     * The maximum price, inclusive, null for no maximum
+     */
+    private BigDecimal maxPrice;
+    
     /**
      * Creates a PageRequest with the given page number and size
      * @param page the page number (0-based)
@@ -39,6 +69,57 @@ public class PageRequest {
                 .build();
     }
     
+    /**
+     * Creates a PageRequest for the page following the given cursor
+     * @param cursor the cursor returned with the previous page
+     * @param size the page size
+     * @return a new PageRequest
+     */
+    public static PageRequest after(PageCursor cursor, int size) {
+        return PageRequest.builder()
+                .size(Math.max(1, size))
+                .cursor(cursor)
+                .build();
+    }
+    
+    /**
+     * Creates a copy of this request with the given order
+     * @param sort the order of the elements, null for id order
+     * @param direction the direction of the order
+     * @return a new PageRequest
+     */
+    public PageRequest sortedBy(ProductSort sort, SortDirection direction) {
+        return toBuilder()
+                .sort(sort)
+                .direction(direction == null ? SortDirection.ASC : direction)
+                .build();
+    }
+    
+    /**
+     * Creates a copy of this request filtered by price
+     * @param minPrice the minimum price, inclusive, null for no minimum
+     * @param maxPrice the maximum price, inclusive, null for no maximum
+     * @return a new PageRequest
+     * @throws ProductValidationException if the minimum is greater than the maximum
+     */
+    public PageRequest withPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new ProductValidationException("minPrice must not be greater than maxPrice");
+        }
+        return toBuilder()
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .build();
+    }
+    
+    /**
+     * Whether the elements are filtered by price
+     * @return true if a minimum or maximum price is set
+     */
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+    
     /**
      * Creates a default PageRequest with page 0 and size 10
      * @return a new PageRequest
@@ -1,16 +1,19 @@
 package com.mercadolibre.challenge.domain.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * A payment method accepted for a product, immutable so products can share it
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public class PaymentMethod {
-    private String id;
-    private String name;
-    private String description;
-}
\ No newline at end of file
+    String id;
+    String name;
+    String description;
+}
@@ -1,27 +1,125 @@
 package com.mercadolibre.challenge.domain.model;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * A product of the catalog
+ * Products and everything they hold are immutable, so the catalog hands the same instances to every
+ * reader without copying them. Lists are copied into unmodifiable lists when a product is built, and the
+ * hash code is computed once at that point, so hashCode is O(1) and equals rejects almost every different
+ * product without walking its reviews.
+ */
+@Value
 public class Product {
-    private String id;
-    private String title;
-    private String description;
-    private BigDecimal price;
-    private List<String> images;
-    private List<PaymentMethod> paymentMethods;
-    private Seller seller;
-    private Integer stock;
-    private Double rating;
-    private List<Review> reviews;
-    private String type;
-}
\ No newline at end of file
+    String id;
+    String title;
+    String description;
+    BigDecimal price;
+    List<String> images;
+    List<PaymentMethod> paymentMethods;
+    Seller seller;
+    Integer stock;
+    Double rating;
+    List<Review> reviews;
+    /**
+     * The sum of the ratings of the reviews rated 1 to 5, null until a review is submitted
+     */
+    Long ratingSum;
+    /**
+     * The number of reviews rated 1 to 5, null until a review is submitted
+     */
+    Integer ratingCount;
+    String type;
+    Long version;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    int hash;
+
+    @Builder(toBuilder = true)
+    @Jacksonized
+    private Product(String id, String title, String description, BigDecimal price, List<String> images,
+                    List<PaymentMethod> paymentMethods, Seller seller, Integer stock, Double rating,
+                    List<Review> reviews, Long ratingSum, Integer ratingCount, String type, Long version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.price = price;
+        this.images = immutable(images);
+        this.paymentMethods = immutable(paymentMethods);
+        this.seller = seller;
+        this.stock = stock;
+        this.rating = rating;
+        this.reviews = immutable(reviews);
+        this.ratingSum = ratingSum;
+        this.ratingCount = ratingCount;
+        this.type = type;
+        this.version = version;
+        this.hash = Objects.hash(id, title, description, price, this.images, this.paymentMethods, seller, stock,
+                rating, this.reviews, ratingSum, ratingCount, type, version);
+    }
+
+    /**
+     * @return the version of the product, 0 for products stored before versioning was introduced
+     */
+    public long currentVersion() {
+        return version == null ? 0 : version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Product other) || hash != other.hash) {
+            return false;
+        }
+        return Objects.equals(id, other.id)
+                && Objects.equals(title, other.title)
+                && Objects.equals(description, other.description)
+                && Objects.equals(price, other.price)
+                && Objects.equals(images, other.images)
+                && Objects.equals(paymentMethods, other.paymentMethods)
+                && Objects.equals(seller, other.seller)
+                && Objects.equals(stock, other.stock)
+                && Objects.equals(rating, other.rating)
+                && Objects.equals(reviews, other.reviews)
+                && Objects.equals(ratingSum, other.ratingSum)
+                && Objects.equals(ratingCount, other.ratingCount)
+                && Objects.equals(type, other.type)
+                && Objects.equals(version, other.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Copy a list into an unmodifiable one, keeping its entries as given
+     * A list that is already unmodifiable and free of nulls, as the lists of another product and
+     * {@link AppendOnlyList}s are, is kept. A list holding nulls is copied into an unmodifiable view,
+     * since {@link List#copyOf} rejects them.
+     */
+    private static <T> List<T> immutable(List<T> list) {
+        if (list == null || list instanceof AppendOnlyList<T>) {
+            return list;
+        }
+        for (T element : list) {
+            if (element == null) {
+                return Collections.unmodifiableList(new ArrayList<>(list));
+            }
+        }
+        return List.copyOf(list);
+    }
+}
@@ -0,0 +1,27 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The products found for a list of ids, read from one catalog snapshot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatch {
+    /**
+     * The products found, in the order their ids were requested
+     */
+    private List<Product> products;
+
+    /**
+     * The requested ids without a product, in request order
+     */
+    private List<String> missingIds;
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Number of products of a listing for every value of every facet
+ * Counts of a facet ignore the selection made on that same facet, so they tell how many products
+ * selecting another value would list. Values without products are left out.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacets {
+    /**
+     * The number of products by type
+     */
+    @Builder.Default
+    private Map<String, Integer> types = Map.of();
+
+    /**
+     * The number of products by seller id
+     */
+    @Builder.Default
+    private Map<String, Integer> sellers = Map.of();
+
+    /**
+     * The number of products by payment method id
+     */
+    @Builder.Default
+    private Map<String, Integer> paymentMethods = Map.of();
+
+    /**
+     * The number of products rated at least the given number of stars
+     */
+    @Builder.Default
+    private Map<Integer, Integer> minRating = Map.of();
+
+    /**
+     * The number of products with stock
+     */
+    private int inStock;
+}
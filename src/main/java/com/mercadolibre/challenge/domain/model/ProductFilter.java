@@ -0,0 +1,46 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Facet selection of a product listing
+ * Values selected for the same facet match any of them, selections of different facets must all match
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilter {
+    /**
+     * The product types, empty for any type
+     */
+    @Builder.Default
+    private Set<String> types = Set.of();
+
+    /**
+     * The seller ids, empty for any seller
+     */
+    @Builder.Default
+    private Set<String> sellerIds = Set.of();
+
+    /**
+     * The payment method ids, empty for any payment method
+     */
+    @Builder.Default
+    private Set<String> paymentMethodIds = Set.of();
+
+    /**
+     * The minimum rating in whole stars from 1 to 5, null for any rating
+     */
+    private Integer minRating;
+
+    /**
+     * Whether only products with stock are listed
+     */
+    private boolean inStock;
+}
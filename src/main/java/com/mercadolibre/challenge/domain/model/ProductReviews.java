@@ -0,0 +1,30 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of the reviews of a product together with the aggregates over all of them
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReviews {
+    /**
+     * The product id
+     */
+    private String productId;
+
+    /**
+     * The aggregates over every review of the product
+     */
+    private ReviewSummary summary;
+
+    /**
+     * The requested page of the reviews
+     */
+    private Page<Review> page;
+}
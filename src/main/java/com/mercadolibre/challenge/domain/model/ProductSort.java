@@ -0,0 +1,56 @@
+package com.mercadolibre.challenge.domain.model;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Orders a page of products can be sorted by, besides the default id order
+ * Products without a value for the sort key go last, ties are broken by id so the order is total
+ */
+public enum ProductSort {
+    PRICE(Comparator.comparing(Product::getPrice, Comparator.nullsLast(BigDecimal::compareTo))),
+    RATING(Comparator.comparing(Product::getRating, Comparator.nullsLast(Comparator.naturalOrder()))),
+    STOCK(Comparator.comparing(Product::getStock, Comparator.nullsLast(Comparator.naturalOrder()))),
+    TITLE(Comparator.comparing(Product::getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+
+    private final Comparator<Product> keyOrder;
+    private final Comparator<Product> order;
+
+    ProductSort(Comparator<Product> keyOrder) {
+        this.keyOrder = keyOrder;
+        this.order = keyOrder.thenComparing(Product::getId);
+    }
+
+    /**
+     * Get the order of products by the sort key only
+     * @return a comparator that considers products with the same key equal
+     */
+    public Comparator<Product> keyOrder() {
+        return keyOrder;
+    }
+
+    /**
+     * Get the total order of products, by sort key and then by id
+     * @return the comparator
+     */
+    public Comparator<Product> order() {
+        return order;
+    }
+
+    /**
+     * Parse a sort name, ignoring case
+     * @param value the sort name, e.g. "price"
+     * @return the sort
+     * @throws ProductValidationException if the name is not a known sort
+     */
+    public static ProductSort from(String value) {
+        try {
+            return ProductSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ProductValidationException("Unknown sort: " + value);
+        }
+    }
+}
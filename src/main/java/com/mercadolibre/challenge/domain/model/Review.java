@@ -1,21 +1,24 @@
 package com.mercadolibre.challenge.domain.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * A review of a product, immutable so snapshots of the product can share it
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public class Review {
-    private String id;
-    private String userId;
-    private String userName;
-    private String comment;
-    private Integer rating;
-    private LocalDateTime createdAt;
-}
\ No newline at end of file
+    String id;
+    String userId;
+    String userName;
+    String comment;
+    Integer rating;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,46 @@
+package com.mercadolibre.challenge.domain.model;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Orders the reviews of a product can be listed in
+ * Reviews without a value for the sort key go first in ascending order, so they come last in the
+ * default descending order, ties are broken by date and then by id so the order is total
+ */
+public enum ReviewSort {
+    DATE(Comparator.comparing(Review::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))),
+    RATING(Comparator.comparing(Review::getRating, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+            .thenComparing(Review::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+    private final Comparator<Review> order;
+
+    ReviewSort(Comparator<Review> keyOrder) {
+        this.order = keyOrder.thenComparing(Review::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Get the total order of reviews, ascending
+     * @return the comparator
+     */
+    public Comparator<Review> order() {
+        return order;
+    }
+
+    /**
+     * Parse a sort name, ignoring case
+     * @param value the sort name, "date" or "rating"
+     * @return the sort
+     * @throws ProductValidationException if the name is not a known sort
+     */
+    public static ReviewSort from(String value) {
+        try {
+            return ReviewSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ProductValidationException("Unknown review sort: " + value);
+        }
+    }
+}
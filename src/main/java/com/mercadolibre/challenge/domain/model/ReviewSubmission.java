@@ -0,0 +1,35 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A review stored for a product and the rating of the product once it counts the review
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSubmission {
+    /**
+     * The product id
+     */
+    private String productId;
+
+    /**
+     * The stored review, with its id and creation time
+     */
+    private Review review;
+
+    /**
+     * The rating of the product, the average of the ratings of its reviews
+     */
+    private Double rating;
+
+    /**
+     * The number of reviews of the product
+     */
+    private int reviewCount;
+}
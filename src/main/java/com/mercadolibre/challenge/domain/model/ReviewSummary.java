@@ -0,0 +1,32 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Aggregates over the reviews of a product
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSummary {
+    /**
+     * The number of reviews of the product
+     */
+    private int reviewCount;
+
+    /**
+     * The average rating of the reviews rated 1 to 5, null if none is
+     */
+    private Double averageRating;
+
+    /**
+     * The number of reviews by rating, with every rating from 1 to 5 as key
+     */
+    private Map<Integer, Integer> histogram;
+}
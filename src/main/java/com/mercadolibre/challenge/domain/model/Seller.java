@@ -1,18 +1,21 @@
 package com.mercadolibre.challenge.domain.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * The seller of a product, immutable so products can share it
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public class Seller {
-    private String id;
-    private String name;
-    private String email;
-    private String phone;
-    private Double rating;
-}
\ No newline at end of file
+    String id;
+    String name;
+    String email;
+    String phone;
+    Double rating;
+}
@@ -0,0 +1,35 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregates over the products of a seller
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerStats {
+    /**
+     * The seller id
+     */
+    private String sellerId;
+
+    /**
+     * The number of products of the seller
+     */
+    private int productCount;
+
+    /**
+     * The sum of the stock of the products of the seller
+     */
+    private long totalStock;
+
+    /**
+     * The average rating of the rated products of the seller, null if none is rated
+     */
+    private Double averageRating;
+}
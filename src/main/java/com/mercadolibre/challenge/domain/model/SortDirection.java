@@ -0,0 +1,27 @@
+package com.mercadolibre.challenge.domain.model;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+
+import java.util.Locale;
+
+/**
+ * Direction of a sorted page
+ */
+public enum SortDirection {
+    ASC,
+    DESC;
+
+    /**
+     * Parse a direction, ignoring case
+     * @param value "asc" or "desc"
+     * @return the direction
+     * @throws ProductValidationException if the value is not a direction
+     */
+    public static SortDirection from(String value) {
+        try {
+            return SortDirection.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ProductValidationException("Unknown sort direction: " + value);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mercadolibre.challenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservation {
+    private String id;
+    private String productId;
+    private Integer quantity;
+    private Instant expiresAt;
+    private Integer remainingStock;
+}
@@ -0,0 +1,20 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for creating a product
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be used by adapters in the infrastructure layer
+ */
+public interface CreateProductUseCasePort {
+    
+    /**
+     * Create a product
+     * @param product the product to create
+     * @return a CompletableFuture containing the created product with its assigned ID
+     */
+    CompletableFuture<Product> execute(Product product);
+}
@@ -0,0 +1,18 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for deleting a product
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be used by adapters in the infrastructure layer
+ */
+public interface DeleteProductUseCasePort {
+    
+    /**
+     * Delete a product by its ID
+     * @param id the ID of the product to delete
+     * @return a CompletableFuture completed once the product is deleted
+     */
+    CompletableFuture<Void> execute(String id);
+}
@@ -0,0 +1,24 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.FilteredPage;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for listing products with an ad hoc filter expression
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface FilterProductsUseCasePort {
+
+    /**
+     * Get a page of the products matching a filter expression
+     * @param expression the expression, e.g. "price &lt; 500 AND rating &gt;= 4.5"
+     * @param explain whether to return the plan of the query
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of matching products in id order, and the plan if requested
+     */
+    CompletableFuture<FilteredPage<Product>> execute(String expression, boolean explain, PageRequest pageRequest);
+}
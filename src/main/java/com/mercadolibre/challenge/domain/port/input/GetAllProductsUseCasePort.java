@@ -6,6 +6,7 @@ import com.mercadolibre.challenge.domain.model.Product;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Input port for retrieving all products
@@ -20,6 +21,12 @@ public interface GetAllProductsUseCasePort {
      */
     CompletableFuture<List<Product>> execute();
     
+    /**
+     * Stream all products one at a time, for exports that must not hold the catalog in memory
+     * @return a CompletableFuture containing a lazy stream of all products in id order
+     */
+    CompletableFuture<Stream<Product>> stream();
+    
     /**
      * Get all products with pagination
      * @param pageRequest the pagination information
@@ -0,0 +1,24 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for filtered product listings with facet counts
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface GetFacetedProductsUseCasePort {
+
+    /**
+     * Get a page of the products matching a facet selection, with the facet counts of all of them
+     * @param filter the facet selection
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of matching products and the facet counts
+     */
+    CompletableFuture<FacetedPage<Product>> execute(ProductFilter filter, PageRequest pageRequest);
+}
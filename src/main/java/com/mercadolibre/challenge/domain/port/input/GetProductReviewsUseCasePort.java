@@ -0,0 +1,25 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for listing the reviews of a product
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface GetProductReviewsUseCasePort {
+
+    /**
+     * Get a page of the reviews of a product and the aggregates over all of them
+     * @param productId the product id
+     * @param sort the order of the reviews, by date if null
+     * @param pageRequest the pagination information and the direction of the order
+     * @return a CompletableFuture containing the reviews, or empty if the product does not exist
+     */
+    CompletableFuture<Optional<ProductReviews>> execute(String productId, ReviewSort sort, PageRequest pageRequest);
+}
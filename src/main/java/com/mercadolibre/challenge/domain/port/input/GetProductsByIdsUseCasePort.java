@@ -0,0 +1,26 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for reading many products by id at once
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface GetProductsByIdsUseCasePort {
+
+    /**
+     * Largest number of distinct ids of a batch
+     */
+    int MAX_IDS = 500;
+
+    /**
+     * Get the products with the given ids
+     * @param ids the product ids, repeated ids are read once
+     * @return a CompletableFuture containing the products found and the ids without a product
+     */
+    CompletableFuture<ProductBatch> execute(List<String> ids);
+}
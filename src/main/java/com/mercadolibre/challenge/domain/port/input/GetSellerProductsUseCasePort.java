@@ -0,0 +1,23 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for listing the products of a seller
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface GetSellerProductsUseCasePort {
+
+    /**
+     * Get a page of the products of a seller
+     * @param sellerId the seller id
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of the products of the seller in id order
+     */
+    CompletableFuture<Page<Product>> execute(String sellerId, PageRequest pageRequest);
+}
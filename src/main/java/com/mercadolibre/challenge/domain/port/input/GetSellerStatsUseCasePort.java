@@ -0,0 +1,21 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.SellerStats;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for the aggregates of a seller
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface GetSellerStatsUseCasePort {
+
+    /**
+     * Get the product count, total stock and average rating of a seller
+     * @param sellerId the seller id
+     * @return a CompletableFuture containing the aggregates, or empty if the seller has no products
+     */
+    CompletableFuture<Optional<SellerStats>> execute(String sellerId);
+}
@@ -0,0 +1,21 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for releasing a stock reservation
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be used by adapters in the infrastructure layer
+ */
+public interface ReleaseStockUseCasePort {
+    
+    /**
+     * Release a reservation, returning its units to the available stock
+     * @param productId the product ID
+     * @param reservationId the reservation ID
+     * @return a CompletableFuture containing the released reservation
+     */
+    CompletableFuture<StockReservation> execute(String productId, String reservationId);
+}
@@ -0,0 +1,21 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for reserving product stock
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be used by adapters in the infrastructure layer
+ */
+public interface ReserveStockUseCasePort {
+    
+    /**
+     * Reserve units of a product
+     * @param productId the product ID
+     * @param quantity the number of units to reserve
+     * @return a CompletableFuture containing the reservation
+     */
+    CompletableFuture<StockReservation> execute(String productId, int quantity);
+}
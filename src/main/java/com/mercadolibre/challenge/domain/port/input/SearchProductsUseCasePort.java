@@ -0,0 +1,24 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for full text search of products
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface SearchProductsUseCasePort {
+
+    /**
+     * Search products by the words of their title and description
+     * @param query the words to search for
+     * @param fuzzy whether words also match title words a few typos away
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of matching products, best match first
+     */
+    CompletableFuture<Page<Product>> execute(String query, boolean fuzzy, PageRequest pageRequest);
+}
@@ -0,0 +1,22 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for submitting a review of a product
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface SubmitReviewUseCasePort {
+
+    /**
+     * Submit a review of a product
+     * @param productId the product ID
+     * @param review the review, its id and creation time are assigned
+     * @return a CompletableFuture containing the stored review and the new rating of the product
+     */
+    CompletableFuture<ReviewSubmission> execute(String productId, Review review);
+}
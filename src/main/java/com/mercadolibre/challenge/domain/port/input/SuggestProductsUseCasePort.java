@@ -0,0 +1,20 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for search box autocomplete
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be implemented by a use case in the domain layer
+ */
+public interface SuggestProductsUseCasePort {
+
+    /**
+     * Complete a prefix with the words of product titles and the product types
+     * @param prefix the prefix typed so far
+     * @param limit the maximum number of completions
+     * @return a CompletableFuture containing the completions, best first
+     */
+    CompletableFuture<List<String>> execute(String prefix, int limit);
+}
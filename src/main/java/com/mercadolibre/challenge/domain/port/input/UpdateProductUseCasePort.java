@@ -0,0 +1,24 @@
+package com.mercadolibre.challenge.domain.port.input;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for updating a product
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an input port and will be used by adapters in the infrastructure layer
+ */
+public interface UpdateProductUseCasePort {
+    
+    /**
+     * Update an existing product
+     * @param id the ID of the product to update
+     * @param product the new product data
+     * @param expectedVersion the version the caller based its changes on,
+     *                        null to use the version of the product when the update starts
+     * @return a CompletableFuture containing the updated product, failed with a ConcurrencyException
+     *         if the product was changed by another writer
+     */
+    CompletableFuture<Product> execute(String id, Product product, Long expectedVersion);
+}
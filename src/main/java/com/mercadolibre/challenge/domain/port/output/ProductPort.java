@@ -1,12 +1,21 @@
 package com.mercadolibre.challenge.domain.port.output;
 
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
 import com.mercadolibre.challenge.domain.model.Page;
 import com.mercadolibre.challenge.domain.model.PageRequest;
 import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.SellerStats;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Output port for Product entity operations
@@ -22,12 +31,26 @@ public interface ProductPort {
      */
     CompletableFuture<Optional<Product>> findById(String id);
     
+    /**
+     * Find the products with the given ids, all read from the same catalog snapshot
+     * @param ids the distinct product ids
+     * @return a CompletableFuture containing the products found in request order and the ids without a product
+     */
+    CompletableFuture<ProductBatch> findByIds(List<String> ids);
+    
     /**
      * Find all products
      * @return a CompletableFuture containing a list of all products
      */
     CompletableFuture<List<Product>> findAll();
     
+    /**
+     * Stream all products in id order without copying the catalog
+     * The stream reads the catalog version current when it was created, later writes are not visible to it
+     * @return a CompletableFuture containing a lazy stream of all products
+     */
+    CompletableFuture<Stream<Product>> streamAll();
+    
     /**
      * Find all products with pagination
      * @param pageRequest the pagination information
@@ -49,4 +72,85 @@ public interface ProductPort {
      * @return a CompletableFuture containing a page of products of the specified type
      */
     CompletableFuture<Page<Product>> findByType(String type, PageRequest pageRequest);
-}
\ No newline at end of file
+    
+    /**
+     * Find the products of a seller with pagination
+     * @param sellerId the seller id
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of the products of the seller in id order
+     */
+    CompletableFuture<Page<Product>> findBySeller(String sellerId, PageRequest pageRequest);
+    
+    /**
+     * Get the aggregates over the products of a seller
+     * @param sellerId the seller id
+     * @return a CompletableFuture containing the aggregates, or empty if the seller has no products
+     */
+    CompletableFuture<Optional<SellerStats>> findSellerStats(String sellerId);
+    
+    /**
+     * Find a page of the reviews of a product and the aggregates over all of them
+     * @param productId the product id
+     * @param sort the order of the reviews
+     * @param pageRequest the pagination information and the direction of the order
+     * @return a CompletableFuture containing the reviews, or empty if the product does not exist
+     */
+    CompletableFuture<Optional<ProductReviews>> findReviews(String productId, ReviewSort sort, PageRequest pageRequest);
+    
+    /**
+     * Search products by the words of their title and description
+     * @param query the words to search for, any of them may match
+     * @param fuzzy whether words also match title words a few typos away
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of matching products, best match first
+     */
+    CompletableFuture<Page<Product>> search(String query, boolean fuzzy, PageRequest pageRequest);
+    
+    /**
+     * Get a page of the products matching a facet selection, with the facet counts of all of them
+     * @param filter the facet selection
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of matching products in id order and the facet counts
+     */
+    CompletableFuture<FacetedPage<Product>> findFaceted(ProductFilter filter, PageRequest pageRequest);
+    
+    /**
+     * Get a page of the products matching a filter expression
+     * @param expression the compiled expression
+     * @param explain whether to return the plan of the query
+     * @param pageRequest the pagination information
+     * @return a CompletableFuture containing a page of matching products in id order, and the plan if requested
+     */
+    CompletableFuture<FilteredPage<Product>> filter(FilterExpression expression, boolean explain, PageRequest pageRequest);
+    
+    /**
+     * Complete a prefix with the words of product titles and the product types
+     * @param prefix the prefix typed so far
+     * @param limit the maximum number of completions
+     * @return a CompletableFuture containing the completions, best first
+     */
+    CompletableFuture<List<String>> suggest(String prefix, int limit);
+    
+    /**
+     * Create a new product
+     * @param product the product to create, with its id already assigned
+     * @return a CompletableFuture containing the created product, completed once the write is durable
+     */
+    CompletableFuture<Product> create(Product product);
+    
+    /**
+     * Replace an existing product if it is still at the expected version
+     * @param product the new state of the product
+     * @param expectedVersion the version the new state is based on
+     * @return a CompletableFuture containing the updated product with its new version, completed once the
+     *         write is durable, or failed with a ConcurrencyException if the product is at another version
+     */
+    CompletableFuture<Product> update(Product product, long expectedVersion);
+    
+    /**
+     * Delete a product by its ID
+     * @param id the product ID
+     * @return a CompletableFuture completed once the delete is durable
+     */
+    CompletableFuture<Void> deleteById(String id);
+}
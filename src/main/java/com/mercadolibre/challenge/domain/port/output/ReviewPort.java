@@ -0,0 +1,22 @@
+package com.mercadolibre.challenge.domain.port.output;
+
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Output port for product reviews
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an output port and will be implemented by an adapter in the infrastructure layer
+ */
+public interface ReviewPort {
+
+    /**
+     * Store a review of a product and count its rating in the rating of the product
+     * @param productId the product ID
+     * @param review the review, with its id and creation time assigned
+     * @return a CompletableFuture containing the stored review and the new rating of the product
+     */
+    CompletableFuture<ReviewSubmission> submit(String productId, Review review);
+}
@@ -0,0 +1,38 @@
+package com.mercadolibre.challenge.domain.port.output;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Output port for product stock reservations
+ * Following hexagonal architecture principles, this interface is defined in the domain layer
+ * as an output port and will be implemented by an adapter in the infrastructure layer
+ */
+public interface StockPort {
+    
+    /**
+     * Take units of a product out of the available stock until the reservation is confirmed,
+     * released or expires
+     * @param productId the product ID
+     * @param quantity the number of units to reserve
+     * @return a CompletableFuture containing the reservation
+     */
+    CompletableFuture<StockReservation> reserve(String productId, int quantity);
+    
+    /**
+     * Return the units of a reservation to the available stock
+     * @param productId the product ID
+     * @param reservationId the reservation ID
+     * @return a CompletableFuture containing the released reservation
+     */
+    CompletableFuture<StockReservation> release(String productId, String reservationId);
+    
+    /**
+     * Turn a reservation into a permanent stock decrease
+     * @param productId the product ID
+     * @param reservationId the reservation ID
+     * @return a CompletableFuture containing the confirmed reservation
+     */
+    CompletableFuture<StockReservation> confirm(String productId, String reservationId);
+}
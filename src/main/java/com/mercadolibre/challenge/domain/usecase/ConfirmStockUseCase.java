@@ -0,0 +1,27 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.domain.port.input.ConfirmStockUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.StockPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the ConfirmStockUseCasePort
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConfirmStockUseCase implements ConfirmStockUseCasePort {
+
+    private final StockPort stockPort;
+
+    @Override
+    public CompletableFuture<StockReservation> execute(String productId, String reservationId) {
+        log.debug("Confirming reservation {} of product with id: {}", reservationId, productId);
+        return stockPort.confirm(productId, reservationId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.input.CreateProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the CreateProductUseCasePort
+ * This use case assigns a new ID to the product and stores it
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateProductUseCase implements CreateProductUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Product> execute(Product product) {
+        Product created = product.toBuilder().id(UUID.randomUUID().toString()).build();
+        log.info("Creating product with id: {}", created.getId());
+        return productPort.create(created);
+    }
+}
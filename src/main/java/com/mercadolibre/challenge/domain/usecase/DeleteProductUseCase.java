@@ -0,0 +1,33 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.port.input.DeleteProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the DeleteProductUseCasePort
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeleteProductUseCase implements DeleteProductUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Void> execute(String id) {
+        log.info("Deleting product with id: {}", id);
+        return productPort.findById(id)
+                .thenCompose(existing -> {
+                    if (existing.isEmpty()) {
+                        throw new ProductNotFoundException(id);
+                    }
+                    return productPort.deleteById(id);
+                });
+    }
+}
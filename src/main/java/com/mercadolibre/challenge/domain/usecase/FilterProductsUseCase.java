@@ -0,0 +1,57 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.input.FilterProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the FilterProductsUseCasePort
+ * This use case parses filter expressions and lists the matching products. Dashboards repeat the same
+ * expressions, so compiled expressions are kept by their text and the whole cache is dropped once full.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FilterProductsUseCase implements FilterProductsUseCasePort {
+
+    private static final int MAX_COMPILED_EXPRESSIONS = 256;
+
+    private final ProductPort productPort;
+    private final Map<String, FilterExpression> compiled = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<FilteredPage<Product>> execute(String expression, boolean explain, PageRequest pageRequest) {
+        log.info("Filtering products with: {} (explain={}) and pagination: page={}, size={}",
+                expression, explain, pageRequest.getPage(), pageRequest.getSize());
+        FilterExpression filter;
+        try {
+            filter = compile(expression);
+        } catch (ProductValidationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return productPort.filter(filter, explain, pageRequest);
+    }
+
+    private FilterExpression compile(String expression) {
+        FilterExpression filter = expression == null ? null : compiled.get(expression);
+        if (filter == null) {
+            filter = FilterExpression.parse(expression);
+            if (compiled.size() >= MAX_COMPILED_EXPRESSIONS) {
+                compiled.clear();
+            }
+            compiled.put(expression, filter);
+        }
+        return filter;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the GetAllProductsUseCase
@@ -28,6 +29,12 @@ public class GetAllProductsUseCase implements GetAllProductsUseCasePort {
         return productPort.findAll();
     }
     
+    @Override
+    public CompletableFuture<Stream<Product>> stream() {
+        log.info("Streaming all products");
+        return productPort.streamAll();
+    }
+    
     /**
      * Get all products with pagination
      * @param pageRequest the pagination information
@@ -0,0 +1,36 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.port.input.GetFacetedProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the GetFacetedProductsUseCasePort
+ * This use case lists the products matching a facet selection together with the facet counts
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetFacetedProductsUseCase implements GetFacetedProductsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<FacetedPage<Product>> execute(ProductFilter filter, PageRequest pageRequest) {
+        log.info("Getting faceted products with filter: {} and pagination: page={}, size={}",
+                filter, pageRequest.getPage(), pageRequest.getSize());
+        if (filter.getMinRating() != null && (filter.getMinRating() < 1 || filter.getMinRating() > 5)) {
+            return CompletableFuture.failedFuture(new ProductValidationException("Minimum rating must be between 1 and 5"));
+        }
+        return productPort.findFaceted(filter, pageRequest);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.port.input.GetProductReviewsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the GetProductReviewsUseCasePort
+ * This use case pages the reviews of a product, the aggregates come precomputed from the catalog
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetProductReviewsUseCase implements GetProductReviewsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Optional<ProductReviews>> execute(String productId, ReviewSort sort, PageRequest pageRequest) {
+        ReviewSort order = sort == null ? ReviewSort.DATE : sort;
+        log.info("Getting reviews of product: {} sorted by {} {} with pagination: page={}, size={}",
+                productId, order, pageRequest.getDirection(), pageRequest.getPage(), pageRequest.getSize());
+        return productPort.findReviews(productId, order, pageRequest);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.port.input.GetProductsByIdsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the GetProductsByIdsUseCasePort
+ * This use case reads a batch of products in a single pass over one catalog snapshot
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetProductsByIdsUseCase implements GetProductsByIdsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<ProductBatch> execute(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return CompletableFuture.failedFuture(new ProductValidationException("At least one product id is required"));
+        }
+        LinkedHashSet<String> distinctIds = new LinkedHashSet<>(ids.size() * 2);
+        for (String id : ids) {
+            if (id == null || id.isBlank()) {
+                return CompletableFuture.failedFuture(new ProductValidationException("Product ids must not be blank"));
+            }
+            distinctIds.add(id);
+        }
+        if (distinctIds.size() > MAX_IDS) {
+            return CompletableFuture.failedFuture(new ProductValidationException(
+                    "At most " + MAX_IDS + " product ids can be requested at once"));
+        }
+        log.info("Getting a batch of {} products", distinctIds.size());
+        return productPort.findByIds(List.copyOf(distinctIds));
+    }
+}
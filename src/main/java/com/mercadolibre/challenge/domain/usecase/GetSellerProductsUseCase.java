@@ -0,0 +1,31 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.input.GetSellerProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the GetSellerProductsUseCasePort
+ * This use case lists the products of a seller from the seller index
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetSellerProductsUseCase implements GetSellerProductsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Page<Product>> execute(String sellerId, PageRequest pageRequest) {
+        log.info("Getting products of seller: {} with pagination: page={}, size={}",
+                sellerId, pageRequest.getPage(), pageRequest.getSize());
+        return productPort.findBySeller(sellerId, pageRequest);
+    }
+}
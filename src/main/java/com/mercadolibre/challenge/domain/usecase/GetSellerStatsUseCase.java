@@ -0,0 +1,29 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.SellerStats;
+import com.mercadolibre.challenge.domain.port.input.GetSellerStatsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the GetSellerStatsUseCasePort
+ * This use case reads the aggregates of a seller, kept up to date with every catalog write
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetSellerStatsUseCase implements GetSellerStatsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Optional<SellerStats>> execute(String sellerId) {
+        log.info("Getting stats of seller: {}", sellerId);
+        return productPort.findSellerStats(sellerId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.domain.port.input.ReserveStockUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.StockPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the ReserveStockUseCasePort
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReserveStockUseCase implements ReserveStockUseCasePort {
+
+    private final StockPort stockPort;
+
+    @Override
+    public CompletableFuture<StockReservation> execute(String productId, int quantity) {
+        log.debug("Reserving {} units of product with id: {}", quantity, productId);
+        if (quantity <= 0) {
+            return CompletableFuture.failedFuture(
+                    new ProductValidationException("Reservation quantity must be greater than zero"));
+        }
+        return stockPort.reserve(productId, quantity);
+    }
+}
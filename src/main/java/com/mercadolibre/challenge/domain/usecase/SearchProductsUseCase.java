@@ -0,0 +1,35 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.input.SearchProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the SearchProductsUseCasePort
+ * This use case searches products by the words of their title and description
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchProductsUseCase implements SearchProductsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Page<Product>> execute(String query, boolean fuzzy, PageRequest pageRequest) {
+        log.info("Searching products for: {} (fuzzy={}) with pagination: page={}, size={}",
+                query, fuzzy, pageRequest.getPage(), pageRequest.getSize());
+        if (query == null || query.isBlank()) {
+            return CompletableFuture.failedFuture(new ProductValidationException("Search query must not be empty"));
+        }
+        return productPort.search(query, fuzzy, pageRequest);
+    }
+}
@@ -0,0 +1,42 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.domain.port.input.SubmitReviewUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ReviewPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the SubmitReviewUseCasePort
+ * This use case assigns a new ID and the creation time to the review and stores it
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmitReviewUseCase implements SubmitReviewUseCasePort {
+
+    private final ReviewPort reviewPort;
+
+    @Override
+    public CompletableFuture<ReviewSubmission> execute(String productId, Review review) {
+        if (review.getRating() == null || review.getRating() < 1 || review.getRating() > 5) {
+            return CompletableFuture.failedFuture(new ProductValidationException("Rating must be between 1 and 5"));
+        }
+        if (review.getUserName() == null || review.getUserName().isBlank()) {
+            return CompletableFuture.failedFuture(new ProductValidationException("User name is required"));
+        }
+        Review submitted = review.toBuilder()
+                .id(UUID.randomUUID().toString())
+                .createdAt(LocalDateTime.now())
+                .build();
+        log.debug("Submitting review {} of product with id: {}", submitted.getId(), productId);
+        return reviewPort.submit(productId, submitted);
+    }
+}
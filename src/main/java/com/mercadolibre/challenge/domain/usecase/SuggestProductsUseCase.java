@@ -0,0 +1,36 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.port.input.SuggestProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the SuggestProductsUseCasePort
+ * This use case completes the prefix typed in the search box
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestProductsUseCase implements SuggestProductsUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<List<String>> execute(String prefix, int limit) {
+        // Called on every keystroke, kept out of the info log
+        log.debug("Suggesting completions for: {} with limit: {}", prefix, limit);
+        if (limit < 1) {
+            return CompletableFuture.failedFuture(new ProductValidationException("Suggestion limit must be positive"));
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return productPort.suggest(prefix, limit);
+    }
+}
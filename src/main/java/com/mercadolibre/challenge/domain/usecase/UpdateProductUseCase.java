@@ -0,0 +1,41 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.input.UpdateProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the UpdateProductUseCasePort
+ * This use case replaces the editable fields of a product, keeping its rating and reviews
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpdateProductUseCase implements UpdateProductUseCasePort {
+
+    private final ProductPort productPort;
+
+    @Override
+    public CompletableFuture<Product> execute(String id, Product product, Long expectedVersion) {
+        log.info("Updating product with id: {} at version: {}", id, expectedVersion);
+        return productPort.findById(id)
+                .thenCompose(existing -> {
+                    Product current = existing.orElseThrow(() -> new ProductNotFoundException(id));
+                    Product updated = product.toBuilder()
+                            .id(id)
+                            .rating(current.getRating())
+                            .reviews(current.getReviews())
+                            .ratingSum(current.getRatingSum())
+                            .ratingCount(current.getRatingCount())
+                            .build();
+                    return productPort.update(updated,
+                            expectedVersion != null ? expectedVersion : current.currentVersion());
+                });
+    }
+}
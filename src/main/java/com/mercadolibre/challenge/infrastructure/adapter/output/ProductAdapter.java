@@ -2,15 +2,48 @@ package com.mercadolibre.challenge.infrastructure.adapter.output;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.CursorExpiredException;
 import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
 import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageCursor;
 import com.mercadolibre.challenge.domain.model.PageRequest;
 import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.ProductSort;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.ReviewSummary;
+import com.mercadolibre.challenge.domain.model.SellerStats;
+import com.mercadolibre.challenge.domain.model.SortDirection;
 import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.BinaryCatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogDiff;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogReloadResult;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.FacetIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.FilterPlanner;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ParallelCatalogReader;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductInterner;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductOperation;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductOperationLog;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductVersions;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ReviewIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SearchIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SellerIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.StreamingCatalogReader;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.io.File;
@@ -18,19 +51,54 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Output adapter for product persistence
  * This adapter implements the ProductPort interface and persists products in a JSON file
  * following the hexagonal architecture pattern
+ * <p>
+ * The catalog is held in an immutable {@link CatalogSnapshot}. Loading a new catalog builds the next
+ * snapshot off to the side and publishes it with a single reference swap, so readers never observe
+ * a partially loaded catalog.
+ * <p>
+ * Writes go through a {@link ProductOperationLog}. Once a batch of writes is durable it is applied to the
+ * current snapshot as a diff, and the log is folded back into the data file when it grows past the
+ * compaction threshold. Updates are accepted with a compare-and-set on the product's version in
+ * {@link ProductVersions}, so writers to different products never block each other.
+ * <p>
+ * The last few published snapshots stay reachable by version, so a page requested with a cursor is read
+ * from the same catalog version as the page that issued the cursor.
  */
 @Repository
 @Slf4j
@@ -38,15 +106,61 @@ public class ProductAdapter implements ProductPort {
 
     private final ObjectMapper objectMapper;
     private final String dataFilePath;
-    private final ConcurrentHashMap<String, Product> productCache = new ConcurrentHashMap<>();
-    // Index for products by type to optimize search
-    private final ConcurrentHashMap<String, List<String>> productsByTypeIndex = new ConcurrentHashMap<>();
+    private final CatalogLoadMode loadMode;
+    private final int progressInterval;
+    private final int parallelism;
+    private final boolean binarySnapshotEnabled;
+    private final int compactionThreshold;
+    private final Duration cursorTtl;
+    private final int maxRetainedSnapshots;
+    private final Clock clock = Clock.systemUTC();
+    // Current catalog, replaced as a whole on every reload
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>(CatalogSnapshot.empty());
+    // Replaced snapshots by version, kept for the cursors they issued until their lease ends
+    private final ConcurrentNavigableMap<Long, RetainedSnapshot> retainedSnapshots = new ConcurrentSkipListMap<>();
     private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private final Object compactionLock = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().daemon().name("product-oplog-compactor").factory());
+    private final ProductVersions versions = new ProductVersions(id -> snapshot.get().products().get(id));
+    private final List<BiConsumer<Long, List<ProductOperation>>> writeListeners = new CopyOnWriteArrayList<>();
+    private volatile ProductOperationLog operationLog;
+    // Writes published while a reload loads the data file, null when no reload is running
+    private List<ProductOperation> reloadBacklog;
+    // Size and modification time of the data file as last read or written by this adapter
+    private volatile FileStamp dataFileStamp;
 
-    public ProductAdapter(ObjectMapper objectMapper,
-                          @Value("${app.data.file-path:data/products.json}") String dataFilePath) {
+    /**
+     * A replaced snapshot and the time until which cursors issued by it are served
+     */
+    private record RetainedSnapshot(CatalogSnapshot snapshot, Instant expiresAt) {
+    }
+
+    /**
+     * Size and modification time of a file
+     */
+    private record FileStamp(long size, FileTime modified) {
+    }
+
+    /**
+     * A stock level to record for a product
+     * @param expected the stock the level was computed from, the level is skipped if the product holds another one
+     * @param stock the new stock level
+     */
+    public record StockUpdate(int expected, int stock) {
+    }
+
+    public ProductAdapter(ObjectMapper objectMapper, CatalogProperties catalog, PaginationProperties pagination) {
         this.objectMapper = objectMapper;
-        this.dataFilePath = dataFilePath;
+        this.dataFilePath = catalog.filePath();
+        this.loadMode = catalog.loadMode();
+        this.progressInterval = catalog.progressInterval();
+        this.parallelism = catalog.parallelism();
+        this.binarySnapshotEnabled = catalog.binarySnapshot();
+        this.compactionThreshold = catalog.oplog().compactionThreshold();
+        this.cursorTtl = Duration.ofSeconds(Math.max(0, pagination.cursorTtlSeconds()));
+        this.maxRetainedSnapshots = Math.max(0, pagination.maxRetainedSnapshots());
     }
 
     @PostConstruct
@@ -56,81 +170,603 @@ public class ProductAdapter implements ProductPort {
             if (dataDirectory != null) {
                 Files.createDirectories(dataDirectory);
             }
-            loadDataFromFile();
-            buildTypeIndex();
+            reload();
+            operationLog = new ProductOperationLog(Paths.get(dataFilePath), objectMapper, this::applyCommitted);
         } catch (IOException e) {
             log.error("Error initializing file adapter", e);
             throw new InitializationException("Could not initialize file adapter", e);
         }
     }
 
+    /**
+     * Stop accepting writes and fold the operation log into the data file
+     */
+    @PreDestroy
+    public void close() {
+        ProductOperationLog currentLog = operationLog;
+        if (currentLog == null) {
+            return;
+        }
+        try {
+            currentLog.close();
+        } catch (IOException e) {
+            log.error("Error closing operation log", e);
+        }
+        compactionExecutor.shutdown();
+        compact();
+    }
+
+    /**
+     * Load the data file and publish it as a new snapshot
+     * The first load builds the snapshot from scratch. Later loads compare the file with the current
+     * snapshot by product id and content hash and apply only the inserts, updates and deletes,
+     * sharing every untouched entry and type list with the current snapshot.
+     * The current snapshot keeps serving reads until the new one is complete,
+     * if loading fails the current snapshot stays in place.
+     * Writes recorded in the operation log but not yet folded into the data file are replayed on top of it.
+     * Equal sellers, payment methods and types of the loaded products are shared, see {@link ProductInterner}.
+     * <p>
+     * Later loads parse and compare the file without blocking writes. Writes published meanwhile are
+     * replayed on the loaded products and only their products are compared again, so writes only wait
+     * for that and the swap of the snapshot.
+     * @return the version, size, applied changes and load duration of the published snapshot
+     */
+    public CatalogReloadResult reload() {
+        synchronized (compactionLock) {
+            long start = System.nanoTime();
+            CatalogSnapshot base;
+            synchronized (this) {
+                base = snapshot.get();
+                if (base.size() == 0) {
+                    return build(start);
+                }
+                reloadBacklog = new ArrayList<>();
+            }
+            try {
+                return reload(start, base);
+            } finally {
+                synchronized (this) {
+                    reloadBacklog = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the first snapshot from scratch, no reader is served a partial catalog at this point
+     */
+    private synchronized CatalogReloadResult build(long start) {
+        CatalogSnapshot current = snapshot.get();
+        FileStamp stamp = readDataFileStamp();
+        dataFileStamp = stamp;
+        Optional<BinaryCatalogSnapshot.Contents> binaryContents =
+                binarySnapshotEnabled ? readBinarySnapshot() : Optional.empty();
+        List<ProductOperation> operations = readOperationLog();
+        ProductInterner interner = new ProductInterner();
+
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        binaryContents.ifPresentOrElse(
+                contents -> builder.addIndexed(contents.products().stream().map(interner::intern).toList(),
+                        contents.productsByType()),
+                () -> loadDataFile(product -> builder.add(interner.intern(product))));
+        log.info("Built type index with {} different types", builder.typeCount());
+        log.info("Shared {} sellers and {} payment methods between products",
+                interner.sellerCount(), interner.paymentMethodCount());
+        logDroppedNulls(interner);
+        CatalogSnapshot next = builder.build(current.version() + 1);
+        log.info("Built search index with {} terms, {} title terms and {} completions",
+                next.searchIndex().termCount(), next.searchIndex().titleTermCount(),
+                next.suggestIndex().completionCount());
+        if (!operations.isEmpty()) {
+            next = next.apply(CatalogDiff.fromOperations(next, operations), next.version());
+            log.info("Replayed {} logged operations", operations.size());
+        }
+        CatalogReloadResult result = new CatalogReloadResult(next.version(), next.size(), next.size(), 0, 0, 0, 0,
+                elapsedMillis(start));
+        publish(next);
+
+        // The snapshot mirrors the data file, so it can only be written when no operations were replayed
+        if (binarySnapshotEnabled && binaryContents.isEmpty() && operations.isEmpty()) {
+            writeBinarySnapshot(next, stamp);
+        }
+        log.info("Published catalog snapshot version {} with {} products in {} ms",
+                next.version(), next.size(), result.durationMillis());
+        return result;
+    }
+
+    /**
+     * Load the data file into a diff against a published snapshot, then rebase it on the current snapshot
+     * while holding the lock writes are published under
+     */
+    private CatalogReloadResult reload(long start, CatalogSnapshot base) {
+        FileStamp stamp = readDataFileStamp();
+        Optional<BinaryCatalogSnapshot.Contents> binaryContents =
+                binarySnapshotEnabled ? readBinarySnapshot() : Optional.empty();
+        List<ProductOperation> operations = readOperationLog();
+        long replayedThrough = operations.stream().mapToLong(ProductOperation::sequence).max().orElse(0);
+        ProductInterner interner = new ProductInterner();
+
+        Map<String, Product> incoming = new ConcurrentHashMap<>();
+        binaryContents.ifPresentOrElse(
+                contents -> contents.products().forEach(
+                        product -> incoming.put(product.getId(), interner.intern(product))),
+                () -> loadDataFile(product -> incoming.put(product.getId(), interner.intern(product))));
+        logDroppedNulls(interner);
+        replay(operations, incoming);
+        CatalogDiff loaded = CatalogDiff.between(base, incoming);
+
+        CatalogSnapshot next;
+        CatalogDiff diff;
+        List<ProductOperation> published;
+        synchronized (this) {
+            published = reloadBacklog;
+            replay(published.stream().filter(operation -> operation.sequence() > replayedThrough).toList(), incoming);
+            CatalogSnapshot current = snapshot.get();
+            diff = loaded.rebase(base, current, incoming,
+                    published.stream().map(ProductOperation::productId).collect(Collectors.toSet()));
+            next = current.apply(diff, current.version() + 1);
+            for (CatalogDiff.Change change : diff.getChanges()) {
+                versions.reseed(change.id(), current.products().get(change.id()), next.products().get(change.id()));
+            }
+            dataFileStamp = stamp;
+            publish(next);
+            notifyWritten(next.version(), diff.getChanges().stream()
+                    .map(change -> change.after() == null ? ProductOperation.delete(change.id())
+                            : ProductOperation.update(change.after()))
+                    .toList());
+        }
+        log.info("Applied catalog diff: {} inserted, {} updated ({} type changes), {} deleted, {} unchanged",
+                diff.getInserted(), diff.getUpdated(), diff.getTypeChanges(), diff.getDeleted(), diff.getUnchanged());
+        if (!published.isEmpty()) {
+            log.info("Replayed {} writes published while loading", published.size());
+        }
+        CatalogReloadResult result = new CatalogReloadResult(next.version(), next.size(), diff.getInserted(),
+                diff.getUpdated(), diff.getDeleted(), diff.getTypeChanges(), diff.getUnchanged(), elapsedMillis(start));
+
+        if (binarySnapshotEnabled && binaryContents.isEmpty() && operations.isEmpty() && published.isEmpty()) {
+            writeBinarySnapshot(next, stamp);
+        }
+        log.info("Published catalog snapshot version {} with {} products in {} ms",
+                next.version(), next.size(), result.durationMillis());
+        return result;
+    }
+
+    /**
+     * Check whether the data file differs from the one this adapter last read or wrote
+     * Compaction rewrites the data file, so the file watcher uses this to tell those writes from external edits.
+     * @return true if the size or modification time of the data file changed since
+     */
+    public boolean hasDataFileChanged() {
+        return !Objects.equals(readDataFileStamp(), dataFileStamp);
+    }
+
+    /**
+     * Get the catalog snapshot currently serving reads
+     * @return the current snapshot
+     */
+    public CatalogSnapshot currentSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Get the path of the data file backing this adapter
+     * @return the data file path
+     */
+    public Path getDataFile() {
+        return Paths.get(dataFilePath);
+    }
+
     @Override
     public CompletableFuture<Optional<Product>> findById(String id) {
-        return CompletableFuture.supplyAsync(() -> Optional.ofNullable(productCache.get(id)));
+        return CompletableFuture.supplyAsync(() -> Optional.ofNullable(snapshot.get().products().get(id)));
+    }
+
+    @Override
+    public CompletableFuture<ProductBatch> findByIds(List<String> ids) {
+        // A batch is a few hundred hash lookups on one snapshot, cheaper than the hand-off to the async pool
+        Map<String, Product> products = snapshot.get().products();
+        List<Product> found = new ArrayList<>(ids.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : ids) {
+            Product product = products.get(id);
+            if (product == null) {
+                missingIds.add(id);
+            } else {
+                found.add(product);
+            }
+        }
+        return CompletableFuture.completedFuture(ProductBatch.builder()
+                .products(found)
+                .missingIds(missingIds)
+                .build());
     }
 
     @Override
     public CompletableFuture<List<Product>> findAll() {
-        return CompletableFuture.supplyAsync(() -> new ArrayList<>(productCache.values()));
+        return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot current = snapshot.get();
+            return toProducts(current.orderedIds(), current);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Stream<Product>> streamAll() {
+        // The stream pins one snapshot and resolves each product as it is consumed, nothing is copied up front
+        CatalogSnapshot current = snapshot.get();
+        return CompletableFuture.completedFuture(current.orderedIds().stream().map(current.products()::get));
     }
 
     @Override
     public CompletableFuture<Page<Product>> findAll(PageRequest pageRequest) {
         return CompletableFuture.supplyAsync(() -> {
-            List<Product> allProducts = new ArrayList<>(productCache.values());
-            long totalElements = allProducts.size();
-            
-            // Apply pagination
-            List<Product> pagedProducts = applyPagination(allProducts, pageRequest);
-            
-            return Page.of(pagedProducts, totalElements, pageRequest);
+            CatalogSnapshot catalog = snapshotFor(pageRequest);
+            return page(index(catalog, null, pageRequest), pageRequest, catalog);
         });
     }
 
     @Override
     public CompletableFuture<List<Product>> findByType(String type) {
         return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot current = snapshot.get();
             // Use the type index to get product IDs of the specified type
-            List<String> productIds = productsByTypeIndex.getOrDefault(type, new ArrayList<>());
-            
-            // Map product IDs to actual products
-            return productIds.stream()
-                    .map(productCache::get)
-                    .toList();
+            return toProducts(current.productsByType().getOrDefault(type, List.of()), current);
         });
     }
 
     @Override
     public CompletableFuture<Page<Product>> findByType(String type, PageRequest pageRequest) {
         return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot catalog = snapshotFor(pageRequest);
             // Use the type index to get product IDs of the specified type
-            List<String> productIds = productsByTypeIndex.getOrDefault(type, new ArrayList<>());
-            long totalElements = productIds.size();
-            
-            // Map product IDs to actual products
-            List<Product> productsOfType = productIds.stream()
-                    .map(productCache::get)
-                    .toList();
-            
-            // Apply pagination
-            List<Product> pagedProducts = applyPagination(productsOfType, pageRequest);
-            
-            return Page.of(pagedProducts, totalElements, pageRequest);
+            return page(index(catalog, type, pageRequest), pageRequest, catalog);
         });
     }
 
+    @Override
+    public CompletableFuture<Page<Product>> findBySeller(String sellerId, PageRequest pageRequest) {
+        return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot catalog = snapshotFor(pageRequest);
+            return page(catalog.sellerIndex().ids(sellerId), pageRequest, catalog);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<SellerStats>> findSellerStats(String sellerId) {
+        // Aggregates are precomputed in the snapshot, answering on the caller thread is cheaper than a hand-off
+        SellerIndex.Aggregate aggregate = snapshot.get().sellerIndex().aggregate(sellerId);
+        return CompletableFuture.completedFuture(Optional.ofNullable(aggregate).map(found -> SellerStats.builder()
+                .sellerId(sellerId)
+                .productCount(found.productCount())
+                .totalStock(found.totalStock())
+                .averageRating(found.averageRating())
+                .build()));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ProductReviews>> findReviews(String productId, ReviewSort sort, PageRequest pageRequest) {
+        // Products with many reviews come sorted from the snapshot, the rest only have a few to sort
+        CatalogSnapshot current = snapshot.get();
+        Product product = current.products().get(productId);
+        if (product == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        ReviewIndex.Reviews reviews = current.reviewIndex().reviews(product);
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            histogram.put(rating, reviews.count(rating));
+        }
+        return CompletableFuture.completedFuture(Optional.of(ProductReviews.builder()
+                .productId(productId)
+                .summary(ReviewSummary.builder()
+                        .reviewCount(reviews.reviewCount())
+                        .averageRating(reviews.averageRating())
+                        .histogram(histogram)
+                        .build())
+                .page(Page.of(reviews.page(sort, pageRequest.getDirection(), pageRequest.getOffset(), pageRequest.getSize()),
+                        reviews.reviewCount(), pageRequest))
+                .build()));
+    }
+
+    @Override
+    public CompletableFuture<Page<Product>> search(String query, boolean fuzzy, PageRequest pageRequest) {
+        return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot current = snapshot.get();
+            SearchIndex.Result result = current.searchIndex().search(query, fuzzy,
+                    pageRequest.getOffset(), pageRequest.getSize());
+            return Page.of(toProducts(result.ids(), current), result.total(), pageRequest);
+        });
+    }
+
+    @Override
+    public CompletableFuture<FacetedPage<Product>> findFaceted(ProductFilter filter, PageRequest pageRequest) {
+        return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot current = snapshot.get();
+            FacetIndex.Result result = current.facetIndex().find(filter, pageRequest.getOffset(), pageRequest.getSize());
+            return FacetedPage.<Product>builder()
+                    .page(Page.of(toProducts(result.ids(), current), result.total(), pageRequest))
+                    .facets(result.facets())
+                    .build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<FilteredPage<Product>> filter(FilterExpression expression, boolean explain,
+                                                          PageRequest pageRequest) {
+        return CompletableFuture.supplyAsync(() -> {
+            CatalogSnapshot current = snapshot.get();
+            FilterPlanner.Result result = FilterPlanner.execute(current, expression, pageRequest.getOffset(),
+                    pageRequest.getSize());
+            log.debug("Filter plan: {}", result.plan());
+            return FilteredPage.<Product>builder()
+                    .page(Page.of(toProducts(result.ids(), current), result.total(), pageRequest))
+                    .plan(explain ? result.plan() : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> suggest(String prefix, int limit) {
+        // Completions are precomputed in the snapshot, answering on the caller thread is cheaper than a hand-off
+        return CompletableFuture.completedFuture(snapshot.get().suggestIndex().suggest(prefix, limit));
+    }
+
+    @Override
+    public CompletableFuture<Product> create(Product product) {
+        Product created = product.toBuilder().version(1L).build();
+        versions.register(created.getId(), 1L);
+        return appendOperation(ProductOperation.create(created))
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        versions.release(created.getId(), 1L, ProductVersions.DELETED);
+                    }
+                })
+                .thenApply(ignored -> created);
+    }
+
+    @Override
+    public CompletableFuture<Product> update(Product product, long expectedVersion) {
+        long claimed;
+        try {
+            claimed = versions.claim(product.getId(), expectedVersion);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Product updated = product.toBuilder().version(claimed).build();
+        return appendOperation(ProductOperation.update(updated))
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        versions.release(updated.getId(), claimed, expectedVersion);
+                    }
+                })
+                .thenApply(ignored -> updated);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteById(String id) {
+        long previous;
+        try {
+            previous = versions.claimDelete(id);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return appendOperation(ProductOperation.delete(id))
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        versions.release(id, ProductVersions.DELETED, previous);
+                    }
+                });
+    }
+
+    /**
+     * Record the stock level of several products
+     * All operations are queued together, so they usually share a single log commit. A level only applies
+     * over the stock it was computed from, a product created or updated in the meantime keeps its stock.
+     * @param stockById the new stock level by product id, products that no longer exist are skipped
+     * @return a CompletableFuture completed once every stock level is durable
+     */
+    public CompletableFuture<Void> updateStock(Map<String, StockUpdate> stockById) {
+        CatalogSnapshot current = snapshot.get();
+        return CompletableFuture.allOf(stockById.entrySet().stream()
+                .filter(entry -> current.products().containsKey(entry.getKey()))
+                .map(entry -> appendOperation(ProductOperation.stock(entry.getKey(), entry.getValue().expected(),
+                        entry.getValue().stock())))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Append reviews to a product, keeping its rating the exact average of its review ratings
+     * The write claims the version after the published one, so it fails with a ConcurrencyException while
+     * another write of the product is being logged, and an update based on the product without these
+     * reviews fails instead of dropping them.
+     * @param productId the product id
+     * @param reviews the reviews to append, with their ids assigned
+     * @return a CompletableFuture containing the product once the reviews are durable and published
+     */
+    public CompletableFuture<Product> addReviews(String productId, List<Review> reviews) {
+        Product published = snapshot.get().products().get(productId);
+        if (published == null) {
+            return CompletableFuture.failedFuture(new ProductNotFoundException(productId));
+        }
+        long expectedVersion = published.currentVersion();
+        long claimed;
+        try {
+            claimed = versions.claim(productId, expectedVersion);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return appendOperation(ProductOperation.reviews(productId, claimed, reviews))
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        versions.release(productId, claimed, expectedVersion);
+                    }
+                })
+                .thenApply(ignored -> snapshot.get().products().get(productId));
+    }
+
+    /**
+     * Register a callback told about every write once its snapshot is published, in the order the writes apply
+     * A reload reports every product it changed as an update, or a delete. The callback runs while no other
+     * write or reload can be published.
+     * @param listener the callback receiving the version of the published snapshot and the writes it holds
+     */
+    public void addWriteListener(BiConsumer<Long, List<ProductOperation>> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Fold the operation log into the data file
+     * The active log is rotated, the current snapshot, which already contains every rotated operation,
+     * is written to the data file through a temporary file and an atomic move, and the rotated log
+     * is deleted. A crash at any point leaves either the old data file with the rotated log or the new
+     * data file, and replaying the rotated log on the new data file is harmless.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            try {
+                ProductOperationLog currentLog = operationLog;
+                Path rotated = currentLog == null ? null : currentLog.rotate();
+                if (rotated == null) {
+                    return;
+                }
+                CatalogSnapshot current = snapshot.get();
+                FileStamp written = writeDataFile(current);
+                Files.deleteIfExists(rotated);
+                if (binarySnapshotEnabled) {
+                    writeBinarySnapshot(current, written);
+                }
+                log.info("Compacted operation log into data file with {} products", current.size());
+            } catch (IOException | RuntimeException e) {
+                log.error("Error compacting operation log", e);
+            } finally {
+                compactionScheduled.set(false);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> appendOperation(ProductOperation operation) {
+        ProductOperationLog currentLog = operationLog;
+        if (currentLog == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Product adapter is not initialized"));
+        }
+        return currentLog.append(operation);
+    }
+
+    /**
+     * Publish a batch of durable operations as a new snapshot
+     * Called from the operation log committer thread, once per batch
+     */
+    private synchronized void applyCommitted(List<ProductOperation> operations) {
+        CatalogSnapshot current = snapshot.get();
+        CatalogSnapshot next = current.apply(CatalogDiff.fromOperations(current, operations), current.version() + 1);
+        publish(next);
+        if (reloadBacklog != null) {
+            reloadBacklog.addAll(operations);
+        }
+        notifyWritten(next.version(), operations);
+
+        ProductOperationLog currentLog = operationLog;
+        if (currentLog != null && currentLog.getActiveOperations() >= compactionThreshold
+                && compactionScheduled.compareAndSet(false, true)) {
+            try {
+                compactionExecutor.execute(this::compact);
+            } catch (RejectedExecutionException e) {
+                compactionScheduled.set(false);
+                log.warn("Could not schedule compaction of the operation log", e);
+            }
+        }
+    }
+
+    /**
+     * Tell every write listener about published writes
+     * A failing listener is logged, so it neither keeps the others from running nor fails the writes.
+     */
+    private void notifyWritten(long version, List<ProductOperation> operations) {
+        if (operations.isEmpty()) {
+            return;
+        }
+        for (BiConsumer<Long, List<ProductOperation>> listener : writeListeners) {
+            try {
+                listener.accept(version, operations);
+            } catch (RuntimeException e) {
+                log.error("Write listener failed for snapshot version {}", version, e);
+            }
+        }
+    }
+
+    private List<ProductOperation> readOperationLog() {
+        try {
+            return ProductOperationLog.readAll(Paths.get(dataFilePath), objectMapper);
+        } catch (IOException e) {
+            log.error("Error reading operation log", e);
+            throw new InitializationException("Could not read operation log", e);
+        }
+    }
+
+    private static void replay(List<ProductOperation> operations, Map<String, Product> products) {
+        for (ProductOperation operation : operations) {
+            Product after = operation.applyTo(products.get(operation.productId()));
+            if (after == null) {
+                products.remove(operation.productId());
+            } else {
+                products.put(operation.productId(), after);
+            }
+        }
+    }
+
+    /**
+     * Write the catalog to the data file, sorted by id
+     * Uses a write lock so no reload reads a half written file
+     * @return the size and modification time of the written file
+     */
+    private FileStamp writeDataFile(CatalogSnapshot catalog) throws IOException {
+        Path dataFile = Paths.get(dataFilePath);
+        Path tempFile = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+        List<Product> products = new ArrayList<>(catalog.products().values());
+        products.sort(Comparator.comparing(Product::getId));
+
+        fileLock.writeLock().lock();
+        try {
+            objectMapper.writeValue(tempFile.toFile(), products);
+            Files.move(tempFile, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dataFileStamp = readDataFileStamp();
+            return dataFileStamp;
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private FileStamp readDataFileStamp() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(dataFilePath), BasicFileAttributes.class);
+            return new FileStamp(attributes.size(), attributes.lastModifiedTime());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /**
-     * Load data from file into cache
+     * Read the data file with the configured load mode
+     * @param consumer the callback receiving each product, called from several threads in parallel mode
+     */
+    private void loadDataFile(Consumer<Product> consumer) {
+        switch (loadMode) {
+            case STREAMING -> streamDataFromFile(consumer);
+            case PARALLEL -> parseDataFromFileInParallel(consumer);
+            default -> loadDataFromFile(consumer);
+        }
+    }
+
+    /**
+     * Load data from file and hand every product to the consumer
      * Uses a read lock to prevent concurrent writes
      */
-    private void loadDataFromFile() {
+    private void loadDataFromFile(Consumer<Product> consumer) {
         fileLock.readLock().lock();
         try {
             File file = new File(dataFilePath);
             if (file.length() > 0) {
                 List<Product> products = objectMapper.readValue(file, new TypeReference<List<Product>>() {});
-                productCache.clear();
-                products.forEach(product -> productCache.put(product.getId(), product));
+                products.forEach(consumer);
                 log.info("Loaded {} products from file", products.size());
             }
         } catch (IOException e) {
@@ -142,37 +778,291 @@ public class ProductAdapter implements ProductPort {
     }
     
     /**
-     * Build an index of products by type for faster lookups
-     */
-    private void buildTypeIndex() {
-        productsByTypeIndex.clear();
-        
-        for (Map.Entry<String, Product> entry : productCache.entrySet()) {
-            String productId = entry.getKey();
-            Product product = entry.getValue();
-            String type = product.getType();
-            
-            if (type != null) {
-                productsByTypeIndex.computeIfAbsent(type, k -> new ArrayList<>()).add(productId);
+     * Stream data from file, one product at a time
+     * The type index is filled as products are read, so no second pass over the products is needed
+     * Uses a read lock to prevent concurrent writes
+     */
+    private void streamDataFromFile(Consumer<Product> consumer) {
+        fileLock.readLock().lock();
+        try {
+            File file = new File(dataFilePath);
+            if (file.length() > 0) {
+                StreamingCatalogReader reader = new StreamingCatalogReader(objectMapper, progressInterval);
+                long count = reader.read(file, consumer);
+                log.info("Streamed {} products from file", count);
             }
+        } catch (IOException e) {
+            log.error("Error streaming data from file", e);
+            throw new InitializationException("Could not load data from file", e);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Parse data from file using several threads
+     * Chunks of the file are parsed concurrently and every product goes straight to the consumer
+     * Uses a read lock to prevent concurrent writes
+     */
+    private void parseDataFromFileInParallel(Consumer<Product> consumer) {
+        fileLock.readLock().lock();
+        try {
+            File file = new File(dataFilePath);
+            if (file.length() > 0) {
+                ParallelCatalogReader reader = new ParallelCatalogReader(objectMapper, progressInterval, parallelism);
+                long count = reader.read(file, consumer);
+                log.info("Parsed {} products from file in parallel", count);
+            }
+        } catch (IOException e) {
+            log.error("Error parsing data from file in parallel", e);
+            throw new InitializationException("Could not load data from file", e);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read products and type index from the binary snapshot next to the data file
+     * Uses a read lock to prevent concurrent writes
+     * @return the snapshot contents, empty if there is no snapshot matching the current data file
+     */
+    private Optional<BinaryCatalogSnapshot.Contents> readBinarySnapshot() {
+        fileLock.readLock().lock();
+        try {
+            Path sourceFile = Paths.get(dataFilePath);
+            Optional<BinaryCatalogSnapshot.Contents> contents =
+                    BinaryCatalogSnapshot.read(BinaryCatalogSnapshot.pathFor(sourceFile), sourceFile);
+            contents.ifPresent(c -> log.info("Loaded {} products from binary snapshot", c.products().size()));
+            return contents;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read binary snapshot, falling back to the data file", e);
+            return Optional.empty();
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write the binary snapshot of the given catalog next to the data file
+     * The snapshot is stamped with the data file the catalog was loaded from, and skipped if the file has
+     * changed since, so it never passes a newer file off as the catalog it holds.
+     * A failure is logged but does not prevent startup, the next start will parse the data file again
+     * @param loadedFrom the size and modification time of the data file when the catalog was loaded
+     */
+    private void writeBinarySnapshot(CatalogSnapshot catalog, FileStamp loadedFrom) {
+        if (loadedFrom == null) {
+            return;
+        }
+        if (!loadedFrom.equals(readDataFileStamp())) {
+            log.info("Data file changed while it was loaded, not writing binary snapshot");
+            return;
+        }
+        Path sourceFile = Paths.get(dataFilePath);
+        try {
+            BinaryCatalogSnapshot.write(BinaryCatalogSnapshot.pathFor(sourceFile), loadedFrom.size(),
+                    loadedFrom.modified(), catalog.products().values(), catalog.productsByType());
+            log.info("Wrote binary snapshot with {} products", catalog.size());
+        } catch (IOException e) {
+            log.warn("Could not write binary snapshot", e);
         }
-        
-        log.info("Built type index with {} different types", productsByTypeIndex.size());
     }
     
+    private static void logDroppedNulls(ProductInterner interner) {
+        if (interner.droppedNullCount() > 0) {
+            log.warn("Dropped {} null image, payment method and review entries from the data file",
+                    interner.droppedNullCount());
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Publish a snapshot to readers and keep the one it replaces reachable by version for cursor pagination
+     * Every cursor of the replaced snapshot was issued before this point, so leasing it for the cursor
+     * lifetime from now on keeps every cursor younger than that lifetime valid, however many versions
+     * are published meanwhile. Retained snapshots share every unchanged structure with their successors,
+     * so each costs about what its commit changed, and at most the configured number is kept.
+     * Callers hold this adapter's monitor, so versions are published in order.
+     * @param next the snapshot to publish
+     */
+    private void publish(CatalogSnapshot next) {
+        CatalogSnapshot previous = snapshot.get();
+        Instant now = clock.instant();
+        if (previous.version() != next.version() && maxRetainedSnapshots > 0) {
+            // Retained before the swap, so a reader never finds a cursor's version in neither place
+            retainedSnapshots.put(previous.version(), new RetainedSnapshot(previous, now.plus(cursorTtl)));
+        }
+        snapshot.set(next);
+        // Leases end in version order, so expired and surplus snapshots are always the oldest ones
+        Map.Entry<Long, RetainedSnapshot> oldest;
+        while ((oldest = retainedSnapshots.firstEntry()) != null
+                && (!oldest.getValue().expiresAt().isAfter(now) || retainedSnapshots.size() > maxRetainedSnapshots)) {
+            retainedSnapshots.remove(oldest.getKey());
+        }
+    }
+
+    /**
+     * Get the snapshot a page request should be served from
+     * A cursor is served from the version that issued it, so its pages never skip or repeat products.
+     * @param pageRequest the pagination information
+     * @return the snapshot to read the page from
+     * @throws CursorExpiredException if the version of the cursor is no longer retained
+     */
+    private CatalogSnapshot snapshotFor(PageRequest pageRequest) {
+        CatalogSnapshot current = snapshot.get();
+        PageCursor cursor = pageRequest.getCursor();
+        if (cursor == null || cursor.getSnapshotVersion() == current.version()) {
+            return current;
+        }
+        RetainedSnapshot retained = retainedSnapshots.get(cursor.getSnapshotVersion());
+        if (retained == null || !retained.expiresAt().isAfter(clock.instant())) {
+            throw new CursorExpiredException(cursor.getSnapshotVersion());
+        }
+        return retained.snapshot();
+    }
+
+    /**
+     * Get the id index a page request is served from, as a view in the requested direction
+     * Price filtered requests are served in price order unless another order is requested
+     * @param catalog the snapshot to read
+     * @param type the product type, or null for the whole catalog
+     * @param pageRequest the pagination information
+     * @return the sorted product ids
+     */
+    private static List<String> index(CatalogSnapshot catalog, String type, PageRequest pageRequest) {
+        ProductSort sort = pageRequest.getSort();
+        List<String> productIds;
+        if (pageRequest.hasPriceRange()) {
+            productIds = priceRangeIndex(catalog, type, pageRequest);
+        } else if (sort == null) {
+            productIds = type == null ? catalog.orderedIds() : catalog.productsByType().getOrDefault(type, List.of());
+        } else {
+            productIds = type == null ? catalog.sortIndexes().ids(sort) : catalog.sortIndexes().ids(sort, type);
+        }
+        return pageRequest.getDirection() == SortDirection.DESC ? productIds.reversed() : productIds;
+    }
+
+    /**
+     * Get the ids of the products in the requested price range, in ascending order
+     * In price order the range is a view of the price index. For other orders the matches are sorted
+     * when there are few of them, otherwise the index of that order is filtered by price.
+     * @param catalog the snapshot to read
+     * @param type the product type, or null for the whole catalog
+     * @param pageRequest the pagination information with the price range
+     * @return the sorted product ids in the range
+     */
+    private static List<String> priceRangeIndex(CatalogSnapshot catalog, String type, PageRequest pageRequest) {
+        List<String> inRange = catalog.sortIndexes().idsInPriceRange(type, pageRequest.getMinPrice(),
+                pageRequest.getMaxPrice(), catalog.products());
+        ProductSort sort = sortOf(pageRequest);
+        if (sort == ProductSort.PRICE || inRange.isEmpty()) {
+            return inRange;
+        }
+        List<String> ordered = type == null ? catalog.sortIndexes().ids(sort) : catalog.sortIndexes().ids(sort, type);
+        long sortCost = (long) inRange.size() * (64 - Long.numberOfLeadingZeros(inRange.size()));
+        if (sortCost < ordered.size()) {
+            return inRange.stream()
+                    .map(catalog.products()::get)
+                    .sorted(sort.order())
+                    .map(Product::getId)
+                    .toList();
+        }
+        Set<String> matches = new HashSet<>(inRange);
+        return ordered.stream()
+                .filter(matches::contains)
+                .toList();
+    }
+
     /**
-     * Apply pagination to a list of products
-     * @param products the list of products to paginate
+     * Get the order a page request is served in
      * @param pageRequest the pagination information
-     * @return a paginated list of products
-     */
-    private List<Product> applyPagination(List<Product> products, PageRequest pageRequest) {
-        int offset = pageRequest.getOffset();
-        int limit = pageRequest.getSize();
-        
-        return products.stream()
-                .skip(offset)
-                .limit(limit)
+     * @return the requested sort, price order for price filtered requests without one, or null for id order
+     */
+    private static ProductSort sortOf(PageRequest pageRequest) {
+        if (pageRequest.getSort() == null && pageRequest.hasPriceRange()) {
+            return ProductSort.PRICE;
+        }
+        return pageRequest.getSort();
+    }
+
+    /**
+     * Build a page as a view of a sorted id index, without copying the index
+     * Offset requests start at the offset, cursor requests binary search the position after the
+     * last seen product, so deep pages cost the same as the first one.
+     * @param productIds the sorted product ids
+     * @param pageRequest the pagination information
+     * @param catalog the snapshot the ids belong to
+     * @return the page, with a cursor for the next page if there is one
+     */
+    private Page<Product> page(List<String> productIds, PageRequest pageRequest, CatalogSnapshot catalog) {
+        int size = pageRequest.getSize();
+        int from = pageRequest.getCursor() == null
+                ? (int) Math.min((long) pageRequest.getOffset(), productIds.size())
+                : seek(productIds, pageRequest, catalog);
+        int to = (int) Math.min((long) from + size, productIds.size());
+
+        PageRequest position = pageRequest.getCursor() == null ? pageRequest
+                : PageRequest.of(from / size, size).sortedBy(pageRequest.getSort(), pageRequest.getDirection());
+        Page<Product> page = Page.of(toProducts(productIds.subList(from, to), catalog), productIds.size(), position);
+        if (to > from && to < productIds.size()) {
+            page.setNextCursor(PageCursor.of(catalog.version(), productIds.get(to - 1)));
+        }
+        return page;
+    }
+
+    /**
+     * Find the position right after the cursor's product in a sorted id index, whether or not the product
+     * is still in it
+     * @param productIds the sorted product ids
+     * @param pageRequest the pagination information with the cursor
+     * @param catalog the snapshot the ids belong to
+     * @return the index of the first product ordered after the cursor
+     */
+    private int seek(List<String> productIds, PageRequest pageRequest, CatalogSnapshot catalog) {
+        ProductSort sort = sortOf(pageRequest);
+        Comparator<Product> order = sort == null ? Comparator.comparing(Product::getId) : sort.order();
+        if (pageRequest.getDirection() == SortDirection.DESC) {
+            order = order.reversed();
+        }
+        Product last = cursorProduct(pageRequest, catalog);
+        int low = 0;
+        int high = productIds.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(catalog.products().get(productIds.get(middle)), last) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the last product of the previous page as it was sorted
+     * Id order only needs the id. Other orders need the sort key, looked up in the snapshot that issued the cursor.
+     * @param pageRequest the pagination information with the cursor
+     * @param catalog the snapshot the page is served from
+     * @return the product the page starts after
+     * @throws ProductValidationException if the product is not in the snapshot of the cursor
+     */
+    private Product cursorProduct(PageRequest pageRequest, CatalogSnapshot catalog) {
+        String lastId = pageRequest.getCursor().getLastId();
+        if (sortOf(pageRequest) == null) {
+            return Product.builder().id(lastId).build();
+        }
+        Product last = catalog.products().get(lastId);
+        if (last == null) {
+            throw new ProductValidationException("Invalid page cursor");
+        }
+        return last;
+    }
+
+    private static List<Product> toProducts(List<String> productIds, CatalogSnapshot catalog) {
+        return productIds.stream()
+                .map(catalog.products()::get)
                 .toList();
     }
-}
\ No newline at end of file
+}
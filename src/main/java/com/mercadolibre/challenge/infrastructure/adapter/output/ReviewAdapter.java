@@ -0,0 +1,194 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output;
+
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ReviewBacklogFullException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.domain.port.output.ReviewPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Output adapter for product reviews
+ * This adapter implements the ReviewPort interface by queueing submitted reviews per product. A background
+ * task periodically hands the queue of every product to the product adapter as a single log operation, which
+ * appends the reviews and adds their ratings to the running sum and count of the product, so a burst of
+ * reviews of a popular product costs one copy of its reviews and one log entry per flush instead of one
+ * per review. A submission completes once its review is durable and published, with the rating it produced.
+ * <p>
+ * A flush that finds another write of the product in flight puts the reviews back for the next flush.
+ * At most {@code app.reviews.max-pending} reviews wait at once, further submissions fail until a flush
+ * drains them. Stopping waits for a running flush, flushes once more and fails whatever is still waiting.
+ */
+@Repository
+@Slf4j
+public class ReviewAdapter implements ReviewPort {
+
+    private final ProductAdapter productAdapter;
+    private final long flushIntervalMillis;
+    private final int maxPending;
+    private final ConcurrentHashMap<String, List<PendingReview>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("review-flusher").factory());
+    // Makes checking that the adapter is running and queueing a review atomic with stopping it
+    private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+    private boolean stopped;
+
+    /**
+     * A submitted review waiting for the next flush
+     */
+    private record PendingReview(Review review, CompletableFuture<ReviewSubmission> future) {
+    }
+
+    @Autowired
+    public ReviewAdapter(ProductAdapter productAdapter,
+                         @Value("${app.reviews.flush-interval-millis:20}") long flushIntervalMillis,
+                         @Value("${app.reviews.max-pending:100000}") int maxPending) {
+        this.productAdapter = productAdapter;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopLock.writeLock().lock();
+        try {
+            stopped = true;
+        } finally {
+            stopLock.writeLock().unlock();
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Review flush still running after 10 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        // Reviews put back by the last flush cannot be retried any more
+        failPending(new IllegalStateException("Review adapter is stopped"));
+    }
+
+    @Override
+    public CompletableFuture<ReviewSubmission> submit(String productId, Review review) {
+        if (!productAdapter.currentSnapshot().products().containsKey(productId)) {
+            return CompletableFuture.failedFuture(new ProductNotFoundException(productId));
+        }
+        stopLock.readLock().lock();
+        try {
+            if (stopped) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Review adapter is stopped"));
+            }
+            if (pendingCount.incrementAndGet() > maxPending) {
+                pendingCount.decrementAndGet();
+                return CompletableFuture.failedFuture(new ReviewBacklogFullException(maxPending));
+            }
+            CompletableFuture<ReviewSubmission> future = new CompletableFuture<>();
+            pending.compute(productId, (id, reviews) -> {
+                List<PendingReview> queued = reviews != null ? reviews : new ArrayList<>();
+                queued.add(new PendingReview(review, future));
+                return queued;
+            });
+            return future;
+        } finally {
+            stopLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Persist the reviews queued for every product, one operation per product
+     * @return a CompletableFuture completed once every flushed review is durable or failed
+     */
+    CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (String productId : pending.keySet()) {
+            List<PendingReview> batch = pending.remove(productId);
+            if (batch == null) {
+                continue;
+            }
+            writes.add(productAdapter.addReviews(productId, batch.stream().map(PendingReview::review).toList())
+                    .handle((product, failure) -> {
+                        complete(productId, batch, product, failure);
+                        return null;
+                    }));
+        }
+        if (!writes.isEmpty()) {
+            log.debug("Persisting reviews of {} products", writes.size());
+        }
+        return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush().join();
+        } catch (RuntimeException e) {
+            log.error("Error flushing reviews", e);
+        }
+    }
+
+    private void failPending(Throwable cause) {
+        for (String productId : pending.keySet()) {
+            List<PendingReview> batch = pending.remove(productId);
+            if (batch != null) {
+                pendingCount.addAndGet(-batch.size());
+                batch.forEach(entry -> entry.future().completeExceptionally(cause));
+            }
+        }
+    }
+
+    private void complete(String productId, List<PendingReview> batch, Product product, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof ConcurrencyException) {
+            // Older reviews go first, ahead of any submitted while this batch was being written
+            pending.merge(productId, batch, (newer, older) -> {
+                List<PendingReview> merged = new ArrayList<>(older);
+                merged.addAll(newer);
+                return merged;
+            });
+            return;
+        }
+        pendingCount.addAndGet(-batch.size());
+        if (cause == null && product == null) {
+            cause = new ProductNotFoundException(productId);
+        }
+        for (PendingReview entry : batch) {
+            if (cause != null) {
+                entry.future().completeExceptionally(cause);
+            } else {
+                entry.future().complete(ReviewSubmission.builder()
+                        .productId(productId)
+                        .review(entry.review())
+                        .rating(product.getRating())
+                        .reviewCount(product.getReviews().size())
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output;
+
+import com.mercadolibre.challenge.domain.exception.InsufficientStockException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ReservationNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.domain.port.output.StockPort;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductOperation;
+import com.mercadolibre.challenge.infrastructure.adapter.output.stock.StripedStockCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output adapter for stock reservations
+ * This adapter implements the StockPort interface with one {@link StripedStockCounter} per product,
+ * created from the catalog the first time the product is reserved. Reservations live in memory and
+ * expire after a TTL, returning their units to the stock. Expired reservations are swept by the same
+ * background task that persists stock, so the reservation path takes no lock.
+ * <p>
+ * Stock levels are not written on every reservation. A background task periodically records the stock
+ * of every product whose counter changed through the product adapter, so a burst of reservations turns
+ * into one log operation per product per flush. Units held by open reservations are persisted as stock,
+ * so reservations lost on a restart give their units back.
+ * <p>
+ * Every counter knows the stock the catalog holds for its product, following the committed writes in
+ * log order, and a flush only applies over that stock. A create or update of the product moves the
+ * counter by the difference between the written stock and the recorded one, so open reservations keep
+ * their units and a flush racing with the write is skipped instead of overwriting it.
+ */
+@Repository
+@Slf4j
+public class StockAdapter implements StockPort {
+
+    private final ProductAdapter productAdapter;
+    private final Duration reservationTtl;
+    private final long flushIntervalMillis;
+    private final int stripes;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, ProductStock> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("stock-flusher").factory());
+
+    /**
+     * An open reservation, with the counter its units were taken from
+     */
+    private record Reservation(StockReservation reservation, StripedStockCounter counter) {
+    }
+
+    /**
+     * The counter of a product and the stock the catalog holds for it
+     * The recorded stock is only changed by the write listener, which runs on the operation log committer
+     */
+    private static final class ProductStock {
+        private final StripedStockCounter counter;
+        // Version of the snapshot the counter was created from, it already holds every write up to it
+        private final long version;
+        private volatile int recorded;
+
+        private ProductStock(StripedStockCounter counter, long version, int recorded) {
+            this.counter = counter;
+            this.version = version;
+            this.recorded = recorded;
+        }
+    }
+
+    @Autowired
+    public StockAdapter(ProductAdapter productAdapter,
+                        @Value("${app.stock.reservation-ttl-seconds:600}") long reservationTtlSeconds,
+                        @Value("${app.stock.flush-interval-millis:1000}") long flushIntervalMillis,
+                        @Value("${app.stock.stripes:0}") int stripes) {
+        this(productAdapter, Duration.ofSeconds(reservationTtlSeconds), flushIntervalMillis, stripes, Clock.systemUTC());
+    }
+
+    StockAdapter(ProductAdapter productAdapter, Duration reservationTtl, long flushIntervalMillis, int stripes,
+                 Clock clock) {
+        this.productAdapter = productAdapter;
+        this.reservationTtl = reservationTtl;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.clock = clock;
+        productAdapter.addWriteListener(this::follow);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::expireAndFlush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        expireAndFlush();
+    }
+
+    @Override
+    public CompletableFuture<StockReservation> reserve(String productId, int quantity) {
+        ProductStock stock = counters.computeIfAbsent(productId, id -> {
+            CatalogSnapshot snapshot = productAdapter.currentSnapshot();
+            Product product = snapshot.products().get(id);
+            return product == null ? null : new ProductStock(new StripedStockCounter(stockOf(product), stripes),
+                    snapshot.version(), stockOf(product));
+        });
+        if (stock == null) {
+            return CompletableFuture.failedFuture(new ProductNotFoundException(productId));
+        }
+        StripedStockCounter counter = stock.counter;
+        if (!counter.tryReserve(quantity)) {
+            return CompletableFuture.failedFuture(new InsufficientStockException(productId, quantity));
+        }
+
+        Instant expiresAt = clock.instant().plus(reservationTtl);
+        StockReservation reservation = StockReservation.builder()
+                .id(UUID.randomUUID().toString())
+                .productId(productId)
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .remainingStock(counter.available())
+                .build();
+        reservations.put(reservation.getId(), new Reservation(reservation, counter));
+        return CompletableFuture.completedFuture(reservation);
+    }
+
+    @Override
+    public CompletableFuture<StockReservation> release(String productId, String reservationId) {
+        Reservation entry = remove(productId, reservationId);
+        if (entry == null) {
+            return CompletableFuture.failedFuture(new ReservationNotFoundException(reservationId));
+        }
+        entry.counter().release(entry.reservation().getQuantity());
+        return CompletableFuture.completedFuture(withRemainingStock(entry));
+    }
+
+    @Override
+    public CompletableFuture<StockReservation> confirm(String productId, String reservationId) {
+        Reservation entry = remove(productId, reservationId);
+        if (entry == null) {
+            return CompletableFuture.failedFuture(new ReservationNotFoundException(reservationId));
+        }
+        entry.counter().confirm(entry.reservation().getQuantity());
+        return CompletableFuture.completedFuture(withRemainingStock(entry));
+    }
+
+    /**
+     * Release expired reservations and persist the stock of every product whose counter changed
+     */
+    void expireAndFlush() {
+        try {
+            Instant now = clock.instant();
+            reservations.values().forEach(entry -> {
+                if (!entry.reservation().getExpiresAt().isAfter(now)
+                        && reservations.remove(entry.reservation().getId(), entry)) {
+                    entry.counter().release(entry.reservation().getQuantity());
+                    log.debug("Reservation {} of product {} expired", entry.reservation().getId(),
+                            entry.reservation().getProductId());
+                }
+            });
+            flush().join();
+        } catch (RuntimeException e) {
+            log.error("Error flushing stock levels", e);
+        }
+    }
+
+    /**
+     * Persist the stock of every product whose counter changed since the previous flush
+     * @return a CompletableFuture completed once the stock levels are durable
+     */
+    CompletableFuture<Void> flush() {
+        Map<String, ProductAdapter.StockUpdate> changed = new HashMap<>();
+        counters.forEach((id, stock) -> {
+            if (stock.counter.clearDirty()) {
+                // Read the recorded stock first, a write moving it afterwards makes this level skipped
+                int recorded = stock.recorded;
+                int level = stock.counter.stock();
+                if (level != recorded) {
+                    changed.put(id, new ProductAdapter.StockUpdate(recorded, level));
+                }
+            }
+        });
+        if (changed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.debug("Persisting stock of {} products", changed.size());
+        return productAdapter.updateStock(changed);
+    }
+
+    /**
+     * Follow the stock the catalog holds for every product with a counter, in the order the writes apply
+     * A stock level applies when it was computed from the recorded stock, like in the catalog. A create or
+     * update moves the counter by the difference to the written stock and marks it changed, so units taken
+     * since the last flush are recorded over the new stock. A delete drops the counter, open reservations
+     * keep it and return their units to it.
+     */
+    private void follow(long version, List<ProductOperation> operations) {
+        for (ProductOperation operation : operations) {
+            counters.computeIfPresent(operation.productId(), (id, stock) -> {
+                if (stock.version >= version) {
+                    return stock;
+                }
+                switch (operation.type()) {
+                    case STOCK -> {
+                        if (operation.expectedStock() == null || operation.expectedStock() == stock.recorded) {
+                            stock.recorded = operation.stock();
+                        }
+                    }
+                    case CREATE, UPDATE -> {
+                        int written = stockOf(operation.product());
+                        stock.counter.adjust(written - stock.recorded);
+                        stock.recorded = written;
+                    }
+                    case DELETE -> {
+                        return null;
+                    }
+                    default -> {
+                    }
+                }
+                return stock;
+            });
+        }
+    }
+
+    private Reservation remove(String productId, String reservationId) {
+        Reservation entry = reservations.get(reservationId);
+        if (entry == null || !entry.reservation().getProductId().equals(productId)
+                || !reservations.remove(reservationId, entry)) {
+            return null;
+        }
+        return entry;
+    }
+
+    private static int stockOf(Product product) {
+        return product.getStock() == null ? 0 : product.getStock();
+    }
+
+    private static StockReservation withRemainingStock(Reservation entry) {
+        return entry.reservation().toBuilder().remainingStock(entry.counter().available()).build();
+    }
+}
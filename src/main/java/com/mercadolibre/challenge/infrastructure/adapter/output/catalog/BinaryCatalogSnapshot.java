@@ -0,0 +1,484 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.Seller;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact, versioned binary copy of the product catalog and its type index
+ * The snapshot lives next to the JSON file it was built from and records that file's size and
+ * modification time, so a snapshot whose source has changed is detected as stale and ignored.
+ * The JSON file stays the source of truth, the snapshot is only a faster way to load it: it saves parsing
+ * the JSON, but every product is still decoded on load and every index other than the type index is
+ * built from the decoded products, like after parsing the JSON.
+ * <p>
+ * The file is mapped in segments of at most {@value #MAX_SEGMENT} bytes, since a single mapping cannot
+ * exceed 2 GiB, so snapshots larger than that are read back as well.
+ * <p>
+ * Layout: header (magic, format version, source size, source modification time, product count,
+ * type count), type index (type name and product ordinals per type), products in ordinal order.
+ * Strings are stored as a byte length followed by UTF-8 bytes, a length of -1 meaning null.
+ */
+@Slf4j
+public final class BinaryCatalogSnapshot {
+
+    static final int MAGIC = 0x4D4C4353;
+    static final int FORMAT_VERSION = 3;
+
+    static final int MAX_SEGMENT = 1 << 30;
+
+    private static final String SUFFIX = ".snapshot";
+
+    private BinaryCatalogSnapshot() {
+    }
+
+    /**
+     * Products and type index decoded from a snapshot
+     * @param products the products in the order they were written
+     * @param productsByType the product ids per type
+     */
+    public record Contents(List<Product> products, Map<String, List<String>> productsByType) {
+    }
+
+    /**
+     * Get the snapshot location for a JSON catalog file
+     * @param sourceFile the JSON catalog file
+     * @return the path of the snapshot next to it
+     */
+    public static Path pathFor(Path sourceFile) {
+        return sourceFile.resolveSibling(sourceFile.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Write a snapshot of the given products and type index
+     * The file is written to a temporary sibling and moved into place, so readers never see a partial snapshot.
+     * The snapshot is stamped with the JSON file as it was when the products were loaded, so a file edited
+     * since then no longer matches it.
+     * @param snapshotFile the snapshot to create or replace
+     * @param sourceSize the size of the JSON file the products were loaded from
+     * @param sourceModified the modification time of the JSON file the products were loaded from
+     * @param products the products to store
+     * @param productsByType the product ids per type
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path snapshotFile, long sourceSize, FileTime sourceModified, Collection<Product> products,
+                             Map<String, List<String>> productsByType) throws IOException {
+        Map<String, Integer> ordinals = new HashMap<>(products.size() * 2);
+        for (Product product : products) {
+            ordinals.put(product.getId(), ordinals.size());
+        }
+
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(sourceSize);
+            out.writeLong(sourceModified.toMillis());
+            out.writeInt(products.size());
+            out.writeInt(productsByType.size());
+
+            for (Map.Entry<String, List<String>> entry : productsByType.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (String id : entry.getValue()) {
+                    out.writeInt(ordinals.get(id));
+                }
+            }
+
+            for (Product product : products) {
+                writeProduct(out, product);
+            }
+        }
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a snapshot if it exists and still matches its JSON source
+     * @param snapshotFile the snapshot to read
+     * @param sourceFile the JSON file the snapshot must have been built from
+     * @return the decoded contents, or empty when the snapshot is missing, stale or of another format version
+     * @throws IOException if the snapshot cannot be read
+     */
+    public static Optional<Contents> read(Path snapshotFile, Path sourceFile) throws IOException {
+        return read(snapshotFile, sourceFile, MAX_SEGMENT);
+    }
+
+    /**
+     * Read a snapshot mapping it in segments of the given size
+     * @param segmentSize the largest number of bytes mapped at once
+     */
+    static Optional<Contents> read(Path snapshotFile, Path sourceFile, int segmentSize) throws IOException {
+        if (!Files.exists(snapshotFile) || !Files.exists(sourceFile)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedInput buffer = new MappedInput(channel, segmentSize);
+
+            if (buffer.remaining() < 32 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.info("Binary snapshot {} has an unknown format, ignoring it", snapshotFile);
+                return Optional.empty();
+            }
+            long sourceSize = buffer.getLong();
+            long sourceModified = buffer.getLong();
+            if (sourceSize != Files.size(sourceFile)
+                    || sourceModified != Files.getLastModifiedTime(sourceFile).toMillis()) {
+                log.info("Binary snapshot {} is stale, ignoring it", snapshotFile);
+                return Optional.empty();
+            }
+
+            int productCount = buffer.getInt();
+            int typeCount = buffer.getInt();
+
+            Map<String, int[]> ordinalsByType = new HashMap<>(typeCount * 2);
+            for (int t = 0; t < typeCount; t++) {
+                String type = readString(buffer);
+                int[] ordinals = new int[buffer.getInt()];
+                for (int i = 0; i < ordinals.length; i++) {
+                    ordinals[i] = buffer.getInt();
+                }
+                ordinalsByType.put(type, ordinals);
+            }
+
+            List<Product> products = new ArrayList<>(productCount);
+            for (int i = 0; i < productCount; i++) {
+                products.add(readProduct(buffer));
+            }
+
+            Map<String, List<String>> productsByType = new HashMap<>(typeCount * 2);
+            ordinalsByType.forEach((type, ordinals) -> {
+                List<String> ids = new ArrayList<>(ordinals.length);
+                for (int ordinal : ordinals) {
+                    ids.add(products.get(ordinal).getId());
+                }
+                productsByType.put(type, ids);
+            });
+
+            return Optional.of(new Contents(products, productsByType));
+        }
+    }
+
+    // Encoding helpers
+
+    private static void writeProduct(DataOutputStream out, Product product) throws IOException {
+        writeString(out, product.getId());
+        writeString(out, product.getTitle());
+        writeString(out, product.getDescription());
+        writeDecimal(out, product.getPrice());
+        writeStrings(out, product.getImages());
+        List<PaymentMethod> paymentMethods = product.getPaymentMethods();
+        out.writeInt(paymentMethods == null ? -1 : paymentMethods.size());
+        if (paymentMethods != null) {
+            for (PaymentMethod paymentMethod : paymentMethods) {
+                out.writeBoolean(paymentMethod != null);
+                if (paymentMethod != null) {
+                    writeString(out, paymentMethod.getId());
+                    writeString(out, paymentMethod.getName());
+                    writeString(out, paymentMethod.getDescription());
+                }
+            }
+        }
+        Seller seller = product.getSeller();
+        out.writeBoolean(seller != null);
+        if (seller != null) {
+            writeString(out, seller.getId());
+            writeString(out, seller.getName());
+            writeString(out, seller.getEmail());
+            writeString(out, seller.getPhone());
+            writeDouble(out, seller.getRating());
+        }
+        writeInteger(out, product.getStock());
+        writeDouble(out, product.getRating());
+        List<Review> reviews = product.getReviews();
+        out.writeInt(reviews == null ? -1 : reviews.size());
+        if (reviews != null) {
+            for (Review review : reviews) {
+                out.writeBoolean(review != null);
+                if (review != null) {
+                    writeString(out, review.getId());
+                    writeString(out, review.getUserId());
+                    writeString(out, review.getUserName());
+                    writeString(out, review.getComment());
+                    writeInteger(out, review.getRating());
+                    writeDateTime(out, review.getCreatedAt());
+                }
+            }
+        }
+        writeLong(out, product.getRatingSum());
+        writeInteger(out, product.getRatingCount());
+        writeString(out, product.getType());
+        writeLong(out, product.getVersion());
+    }
+
+    private static Product readProduct(MappedInput buffer) {
+        Product.ProductBuilder builder = Product.builder()
+                .id(readString(buffer))
+                .title(readString(buffer))
+                .description(readString(buffer))
+                .price(readDecimal(buffer))
+                .images(readStrings(buffer));
+        int paymentMethodCount = buffer.getInt();
+        if (paymentMethodCount >= 0) {
+            List<PaymentMethod> paymentMethods = new ArrayList<>(paymentMethodCount);
+            for (int i = 0; i < paymentMethodCount; i++) {
+                paymentMethods.add(buffer.get() == 0 ? null : PaymentMethod.builder()
+                        .id(readString(buffer))
+                        .name(readString(buffer))
+                        .description(readString(buffer))
+                        .build());
+            }
+            builder.paymentMethods(paymentMethods);
+        }
+        if (buffer.get() != 0) {
+            builder.seller(Seller.builder()
+                    .id(readString(buffer))
+                    .name(readString(buffer))
+                    .email(readString(buffer))
+                    .phone(readString(buffer))
+                    .rating(readDouble(buffer))
+                    .build());
+        }
+        builder.stock(readInteger(buffer)).rating(readDouble(buffer));
+        int reviewCount = buffer.getInt();
+        if (reviewCount >= 0) {
+            List<Review> reviews = new ArrayList<>(reviewCount);
+            for (int i = 0; i < reviewCount; i++) {
+                reviews.add(buffer.get() == 0 ? null : Review.builder()
+                        .id(readString(buffer))
+                        .userId(readString(buffer))
+                        .userName(readString(buffer))
+                        .comment(readString(buffer))
+                        .rating(readInteger(buffer))
+                        .createdAt(readDateTime(buffer))
+                        .build());
+            }
+            builder.reviews(reviews);
+        }
+        return builder.ratingSum(readLong(buffer))
+                .ratingCount(readInteger(buffer))
+                .type(readString(buffer))
+                .version(readLong(buffer))
+                .build();
+    }
+
+    /**
+     * Sequential reader over a file mapped one segment at a time, in the big-endian order of DataOutputStream
+     * Values spanning the end of a segment are assembled byte by byte.
+     */
+    private static final class MappedInput {
+        private final FileChannel channel;
+        private final int segmentSize;
+        private MappedByteBuffer segment;
+        // File position of the start of the current segment
+        private long segmentStart;
+
+        MappedInput(FileChannel channel, int segmentSize) throws IOException {
+            this.channel = channel;
+            this.segmentSize = segmentSize;
+            this.segment = map(0);
+        }
+
+        long remaining() throws IOException {
+            return channel.size() - segmentStart - segment.position();
+        }
+
+        byte get() {
+            if (!segment.hasRemaining()) {
+                next();
+            }
+            return segment.get();
+        }
+
+        int getInt() {
+            if (segment.remaining() >= Integer.BYTES) {
+                return segment.getInt();
+            }
+            int value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                value = (value << 8) | (get() & 0xFF);
+            }
+            return value;
+        }
+
+        long getLong() {
+            if (segment.remaining() >= Long.BYTES) {
+                return segment.getLong();
+            }
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (get() & 0xFF);
+            }
+            return value;
+        }
+
+        double getDouble() {
+            return Double.longBitsToDouble(getLong());
+        }
+
+        void get(byte[] bytes) {
+            int copied = 0;
+            while (copied < bytes.length) {
+                if (!segment.hasRemaining()) {
+                    next();
+                }
+                int length = Math.min(bytes.length - copied, segment.remaining());
+                segment.get(bytes, copied, length);
+                copied += length;
+            }
+        }
+
+        private void next() {
+            try {
+                segment = map(segmentStart + segment.capacity());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private MappedByteBuffer map(long start) throws IOException {
+            long size = Math.min(segmentSize, channel.size() - start);
+            if (size <= 0 && start > 0) {
+                throw new BufferUnderflowException();
+            }
+            segmentStart = start;
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(0, size));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(MappedInput buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static List<String> readStrings(MappedInput buffer) {
+        int size = buffer.getInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(buffer));
+        }
+        return values;
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            out.writeInt(value.scale());
+            out.writeInt(unscaled.length);
+            out.write(unscaled);
+        }
+    }
+
+    private static BigDecimal readDecimal(MappedInput buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        int scale = buffer.getInt();
+        byte[] unscaled = new byte[buffer.getInt()];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(MappedInput buffer) {
+        return buffer.get() == 0 ? null : buffer.getInt();
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(MappedInput buffer) {
+        return buffer.get() == 0 ? null : buffer.getLong();
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(MappedInput buffer) {
+        return buffer.get() == 0 ? null : buffer.getDouble();
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(MappedInput buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        long epochSecond = buffer.getLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,464 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Immutable compressed set of non negative ints, laid out like a roaring bitmap
+ * Values are split in chunks of 2^16 by their high bits. A chunk holding up to 4096 values stores them as a
+ * sorted char array, a denser chunk as a 1024 word bitmap, so a chunk never takes more than 8 KB and sparse
+ * sets take 2 bytes per value. Intersections and unions work chunk by chunk, and an update copies only the
+ * chunks it touches so the previous bitmap stays valid for the snapshots still using it.
+ */
+public final class Bitmap {
+
+    static final Bitmap EMPTY = new Bitmap(new int[0], new Container[0], 0);
+
+    // The largest chunk stored as an array, a bitmap chunk takes the same 8 KB
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private final int[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private Bitmap(int[] keys, Container[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Create a bitmap from sorted values
+     * @param values the values, increasing and without duplicates
+     * @param size the number of values to take from the start of the array
+     * @return the bitmap
+     */
+    static Bitmap of(int[] values, int size) {
+        Builder builder = new Builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(values[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the number of values
+     * @return the cardinality
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Check whether a value is in the set
+     * @param value the value
+     * @return true if the value is in the set
+     */
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, value >>> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * Intersect with another bitmap
+     * @param other the other bitmap
+     * @return the values in both bitmaps
+     */
+    public Bitmap and(Bitmap other) {
+        int[] nextKeys = new int[Math.min(keys.length, other.keys.length)];
+        Container[] nextContainers = new Container[nextKeys.length];
+        int size = 0;
+        int total = 0;
+        for (int i = 0, j = 0; i < keys.length && j < other.keys.length; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i++].and(other.containers[j++]);
+                if (container.cardinality > 0) {
+                    nextKeys[size] = keys[i - 1];
+                    nextContainers[size++] = container;
+                    total += container.cardinality;
+                }
+            }
+        }
+        return new Bitmap(Arrays.copyOf(nextKeys, size), Arrays.copyOf(nextContainers, size), total);
+    }
+
+    /**
+     * Count the values in both this and another bitmap without building the intersection
+     * @param other the other bitmap
+     * @return the cardinality of the intersection
+     */
+    public int andCardinality(Bitmap other) {
+        int total = 0;
+        for (int i = 0, j = 0; i < keys.length && j < other.keys.length; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                total += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Unite with another bitmap
+     * @param other the other bitmap
+     * @return the values in either bitmap
+     */
+    public Bitmap or(Bitmap other) {
+        int[] nextKeys = new int[keys.length + other.keys.length];
+        Container[] nextContainers = new Container[nextKeys.length];
+        int size = 0;
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            Container container;
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                nextKeys[size] = keys[i];
+                container = containers[i++];
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                nextKeys[size] = other.keys[j];
+                container = other.containers[j++];
+            } else {
+                nextKeys[size] = keys[i];
+                container = containers[i++].or(other.containers[j++]);
+            }
+            nextContainers[size++] = container;
+            total += container.cardinality;
+        }
+        return new Bitmap(Arrays.copyOf(nextKeys, size), Arrays.copyOf(nextContainers, size), total);
+    }
+
+    /**
+     * Create a bitmap with some values added and others removed, sharing every untouched chunk
+     * @param added the values to add, increasing
+     * @param removed the values to remove, increasing
+     * @return the new bitmap
+     */
+    Bitmap update(int[] added, int[] removed) {
+        if (added.length == 0 && removed.length == 0) {
+            return this;
+        }
+        int[] touched = new int[added.length + removed.length];
+        int touchedCount = 0;
+        for (int value : added) {
+            touched[touchedCount++] = value >>> 16;
+        }
+        for (int value : removed) {
+            touched[touchedCount++] = value >>> 16;
+        }
+        int[] touchedKeys = Arrays.stream(touched, 0, touchedCount).sorted().distinct().toArray();
+
+        int[] nextKeys = new int[keys.length + touchedKeys.length];
+        Container[] nextContainers = new Container[nextKeys.length];
+        int size = 0;
+        int total = 0;
+        int a = 0;
+        int r = 0;
+        int i = 0;
+        for (int key : touchedKeys) {
+            while (i < keys.length && keys[i] < key) {
+                nextKeys[size] = keys[i];
+                nextContainers[size++] = containers[i];
+                total += containers[i++].cardinality;
+            }
+            long[] words = new long[WORDS];
+            if (i < keys.length && keys[i] == key) {
+                containers[i++].copyInto(words);
+            }
+            for (; a < added.length && added[a] >>> 16 == key; a++) {
+                words[(char) added[a] >>> 6] |= 1L << added[a];
+            }
+            for (; r < removed.length && removed[r] >>> 16 == key; r++) {
+                words[(char) removed[r] >>> 6] &= ~(1L << removed[r]);
+            }
+            Container container = Container.of(words);
+            if (container.cardinality > 0) {
+                nextKeys[size] = key;
+                nextContainers[size++] = container;
+                total += container.cardinality;
+            }
+        }
+        while (i < keys.length) {
+            nextKeys[size] = keys[i];
+            nextContainers[size++] = containers[i];
+            total += containers[i++].cardinality;
+        }
+        return new Bitmap(Arrays.copyOf(nextKeys, size), Arrays.copyOf(nextContainers, size), total);
+    }
+
+    /**
+     * Iterate the values in increasing order, skipping the first ones
+     * Whole chunks are skipped by their cardinality, so skipping costs one step per chunk.
+     * @param skip the number of values to skip
+     * @return an iterator over the remaining values
+     */
+    public PrimitiveIterator.OfInt iterator(int skip) {
+        return new PrimitiveIterator.OfInt() {
+            private int chunk;
+            private int position;
+
+            {
+                int remaining = skip;
+                while (chunk < containers.length && remaining >= containers[chunk].cardinality) {
+                    remaining -= containers[chunk++].cardinality;
+                }
+                position = chunk < containers.length ? containers[chunk].select(remaining) : 0;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return chunk < containers.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Container container = containers[chunk];
+                int value = keys[chunk] << 16 | container.valueAt(position);
+                position = container.next(position);
+                if (position < 0) {
+                    chunk++;
+                    position = chunk < containers.length ? containers[chunk].select(0) : 0;
+                }
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Appends increasing values, filling one chunk at a time
+     */
+    static final class Builder {
+        private int[] keys = new int[4];
+        private Container[] containers = new Container[4];
+        private int size;
+        private int total;
+        private int currentKey = -1;
+        private final long[] words = new long[WORDS];
+        private boolean dirty;
+
+        /**
+         * Add a value larger than every value added before
+         * @param value the value
+         */
+        void add(int value) {
+            int key = value >>> 16;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+            words[(char) value >>> 6] |= 1L << value;
+            dirty = true;
+        }
+
+        Bitmap build() {
+            flush();
+            return new Bitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size), total);
+        }
+
+        private void flush() {
+            if (!dirty) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            Container container = Container.of(words);
+            keys[size] = currentKey;
+            containers[size++] = container;
+            total += container.cardinality;
+            Arrays.fill(words, 0);
+            dirty = false;
+        }
+    }
+
+    /**
+     * The low 16 bits of the values of one chunk, either a sorted array or a bitmap
+     */
+    private static final class Container {
+        // Exactly one of both is set
+        private final char[] values;
+        private final long[] words;
+        private final int cardinality;
+
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_MAX) {
+                return new Container(null, words.clone(), cardinality);
+            }
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    values[size++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new Container(values, null, cardinality);
+        }
+
+        boolean contains(char value) {
+            return words != null ? (words[value >>> 6] & 1L << value) != 0 : Arrays.binarySearch(values, value) >= 0;
+        }
+
+        Container and(Container other) {
+            if (words != null && other.words != null) {
+                long[] result = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) {
+                    result[w] = words[w] & other.words[w];
+                }
+                return of(result);
+            }
+            if (words == null && other.words == null) {
+                char[] result = new char[Math.min(cardinality, other.cardinality)];
+                int size = merge(values, other.values, result);
+                return new Container(Arrays.copyOf(result, size), null, size);
+            }
+            Container array = words == null ? this : other;
+            Container probe = array == this ? other : this;
+            char[] result = new char[array.cardinality];
+            int size = 0;
+            for (char value : array.values) {
+                if (probe.contains(value)) {
+                    result[size++] = value;
+                }
+            }
+            return new Container(Arrays.copyOf(result, size), null, size);
+        }
+
+        int andCardinality(Container other) {
+            if (words != null && other.words != null) {
+                int count = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    count += Long.bitCount(words[w] & other.words[w]);
+                }
+                return count;
+            }
+            if (words == null && other.words == null) {
+                return merge(values, other.values, null);
+            }
+            Container array = words == null ? this : other;
+            Container probe = array == this ? other : this;
+            int count = 0;
+            for (char value : array.values) {
+                if (probe.contains(value)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Walk two sorted arrays together, a lookup per value would cost a binary search each
+         * @param target where to write the common values, or null to only count them
+         * @return the number of common values
+         */
+        private static int merge(char[] left, char[] right, char[] target) {
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    if (target != null) {
+                        target[count] = left[i];
+                    }
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        Container or(Container other) {
+            long[] result = new long[WORDS];
+            copyInto(result);
+            other.copyInto(result);
+            return of(result);
+        }
+
+        void copyInto(long[] target) {
+            if (words != null) {
+                for (int w = 0; w < WORDS; w++) {
+                    target[w] |= words[w];
+                }
+            } else {
+                for (char value : values) {
+                    target[value >>> 6] |= 1L << value;
+                }
+            }
+        }
+
+        /**
+         * Get the position of the value of the given rank, an index into the array or a bit index
+         */
+        int select(int rank) {
+            if (words == null) {
+                return rank;
+            }
+            int remaining = rank;
+            for (int w = 0; w < WORDS; w++) {
+                int count = Long.bitCount(words[w]);
+                if (remaining < count) {
+                    long word = words[w];
+                    for (int k = 0; k < remaining; k++) {
+                        word &= word - 1;
+                    }
+                    return w << 6 | Long.numberOfTrailingZeros(word);
+                }
+                remaining -= count;
+            }
+            return -1;
+        }
+
+        char valueAt(int position) {
+            return words == null ? values[position] : (char) position;
+        }
+
+        /**
+         * Get the position after the given one, or -1 if it holds the last value
+         */
+        int next(int position) {
+            if (words == null) {
+                return position + 1 < values.length ? position + 1 : -1;
+            }
+            int bit = position + 1;
+            int w = bit >>> 6;
+            if (w >= WORDS) {
+                return -1;
+            }
+            long word = words[w] & (-1L << bit);
+            while (word == 0) {
+                if (++w == WORDS) {
+                    return -1;
+                }
+                word = words[w];
+            }
+            return w << 6 | Long.numberOfTrailingZeros(word);
+        }
+    }
+}
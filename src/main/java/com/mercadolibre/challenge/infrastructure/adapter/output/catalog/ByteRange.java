@@ -0,0 +1,16 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+/**
+ * A half-open range of bytes [start, end) inside a file
+ * @param start the offset of the first byte in the range
+ * @param end the offset just past the last byte in the range
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * @return the number of bytes in the range
+     */
+    public long length() {
+        return end - start;
+    }
+}
@@ -0,0 +1,195 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Set of changes that turns one catalog snapshot into another
+ * Products are matched by id and compared by content hash first, then by equality,
+ * so unchanged products are detected without touching any index
+ */
+public final class CatalogDiff {
+
+    /**
+     * A single product change
+     * @param id the product id
+     * @param before the product in the current snapshot, null for an insert
+     * @param after the product in the next snapshot, null for a delete
+     */
+    public record Change(String id, Product before, Product after) {
+
+        public boolean isInsert() {
+            return before == null;
+        }
+
+        public boolean isDelete() {
+            return after == null;
+        }
+
+        public boolean isUpdate() {
+            return before != null && after != null;
+        }
+
+        /**
+         * @return true if the product moved from one type to another
+         */
+        public boolean isTypeChange() {
+            return isUpdate() && !Objects.equals(before.getType(), after.getType());
+        }
+    }
+
+    private final List<Change> changes;
+    private final int unchanged;
+
+    private CatalogDiff(List<Change> changes, int unchanged) {
+        this.changes = Collections.unmodifiableList(changes);
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * Compare the products of a snapshot with a new set of products
+     * @param current the snapshot currently published
+     * @param incoming the products of the next catalog by id
+     * @return the changes needed to go from the snapshot to the incoming products
+     */
+    public static CatalogDiff between(CatalogSnapshot current, Map<String, Product> incoming) {
+        List<Change> changes = new ArrayList<>();
+        int unchanged = 0;
+        int kept = 0;
+
+        for (Map.Entry<String, Product> entry : incoming.entrySet()) {
+            Product before = current.products().get(entry.getKey());
+            Product after = entry.getValue();
+            if (before == null) {
+                changes.add(new Change(entry.getKey(), null, after));
+                continue;
+            }
+            kept++;
+            if (before.hashCode() != after.hashCode() || !before.equals(after)) {
+                changes.add(new Change(entry.getKey(), before, after));
+            } else {
+                unchanged++;
+            }
+        }
+        // Every current product is still in the file unless fewer of them were found than the snapshot holds
+        if (kept < current.size()) {
+            current.products().forEach((id, product) -> {
+                if (!incoming.containsKey(id)) {
+                    changes.add(new Change(id, product, null));
+                }
+            });
+        }
+
+        return new CatalogDiff(changes, unchanged);
+    }
+
+    /**
+     * Bring this diff, computed against an earlier snapshot, up to date with the current one
+     * Only the products written since the earlier snapshot can differ from it, so only those are compared again
+     * @param earlier the snapshot this diff was computed against
+     * @param current the snapshot currently published
+     * @param incoming the products of the next catalog by id
+     * @param written the ids of the products written since the earlier snapshot
+     * @return the changes needed to go from the current snapshot to the incoming products
+     */
+    public CatalogDiff rebase(CatalogSnapshot earlier, CatalogSnapshot current, Map<String, Product> incoming,
+                              Set<String> written) {
+        if (written.isEmpty()) {
+            return this;
+        }
+        List<Change> rebased = new ArrayList<>(changes.size() + written.size());
+        Set<String> changed = new HashSet<>();
+        for (Change change : changes) {
+            if (written.contains(change.id())) {
+                changed.add(change.id());
+            } else {
+                rebased.add(change);
+            }
+        }
+        int rebasedUnchanged = unchanged;
+        for (String id : written) {
+            // A product of the earlier snapshot without a change was counted as unchanged
+            if (earlier.products().containsKey(id) && !changed.contains(id)) {
+                rebasedUnchanged--;
+            }
+            Product after = incoming.get(id);
+            Product before = current.products().get(id);
+            if (before != null && before.equals(after)) {
+                rebasedUnchanged++;
+            } else if (before != null || after != null) {
+                rebased.add(new Change(id, before, after));
+            }
+        }
+        return new CatalogDiff(rebased, rebasedUnchanged);
+    }
+
+    /**
+     * Create a diff from an explicit list of changes
+     * @param changes the changes to apply
+     * @return the diff
+     */
+    public static CatalogDiff of(List<Change> changes) {
+        return new CatalogDiff(new ArrayList<>(changes), 0);
+    }
+
+    /**
+     * Build the diff produced by replaying logged operations on top of a snapshot
+     * Several operations on the same product collapse into a single change
+     * @param current the snapshot the operations apply to
+     * @param operations the operations in log order
+     * @return the changes needed to reflect the operations in the snapshot
+     */
+    public static CatalogDiff fromOperations(CatalogSnapshot current, List<ProductOperation> operations) {
+        Map<String, Product> latest = new LinkedHashMap<>();
+        for (ProductOperation operation : operations) {
+            String id = operation.productId();
+            Product before = latest.containsKey(id) ? latest.get(id) : current.products().get(id);
+            latest.put(id, operation.applyTo(before));
+        }
+
+        List<Change> changes = new ArrayList<>(latest.size());
+        latest.forEach((id, after) -> {
+            Product before = current.products().get(id);
+            if (before != null || after != null) {
+                changes.add(new Change(id, before, after));
+            }
+        });
+        return new CatalogDiff(changes, current.size() - (int) changes.stream().filter(c -> !c.isInsert()).count());
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public int getInserted() {
+        return (int) changes.stream().filter(Change::isInsert).count();
+    }
+
+    public int getUpdated() {
+        return (int) changes.stream().filter(Change::isUpdate).count();
+    }
+
+    public int getDeleted() {
+        return (int) changes.stream().filter(Change::isDelete).count();
+    }
+
+    public int getTypeChanges() {
+        return (int) changes.stream().filter(Change::isTypeChange).count();
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+}
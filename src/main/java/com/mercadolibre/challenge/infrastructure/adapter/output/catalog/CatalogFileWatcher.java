@@ -0,0 +1,105 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the data file and reloads the catalog when it changes
+ * Bursts of file system events, as produced by editors and copy tools, are merged into a single
+ * reload once the file has been quiet for the debounce period. Events for a file the product adapter
+ * wrote itself, as compaction does, are ignored.
+ */
+@Component
+@ConditionalOnProperty(name = "app.data.watch", havingValue = "true")
+@Slf4j
+public class CatalogFileWatcher {
+
+    private final CatalogReloader catalogReloader;
+    private final ProductAdapter productAdapter;
+    private final Path dataFile;
+    private final long debounceMillis;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public CatalogFileWatcher(CatalogReloader catalogReloader,
+                              ProductAdapter productAdapter,
+                              CatalogProperties catalogProperties) {
+        this.catalogReloader = catalogReloader;
+        this.productAdapter = productAdapter;
+        this.dataFile = productAdapter.getDataFile().toAbsolutePath();
+        this.debounceMillis = catalogProperties.watchDebounceMillis();
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        dataFile.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcherThread = Thread.ofPlatform().daemon().name("catalog-file-watcher").start(this::watch);
+        log.info("Watching {} for catalog changes", dataFile);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        watchService.close();
+        watcherThread.interrupt();
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = isDataFileEvent(watchService.take());
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isDataFileEvent(next);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Catalog file watcher closed");
+        }
+    }
+
+    private boolean isDataFileEvent(WatchKey key) {
+        boolean matches = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dataFile.getFileName().equals(event.context())) {
+                matches = true;
+            }
+        }
+        key.reset();
+        return matches;
+    }
+
+    private void reload() {
+        if (!productAdapter.hasDataFileChanged()) {
+            log.debug("Ignoring change in {} written by the catalog itself", dataFile);
+            return;
+        }
+        log.info("Detected change in {}, reloading catalog", dataFile);
+        try {
+            catalogReloader.reload();
+        } catch (RuntimeException e) {
+            // Already logged by the reloader, the previous snapshot keeps serving reads
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+/**
+ * Strategies available to load the product catalog file into memory
+ */
+public enum CatalogLoadMode {
+    /**
+     * Deserialize the whole file into a list before filling the cache
+     */
+    BULK,
+
+    /**
+     * Read one product at a time from the file and add it to the cache as it is parsed,
+     * so peak memory stays close to the final cache size
+     */
+    STREAMING,
+
+    /**
+     * Split the file into byte ranges at object boundaries and parse them concurrently
+     * on a fork-join pool, filling the cache and indexes from several threads
+     */
+    PARALLEL
+}
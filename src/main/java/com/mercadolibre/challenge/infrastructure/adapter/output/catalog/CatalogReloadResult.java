@@ -0,0 +1,23 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+/**
+ * Outcome of loading a new catalog snapshot
+ * @param version the version of the published snapshot
+ * @param products the number of products in the published snapshot
+ * @param inserted the number of products added
+ * @param updated the number of products whose content changed
+ * @param deleted the number of products removed
+ * @param typeChanges the number of updated products that moved to another type
+ * @param unchanged the number of products left untouched
+ * @param durationMillis the time spent loading and publishing the snapshot
+ */
+public record CatalogReloadResult(long version, int products, int inserted, int updated, int deleted,
+                                  int typeChanges, int unchanged, long durationMillis) {
+
+    /**
+     * @return the number of entries written to the cache and indexes
+     */
+    public int touched() {
+        return inserted + updated + deleted;
+    }
+}
@@ -0,0 +1,85 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point for reloading the catalog at runtime
+ * Used by the file watcher and the actuator endpoint, and records reload metrics:
+ * catalog.reload.duration, catalog.reload.failures, catalog.reload.entries (tagged by change),
+ * catalog.snapshot.version and catalog.snapshot.products
+ */
+@Component
+@Slf4j
+public class CatalogReloader {
+
+    private final ProductAdapter productAdapter;
+    private final Timer reloadTimer;
+    private final Counter reloadFailures;
+    private final Counter insertedEntries;
+    private final Counter updatedEntries;
+    private final Counter deletedEntries;
+    private volatile CatalogReloadResult lastResult;
+
+    public CatalogReloader(ProductAdapter productAdapter, MeterRegistry meterRegistry) {
+        this.productAdapter = productAdapter;
+        this.reloadTimer = Timer.builder("catalog.reload.duration")
+                .description("Time spent loading and publishing a new catalog snapshot")
+                .register(meterRegistry);
+        this.reloadFailures = Counter.builder("catalog.reload.failures")
+                .description("Catalog reloads that failed and left the previous snapshot in place")
+                .register(meterRegistry);
+        this.insertedEntries = entriesCounter(meterRegistry, "inserted");
+        this.updatedEntries = entriesCounter(meterRegistry, "updated");
+        this.deletedEntries = entriesCounter(meterRegistry, "deleted");
+        Gauge.builder("catalog.snapshot.version", productAdapter, adapter -> adapter.currentSnapshot().version())
+                .description("Version of the catalog snapshot serving reads")
+                .register(meterRegistry);
+        Gauge.builder("catalog.snapshot.products", productAdapter, adapter -> adapter.currentSnapshot().size())
+                .description("Number of products in the catalog snapshot serving reads")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reload the catalog from the data file
+     * @return the outcome of the reload
+     */
+    public CatalogReloadResult reload() {
+        try {
+            CatalogReloadResult result = productAdapter.reload();
+            reloadTimer.record(result.durationMillis(), TimeUnit.MILLISECONDS);
+            insertedEntries.increment(result.inserted());
+            updatedEntries.increment(result.updated());
+            deletedEntries.increment(result.deleted());
+            lastResult = result;
+            return result;
+        } catch (RuntimeException e) {
+            reloadFailures.increment();
+            log.error("Catalog reload failed, keeping snapshot version {}", productAdapter.currentSnapshot().version(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the outcome of the last successful runtime reload
+     * @return the last result, empty if the catalog was not reloaded since startup
+     */
+    public Optional<CatalogReloadResult> getLastResult() {
+        return Optional.ofNullable(lastResult);
+    }
+
+    private static Counter entriesCounter(MeterRegistry meterRegistry, String change) {
+        return Counter.builder("catalog.reload.entries")
+                .description("Catalog entries written by reloads")
+                .tag("change", change)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,217 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable view of the catalog: the products by id and the secondary indexes built from them
+ * A snapshot is fully built before it is published, so readers holding a reference always see
+ * a complete and consistent catalog even while a newer one is being loaded.
+ * Product ids are kept sorted both in the primary index and in every type list, so a page is a
+ * sublist of an index and the same page always holds the same products for a given snapshot.
+ * @param version the snapshot version, incremented every time a new catalog is published
+ * @param products the products by id
+ * @param productsByType the product ids by type, sorted
+ * @param orderedIds every product id, sorted
+ * @param sortIndexes the product ids sorted by price, rating, stock and title
+ * @param searchIndex the full text index over product titles and descriptions
+ * @param suggestIndex the prefix completions over product title terms and types
+ * @param facetIndex the bitmaps of the products holding every facet value
+ * @param sellerIndex the product ids and aggregates by seller
+ * @param reviewIndex the rating histograms and review orders of the products with many reviews
+ */
+public record CatalogSnapshot(long version,
+                              Map<String, Product> products,
+                              Map<String, List<String>> productsByType,
+                              List<String> orderedIds,
+                              SortIndexes sortIndexes,
+                              SearchIndex searchIndex,
+                              SuggestIndex suggestIndex,
+                              FacetIndex facetIndex,
+                              SellerIndex sellerIndex,
+                              ReviewIndex reviewIndex) {
+
+    /**
+     * Create an empty snapshot
+     * @return a snapshot with version 0 and no products
+     */
+    public static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0, Map.of(), Map.of(), List.of(), SortIndexes.empty(), SearchIndex.empty(),
+                SuggestIndex.empty(), FacetIndex.empty(), SellerIndex.empty(), ReviewIndex.empty());
+    }
+
+    /**
+     * Get the number of products in the snapshot
+     * @return the number of products
+     */
+    public int size() {
+        return products.size();
+    }
+
+    /**
+     * Create the next snapshot by applying a diff to this one
+     * The products and the type lists are persistent structures: only the trie nodes on the path to a changed
+     * product and the chunks of the sorted id lists holding changed ids are copied, everything else is shared
+     * with this snapshot, so a small diff costs the same whatever the size of the catalog. Sort indexes are
+     * only updated for the orders whose key changed, the search index only changes when a title or description
+     * does and the completions when a title, type or rating does. Facet bitmaps only copy the chunks holding the
+     * ordinals of changed products, and only the sellers of changed products get new id lists and aggregates.
+     * Review orders and histograms are only rebuilt for the products whose reviews changed.
+     * @param diff the changes to apply
+     * @param nextVersion the version of the new snapshot
+     * @return the new snapshot, or this snapshot if the diff is empty
+     */
+    public CatalogSnapshot apply(CatalogDiff diff, long nextVersion) {
+        if (diff.isEmpty()) {
+            return this;
+        }
+
+        PersistentMap.Transient<String, Product> nextProducts = PersistentMap.copyOf(products).asTransient();
+        Set<String> deleted = new HashSet<>();
+        List<String> inserted = new ArrayList<>();
+        Map<String, SortIndexes.IdChanges> touchedTypes = new HashMap<>();
+
+        for (CatalogDiff.Change change : diff.getChanges()) {
+            if (change.isDelete()) {
+                nextProducts.remove(change.id());
+                deleted.add(change.id());
+            } else {
+                nextProducts.put(change.id(), change.after());
+                if (change.isInsert()) {
+                    inserted.add(change.id());
+                }
+            }
+            if (change.isUpdate() && !change.isTypeChange()) {
+                continue;
+            }
+            if (change.before() != null && change.before().getType() != null) {
+                touchedTypes.computeIfAbsent(change.before().getType(), type -> new SortIndexes.IdChanges()).removed.add(change.id());
+            }
+            if (change.after() != null && change.after().getType() != null) {
+                touchedTypes.computeIfAbsent(change.after().getType(), type -> new SortIndexes.IdChanges()).added.add(change.id());
+            }
+        }
+        PersistentMap<String, Product> next = nextProducts.persistent();
+
+        Comparator<String> natural = Comparator.naturalOrder();
+        PersistentMap.Transient<String, List<String>> nextProductsByType = PersistentMap.copyOf(productsByType)
+                .asTransient();
+        touchedTypes.forEach((type, changes) -> {
+            List<String> ids = SortedIds.copyOf(productsByType.getOrDefault(type, List.of()))
+                    .update(changes.removed, natural, changes.added, natural, null);
+            if (ids.isEmpty()) {
+                nextProductsByType.remove(type);
+            } else {
+                nextProductsByType.put(type, ids);
+            }
+        });
+        List<String> nextOrderedIds = SortedIds.copyOf(orderedIds).update(deleted, natural, inserted, natural, null);
+
+        return new CatalogSnapshot(nextVersion,
+                next,
+                nextProductsByType.persistent(),
+                nextOrderedIds,
+                sortIndexes.apply(diff.getChanges(), next),
+                searchIndex.apply(diff.getChanges(), next, nextOrderedIds),
+                suggestIndex.apply(diff.getChanges()),
+                facetIndex.apply(diff.getChanges(), next, nextOrderedIds),
+                sellerIndex.apply(diff.getChanges()),
+                reviewIndex.apply(diff.getChanges()));
+    }
+
+    /**
+     * Accumulates products for a new snapshot
+     * Products can be added from several threads at the same time, each type list is only
+     * modified inside compute for its key
+     */
+    public static final class Builder {
+
+        private final ConcurrentHashMap<String, Product> products = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, List<String>> productsByType = new ConcurrentHashMap<>();
+
+        /**
+         * Add a product to the snapshot and the type index, replacing any product with the same id
+         * @param product the product to add
+         */
+        public void add(Product product) {
+            Product previous = products.put(product.getId(), product);
+            if (previous != null && previous.getType() != null) {
+                productsByType.computeIfPresent(previous.getType(), (type, ids) -> {
+                    ids.remove(previous.getId());
+                    return ids;
+                });
+            }
+            if (product.getType() != null) {
+                productsByType.compute(product.getType(), (type, ids) -> {
+                    List<String> typeIds = ids != null ? ids : new ArrayList<>();
+                    typeIds.add(product.getId());
+                    return typeIds;
+                });
+            }
+        }
+
+        /**
+         * Add products together with an already built type index
+         * @param products the products to add
+         * @param productsByType the product ids by type for the given products
+         */
+        public void addIndexed(List<Product> products, Map<String, List<String>> productsByType) {
+            products.forEach(product -> this.products.put(product.getId(), product));
+            productsByType.forEach((type, ids) -> this.productsByType.put(type, new ArrayList<>(ids)));
+        }
+
+        /**
+         * Get the number of products added so far
+         * @return the number of products
+         */
+        public int size() {
+            return products.size();
+        }
+
+        /**
+         * Get the number of types indexed so far
+         * @return the number of types
+         */
+        public int typeCount() {
+            return productsByType.size();
+        }
+
+        /**
+         * Build the snapshot, the builder must not be used afterwards
+         * @param version the version of the new snapshot
+         * @return the snapshot
+         */
+        public CatalogSnapshot build(long version) {
+            PersistentMap.Transient<String, List<String>> typeIndex = PersistentMap.<String, List<String>>empty()
+                    .asTransient();
+            productsByType.forEach((type, ids) -> typeIndex.put(type, sorted(ids)));
+            List<String> orderedIds = sorted(products.keySet());
+            return new CatalogSnapshot(version,
+                    PersistentMap.copyOf(products),
+                    typeIndex.persistent(),
+                    orderedIds,
+                    SortIndexes.build(products),
+                    SearchIndex.build(orderedIds, products),
+                    SuggestIndex.build(products.values()),
+                    FacetIndex.build(orderedIds, products),
+                    SellerIndex.build(products),
+                    ReviewIndex.build(products));
+        }
+
+        private static List<String> sorted(Collection<String> ids) {
+            String[] sorted = ids.toArray(String[]::new);
+            Arrays.parallelSort(sorted);
+            return SortedIds.of(sorted);
+        }
+    }
+}
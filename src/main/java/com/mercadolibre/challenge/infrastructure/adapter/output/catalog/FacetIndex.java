@@ -0,0 +1,393 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFacets;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Bitmaps of the products of a snapshot holding every facet value, over product ordinals
+ * A listing filter is the intersection of the union of the selected values of every facet, and a facet count
+ * the cardinality of the intersection of the value bitmap with the listing, so neither walks the catalog.
+ * <p>
+ * Ordinals are the positions of the ids in the order the index was built from, so matches come out in id order.
+ * Products inserted later get the next free ordinals and deleted products keep theirs, only their bits are
+ * cleared. Once inserted and deleted ordinals pass a fraction of the catalog the index is rebuilt.
+ */
+public final class FacetIndex {
+
+    private static final int MAX_STARS = 5;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    // Rebuild once inserted and deleted ordinals reach this fraction of the catalog
+    private static final int COMPACTION_DIVISOR = 32;
+    private static final FacetIndex EMPTY = build(List.of(), Map.of());
+
+    private final List<String> baseIds;
+    // Ordinals from baseIds.size() on, in insertion order
+    private final List<String> addedIds;
+    private final Map<String, Integer> addedOrdinals;
+    private final Bitmap live;
+    private final Map<Facet, Map<String, Bitmap>> facets;
+
+    /**
+     * A facet and the values a product holds for it
+     */
+    private enum Facet {
+        TYPE(product -> product.getType() == null ? Set.of() : Set.of(product.getType())),
+        SELLER(product -> product.getSeller() == null || product.getSeller().getId() == null
+                ? Set.of()
+                : Set.of(product.getSeller().getId())),
+        PAYMENT_METHOD(FacetIndex::paymentMethodIds),
+        MIN_RATING(FacetIndex::ratingThresholds),
+        IN_STOCK(product -> product.getStock() != null && product.getStock() > 0 ? Set.of("true") : Set.of());
+
+        private final Function<Product, Set<String>> values;
+
+        Facet(Function<Product, Set<String>> values) {
+            this.values = values;
+        }
+    }
+
+    /**
+     * Ids of a page of a filtered listing and the facet counts of the whole listing
+     * @param ids the ids of the requested page, in id order
+     * @param total the number of products in the listing
+     * @param facets the facet counts
+     */
+    public record Result(List<String> ids, int total, ProductFacets facets) {
+    }
+
+    private FacetIndex(List<String> baseIds, List<String> addedIds, Map<String, Integer> addedOrdinals, Bitmap live,
+                       Map<Facet, Map<String, Bitmap>> facets) {
+        this.baseIds = baseIds;
+        this.addedIds = addedIds;
+        this.addedOrdinals = addedOrdinals;
+        this.live = live;
+        this.facets = facets;
+    }
+
+    /**
+     * Get the index of an empty catalog
+     * @return an empty index
+     */
+    public static FacetIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Index every product of a catalog
+     * @param orderedIds the product ids, sorted
+     * @param products the products by id
+     * @return the index
+     */
+    public static FacetIndex build(List<String> orderedIds, Map<String, Product> products) {
+        Map<Facet, Map<String, Bitmap.Builder>> builders = new EnumMap<>(Facet.class);
+        Bitmap.Builder live = new Bitmap.Builder();
+        for (int ordinal = 0; ordinal < orderedIds.size(); ordinal++) {
+            Product product = products.get(orderedIds.get(ordinal));
+            live.add(ordinal);
+            for (Facet facet : Facet.values()) {
+                for (String value : facet.values.apply(product)) {
+                    builders.computeIfAbsent(facet, key -> new HashMap<>())
+                            .computeIfAbsent(value, key -> new Bitmap.Builder())
+                            .add(ordinal);
+                }
+            }
+        }
+        Map<Facet, Map<String, Bitmap>> facets = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            Map<String, Bitmap> bitmaps = new HashMap<>();
+            builders.getOrDefault(facet, Map.of()).forEach((value, builder) -> bitmaps.put(value, builder.build()));
+            facets.put(facet, Collections.unmodifiableMap(bitmaps));
+        }
+        return new FacetIndex(orderedIds, List.of(), Map.of(), live.build(), facets);
+    }
+
+    /**
+     * Create the index of the next snapshot
+     * @param changes the changes that produce the next snapshot
+     * @param nextProducts the products of the next snapshot by id
+     * @param nextOrderedIds the product ids of the next snapshot, sorted
+     * @return the new index
+     */
+    FacetIndex apply(List<CatalogDiff.Change> changes, Map<String, Product> nextProducts, List<String> nextOrderedIds) {
+        int threshold = Math.max(MIN_COMPACTION_THRESHOLD, nextProducts.size() / COMPACTION_DIVISOR);
+        if (changes.size() > threshold) {
+            return build(nextOrderedIds, nextProducts);
+        }
+
+        List<String> nextAddedIds = addedIds;
+        Map<String, Integer> nextAddedOrdinals = addedOrdinals;
+        OrdinalChanges liveChanges = new OrdinalChanges();
+        Map<Facet, Map<String, OrdinalChanges>> facetChanges = new EnumMap<>(Facet.class);
+        for (CatalogDiff.Change change : changes) {
+            Integer ordinal = ordinalOf(change.id(), nextAddedOrdinals);
+            if (ordinal == null) {
+                if (nextAddedIds == addedIds) {
+                    nextAddedIds = new ArrayList<>(addedIds);
+                    nextAddedOrdinals = new HashMap<>(addedOrdinals);
+                }
+                ordinal = baseIds.size() + nextAddedIds.size();
+                nextAddedIds.add(change.id());
+                nextAddedOrdinals.put(change.id(), ordinal);
+            }
+            if (change.before() == null) {
+                liveChanges.added.add(ordinal);
+            } else if (change.after() == null) {
+                liveChanges.removed.add(ordinal);
+            }
+            for (Facet facet : Facet.values()) {
+                Set<String> before = change.before() == null ? Set.of() : facet.values.apply(change.before());
+                Set<String> after = change.after() == null ? Set.of() : facet.values.apply(change.after());
+                for (String value : before) {
+                    if (!after.contains(value)) {
+                        facetChanges.computeIfAbsent(facet, key -> new HashMap<>())
+                                .computeIfAbsent(value, key -> new OrdinalChanges()).removed.add(ordinal);
+                    }
+                }
+                for (String value : after) {
+                    if (!before.contains(value)) {
+                        facetChanges.computeIfAbsent(facet, key -> new HashMap<>())
+                                .computeIfAbsent(value, key -> new OrdinalChanges()).added.add(ordinal);
+                    }
+                }
+            }
+        }
+
+        Bitmap nextLive = liveChanges.applyTo(live);
+        int deleted = baseIds.size() + nextAddedIds.size() - nextLive.cardinality();
+        if (nextAddedIds.size() + deleted > threshold) {
+            return build(nextOrderedIds, nextProducts);
+        }
+        Map<Facet, Map<String, Bitmap>> nextFacets = new EnumMap<>(facets);
+        facetChanges.forEach((facet, valueChanges) -> {
+            Map<String, Bitmap> bitmaps = new HashMap<>(facets.get(facet));
+            valueChanges.forEach((value, ordinals) -> {
+                Bitmap bitmap = ordinals.applyTo(bitmaps.getOrDefault(value, Bitmap.EMPTY));
+                if (bitmap.cardinality() == 0) {
+                    bitmaps.remove(value);
+                } else {
+                    bitmaps.put(value, bitmap);
+                }
+            });
+            nextFacets.put(facet, Collections.unmodifiableMap(bitmaps));
+        });
+        return new FacetIndex(baseIds,
+                nextAddedIds == addedIds ? addedIds : Collections.unmodifiableList(nextAddedIds),
+                nextAddedOrdinals == addedOrdinals ? addedOrdinals : Collections.unmodifiableMap(nextAddedOrdinals),
+                nextLive, nextFacets);
+    }
+
+    /**
+     * List the products matching a filter
+     * @param filter the facet selection
+     * @param offset the number of matching products to skip
+     * @param limit the maximum number of products to return
+     * @return the ids of the requested page, the number of matches and the facet counts
+     */
+    public Result find(ProductFilter filter, int offset, int limit) {
+        Map<Facet, Bitmap> selected = selected(filter);
+        Bitmap matches = intersect(selected, null);
+
+        Map<Facet, Map<String, Integer>> counts = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            // Counts of a selected facet ignore its own selection, they show what choosing another value lists
+            Bitmap listing = selected.containsKey(facet) ? intersect(selected, facet) : matches;
+            Map<String, Integer> valueCounts = new TreeMap<>();
+            facets.get(facet).forEach((value, bitmap) -> {
+                int count = listing.andCardinality(bitmap);
+                if (count > 0) {
+                    valueCounts.put(value, count);
+                }
+            });
+            counts.put(facet, valueCounts);
+        }
+        Map<Integer, Integer> ratingCounts = new TreeMap<>();
+        counts.get(Facet.MIN_RATING).forEach((stars, count) -> ratingCounts.put(Integer.parseInt(stars), count));
+        ProductFacets productFacets = ProductFacets.builder()
+                .types(counts.get(Facet.TYPE))
+                .sellers(counts.get(Facet.SELLER))
+                .paymentMethods(counts.get(Facet.PAYMENT_METHOD))
+                .minRating(ratingCounts)
+                .inStock(counts.get(Facet.IN_STOCK).getOrDefault("true", 0))
+                .build();
+        return new Result(page(matches, offset, limit), matches.cardinality(), productFacets);
+    }
+
+    /**
+     * Get the ordinals of the products matching a filter
+     * @param filter the facet selection
+     * @return the matching ordinals
+     */
+    Bitmap matches(ProductFilter filter) {
+        return intersect(selected(filter), null);
+    }
+
+    /**
+     * Estimate the number of products matching a filter without intersecting any bitmap
+     * Facets are assumed independent, so the estimate is exact for a single selected facet.
+     * @param filter the facet selection
+     * @return the estimated number of matches
+     */
+    long estimate(ProductFilter filter) {
+        int liveCount = live.cardinality();
+        double estimate = liveCount;
+        for (Map.Entry<Facet, Set<String>> entry : selection(filter).entrySet()) {
+            long selectedCount = 0;
+            for (String value : entry.getValue()) {
+                selectedCount += facets.get(entry.getKey()).getOrDefault(value, Bitmap.EMPTY).cardinality();
+            }
+            estimate *= liveCount == 0 ? 0 : Math.min(1.0, selectedCount / (double) liveCount);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Resolve every ordinal of a bitmap to its id
+     * @param matches ordinals of live products
+     * @return the ids in id order
+     */
+    List<String> ids(Bitmap matches) {
+        return page(matches, 0, matches.cardinality());
+    }
+
+    private Map<Facet, Bitmap> selected(ProductFilter filter) {
+        Map<Facet, Bitmap> selected = new EnumMap<>(Facet.class);
+        selection(filter).forEach((facet, values) -> {
+            Bitmap union = Bitmap.EMPTY;
+            for (String value : values) {
+                union = union.or(facets.get(facet).getOrDefault(value, Bitmap.EMPTY));
+            }
+            selected.put(facet, union);
+        });
+        return selected;
+    }
+
+    private Bitmap intersect(Map<Facet, Bitmap> selected, Facet excluded) {
+        Bitmap result = live;
+        for (Map.Entry<Facet, Bitmap> entry : selected.entrySet()) {
+            if (entry.getKey() != excluded) {
+                result = result.and(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resolve a page of matches in id order
+     * Base ordinals already follow id order, the few inserted since the index was built are sorted and merged in.
+     */
+    private List<String> page(Bitmap matches, int offset, int limit) {
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < addedIds.size(); i++) {
+            if (matches.contains(baseIds.size() + i)) {
+                added.add(addedIds.get(i));
+            }
+        }
+        List<String> ids = new ArrayList<>(Math.min(limit, matches.cardinality()));
+        if (added.isEmpty()) {
+            PrimitiveIterator.OfInt ordinals = matches.iterator(offset);
+            while (ids.size() < limit && ordinals.hasNext()) {
+                ids.add(baseIds.get(ordinals.nextInt()));
+            }
+            return ids;
+        }
+
+        Collections.sort(added);
+        PrimitiveIterator.OfInt ordinals = matches.iterator(0);
+        int baseMatches = matches.cardinality() - added.size();
+        int baseRead = 0;
+        int addedRead = 0;
+        String nextBase = baseMatches > 0 ? baseIds.get(ordinals.nextInt()) : null;
+        for (int position = 0; position < offset + limit && (nextBase != null || addedRead < added.size()); position++) {
+            String id;
+            if (nextBase != null && (addedRead == added.size() || nextBase.compareTo(added.get(addedRead)) < 0)) {
+                id = nextBase;
+                nextBase = ++baseRead < baseMatches ? baseIds.get(ordinals.nextInt()) : null;
+            } else {
+                id = added.get(addedRead++);
+            }
+            if (position >= offset) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private Integer ordinalOf(String id, Map<String, Integer> added) {
+        int index = Collections.binarySearch(baseIds, id);
+        return index >= 0 ? Integer.valueOf(index) : added.get(id);
+    }
+
+    private static Map<Facet, Set<String>> selection(ProductFilter filter) {
+        Map<Facet, Set<String>> selection = new EnumMap<>(Facet.class);
+        if (!filter.getTypes().isEmpty()) {
+            selection.put(Facet.TYPE, filter.getTypes());
+        }
+        if (!filter.getSellerIds().isEmpty()) {
+            selection.put(Facet.SELLER, filter.getSellerIds());
+        }
+        if (!filter.getPaymentMethodIds().isEmpty()) {
+            selection.put(Facet.PAYMENT_METHOD, filter.getPaymentMethodIds());
+        }
+        if (filter.getMinRating() != null) {
+            selection.put(Facet.MIN_RATING, Set.of(String.valueOf(filter.getMinRating())));
+        }
+        if (filter.isInStock()) {
+            selection.put(Facet.IN_STOCK, Set.of("true"));
+        }
+        return selection;
+    }
+
+    private static Set<String> paymentMethodIds(Product product) {
+        if (product.getPaymentMethods() == null) {
+            return Set.of();
+        }
+        Set<String> ids = new HashSet<>();
+        for (PaymentMethod paymentMethod : product.getPaymentMethods()) {
+            if (paymentMethod != null && paymentMethod.getId() != null) {
+                ids.add(paymentMethod.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * A product rated 4.3 is in the "at least 1" to "at least 4" stars bitmaps
+     */
+    private static Set<String> ratingThresholds(Product product) {
+        if (product.getRating() == null) {
+            return Set.of();
+        }
+        Set<String> thresholds = new HashSet<>();
+        for (int stars = 1; stars <= MAX_STARS && product.getRating() >= stars; stars++) {
+            thresholds.add(String.valueOf(stars));
+        }
+        return thresholds;
+    }
+
+    /**
+     * Ordinals entering and leaving one bitmap
+     */
+    private static final class OrdinalChanges {
+        final List<Integer> added = new ArrayList<>();
+        final List<Integer> removed = new ArrayList<>();
+
+        Bitmap applyTo(Bitmap bitmap) {
+            return bitmap.update(added.stream().mapToInt(Integer::intValue).sorted().toArray(),
+                    removed.stream().mapToInt(Integer::intValue).sorted().toArray());
+        }
+    }
+}
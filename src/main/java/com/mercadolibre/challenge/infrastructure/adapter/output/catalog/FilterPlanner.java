@@ -0,0 +1,232 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilterExpression.Comparison;
+import com.mercadolibre.challenge.domain.model.FilterExpression.Field;
+import com.mercadolibre.challenge.domain.model.FilterExpression.Operator;
+import com.mercadolibre.challenge.domain.model.FilterPlan;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Answers filter expressions over a snapshot, reading the candidates through the cheapest access path
+ * Every top level AND conjunct an index can serve narrows the candidates of one access path: the type
+ * lists, the price order with its cents index, narrowed to a type when there is one, or the facet bitmaps
+ * for type, seller, payment method, rating threshold and stock conditions. The planner estimates the
+ * candidates of each path from the index statistics, exact list and range sizes and per value bitmap
+ * cardinalities combined as independent, and reads the smallest, falling back to a scan of the catalog.
+ * <p>
+ * The whole expression is tested on every candidate, so an index only has to return a superset of the
+ * matches: {@code rating >= 4.5} reads the "at least 4 stars" bitmap and strict price bounds the inclusive
+ * range. Expressions under OR or NOT are never served by an index.
+ */
+public final class FilterPlanner {
+
+    private FilterPlanner() {
+    }
+
+    /**
+     * A page of the matches of an expression and how it was found
+     * @param ids the ids of the requested page, in id order
+     * @param total the number of matching products
+     * @param plan the plan and its statistics
+     */
+    public record Result(List<String> ids, int total, FilterPlan plan) {
+    }
+
+    private enum AccessPath { FULL_SCAN, TYPE_INDEX, PRICE_INDEX, FACET_BITMAPS }
+
+    /**
+     * A way of reading candidates
+     * @param idOrdered whether the candidates come in id order, otherwise the matches are sorted
+     */
+    private record Access(AccessPath path, List<Comparison> conditions, long estimatedRows, boolean idOrdered,
+                          Supplier<List<String>> candidates) {
+    }
+
+    /**
+     * Find a page of the products matching an expression
+     * @param snapshot the snapshot to read
+     * @param expression the compiled expression
+     * @param offset the number of matches to skip
+     * @param limit the maximum number of matches to return
+     * @return the ids of the page, the number of matches and the plan
+     */
+    public static Result execute(CatalogSnapshot snapshot, FilterExpression expression, int offset, int limit) {
+        long planningStart = System.nanoTime();
+        List<Comparison> comparisons = expression.conjuncts().stream()
+                .filter(Comparison.class::isInstance)
+                .map(Comparison.class::cast)
+                .toList();
+        List<Access> accesses = new ArrayList<>();
+        accesses.add(new Access(AccessPath.FULL_SCAN, List.of(), snapshot.size(), true, snapshot::orderedIds));
+        typeAccess(snapshot, comparisons, accesses);
+        priceAccess(snapshot, comparisons, accesses);
+        facetAccess(snapshot, comparisons, accesses);
+        // The scan goes first, so an index only wins by reading fewer candidates
+        Access chosen = accesses.get(0);
+        for (Access access : accesses) {
+            if (access.estimatedRows() < chosen.estimatedRows()) {
+                chosen = access;
+            }
+        }
+        long executionStart = System.nanoTime();
+
+        List<String> candidates = chosen.candidates().get();
+        List<String> ids = new ArrayList<>();
+        int total = 0;
+        for (String id : candidates) {
+            Product product = snapshot.products().get(id);
+            if (product == null || !expression.test(product)) {
+                continue;
+            }
+            if (!chosen.idOrdered() || (total >= offset && ids.size() < limit)) {
+                ids.add(id);
+            }
+            total++;
+        }
+        if (!chosen.idOrdered()) {
+            Collections.sort(ids);
+            ids = ids.subList(Math.min(offset, ids.size()), (int) Math.min(ids.size(), (long) offset + limit));
+        }
+        long end = System.nanoTime();
+
+        Map<String, Long> estimatedRows = new LinkedHashMap<>();
+        accesses.forEach(access -> estimatedRows.put(access.path().name(), access.estimatedRows()));
+        FilterPlan plan = FilterPlan.builder()
+                .expression(expression.toString())
+                .accessPath(chosen.path().name())
+                .indexCondition(chosen.conditions().isEmpty() ? null : chosen.conditions().stream()
+                        .map(Comparison::toString)
+                        .collect(Collectors.joining(" AND ")))
+                .estimatedRows(estimatedRows)
+                .examinedRows(candidates.size())
+                .matchedRows(total)
+                .planningMicros((executionStart - planningStart) / 1_000)
+                .executionMicros((end - executionStart) / 1_000)
+                .build();
+        return new Result(List.copyOf(ids), total, plan);
+    }
+
+    private static void typeAccess(CatalogSnapshot snapshot, List<Comparison> comparisons, List<Access> accesses) {
+        Comparison best = null;
+        for (Comparison comparison : comparisons) {
+            if (comparison.field() == Field.TYPE && comparison.operator() == Operator.EQ
+                    && (best == null || typeSize(snapshot, comparison) < typeSize(snapshot, best))) {
+                best = comparison;
+            }
+        }
+        if (best != null) {
+            List<String> ids = snapshot.productsByType().getOrDefault(best.text(), List.of());
+            accesses.add(new Access(AccessPath.TYPE_INDEX, List.of(best), ids.size(), true, () -> ids));
+        }
+    }
+
+    private static int typeSize(CatalogSnapshot snapshot, Comparison comparison) {
+        return snapshot.productsByType().getOrDefault(comparison.text(), List.of()).size();
+    }
+
+    /**
+     * Read the price order between the tightest bounds, of the type list when a type is selected
+     */
+    private static void priceAccess(CatalogSnapshot snapshot, List<Comparison> comparisons, List<Access> accesses) {
+        BigDecimal min = null;
+        BigDecimal max = null;
+        List<Comparison> used = new ArrayList<>();
+        for (Comparison comparison : comparisons) {
+            if (comparison.field() != Field.PRICE || comparison.operator() == Operator.NE) {
+                continue;
+            }
+            BigDecimal bound = comparison.number();
+            Operator operator = comparison.operator();
+            if (operator != Operator.LT && operator != Operator.LE && (min == null || bound.compareTo(min) > 0)) {
+                min = bound;
+            }
+            if (operator != Operator.GT && operator != Operator.GE && (max == null || bound.compareTo(max) < 0)) {
+                max = bound;
+            }
+            used.add(comparison);
+        }
+        if (used.isEmpty()) {
+            return;
+        }
+        String type = null;
+        for (Comparison comparison : comparisons) {
+            if (comparison.field() == Field.TYPE && comparison.operator() == Operator.EQ) {
+                type = comparison.text();
+                used.add(comparison);
+                break;
+            }
+        }
+        List<String> ids = min != null && max != null && min.compareTo(max) > 0
+                ? List.of()
+                : snapshot.sortIndexes().idsInPriceRange(type, min, max, snapshot.products());
+        accesses.add(new Access(AccessPath.PRICE_INDEX, used, ids.size(), false, () -> ids));
+    }
+
+    /**
+     * Intersect the bitmaps of every facet condition, equality on several values of one facet keeps the first
+     */
+    private static void facetAccess(CatalogSnapshot snapshot, List<Comparison> comparisons, List<Access> accesses) {
+        Set<String> types = new HashSet<>();
+        Set<String> sellerIds = new HashSet<>();
+        Set<String> paymentMethodIds = new HashSet<>();
+        Integer minRating = null;
+        boolean inStock = false;
+        List<Comparison> used = new ArrayList<>();
+        for (Comparison comparison : comparisons) {
+            Operator operator = comparison.operator();
+            switch (comparison.field()) {
+                case TYPE, SELLER_ID, PAYMENT_METHOD -> {
+                    Set<String> values = comparison.field() == Field.TYPE ? types
+                            : comparison.field() == Field.SELLER_ID ? sellerIds : paymentMethodIds;
+                    if (operator == Operator.EQ && values.isEmpty()) {
+                        values.add(comparison.text());
+                        used.add(comparison);
+                    }
+                }
+                case RATING -> {
+                    int stars = Math.min(5, comparison.number().intValue());
+                    if ((operator == Operator.GE || operator == Operator.GT || operator == Operator.EQ) && stars >= 1
+                            && (minRating == null || stars > minRating)) {
+                        minRating = stars;
+                        used.add(comparison);
+                    }
+                }
+                case STOCK -> {
+                    int sign = comparison.number().signum();
+                    if ((operator == Operator.GT && sign >= 0) || ((operator == Operator.GE || operator == Operator.EQ) && sign > 0)) {
+                        inStock = true;
+                        used.add(comparison);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        if (used.isEmpty()) {
+            return;
+        }
+        ProductFilter filter = ProductFilter.builder()
+                .types(types)
+                .sellerIds(sellerIds)
+                .paymentMethodIds(paymentMethodIds)
+                .minRating(minRating)
+                .inStock(inStock)
+                .build();
+        FacetIndex facetIndex = snapshot.facetIndex();
+        accesses.add(new Access(AccessPath.FACET_BITMAPS, used, facetIndex.estimate(filter), true,
+                () -> facetIndex.ids(facetIndex.matches(filter))));
+    }
+}
@@ -0,0 +1,251 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.exception.InitializationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a file holding a top-level JSON array of objects into byte ranges that start and end
+ * at object boundaries, so each range can be parsed independently
+ * <p>
+ * The file is cut at approximate offsets into slices that are scanned in parallel. A slice does not know
+ * whether it starts inside a string, so it is scanned under both assumptions, recording its nesting change
+ * and the first closing brace at every relative depth. A short sequential pass then walks the slices in order,
+ * picks the assumption that matches the state the previous slice ended in, and resyncs each cut at the first
+ * element that closes at the top level. The scan only tracks nesting depth and string state,
+ * it does not build any object.
+ */
+public final class JsonArrayChunker {
+
+    /**
+     * Upper bound for a single slice, kept well below the 2 GB limit of a mapped buffer
+     */
+    static final long MAX_CHUNK_BYTES = 256L * 1024 * 1024;
+
+    /**
+     * Deepest nesting at which a slice can still resync, a slice starting deeper is merged into the previous range
+     */
+    static final int MAX_TRACKED_DEPTH = 64;
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    private static final int OUTSIDE_STRING = 0;
+    private static final int INSIDE_STRING = 1;
+    private static final int ESCAPED = 2;
+
+    private JsonArrayChunker() {
+    }
+
+    /**
+     * Split the array in the given file into roughly equally sized ranges of whole objects,
+     * scanning the slices on the common fork-join pool
+     * @see #split(Path, int, ExecutorService)
+     */
+    public static List<ByteRange> split(Path file, int targetChunks) throws IOException {
+        return split(file, targetChunks, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Split the array in the given file into roughly equally sized ranges of whole objects
+     * Each range starts at the opening brace of an element and ends after the closing brace of another,
+     * the separating commas between its elements are kept inside the range
+     * @param file the JSON file to split
+     * @param targetChunks the desired number of ranges
+     * @param executor the executor scanning the slices
+     * @return the ranges in file order, empty if the array has no elements
+     * @throws IOException if the file cannot be read
+     */
+    public static List<ByteRange> split(Path file, int targetChunks, ExecutorService executor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long arrayStart = skipWhitespace(channel, 0, 1);
+            if (arrayStart >= size) {
+                return List.of();
+            }
+            if (byteAt(channel, arrayStart) != '[') {
+                throw new InitializationException("Expected a JSON array of products in " + file);
+            }
+            long arrayEnd = skipWhitespace(channel, size - 1, -1);
+            if (arrayEnd <= arrayStart || byteAt(channel, arrayEnd) != ']') {
+                throw new InitializationException("Unterminated JSON array in " + file);
+            }
+            long firstElement = skipWhitespace(channel, arrayStart + 1, 1);
+            if (firstElement == arrayEnd) {
+                return List.of();
+            }
+            long lastElementEnd = skipWhitespace(channel, arrayEnd - 1, -1) + 1;
+
+            long[] cuts = cuts(channel, arrayStart, arrayEnd, targetChunks);
+            List<SliceScan> scans = scan(channel, cuts, executor);
+
+            List<ByteRange> ranges = new ArrayList<>();
+            long rangeStart = firstElement;
+            int state = OUTSIDE_STRING;
+            int depth = 0;
+            for (int i = 0; i < scans.size(); i++) {
+                SliceScan scan = scans.get(i);
+                long close = depth < MAX_TRACKED_DEPTH ? scan.firstCloses[state][depth] : -1;
+                if (i > 0 && close > rangeStart && close < lastElementEnd) {
+                    ranges.add(new ByteRange(rangeStart, close));
+                    rangeStart = nextElement(channel, close, arrayEnd);
+                }
+                depth += scan.depthChange[state];
+                state = scan.endState[state];
+            }
+            if (depth != 0 || state != OUTSIDE_STRING) {
+                throw new InitializationException("Unterminated JSON array in " + file);
+            }
+            ranges.add(new ByteRange(rangeStart, lastElementEnd));
+            return ranges;
+        }
+    }
+
+    /**
+     * Slice offsets from the array start to the array end, nudged so no slice starts right after a backslash
+     * and therefore never inside an escape sequence
+     */
+    private static long[] cuts(FileChannel channel, long arrayStart, long arrayEnd, int targetChunks)
+            throws IOException {
+        long length = arrayEnd + 1 - arrayStart;
+        long slices = Math.max(Math.max(1, targetChunks), (length + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        slices = Math.min(slices, length);
+        long[] cuts = new long[(int) slices + 1];
+        int count = 0;
+        cuts[count++] = arrayStart;
+        for (long i = 1; i < slices; i++) {
+            long cut = arrayStart + length * i / slices;
+            while (cut < arrayEnd && byteAt(channel, cut - 1) == '\\') {
+                cut++;
+            }
+            if (cut > cuts[count - 1] && cut < arrayEnd) {
+                cuts[count++] = cut;
+            }
+        }
+        cuts[count++] = arrayEnd + 1;
+        return Arrays.copyOf(cuts, count);
+    }
+
+    private static List<SliceScan> scan(FileChannel channel, long[] cuts, ExecutorService executor)
+            throws IOException {
+        List<Callable<SliceScan>> tasks = new ArrayList<>(cuts.length - 1);
+        for (int i = 0; i + 1 < cuts.length; i++) {
+            long start = cuts[i];
+            long end = cuts[i + 1];
+            tasks.add(() -> SliceScan.of(channel, start, end));
+        }
+        try {
+            List<SliceScan> scans = new ArrayList<>(tasks.size());
+            for (Future<SliceScan> future : executor.invokeAll(tasks)) {
+                scans.add(future.get());
+            }
+            return scans;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InitializationException("Interrupted while splitting the catalog", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * The offset of the element following the one that closes just before the given offset
+     */
+    private static long nextElement(FileChannel channel, long afterClose, long arrayEnd) throws IOException {
+        long position = skipWhitespace(channel, afterClose, 1);
+        if (position < arrayEnd && byteAt(channel, position) == ',') {
+            position = skipWhitespace(channel, position + 1, 1);
+        }
+        return position;
+    }
+
+    private static long skipWhitespace(FileChannel channel, long position, int step) throws IOException {
+        long size = channel.size();
+        while (position >= 0 && position < size && Character.isWhitespace(byteAt(channel, position))) {
+            position += step;
+        }
+        return position;
+    }
+
+    private static byte byteAt(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        channel.read(buffer, position);
+        return buffer.get(0);
+    }
+
+    /**
+     * Result of scanning a slice, indexed by the string state the slice is assumed to start in
+     */
+    private static final class SliceScan {
+
+        final int[] endState = {OUTSIDE_STRING, INSIDE_STRING};
+        final int[] depthChange = new int[2];
+        // Indexed by the depth the slice starts at, the offset just past the first closing brace
+        // that returns to depth one, where the elements of the array end
+        final long[][] firstCloses = new long[2][MAX_TRACKED_DEPTH];
+
+        static SliceScan of(FileChannel channel, long start, long end) {
+            SliceScan scan = new SliceScan();
+            Arrays.fill(scan.firstCloses[0], -1);
+            Arrays.fill(scan.firstCloses[1], -1);
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+            long position = start;
+            try {
+                while (position < end) {
+                    buffer.clear().limit((int) Math.min(READ_BUFFER_BYTES, end - position));
+                    int read = channel.read(buffer, position);
+                    if (read <= 0) {
+                        break;
+                    }
+                    byte[] bytes = buffer.array();
+                    for (int i = 0; i < read; i++) {
+                        scan.accept(0, bytes[i], position + i);
+                        scan.accept(1, bytes[i], position + i);
+                    }
+                    position += read;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return scan;
+        }
+
+        private void accept(int assumption, byte b, long position) {
+            int state = endState[assumption];
+            if (state == ESCAPED) {
+                endState[assumption] = INSIDE_STRING;
+            } else if (state == INSIDE_STRING) {
+                if (b == '\\') {
+                    endState[assumption] = ESCAPED;
+                } else if (b == '"') {
+                    endState[assumption] = OUTSIDE_STRING;
+                }
+            } else if (b == '"') {
+                endState[assumption] = INSIDE_STRING;
+            } else if (b == '{' || b == '[') {
+                depthChange[assumption]++;
+            } else if (b == '}' || b == ']') {
+                int depth = --depthChange[assumption];
+                int index = 1 - depth;
+                if (b == '}' && index >= 0 && index < MAX_TRACKED_DEPTH && firstCloses[assumption][index] < 0) {
+                    firstCloses[assumption][index] = position + 1;
+                }
+            }
+        }
+    }
+}
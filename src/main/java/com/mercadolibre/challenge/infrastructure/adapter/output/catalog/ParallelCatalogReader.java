@@ -0,0 +1,109 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.domain.model.Product;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Parses a JSON array of products in parallel
+ * The file is split into byte ranges at object boundaries, found by scanning slices of the file in parallel,
+ * and every range is memory mapped and parsed on a fork-join pool,
+ * so the consumer must be safe to call from several threads
+ */
+@Slf4j
+public class ParallelCatalogReader {
+
+    /**
+     * Ranges created per worker, so a slow range does not leave the other workers idle
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+
+    private final StreamingCatalogReader streamingReader;
+    private final int parallelism;
+
+    public ParallelCatalogReader(ObjectMapper objectMapper, int progressInterval, int parallelism) {
+        this.streamingReader = new StreamingCatalogReader(objectMapper, progressInterval);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Read every product in the file and hand it to the consumer from the worker threads
+     * @param file the JSON file containing a top-level array of products
+     * @param consumer the thread-safe callback receiving each parsed product
+     * @return the number of products read
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public long read(File file, Consumer<Product> consumer) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<ByteRange> ranges = JsonArrayChunker.split(file.toPath(), parallelism * CHUNKS_PER_WORKER, pool);
+            log.info("Parsing {} chunks of {} with parallelism {}", ranges.size(), file.getPath(), parallelism);
+            List<Callable<Long>> tasks = ranges.stream()
+                    .<Callable<Long>>map(range -> () -> readRange(channel, file, range, consumer))
+                    .toList();
+
+            long count = 0;
+            for (Future<Long> future : pool.invokeAll(tasks)) {
+                count += future.get();
+            }
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InitializationException("Interrupted while parsing " + file.getPath(), e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Parse a single range by presenting it to the streaming reader as a JSON array of its own
+     */
+    private long readRange(FileChannel channel, File file, ByteRange range, Consumer<Product> consumer) {
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, range.start(), range.length());
+            InputStream chunk = new SequenceInputStream(Collections.enumeration(List.of(
+                    new ByteArrayInputStream(ARRAY_START),
+                    new ByteBufferBackedInputStream(buffer),
+                    new ByteArrayInputStream(ARRAY_END))));
+            String source = file.getPath() + "[" + range.start() + ".." + range.end() + "]";
+            return streamingReader.read(chunk, source, range.length(), consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(cause);
+    }
+}
@@ -0,0 +1,509 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable hash map that shares its structure with the map it was derived from
+ * The entries live in a hash array mapped trie: every node holds up to 32 slots chosen by 5 bits of the key hash,
+ * each slot holding an entry or a child node. Putting or removing a key copies only the nodes on the path to it,
+ * so deriving the next map costs a few small arrays whatever the size of the map, and both maps stay valid.
+ * <p>
+ * A batch of changes goes through a {@link Transient}, which copies every node it touches once and then updates
+ * the copies in place, so keys that share a path do not copy it again.
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    // Deeper than this every bit of the hash has been used and equal hashes share a collision node
+    private static final int MAX_SHIFT = 30;
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Get the empty map
+     * @return a map without entries
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Get a persistent map with the entries of the given map
+     * @param map the entries, returned as is if it already is a persistent map
+     * @return the persistent map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap<?, ?> persistent) {
+            return (PersistentMap<K, V>) persistent;
+        }
+        Transient<K, V> entries = PersistentMap.<K, V>empty().asTransient();
+        map.forEach(entries::put);
+        return entries.persistent();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null || root == null) {
+            return null;
+        }
+        Object value = root.find(0, hash(key), key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && root != null && root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    /**
+     * Get a map with the given entry added or replaced
+     * @param key the key
+     * @param value the value
+     * @return the new map, sharing every node off the path to the key with this one
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        return asTransient().put(key, value).persistent();
+    }
+
+    /**
+     * Get a map without the given key
+     * @param key the key
+     * @return the new map, or this map if the key is not in it
+     */
+    public PersistentMap<K, V> minus(K key) {
+        return containsKey(key) ? asTransient().remove(key).persistent() : this;
+    }
+
+    /**
+     * Start a batch of changes on top of this map, this map is left untouched
+     * @return the batch
+     */
+    public Transient<K, V> asTransient() {
+        return new Transient<>(root, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (root != null) {
+            root.forEach((BiConsumer<Object, Object>) action);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * A batch of changes to a persistent map, to be used by a single thread
+     * Nodes are copied the first time the batch touches them and updated in place afterwards.
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Transient<K, V> {
+
+        // Marks the nodes copied by this batch, the only ones it may update in place
+        private final Object edit = new Object();
+        private Node root;
+        private int size;
+        private boolean done;
+
+        private Transient(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * Add or replace an entry
+         * @param key the key, not null
+         * @param value the value
+         * @return this batch
+         */
+        public Transient<K, V> put(K key, V value) {
+            ensureEditable();
+            Objects.requireNonNull(key, "key");
+            boolean[] added = new boolean[1];
+            Node start = root == null ? Node.EMPTY : root;
+            root = start.put(edit, 0, hash(key), key, value, added);
+            if (added[0]) {
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Remove an entry if present
+         * @param key the key
+         * @return this batch
+         */
+        public Transient<K, V> remove(Object key) {
+            ensureEditable();
+            if (key == null || root == null) {
+                return this;
+            }
+            boolean[] removed = new boolean[1];
+            root = root.remove(edit, 0, hash(key), key, removed);
+            if (removed[0]) {
+                size--;
+            }
+            return this;
+        }
+
+        /**
+         * Get the current value of a key in this batch
+         * @param key the key
+         * @return the value, null if absent
+         */
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            if (key == null || root == null) {
+                return null;
+            }
+            Object value = root.find(0, hash(key), key);
+            return value == NOT_FOUND ? null : (V) value;
+        }
+
+        /**
+         * @return the number of entries in this batch
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * End the batch, it must not be used afterwards
+         * @return the map holding the changes of the batch
+         */
+        public PersistentMap<K, V> persistent() {
+            ensureEditable();
+            done = true;
+            return size == 0 ? empty() : new PersistentMap<>(root, size);
+        }
+
+        private void ensureEditable() {
+            if (done) {
+                throw new IllegalStateException("Transient used after persistent()");
+            }
+        }
+    }
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * A trie node
+     * A bitmap node keeps one pair of array slots per set bit: a key and its value, or null and a child node.
+     * A collision node keeps the pairs of keys with the same full hash.
+     */
+    private static final class Node {
+
+        static final Node EMPTY = new Node(null, 0, new Object[0], 0);
+
+        final Object edit;
+        int bitmap;
+        Object[] array;
+        // Hash shared by every key of a collision node, unused otherwise
+        final int collisionHash;
+        final boolean collision;
+
+        Node(Object edit, int bitmap, Object[] array, int collisionHash) {
+            this(edit, bitmap, array, collisionHash, false);
+        }
+
+        Node(Object edit, int bitmap, Object[] array, int collisionHash, boolean collision) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.array = array;
+            this.collisionHash = collisionHash;
+            this.collision = collision;
+        }
+
+        Object find(int shift, int hash, Object key) {
+            Node node = this;
+            while (true) {
+                if (node.collision) {
+                    for (int i = 0; i < node.array.length; i += 2) {
+                        if (key.equals(node.array[i])) {
+                            return node.array[i + 1];
+                        }
+                    }
+                    return NOT_FOUND;
+                }
+                int bit = bit(hash, shift);
+                if ((node.bitmap & bit) == 0) {
+                    return NOT_FOUND;
+                }
+                int index = 2 * Integer.bitCount(node.bitmap & (bit - 1));
+                Object slotKey = node.array[index];
+                Object slotValue = node.array[index + 1];
+                if (slotKey == null) {
+                    node = (Node) slotValue;
+                    shift += BITS;
+                } else {
+                    return key.equals(slotKey) ? slotValue : NOT_FOUND;
+                }
+            }
+        }
+
+        private Node editable(Object edit) {
+            return this.edit == edit ? this : new Node(edit, bitmap, array.clone(), collisionHash, collision);
+        }
+
+        Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            if (collision) {
+                if (hash != collisionHash) {
+                    Node parent = new Node(edit, bit(collisionHash, shift), new Object[]{null, this}, 0);
+                    return parent.put(edit, shift, hash, key, value, added);
+                }
+                for (int i = 0; i < array.length; i += 2) {
+                    if (key.equals(array[i])) {
+                        if (array[i + 1] == value) {
+                            return this;
+                        }
+                        Node node = editable(edit);
+                        node.array[i + 1] = value;
+                        return node;
+                    }
+                }
+                Node node = editable(edit);
+                Object[] grown = new Object[array.length + 2];
+                System.arraycopy(array, 0, grown, 0, array.length);
+                grown[array.length] = key;
+                grown[array.length + 1] = value;
+                node.array = grown;
+                added[0] = true;
+                return node;
+            }
+            int bit = bit(hash, shift);
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                Node node = editable(edit);
+                Object[] grown = new Object[array.length + 2];
+                System.arraycopy(array, 0, grown, 0, index);
+                grown[index] = key;
+                grown[index + 1] = value;
+                System.arraycopy(array, index, grown, index + 2, array.length - index);
+                node.array = grown;
+                node.bitmap |= bit;
+                added[0] = true;
+                return node;
+            }
+            Object slotKey = array[index];
+            Object slotValue = array[index + 1];
+            if (slotKey == null) {
+                Node child = (Node) slotValue;
+                Node nextChild = child.put(edit, shift + BITS, hash, key, value, added);
+                if (nextChild == child) {
+                    return this;
+                }
+                Node node = editable(edit);
+                node.array[index + 1] = nextChild;
+                return node;
+            }
+            if (key.equals(slotKey)) {
+                if (slotValue == value) {
+                    return this;
+                }
+                Node node = editable(edit);
+                node.array[index + 1] = value;
+                return node;
+            }
+            added[0] = true;
+            Node node = editable(edit);
+            node.array[index] = null;
+            node.array[index + 1] = pair(edit, shift + BITS, hash(slotKey), slotKey, slotValue, hash, key, value);
+            return node;
+        }
+
+        private static Node pair(Object edit, int shift, int firstHash, Object firstKey, Object firstValue,
+                                 int secondHash, Object secondKey, Object secondValue) {
+            if (firstHash == secondHash || shift > MAX_SHIFT) {
+                return new Node(edit, 0, new Object[]{firstKey, firstValue, secondKey, secondValue}, firstHash, true);
+            }
+            int firstBit = bit(firstHash, shift);
+            int secondBit = bit(secondHash, shift);
+            if (firstBit == secondBit) {
+                Node child = pair(edit, shift + BITS, firstHash, firstKey, firstValue, secondHash, secondKey, secondValue);
+                return new Node(edit, firstBit, new Object[]{null, child}, 0);
+            }
+            Object[] array = Integer.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[]{firstKey, firstValue, secondKey, secondValue}
+                    : new Object[]{secondKey, secondValue, firstKey, firstValue};
+            return new Node(edit, firstBit | secondBit, array, 0);
+        }
+
+        /**
+         * @return the node without the key, null if the node ends up empty
+         */
+        Node remove(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            if (collision) {
+                for (int i = 0; i < array.length; i += 2) {
+                    if (key.equals(array[i])) {
+                        removed[0] = true;
+                        if (array.length == 2) {
+                            return null;
+                        }
+                        Node node = editable(edit);
+                        node.array = without(array, i);
+                        return node;
+                    }
+                }
+                return this;
+            }
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object slotKey = array[index];
+            if (slotKey == null) {
+                Node child = (Node) array[index + 1];
+                Node nextChild = child.remove(edit, shift + BITS, hash, key, removed);
+                if (nextChild == child) {
+                    return this;
+                }
+                if (nextChild == null) {
+                    return removeSlot(edit, bit, index);
+                }
+                Node node = editable(edit);
+                node.array[index + 1] = nextChild;
+                return node;
+            }
+            if (!key.equals(slotKey)) {
+                return this;
+            }
+            removed[0] = true;
+            return removeSlot(edit, bit, index);
+        }
+
+        private Node removeSlot(Object edit, int bit, int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Node node = editable(edit);
+            node.array = without(array, index);
+            node.bitmap &= ~bit;
+            return node;
+        }
+
+        private static Object[] without(Object[] array, int index) {
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, index);
+            System.arraycopy(array, index + 2, shrunk, index, array.length - index - 2);
+            return shrunk;
+        }
+
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks the trie depth first with an explicit stack of nodes and positions
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+
+        private final Deque<Node> nodes = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                nodes.push(root);
+                positions.push(0);
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (!nodes.isEmpty()) {
+                Node node = nodes.peek();
+                int position = positions.pop();
+                if (position >= node.array.length) {
+                    nodes.pop();
+                    continue;
+                }
+                positions.push(position + 2);
+                Object key = node.array[position];
+                Object value = node.array[position + 1];
+                if (key == null) {
+                    nodes.push((Node) value);
+                    positions.push(0);
+                } else {
+                    next = new SimpleImmutableEntry<>((K) key, (V) value);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = next;
+            advance();
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.Seller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares equal sellers, payment methods and types between the products of one catalog load
+ * The data file repeats the same sellers, payment methods and types in every product, so parsing it
+ * yields one copy of each per product. The interner keeps the first copy of every value and points
+ * later products at it, which leaves the other copies as garbage once the load is done. It can be used
+ * by several loader threads at once.
+ * <p>
+ * Null entries in the image, payment method and review lists of the data file are dropped here and
+ * counted, so the catalog never holds them. Products created through the API cannot have them, requests
+ * with null entries are rejected.
+ */
+public final class ProductInterner {
+
+    private final Map<Seller, Seller> sellers = new ConcurrentHashMap<>();
+    private final Map<PaymentMethod, PaymentMethod> paymentMethods = new ConcurrentHashMap<>();
+    private final Map<List<PaymentMethod>, List<PaymentMethod>> paymentMethodLists = new ConcurrentHashMap<>();
+    private final Map<String, String> types = new ConcurrentHashMap<>();
+    private final AtomicLong droppedNulls = new AtomicLong();
+
+    /**
+     * Point a loaded product at the shared copies of its seller, payment methods and type
+     * @param product the product
+     * @return a copy of the product holding the shared copies and no null list entries, or the product itself
+     * if it already does
+     */
+    public Product intern(Product product) {
+        Seller seller = product.getSeller() == null ? null : share(sellers, product.getSeller());
+        List<String> images = withoutNulls(product.getImages());
+        List<PaymentMethod> methods = product.getPaymentMethods() == null ? null
+                : internPaymentMethods(product.getPaymentMethods());
+        List<Review> reviews = withoutNulls(product.getReviews());
+        String type = product.getType() == null ? null : share(types, product.getType());
+        if (seller == product.getSeller() && images == product.getImages() && methods == product.getPaymentMethods()
+                && reviews == product.getReviews() && type == product.getType()) {
+            return product;
+        }
+        return product.toBuilder().seller(seller).images(images).paymentMethods(methods).reviews(reviews).type(type)
+                .build();
+    }
+
+    /**
+     * Get the number of distinct sellers seen
+     * @return the number of shared sellers
+     */
+    public int sellerCount() {
+        return sellers.size();
+    }
+
+    /**
+     * Get the number of distinct payment methods seen
+     * @return the number of shared payment methods
+     */
+    public int paymentMethodCount() {
+        return paymentMethods.size();
+    }
+
+    /**
+     * Get the number of null list entries dropped from the interned products
+     * @return the number of dropped entries
+     */
+    public long droppedNullCount() {
+        return droppedNulls.get();
+    }
+
+    /**
+     * Share the payment methods of a product and the list holding them
+     * Most products accept one of a few combinations of payment methods, so the lists are shared as well.
+     */
+    private List<PaymentMethod> internPaymentMethods(List<PaymentMethod> methods) {
+        List<PaymentMethod> interned = new ArrayList<>(methods.size());
+        for (PaymentMethod method : methods) {
+            if (method == null) {
+                droppedNulls.incrementAndGet();
+            } else {
+                interned.add(share(paymentMethods, method));
+            }
+        }
+        return paymentMethodLists.computeIfAbsent(interned, List::copyOf);
+    }
+
+    private <T> List<T> withoutNulls(List<T> list) {
+        if (list == null) {
+            return null;
+        }
+        List<T> present = null;
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == null) {
+                if (present == null) {
+                    present = new ArrayList<>(list.subList(0, i));
+                }
+                droppedNulls.incrementAndGet();
+            } else if (present != null) {
+                present.add(list.get(i));
+            }
+        }
+        return present == null ? list : present;
+    }
+
+    private static <T> T share(Map<T, T> pool, T value) {
+        T shared = pool.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+}
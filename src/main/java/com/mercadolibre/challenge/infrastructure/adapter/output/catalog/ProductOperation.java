@@ -0,0 +1,134 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.AppendOnlyList;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+
+import java.util.List;
+
+/**
+ * A single write recorded in the operation log
+ * Every operation carries the full state of the product after the write, or the absolute stock level
+ * for stock operations, so replaying the same operation more than once always yields the same catalog.
+ * A stock operation also carries the stock level it was computed from and is skipped by a product holding
+ * another one, so a stock level never overwrites a create or update logged after it was computed.
+ * Review operations only carry the new reviews and the version they produce, and are skipped by a
+ * product already at that version or a later one, so they can be replayed as well.
+ * @param sequence the position of the operation in the log, assigned when it is committed
+ * @param type the kind of write
+ * @param productId the id of the product written
+ * @param product the product after the write, null for a delete or a stock operation, the version and
+ *                the new reviews for a review operation
+ * @param stock the stock level of the product after a stock operation, null for other operations
+ * @param expectedStock the stock level a stock operation applies over, null for other operations and for
+ *                      stock operations logged before it was recorded, which always apply
+ */
+public record ProductOperation(long sequence, Type type, String productId, Product product, Integer stock,
+                               Integer expectedStock) {
+
+    /**
+     * Kinds of write recorded in the log
+     */
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE,
+        STOCK,
+        REVIEW
+    }
+
+    public static ProductOperation create(Product product) {
+        return new ProductOperation(0, Type.CREATE, product.getId(), product, null, null);
+    }
+
+    public static ProductOperation update(Product product) {
+        return new ProductOperation(0, Type.UPDATE, product.getId(), product, null, null);
+    }
+
+    public static ProductOperation delete(String productId) {
+        return new ProductOperation(0, Type.DELETE, productId, null, null, null);
+    }
+
+    public static ProductOperation stock(String productId, int expectedStock, int stock) {
+        return new ProductOperation(0, Type.STOCK, productId, null, stock, expectedStock);
+    }
+
+    public static ProductOperation reviews(String productId, long version, List<Review> reviews) {
+        return new ProductOperation(0, Type.REVIEW, productId,
+                Product.builder().id(productId).version(version).reviews(reviews).build(), null, null);
+    }
+
+    /**
+     * Apply this operation on top of the current state of its product
+     * @param current the product before the operation, null if it does not exist
+     * @return the product after the operation, null if it does not exist afterwards
+     */
+    public Product applyTo(Product current) {
+        return switch (type) {
+            case DELETE -> null;
+            case STOCK -> current == null ? null : withStock(current);
+            case REVIEW -> current == null ? null : withReviews(current);
+            default -> product;
+        };
+    }
+
+    private Product withStock(Product current) {
+        int currentStock = current.getStock() == null ? 0 : current.getStock();
+        if (expectedStock != null && expectedStock != currentStock) {
+            return current;
+        }
+        return current.toBuilder().stock(stock).build();
+    }
+
+    /**
+     * Append the reviews of this operation and add their ratings to the running sum and count of the product
+     * The sum and count are taken from the reviews of the product the first time it gets a review through
+     * an operation, after that every review only adds its own rating. The reviews are kept in an
+     * {@link AppendOnlyList}, so appending shares every full chunk of the previous list and carries its
+     * hash code over, a batch costs O(batch) plus a copy of the chunk references.
+     */
+    private Product withReviews(Product current) {
+        // A replayed operation finds the product already at its version or a later one
+        if (current.currentVersion() >= product.getVersion()) {
+            return current;
+        }
+        boolean seed = current.getRatingCount() == null;
+        long ratingSum = seed ? 0 : current.getRatingSum();
+        int ratingCount = seed ? 0 : current.getRatingCount();
+        List<Review> existing = current.getReviews() == null ? List.of() : current.getReviews();
+        if (seed) {
+            for (Review review : existing) {
+                if (isRated(review)) {
+                    ratingSum += review.getRating();
+                    ratingCount++;
+                }
+            }
+        }
+        for (Review review : product.getReviews()) {
+            if (isRated(review)) {
+                ratingSum += review.getRating();
+                ratingCount++;
+            }
+        }
+        return current.toBuilder()
+                .reviews(AppendOnlyList.copyOf(existing).plusAll(product.getReviews()))
+                .ratingSum(ratingSum)
+                .ratingCount(ratingCount)
+                .rating(ratingCount == 0 ? current.getRating() : (double) ratingSum / ratingCount)
+                .version(product.getVersion())
+                .build();
+    }
+
+    private static boolean isRated(Review review) {
+        return review.getRating() != null && review.getRating() >= 1 && review.getRating() <= 5;
+    }
+
+    /**
+     * Copy this operation with the sequence assigned by the log
+     * @param sequence the log sequence
+     * @return the sequenced operation
+     */
+    public ProductOperation withSequence(long sequence) {
+        return new ProductOperation(sequence, type, productId, product, stock, expectedStock);
+    }
+}
@@ -0,0 +1,330 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of product writes with group commit
+ * Writers enqueue operations and get a future back. A single committer thread drains every operation
+ * waiting in the queue, appends them as JSON lines and forces them to disk with one fsync, then hands
+ * the batch to the commit callback and completes the futures. Concurrent writers therefore share the
+ * cost of a single fsync instead of paying one each. Once the fsync returns the batch is durable: a failing
+ * commit callback is logged, and neither removes the batch from the log nor fails its writers.
+ * <p>
+ * The log is compacted by rotating the active file to a compacting file, folding the catalog into the
+ * data file and deleting the compacting file. On startup both files are replayed, compacting first.
+ */
+@Slf4j
+public class ProductOperationLog implements Closeable {
+
+    private static final String ACTIVE_SUFFIX = ".oplog";
+    private static final String COMPACTING_SUFFIX = ".oplog.compacting";
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private final Path activeFile;
+    private final Path compactingFile;
+    private final ObjectMapper objectMapper;
+    private ObjectWriter lineWriter;
+    private final Consumer<List<ProductOperation>> onCommit;
+    private final BlockingQueue<PendingOperation> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    // Makes checking that the log is open and enqueueing atomic with closing it
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong activeOperations = new AtomicLong();
+    private final AtomicLong committedBatches = new AtomicLong();
+    private final Thread committer;
+    private FileChannel channel;
+    private volatile boolean running = true;
+
+    private record PendingOperation(ProductOperation operation, CompletableFuture<Void> future) {
+    }
+
+    /**
+     * Open the log next to the data file and start the committer thread
+     * Sequences continue after the highest one already present in the log files
+     * @param dataFile the JSON data file the log belongs to
+     * @param objectMapper the mapper used to read and write log lines
+     * @param onCommit the callback receiving every batch once it is durable, called from the committer thread
+     * @throws IOException if the log file cannot be opened
+     */
+    public ProductOperationLog(Path dataFile, ObjectMapper objectMapper,
+                               Consumer<List<ProductOperation>> onCommit) throws IOException {
+        this.activeFile = activeFileFor(dataFile);
+        this.compactingFile = compactingFileFor(dataFile);
+        this.objectMapper = objectMapper;
+        this.onCommit = onCommit;
+
+        List<ProductOperation> active = new ArrayList<>();
+        readFile(activeFile, objectMapper, active);
+        List<ProductOperation> compacting = new ArrayList<>();
+        readFile(compactingFile, objectMapper, compacting);
+        this.activeOperations.set(active.size());
+        this.sequence.set(Math.max(lastSequence(active), lastSequence(compacting)));
+
+        this.channel = openActive();
+        this.committer = Thread.ofPlatform().daemon().name("product-oplog-committer").start(this::commitLoop);
+    }
+
+    public static Path activeFileFor(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + ACTIVE_SUFFIX);
+    }
+
+    public static Path compactingFileFor(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + COMPACTING_SUFFIX);
+    }
+
+    /**
+     * Read every operation recorded for the data file, in the order it must be replayed
+     * A truncated last line, left by a crash in the middle of a write, is ignored
+     * @param dataFile the JSON data file the log belongs to
+     * @param objectMapper the mapper used to read log lines
+     * @return the operations of the compacting file followed by those of the active file
+     * @throws IOException if a log file cannot be read
+     */
+    public static List<ProductOperation> readAll(Path dataFile, ObjectMapper objectMapper) throws IOException {
+        List<ProductOperation> operations = new ArrayList<>();
+        readFile(compactingFileFor(dataFile), objectMapper, operations);
+        readFile(activeFileFor(dataFile), objectMapper, operations);
+        return operations;
+    }
+
+    private static void readFile(Path file, ObjectMapper objectMapper, List<ProductOperation> operations)
+            throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    operations.add(objectMapper.readValue(line, ProductOperation.class));
+                } catch (IOException e) {
+                    if (reader.readLine() == null) {
+                        log.warn("Ignoring truncated last entry of {}", file);
+                        return;
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Append an operation to the log
+     * @param operation the operation to record
+     * @return a future completed once the operation is durable and has been handed to the commit callback
+     */
+    public CompletableFuture<Void> append(ProductOperation operation) {
+        closeLock.readLock().lock();
+        try {
+            if (!running) {
+                return CompletableFuture.failedFuture(closed());
+            }
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            queue.add(new PendingOperation(operation, future));
+            return future;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of operations in the active file, which a compaction would fold into the data file
+     */
+    public long getActiveOperations() {
+        return activeOperations.get();
+    }
+
+    /**
+     * @return the number of fsync batches written since the log was opened
+     */
+    public long getCommittedBatches() {
+        return committedBatches.get();
+    }
+
+    /**
+     * Move the active file aside so it can be folded into the data file, and start a new active file
+     * Runs under the commit lock, so every operation in the rotated file has already been handed to the
+     * commit callback when this method returns. If a previous compaction did not finish, its file is
+     * kept and the active file is left in place.
+     * @return the file to fold into the data file, or null if there is nothing to compact
+     * @throws IOException if the files cannot be moved
+     */
+    public Path rotate() throws IOException {
+        commitLock.lock();
+        try {
+            if (Files.exists(compactingFile)) {
+                return compactingFile;
+            }
+            if (activeOperations.get() == 0) {
+                return null;
+            }
+            channel.close();
+            Files.move(activeFile, compactingFile, StandardCopyOption.ATOMIC_MOVE);
+            channel = openActive();
+            activeOperations.set(0);
+            return compactingFile;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Stop accepting operations, commit the ones already queued and close the file
+     * Operations the committer could not commit before stopping are failed, so no writer waits forever.
+     */
+    @Override
+    public void close() throws IOException {
+        closeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            committer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingOperation> uncommitted = new ArrayList<>();
+        queue.drainTo(uncommitted);
+        if (!uncommitted.isEmpty()) {
+            log.warn("Failing {} operations the operation log could not commit before closing", uncommitted.size());
+            uncommitted.forEach(pending -> pending.future().completeExceptionally(closed()));
+        }
+        commitLock.lock();
+        try {
+            channel.close();
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("Operation log is closed");
+    }
+
+    private static long lastSequence(List<ProductOperation> operations) {
+        return operations.stream().mapToLong(ProductOperation::sequence).max().orElse(0);
+    }
+
+    private FileChannel openActive() throws IOException {
+        return FileChannel.open(activeFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void commitLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOperation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingOperation> batch = new ArrayList<>();
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void commit(List<PendingOperation> batch) {
+        commitLock.lock();
+        try {
+            List<ProductOperation> operations = write(batch);
+            if (operations == null) {
+                return;
+            }
+            // The batch is durable from here on and is replayed on restart, so its writers succeed either way
+            try {
+                onCommit.accept(operations);
+            } catch (RuntimeException e) {
+                log.error("Could not apply {} committed operations, they are applied on restart", operations.size(), e);
+            }
+            batch.forEach(pending -> pending.future().complete(null));
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Append a batch to the active file and force it to disk
+     * @return the operations with their sequences, or null if the batch is not durable, its futures are failed then
+     */
+    private List<ProductOperation> write(List<PendingOperation> batch) {
+        long position = -1;
+        try {
+            if (lineWriter == null) {
+                lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+            }
+            List<ProductOperation> operations = new ArrayList<>(batch.size());
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (PendingOperation pending : batch) {
+                ProductOperation operation = pending.operation().withSequence(sequence.incrementAndGet());
+                operations.add(operation);
+                lines.write(lineWriter.writeValueAsBytes(operation));
+                lines.write('\n');
+            }
+
+            position = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            activeOperations.addAndGet(operations.size());
+            committedBatches.incrementAndGet();
+            return operations;
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not commit {} operations to {}", batch.size(), activeFile, e);
+            discardPartialWrite(position);
+            RuntimeException failure = e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+            batch.forEach(pending -> pending.future().completeExceptionally(failure));
+            return null;
+        }
+    }
+
+    private void discardPartialWrite(long position) {
+        if (position < 0) {
+            return;
+        }
+        try {
+            channel.truncate(position);
+        } catch (IOException e) {
+            log.error("Could not discard partial write in {}", activeFile, e);
+        }
+    }
+}
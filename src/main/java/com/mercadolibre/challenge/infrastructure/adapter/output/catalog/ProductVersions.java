@@ -0,0 +1,140 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Version table used to accept product writes with optimistic concurrency
+ * Every written product has its own counter holding the last version claimed for it, and a write claims
+ * the next version with a compare-and-set on that counter. Writers to different products never touch
+ * the same counter, and a writer holding a stale version fails right away instead of waiting for a lock.
+ * <p>
+ * Counters are created from the published catalog the first time a product is written, so only products
+ * that have been written take up an entry. A claim stays in place while the write is being logged, across
+ * reloads of the catalog, and is released if the write fails.
+ */
+public class ProductVersions {
+
+    /**
+     * Counter value of a product whose delete has been claimed
+     */
+    public static final long DELETED = -1;
+
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Function<String, Product> publishedProducts;
+
+    /**
+     * @param publishedProducts looks up a product in the catalog currently serving reads
+     */
+    public ProductVersions(Function<String, Product> publishedProducts) {
+        this.publishedProducts = publishedProducts;
+    }
+
+    /**
+     * Get the last version claimed for a product
+     * @param id the product id
+     * @return the version, or {@link #DELETED} if the product does not exist or is being deleted
+     */
+    public long current(String id) {
+        AtomicLong version = counterFor(id);
+        return version == null ? DELETED : version.get();
+    }
+
+    /**
+     * Claim the version after the expected one for an update
+     * @param id the product id
+     * @param expectedVersion the version the update is based on
+     * @return the claimed version
+     * @throws ProductNotFoundException if the product does not exist or is being deleted
+     * @throws ConcurrencyException if another writer already moved the product past the expected version
+     */
+    public long claim(String id, long expectedVersion) {
+        AtomicLong version = counterFor(id);
+        if (version == null) {
+            throw new ProductNotFoundException(id);
+        }
+        if (!version.compareAndSet(expectedVersion, expectedVersion + 1)) {
+            long actual = version.get();
+            if (actual == DELETED) {
+                throw new ProductNotFoundException(id);
+            }
+            throw new ConcurrencyException("Product " + id + " was modified concurrently: expected version "
+                    + expectedVersion + " but found " + actual);
+        }
+        return expectedVersion + 1;
+    }
+
+    /**
+     * Claim the delete of a product, making every later update of it fail
+     * @param id the product id
+     * @return the version the product had before the delete
+     * @throws ProductNotFoundException if the product does not exist or is already being deleted
+     */
+    public long claimDelete(String id) {
+        AtomicLong version = counterFor(id);
+        long previous = version == null ? DELETED : version.getAndSet(DELETED);
+        if (previous == DELETED) {
+            throw new ProductNotFoundException(id);
+        }
+        return previous;
+    }
+
+    /**
+     * Start tracking a newly created product
+     * @param id the product id
+     * @param version the version of the created product
+     */
+    public void register(String id, long version) {
+        versions.put(id, new AtomicLong(version));
+    }
+
+    /**
+     * Undo a claim whose write failed, unless another writer has claimed the product since
+     * @param id the product id
+     * @param claimed the value set by the claim
+     * @param previous the value before the claim
+     */
+    public void release(String id, long claimed, long previous) {
+        AtomicLong version = versions.get(id);
+        if (version != null) {
+            version.compareAndSet(claimed, previous);
+        }
+    }
+
+    /**
+     * Move the counter of a product to the version a reload publishes for it
+     * A counter that differs from the published product holds a claim whose write is still being logged.
+     * That write is applied over the reloaded product, so the counter is kept and keeps failing writers
+     * that expect the version it claimed. The move is a compare-and-set, so a claim made meanwhile wins.
+     * Must be called before the reloaded catalog is published.
+     * @param id the product id
+     * @param published the product currently published, null if there is none
+     * @param reloaded the product the reload publishes, null if the reload deletes it
+     */
+    public void reseed(String id, Product published, Product reloaded) {
+        AtomicLong version = versions.get(id);
+        if (version != null) {
+            version.compareAndSet(versionOf(published), versionOf(reloaded));
+        }
+    }
+
+    private static long versionOf(Product product) {
+        return product == null ? DELETED : product.currentVersion();
+    }
+
+    private AtomicLong counterFor(String id) {
+        AtomicLong version = versions.get(id);
+        if (version != null) {
+            return version;
+        }
+        return versions.computeIfAbsent(id, key -> {
+            Product product = publishedProducts.apply(key);
+            return product == null ? null : new AtomicLong(product.currentVersion());
+        });
+    }
+}
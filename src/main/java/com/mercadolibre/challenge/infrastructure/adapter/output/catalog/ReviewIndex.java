@@ -0,0 +1,322 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.AppendOnlyList;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The rating histogram and the date and rating orders of the reviews of every product with many reviews
+ * Most products have a handful of reviews, counting and sorting them on read costs less than keeping an
+ * entry per product, so only products with at least {@link #MIN_INDEXED_REVIEWS} reviews are indexed. A
+ * later snapshot only rebuilds the entries of the products whose reviews changed, and appends reviews
+ * submitted to a product to its entry, see {@link Reviews#plus}.
+ */
+public final class ReviewIndex {
+
+    /**
+     * The number of reviews from which a product gets its aggregates and orders precomputed
+     */
+    static final int MIN_INDEXED_REVIEWS = 32;
+
+    private static final ReviewIndex EMPTY = new ReviewIndex(PersistentMap.empty());
+    private static final Comparator<Integer> RATING_VALUES = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final PersistentMap<String, Reviews> indexed;
+
+    /**
+     * The reviews of one product, with their aggregates and sorted by every review order
+     * The rating order is kept as one run per rating value, each sorted by date and id. Reviews are submitted
+     * with the current time, so they sort after every review of the date order and of their rating run, and
+     * adding them appends to {@link AppendOnlyList}s that share every full chunk with the previous entry.
+     */
+    public static final class Reviews {
+
+        private final int[] histogram;
+        private final long ratingSum;
+        private final AppendOnlyList<Review> byDate;
+        private final List<RatingRun> byRating;
+
+        /**
+         * The reviews with one rating value, null for reviews without a rating, sorted by date and id
+         */
+        private record RatingRun(Integer rating, AppendOnlyList<Review> reviews) {
+        }
+
+        private Reviews(int[] histogram, long ratingSum, AppendOnlyList<Review> byDate, List<RatingRun> byRating) {
+            this.histogram = histogram;
+            this.ratingSum = ratingSum;
+            this.byDate = byDate;
+            this.byRating = byRating;
+        }
+
+        /**
+         * Count and sort the reviews of a product
+         * @param reviews the reviews, may be null or hold null entries, which are skipped
+         * @return the sorted reviews and their aggregates
+         */
+        public static Reviews of(List<Review> reviews) {
+            List<Review> byDate = new ArrayList<>(reviews == null ? 0 : reviews.size());
+            int[] histogram = new int[5];
+            long ratingSum = 0;
+            if (reviews != null) {
+                for (Review review : reviews) {
+                    if (review == null) {
+                        continue;
+                    }
+                    byDate.add(review);
+                    Integer rating = review.getRating();
+                    if (rating != null && rating >= 1 && rating <= 5) {
+                        histogram[rating - 1]++;
+                        ratingSum += rating;
+                    }
+                }
+            }
+            List<Review> byRating = new ArrayList<>(byDate);
+            byDate.sort(ReviewSort.DATE.order());
+            byRating.sort(ReviewSort.RATING.order());
+            List<RatingRun> runs = new ArrayList<>();
+            int from = 0;
+            for (int i = 1; i <= byRating.size(); i++) {
+                if (i == byRating.size()
+                        || !Objects.equals(byRating.get(i).getRating(), byRating.get(from).getRating())) {
+                    runs.add(new RatingRun(byRating.get(from).getRating(),
+                            AppendOnlyList.copyOf(byRating.subList(from, i))));
+                    from = i;
+                }
+            }
+            return new Reviews(histogram, ratingSum, AppendOnlyList.copyOf(byDate), List.copyOf(runs));
+        }
+
+        /**
+         * Add reviews appended to the product
+         * Only the new reviews are counted and sorted. When each of them sorts after the last review of the date
+         * order and of its rating run, as submitted reviews do, they are appended without touching the existing
+         * reviews, otherwise every review is sorted again.
+         * @param existing the reviews of the product before the new ones
+         * @param appended the new reviews, may hold null entries, which are skipped
+         * @return the reviews with the new ones counted and sorted in
+         */
+        Reviews plus(List<Review> existing, List<Review> appended) {
+            Reviews added = of(appended);
+            if (added.reviewCount() == 0) {
+                return this;
+            }
+            if (!byDate.isEmpty()
+                    && ReviewSort.DATE.order().compare(byDate.get(byDate.size() - 1), added.byDate.get(0)) >= 0) {
+                return of(concat(existing, appended));
+            }
+            List<RatingRun> runs = new ArrayList<>(byRating);
+            for (RatingRun run : added.byRating) {
+                int position = 0;
+                while (position < runs.size() && RATING_VALUES.compare(runs.get(position).rating(), run.rating()) < 0) {
+                    position++;
+                }
+                if (position == runs.size() || !Objects.equals(runs.get(position).rating(), run.rating())) {
+                    runs.add(position, run);
+                    continue;
+                }
+                AppendOnlyList<Review> current = runs.get(position).reviews();
+                if (ReviewSort.RATING.order().compare(current.get(current.size() - 1), run.reviews().get(0)) >= 0) {
+                    return of(concat(existing, appended));
+                }
+                runs.set(position, new RatingRun(run.rating(), current.plusAll(run.reviews())));
+            }
+            int[] merged = histogram.clone();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += added.histogram[i];
+            }
+            return new Reviews(merged, ratingSum + added.ratingSum, byDate.plusAll(added.byDate),
+                    List.copyOf(runs));
+        }
+
+        private static List<Review> concat(List<Review> existing, List<Review> appended) {
+            List<Review> all = new ArrayList<>(existing.size() + appended.size());
+            all.addAll(existing);
+            all.addAll(appended);
+            return all;
+        }
+
+        /**
+         * Get the number of reviews
+         * @return the number of reviews
+         */
+        public int reviewCount() {
+            return byDate.size();
+        }
+
+        /**
+         * Get the number of reviews with a rating
+         * @param rating the rating, from 1 to 5
+         * @return the number of reviews
+         */
+        public int count(int rating) {
+            return histogram[rating - 1];
+        }
+
+        /**
+         * Get the average rating of the reviews rated 1 to 5
+         * @return the average rating, or null if no review is
+         */
+        public Double averageRating() {
+            int rated = 0;
+            for (int count : histogram) {
+                rated += count;
+            }
+            return rated == 0 ? null : (double) ratingSum / rated;
+        }
+
+        /**
+         * Get a page of the reviews
+         * @param sort the order of the reviews
+         * @param direction the direction of the order
+         * @param offset the number of reviews to skip
+         * @param limit the maximum number of reviews to return
+         * @return the reviews of the page
+         */
+        public List<Review> page(ReviewSort sort, SortDirection direction, int offset, int limit) {
+            List<Review> ordered = sort == ReviewSort.RATING ? new RatingOrder(byRating) : byDate;
+            int total = ordered.size();
+            int from = Math.min(offset, total);
+            int to = (int) Math.min(total, (long) offset + limit);
+            if (direction != SortDirection.DESC) {
+                return List.copyOf(ordered.subList(from, to));
+            }
+            List<Review> page = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                page.add(ordered.get(total - 1 - i));
+            }
+            return Collections.unmodifiableList(page);
+        }
+    }
+
+    /**
+     * The rating runs of a product read as one list in rating order
+     */
+    private static final class RatingOrder extends AbstractList<Review> implements RandomAccess {
+
+        private final List<Reviews.RatingRun> runs;
+
+        RatingOrder(List<Reviews.RatingRun> runs) {
+            this.runs = runs;
+        }
+
+        @Override
+        public Review get(int index) {
+            Objects.checkIndex(index, size());
+            int offset = index;
+            for (Reviews.RatingRun run : runs) {
+                if (offset < run.reviews().size()) {
+                    return run.reviews().get(offset);
+                }
+                offset -= run.reviews().size();
+            }
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Reviews.RatingRun run : runs) {
+                size += run.reviews().size();
+            }
+            return size;
+        }
+    }
+
+    private ReviewIndex(PersistentMap<String, Reviews> indexed) {
+        this.indexed = indexed;
+    }
+
+    /**
+     * Get the index of an empty catalog
+     * @return an empty index
+     */
+    public static ReviewIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Index the reviews of every product of a catalog with many reviews
+     * @param products the products by id
+     * @return the index
+     */
+    public static ReviewIndex build(Map<String, Product> products) {
+        Map<String, Reviews> indexed = new HashMap<>();
+        for (Product product : products.values()) {
+            if (isIndexed(product)) {
+                indexed.put(product.getId(), Reviews.of(product.getReviews()));
+            }
+        }
+        return indexed.isEmpty() ? EMPTY : new ReviewIndex(PersistentMap.copyOf(indexed));
+    }
+
+    /**
+     * Get the reviews of a product of the snapshot this index belongs to
+     * @param product the product
+     * @return the precomputed reviews if the product is indexed, otherwise its reviews counted and sorted now
+     */
+    public Reviews reviews(Product product) {
+        Reviews reviews = indexed.get(product.getId());
+        return reviews != null ? reviews : Reviews.of(product.getReviews());
+    }
+
+    /**
+     * Get the number of products with precomputed reviews
+     * @return the number of indexed products
+     */
+    public int indexedCount() {
+        return indexed.size();
+    }
+
+    /**
+     * Create the index of the next snapshot
+     * @param changes the changes that produce the next snapshot
+     * @return the new index, or this index if no change touches the reviews of a product
+     */
+    ReviewIndex apply(List<CatalogDiff.Change> changes) {
+        PersistentMap.Transient<String, Reviews> next = null;
+        for (CatalogDiff.Change change : changes) {
+            boolean before = change.before() != null && isIndexed(change.before());
+            boolean after = change.after() != null && isIndexed(change.after());
+            if (!before && !after) {
+                continue;
+            }
+            if (change.isUpdate() && before && after
+                    && (change.before().getReviews() == change.after().getReviews()
+                    || Objects.equals(change.before().getReviews(), change.after().getReviews()))) {
+                continue;
+            }
+            if (next == null) {
+                next = indexed.asTransient();
+            }
+            if (after) {
+                Reviews previous = before ? indexed.get(change.id()) : null;
+                List<Review> existing = before ? change.before().getReviews() : null;
+                List<Review> reviews = change.after().getReviews();
+                next.put(change.id(), previous != null && reviews instanceof AppendOnlyList<Review> appendOnly
+                        && appendOnly.size() > existing.size() && appendOnly.startsWith(existing)
+                        ? previous.plus(existing, reviews.subList(existing.size(), reviews.size()))
+                        : Reviews.of(reviews));
+            } else {
+                next.remove(change.id());
+            }
+        }
+        return next == null ? this : new ReviewIndex(next.persistent());
+    }
+
+    private static boolean isIndexed(Product product) {
+        return product.getReviews() != null && product.getReviews().size() >= MIN_INDEXED_REVIEWS;
+    }
+}
@@ -0,0 +1,287 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Full text index of a snapshot over product titles and descriptions, ranked with BM25
+ * The index is a base segment built with the catalog plus a small delta segment holding the products whose
+ * text changed since. Base documents replaced by the delta are marked dead and their terms are subtracted
+ * from the document frequencies, so scores match those of a freshly built index. Writes that do not touch
+ * title or description share the whole index, and once the delta grows past a fraction of the catalog
+ * the index is rebuilt as a single base segment.
+ * <p>
+ * Fuzzy queries also match title terms a few edits away from a query term, found through a trigram index
+ * over the title vocabulary. A corrected term weighs 1 / (1 + edits) of an exact one, so exact matches rank first.
+ */
+public final class SearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    // Rebuild once the delta and the dead documents reach this fraction of the catalog
+    private static final int COMPACTION_DIVISOR = 32;
+    private static final SearchIndex EMPTY = new SearchIndex(SearchSegment.EMPTY, new BitSet(), 0, 0, Map.of(),
+            SearchSegment.EMPTY, TrigramIndex.EMPTY);
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+            .thenComparing(Hit::id, Comparator.reverseOrder());
+
+    private final SearchSegment base;
+    // Never modified once the index is published
+    private final BitSet dead;
+    private final int deadCount;
+    private final long deadLength;
+    private final Map<String, Integer> deadDocumentFrequencies;
+    private final SearchSegment delta;
+    private final TrigramIndex titleTerms;
+
+    /**
+     * Ids of the best matches of a query
+     * @param ids the ids of the requested range of matches, best first
+     * @param total the number of products matching at least one term
+     */
+    public record Result(List<String> ids, int total) {
+    }
+
+    private record Hit(String id, double score) {
+    }
+
+    private SearchIndex(SearchSegment base, BitSet dead, int deadCount, long deadLength,
+                        Map<String, Integer> deadDocumentFrequencies, SearchSegment delta, TrigramIndex titleTerms) {
+        this.base = base;
+        this.dead = dead;
+        this.deadCount = deadCount;
+        this.deadLength = deadLength;
+        this.deadDocumentFrequencies = deadDocumentFrequencies;
+        this.delta = delta;
+        this.titleTerms = titleTerms;
+    }
+
+    /**
+     * Get the index of an empty catalog
+     * @return an empty index
+     */
+    public static SearchIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Index every product of a catalog
+     * @param orderedIds the product ids, sorted
+     * @param products the products by id
+     * @return the index
+     */
+    public static SearchIndex build(List<String> orderedIds, Map<String, Product> products) {
+        return new SearchIndex(SearchSegment.build(orderedIds, products), new BitSet(), 0, 0, Map.of(),
+                SearchSegment.EMPTY, TrigramIndex.build(products.values()));
+    }
+
+    /**
+     * Get the number of distinct terms in the base segment
+     * @return the number of terms
+     */
+    public int termCount() {
+        return base.termCount();
+    }
+
+    /**
+     * Get the number of distinct title terms fuzzy queries can be corrected to
+     * @return the number of title terms
+     */
+    public int titleTermCount() {
+        return titleTerms.termCount();
+    }
+
+    /**
+     * Create the index of the next snapshot
+     * @param changes the changes that produce the next snapshot
+     * @param nextProducts the products of the next snapshot by id
+     * @param nextOrderedIds the product ids of the next snapshot, sorted
+     * @return the new index, or this index if no change touches the searchable text
+     */
+    SearchIndex apply(List<CatalogDiff.Change> changes, Map<String, Product> nextProducts, List<String> nextOrderedIds) {
+        List<CatalogDiff.Change> textChanges = changes.stream()
+                .filter(SearchIndex::changesText)
+                .toList();
+        if (textChanges.isEmpty()) {
+            return this;
+        }
+
+        BitSet nextDead = (BitSet) dead.clone();
+        int nextDeadCount = deadCount;
+        long nextDeadLength = deadLength;
+        Map<String, Integer> nextDeadFrequencies = new HashMap<>(deadDocumentFrequencies);
+        Set<String> deltaIds = new HashSet<>(delta.ids());
+        for (CatalogDiff.Change change : textChanges) {
+            int doc = base.docOf(change.id());
+            // A live base document still holds the text of the product before this change
+            if (doc >= 0 && !nextDead.get(doc)) {
+                SearchSegment.DocumentTerms terms = SearchSegment.analyze(change.before());
+                nextDead.set(doc);
+                nextDeadCount++;
+                nextDeadLength += terms.length();
+                terms.frequencies().keySet().forEach(term -> nextDeadFrequencies.merge(term, 1, Integer::sum));
+            }
+            if (change.isDelete()) {
+                deltaIds.remove(change.id());
+            } else {
+                deltaIds.add(change.id());
+            }
+        }
+
+        if (deltaIds.size() + nextDeadCount > Math.max(MIN_COMPACTION_THRESHOLD, nextProducts.size() / COMPACTION_DIVISOR)) {
+            return build(nextOrderedIds, nextProducts);
+        }
+        List<String> sortedDeltaIds = deltaIds.stream().sorted().toList();
+        return new SearchIndex(base, nextDead, nextDeadCount, nextDeadLength,
+                Collections.unmodifiableMap(nextDeadFrequencies), SearchSegment.build(sortedDeltaIds, nextProducts),
+                titleTerms.apply(textChanges, nextProducts));
+    }
+
+    /**
+     * Find the products matching any term of a query, best match first
+     * Ties are broken by id so the same query always returns the same order for a snapshot.
+     * @param query the query text
+     * @param offset the number of best matches to skip
+     * @param limit the maximum number of matches to return
+     * @return the ids of the requested matches and the total number of matches
+     */
+    public Result search(String query, int offset, int limit) {
+        return search(query, false, offset, limit);
+    }
+
+    /**
+     * Find the products matching any term of a query, best match first
+     * @param query the query text
+     * @param fuzzy whether query terms also match title terms a few edits away
+     * @param offset the number of best matches to skip
+     * @param limit the maximum number of matches to return
+     * @return the ids of the requested matches and the total number of matches
+     */
+    public Result search(String query, boolean fuzzy, int offset, int limit) {
+        Map<String, Double> terms = new LinkedHashMap<>();
+        for (String term : TextAnalyzer.terms(query)) {
+            terms.put(term, 1.0);
+            if (fuzzy) {
+                for (TrigramIndex.Correction correction : titleTerms.corrections(term)) {
+                    terms.merge(correction.term(), 1.0 / (1 + correction.distance()), Math::max);
+                }
+            }
+        }
+        int documents = base.size() - deadCount + delta.size();
+        if (terms.isEmpty() || documents == 0) {
+            return new Result(List.of(), 0);
+        }
+        double averageLength = Math.max(1, (base.totalLength() - deadLength + delta.totalLength()) / (double) documents);
+
+        Scores baseScores = new Scores(base.size());
+        Scores deltaScores = new Scores(delta.size());
+        for (Map.Entry<String, Double> weightedTerm : terms.entrySet()) {
+            String term = weightedTerm.getKey();
+            SearchSegment.Postings basePostings = base.postings(term);
+            SearchSegment.Postings deltaPostings = delta.postings(term);
+            int documentFrequency = (basePostings == null ? 0 : basePostings.docs().length)
+                    - deadDocumentFrequencies.getOrDefault(term, 0)
+                    + (deltaPostings == null ? 0 : deltaPostings.docs().length);
+            if (documentFrequency <= 0) {
+                continue;
+            }
+            double idf = weightedTerm.getValue()
+                    * Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            baseScores.add(basePostings, base, dead, idf, averageLength);
+            deltaScores.add(deltaPostings, delta, null, idf, averageLength);
+        }
+
+        int total = baseScores.hitCount + deltaScores.hitCount;
+        long wanted = Math.min((long) offset + limit, total);
+        if (offset >= wanted) {
+            return new Result(List.of(), total);
+        }
+        PriorityQueue<Hit> best = new PriorityQueue<>((int) wanted + 1, WORST_FIRST);
+        baseScores.collect(base, best, (int) wanted);
+        deltaScores.collect(delta, best, (int) wanted);
+
+        List<String> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().id());
+        }
+        Collections.reverse(ids);
+        return new Result(ids.subList(offset, ids.size()), total);
+    }
+
+    private static boolean changesText(CatalogDiff.Change change) {
+        return !change.isUpdate()
+                || !Objects.equals(change.before().getTitle(), change.after().getTitle())
+                || !Objects.equals(change.before().getDescription(), change.after().getDescription());
+    }
+
+    /**
+     * Accumulated scores of the documents of one segment for a single query
+     */
+    private static final class Scores {
+        private final int documents;
+        // Allocated on the first matching term, a query without matches in the segment costs nothing
+        private double[] scores;
+        private int[] hits = new int[16];
+        private int hitCount;
+
+        Scores(int documents) {
+            this.documents = documents;
+        }
+
+        void add(SearchSegment.Postings postings, SearchSegment segment, BitSet dead, double idf, double averageLength) {
+            if (postings == null) {
+                return;
+            }
+            if (scores == null) {
+                scores = new double[documents];
+            }
+            int[] docs = postings.docs();
+            int[] frequencies = postings.frequencies();
+            for (int i = 0; i < docs.length; i++) {
+                int doc = docs[i];
+                if (dead != null && dead.get(doc)) {
+                    continue;
+                }
+                if (scores[doc] == 0) {
+                    if (hitCount == hits.length) {
+                        hits = Arrays.copyOf(hits, hitCount * 2);
+                    }
+                    hits[hitCount++] = doc;
+                }
+                double frequency = frequencies[i];
+                double norm = K1 * (1 - B + B * segment.length(doc) / averageLength);
+                scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+
+        void collect(SearchSegment segment, PriorityQueue<Hit> best, int wanted) {
+            for (int i = 0; i < hitCount; i++) {
+                int doc = hits[i];
+                double score = scores[doc];
+                if (best.size() == wanted) {
+                    Hit worst = best.peek();
+                    if (score < worst.score()
+                            || (score == worst.score() && segment.id(doc).compareTo(worst.id()) > 0)) {
+                        continue;
+                    }
+                    best.poll();
+                }
+                best.offer(new Hit(segment.id(doc), score));
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Inverted index over the title and description of a fixed set of products
+ * Documents are numbered by the position of their id in a sorted id list, so postings hold document
+ * numbers in increasing order and a document is found by binary search on its id.
+ * Title terms count twice, a match in the title weighs more than the same match in the description.
+ */
+final class SearchSegment {
+
+    static final SearchSegment EMPTY = new SearchSegment(List.of(), new int[0], Map.of(), 0);
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CHUNK_SIZE = 16_384;
+
+    /**
+     * Documents containing a term
+     * @param docs the document numbers, increasing
+     * @param frequencies the weighted number of times the term appears in each document
+     */
+    record Postings(int[] docs, int[] frequencies) {
+    }
+
+    /**
+     * The analyzed text of one product
+     * @param frequencies the weighted frequency of every term
+     * @param length the weighted number of terms
+     */
+    record DocumentTerms(Map<String, Integer> frequencies, int length) {
+    }
+
+    private final List<String> ids;
+    private final int[] lengths;
+    private final Map<String, Postings> postings;
+    private final long totalLength;
+
+    private SearchSegment(List<String> ids, int[] lengths, Map<String, Postings> postings, long totalLength) {
+        this.ids = ids;
+        this.lengths = lengths;
+        this.postings = postings;
+        this.totalLength = totalLength;
+    }
+
+    /**
+     * Index the given products, analyzing chunks of them in parallel
+     * @param ids the ids of the products to index, sorted
+     * @param products the products by id
+     * @return the segment
+     */
+    static SearchSegment build(List<String> ids, Map<String, Product> products) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        int[] lengths = new int[ids.size()];
+        int chunks = (ids.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<Map<String, PostingsBuilder>> partials = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    Map<String, PostingsBuilder> partial = new HashMap<>();
+                    int to = Math.min(ids.size(), (chunk + 1) * CHUNK_SIZE);
+                    for (int doc = chunk * CHUNK_SIZE; doc < to; doc++) {
+                        DocumentTerms terms = analyze(products.get(ids.get(doc)));
+                        lengths[doc] = terms.length();
+                        int document = doc;
+                        terms.frequencies().forEach((term, frequency) ->
+                                partial.computeIfAbsent(term, key -> new PostingsBuilder()).add(document, frequency));
+                    }
+                    return partial;
+                })
+                .toList();
+
+        // Chunks hold increasing document ranges, appending them in order keeps every postings list sorted
+        Map<String, PostingsBuilder> merged = new HashMap<>();
+        for (Map<String, PostingsBuilder> partial : partials) {
+            partial.forEach((term, builder) -> merged.merge(term, builder, PostingsBuilder::append));
+        }
+        Map<String, Postings> postings = new HashMap<>(merged.size() * 2);
+        merged.forEach((term, builder) -> postings.put(term, builder.build()));
+        long totalLength = 0;
+        for (int length : lengths) {
+            totalLength += length;
+        }
+        return new SearchSegment(ids, lengths, Collections.unmodifiableMap(postings), totalLength);
+    }
+
+    /**
+     * Analyze the searchable text of a product
+     * @param product the product
+     * @return the weighted term frequencies and length
+     */
+    static DocumentTerms analyze(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> titleTerms = TextAnalyzer.terms(product.getTitle());
+        List<String> descriptionTerms = TextAnalyzer.terms(product.getDescription());
+        titleTerms.forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        descriptionTerms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return new DocumentTerms(frequencies, titleTerms.size() * TITLE_WEIGHT + descriptionTerms.size());
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    String id(int doc) {
+        return ids.get(doc);
+    }
+
+    List<String> ids() {
+        return ids;
+    }
+
+    /**
+     * Find the document of a product
+     * @param id the product id
+     * @return the document number, or a negative number if the product is not in this segment
+     */
+    int docOf(String id) {
+        return Collections.binarySearch(ids, id);
+    }
+
+    int length(int doc) {
+        return lengths[doc];
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    Postings postings(String term) {
+        return postings.get(term);
+    }
+
+    /**
+     * Growable postings list
+     */
+    private static final class PostingsBuilder {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        PostingsBuilder append(PostingsBuilder other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.docs[i], other.frequencies[i]);
+            }
+            return this;
+        }
+
+        Postings build() {
+            return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(frequencies, size));
+        }
+    }
+}
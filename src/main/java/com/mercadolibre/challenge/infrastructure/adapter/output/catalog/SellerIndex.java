@@ -0,0 +1,188 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Product ids of a snapshot by seller id, with the product count, total stock and average rating of every seller
+ * Aggregates are kept as exact sums, ratings in hundredths, so a later snapshot subtracts the old state of a
+ * changed product and adds the new one without drifting. Both maps are {@link PersistentMap}s and the id lists
+ * {@link SortedIds}, so a diff only copies the trie paths and id chunks of the sellers it touches, every other
+ * seller is shared with the previous snapshot.
+ */
+public final class SellerIndex {
+
+    private static final SellerIndex EMPTY = new SellerIndex(PersistentMap.empty(), PersistentMap.empty());
+
+    private final PersistentMap<String, SortedIds> idsBySeller;
+    private final PersistentMap<String, Aggregate> aggregates;
+
+    /**
+     * Totals over the products of one seller
+     * @param productCount the number of products
+     * @param totalStock the sum of the stock of the products
+     * @param ratingHundredths the sum of the ratings of the rated products, in hundredths
+     * @param ratedCount the number of products with a rating
+     */
+    public record Aggregate(int productCount, long totalStock, long ratingHundredths, int ratedCount) {
+
+        private static final Aggregate NONE = new Aggregate(0, 0, 0, 0);
+
+        /**
+         * Get the average rating of the rated products
+         * @return the average rating, or null if no product is rated
+         */
+        public Double averageRating() {
+            return ratedCount == 0 ? null : ratingHundredths / 100.0 / ratedCount;
+        }
+
+        private Aggregate plus(Product product, int sign) {
+            Double rating = product.getRating();
+            return new Aggregate(productCount + sign,
+                    totalStock + sign * (long) (product.getStock() == null ? 0 : product.getStock()),
+                    ratingHundredths + (rating == null ? 0 : sign * Math.round(rating * 100)),
+                    ratedCount + (rating == null ? 0 : sign));
+        }
+    }
+
+    private SellerIndex(PersistentMap<String, SortedIds> idsBySeller, PersistentMap<String, Aggregate> aggregates) {
+        this.idsBySeller = idsBySeller;
+        this.aggregates = aggregates;
+    }
+
+    /**
+     * Get the index of an empty catalog
+     * @return an empty index
+     */
+    public static SellerIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Index every product of a catalog
+     * @param products the products by id
+     * @return the index
+     */
+    public static SellerIndex build(Map<String, Product> products) {
+        Map<String, List<String>> lists = new HashMap<>();
+        Map<String, Aggregate> aggregates = new HashMap<>();
+        for (Product product : products.values()) {
+            String sellerId = sellerOf(product);
+            if (sellerId != null) {
+                lists.computeIfAbsent(sellerId, key -> new ArrayList<>()).add(product.getId());
+                aggregates.merge(sellerId, Aggregate.NONE.plus(product, 1), SellerIndex::sum);
+            }
+        }
+        PersistentMap.Transient<String, SortedIds> idsBySeller = PersistentMap.<String, SortedIds>empty().asTransient();
+        lists.forEach((sellerId, ids) -> {
+            String[] sorted = ids.toArray(String[]::new);
+            Arrays.sort(sorted);
+            idsBySeller.put(sellerId, SortedIds.of(sorted));
+        });
+        return new SellerIndex(idsBySeller.persistent(), PersistentMap.copyOf(aggregates));
+    }
+
+    /**
+     * Get the ids of the products of a seller
+     * @param sellerId the seller id
+     * @return the ids, sorted, empty if the seller has no products
+     */
+    public List<String> ids(String sellerId) {
+        return idsBySeller.getOrDefault(sellerId, SortedIds.empty());
+    }
+
+    /**
+     * Get the aggregates of a seller
+     * @param sellerId the seller id
+     * @return the aggregates, or null if the seller has no products
+     */
+    public Aggregate aggregate(String sellerId) {
+        return aggregates.get(sellerId);
+    }
+
+    /**
+     * Get the number of sellers with at least one product
+     * @return the number of sellers
+     */
+    public int sellerCount() {
+        return aggregates.size();
+    }
+
+    /**
+     * Create the index of the next snapshot
+     * @param changes the changes that produce the next snapshot
+     * @return the new index, or this index if no change touches a seller, stock or rating
+     */
+    SellerIndex apply(List<CatalogDiff.Change> changes) {
+        Map<String, SortIndexes.IdChanges> idChanges = new HashMap<>();
+        PersistentMap.Transient<String, Aggregate> nextAggregates = null;
+        for (CatalogDiff.Change change : changes) {
+            String before = change.before() == null ? null : sellerOf(change.before());
+            String after = change.after() == null ? null : sellerOf(change.after());
+            if (change.isUpdate() && Objects.equals(before, after)
+                    && Objects.equals(change.before().getStock(), change.after().getStock())
+                    && Objects.equals(change.before().getRating(), change.after().getRating())) {
+                continue;
+            }
+            if (nextAggregates == null) {
+                nextAggregates = aggregates.asTransient();
+            }
+            if (before != null) {
+                Aggregate aggregate = nextAggregates.get(before).plus(change.before(), -1);
+                if (aggregate.productCount() == 0) {
+                    nextAggregates.remove(before);
+                } else {
+                    nextAggregates.put(before, aggregate);
+                }
+            }
+            if (after != null) {
+                Aggregate aggregate = nextAggregates.get(after);
+                nextAggregates.put(after, (aggregate == null ? Aggregate.NONE : aggregate).plus(change.after(), 1));
+            }
+            if (!Objects.equals(before, after) || !change.isUpdate()) {
+                if (before != null) {
+                    idChanges.computeIfAbsent(before, key -> new SortIndexes.IdChanges()).removed.add(change.id());
+                }
+                if (after != null) {
+                    idChanges.computeIfAbsent(after, key -> new SortIndexes.IdChanges()).added.add(change.id());
+                }
+            }
+        }
+        if (nextAggregates == null) {
+            return this;
+        }
+
+        PersistentMap<String, SortedIds> nextIdsBySeller = idsBySeller;
+        if (!idChanges.isEmpty()) {
+            Comparator<String> natural = Comparator.naturalOrder();
+            PersistentMap.Transient<String, SortedIds> lists = idsBySeller.asTransient();
+            idChanges.forEach((sellerId, sellerChanges) -> {
+                SortedIds ids = idsBySeller.getOrDefault(sellerId, SortedIds.empty())
+                        .update(sellerChanges.removed, natural, sellerChanges.added, natural, null);
+                if (ids.isEmpty()) {
+                    lists.remove(sellerId);
+                } else {
+                    lists.put(sellerId, ids);
+                }
+            });
+            nextIdsBySeller = lists.persistent();
+        }
+        return new SellerIndex(nextIdsBySeller, nextAggregates.persistent());
+    }
+
+    private static Aggregate sum(Aggregate left, Aggregate right) {
+        return new Aggregate(left.productCount() + right.productCount(), left.totalStock() + right.totalStock(),
+                left.ratingHundredths() + right.ratingHundredths(), left.ratedCount() + right.ratedCount());
+    }
+
+    private static String sellerOf(Product product) {
+        return product.getSeller() == null ? null : product.getSeller().getId();
+    }
+}
@@ -0,0 +1,251 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductSort;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Product ids of a snapshot sorted in every {@link ProductSort} order, for the whole catalog and for each type
+ * The indexes are sorted once when a catalog is built. Later snapshots move only the products whose sort
+ * key, type or presence changed, copying the few {@link SortedIds} chunks that hold them and sharing every other
+ * chunk and every index a diff does not touch, so a sorted page is a sublist of an index just like an unsorted one.
+ * <p>
+ * The price order also keeps the price of every id in cents as the key of its {@link SortedIds}, so the products
+ * in a price range are found with two binary searches and served as a sublist of the price order. The searches
+ * work at cent precision, so the products in the cent of each bound are then compared with the exact bound.
+ * Products without a price are never in a range.
+ */
+public final class SortIndexes {
+
+    private static final SortIndexes EMPTY = new SortIndexes(emptyIndexes());
+    // Sorts after every price, so products without a price are left out of any range
+    private static final long NO_PRICE = Long.MAX_VALUE;
+
+    private final Map<ProductSort, Index> indexes;
+
+    /**
+     * The ids in one order
+     * @param all every product id
+     * @param byType the product ids of each type
+     */
+    private record Index(SortedIds all, PersistentMap<String, SortedIds> byType) {
+    }
+
+    private SortIndexes(Map<ProductSort, Index> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * Get the indexes of an empty catalog
+     * @return empty indexes
+     */
+    public static SortIndexes empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Sort the products of a catalog in every order
+     * @param products the products by id
+     * @return the indexes
+     */
+    public static SortIndexes build(Map<String, Product> products) {
+        Map<ProductSort, Index> indexes = new EnumMap<>(ProductSort.class);
+        Product[] sorted = products.values().toArray(Product[]::new);
+        for (ProductSort sort : ProductSort.values()) {
+            Arrays.parallelSort(sorted, sort.order());
+            String[] ids = new String[sorted.length];
+            Map<String, List<String>> byType = new HashMap<>();
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].getId();
+                if (sorted[i].getType() != null) {
+                    byType.computeIfAbsent(sorted[i].getType(), type -> new ArrayList<>()).add(ids[i]);
+                }
+            }
+            PersistentMap.Transient<String, SortedIds> typeIndexes = PersistentMap.<String, SortedIds>empty().asTransient();
+            byType.forEach((type, typeIds) -> typeIndexes.put(type, sortedIds(sort, typeIds, products)));
+            indexes.put(sort, new Index(sortedIds(sort, Arrays.asList(ids), products), typeIndexes.persistent()));
+        }
+        return new SortIndexes(indexes);
+    }
+
+    /**
+     * Get every product id in the given order
+     * @param sort the order
+     * @return the sorted ids
+     */
+    public List<String> ids(ProductSort sort) {
+        return indexes.get(sort).all();
+    }
+
+    /**
+     * Get the ids of the products of a type in the given order
+     * @param sort the order
+     * @param type the product type
+     * @return the sorted ids, empty if there are no products of the type
+     */
+    public List<String> ids(ProductSort sort, String type) {
+        return indexes.get(sort).byType().getOrDefault(type, SortedIds.empty());
+    }
+
+    /**
+     * Get the ids of the products in a price range, in ascending price order
+     * @param type the product type, or null for the whole catalog
+     * @param minPrice the minimum price, inclusive, null for no minimum
+     * @param maxPrice the maximum price, inclusive, null for no maximum
+     * @param products the products of the snapshot by id, to compare the exact price of the products at the bounds
+     * @return a view of the price order holding only the products in the range
+     */
+    public List<String> idsInPriceRange(String type, BigDecimal minPrice, BigDecimal maxPrice,
+                                        Map<String, Product> products) {
+        Index byPrice = indexes.get(ProductSort.PRICE);
+        SortedIds ids = type == null ? byPrice.all() : byPrice.byType().get(type);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        long min = minPrice == null ? Long.MIN_VALUE + 1 : toCents(minPrice);
+        long max = maxPrice == null ? NO_PRICE - 1 : Math.min(toCents(maxPrice), NO_PRICE - 1);
+        int from = ids.firstAbove(min - 1);
+        int to = Math.max(from, ids.firstAbove(max));
+        // The price order is exact within a cent, so only the products below or above the bounds are visited
+        while (minPrice != null && from < to && products.get(ids.get(from)).getPrice().compareTo(minPrice) < 0) {
+            from++;
+        }
+        while (maxPrice != null && to > from && products.get(ids.get(to - 1)).getPrice().compareTo(maxPrice) > 0) {
+            to--;
+        }
+        return ids.subList(from, to);
+    }
+
+    /**
+     * Convert a price to cents, rounding half up
+     * Prices of 10^18 or more and below a tenth of a cent are settled from their digit count before scaling,
+     * so a bound such as 1e999999999 never expands into its full digits.
+     * @param price the price
+     * @return the price in cents, saturated to the long range
+     */
+    public static long toCents(BigDecimal price) {
+        long integerDigits = (long) price.precision() - price.scale();
+        if (price.signum() == 0 || integerDigits < -2) {
+            return 0;
+        }
+        if (integerDigits > 18) {
+            return price.signum() > 0 ? Long.MAX_VALUE - 1 : Long.MIN_VALUE + 1;
+        }
+        BigDecimal cents = price.movePointRight(2).setScale(0, RoundingMode.HALF_UP);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE - 1)) >= 0) {
+            return Long.MAX_VALUE - 1;
+        }
+        return cents.compareTo(BigDecimal.valueOf(Long.MIN_VALUE + 1)) <= 0 ? Long.MIN_VALUE + 1 : cents.longValue();
+    }
+
+    /**
+     * Create the indexes of the next snapshot
+     * Removed ids are located with the products before the change, inserted ids with the products after it.
+     * @param changes the changes that produce the next snapshot
+     * @param nextProducts the products of the next snapshot by id
+     * @return the new indexes
+     */
+    SortIndexes apply(List<CatalogDiff.Change> changes, Map<String, Product> nextProducts) {
+        Map<String, Product> before = new HashMap<>();
+        for (CatalogDiff.Change change : changes) {
+            if (change.before() != null) {
+                before.put(change.id(), change.before());
+            }
+        }
+        Map<ProductSort, Index> next = new EnumMap<>(ProductSort.class);
+        for (ProductSort sort : ProductSort.values()) {
+            Set<String> removed = new HashSet<>();
+            List<String> added = new ArrayList<>();
+            Map<String, IdChanges> touchedTypes = new HashMap<>();
+            for (CatalogDiff.Change change : changes) {
+                if (change.isUpdate() && !change.isTypeChange()
+                        && sort.keyOrder().compare(change.before(), change.after()) == 0) {
+                    continue;
+                }
+                if (change.before() != null) {
+                    removed.add(change.id());
+                    if (change.before().getType() != null) {
+                        touchedTypes.computeIfAbsent(change.before().getType(), type -> new IdChanges())
+                                .removed.add(change.id());
+                    }
+                }
+                if (change.after() != null) {
+                    added.add(change.id());
+                    if (change.after().getType() != null) {
+                        touchedTypes.computeIfAbsent(change.after().getType(), type -> new IdChanges())
+                                .added.add(change.id());
+                    }
+                }
+            }
+
+            Index index = indexes.get(sort);
+            if (removed.isEmpty() && added.isEmpty()) {
+                next.put(sort, index);
+                continue;
+            }
+            Comparator<String> previousOrder = (left, right) -> sort.order().compare(
+                    before.getOrDefault(left, nextProducts.get(left)),
+                    before.getOrDefault(right, nextProducts.get(right)));
+            Comparator<String> order = (left, right) ->
+                    sort.order().compare(nextProducts.get(left), nextProducts.get(right));
+            ToLongFunction<String> key = sort == ProductSort.PRICE ? id -> priceCents(nextProducts.get(id)) : null;
+            PersistentMap.Transient<String, SortedIds> byType = index.byType().asTransient();
+            touchedTypes.forEach((type, typeChanges) -> {
+                SortedIds ids = index.byType().getOrDefault(type, SortedIds.empty())
+                        .update(typeChanges.removed, previousOrder, typeChanges.added, order, key);
+                if (ids.isEmpty()) {
+                    byType.remove(type);
+                } else {
+                    byType.put(type, ids);
+                }
+            });
+            next.put(sort, new Index(index.all().update(removed, previousOrder, added, order, key),
+                    byType.persistent()));
+        }
+        return new SortIndexes(next);
+    }
+
+    private static SortedIds sortedIds(ProductSort sort, List<String> ids, Map<String, Product> products) {
+        String[] sorted = ids.toArray(String[]::new);
+        if (sort != ProductSort.PRICE) {
+            return SortedIds.of(sorted);
+        }
+        long[] cents = new long[sorted.length];
+        for (int i = 0; i < cents.length; i++) {
+            cents[i] = priceCents(products.get(sorted[i]));
+        }
+        return SortedIds.of(sorted, cents);
+    }
+
+    private static long priceCents(Product product) {
+        return product.getPrice() == null ? NO_PRICE : toCents(product.getPrice());
+    }
+
+    /**
+     * Ids leaving and entering one sorted id list
+     */
+    static final class IdChanges {
+        final Set<String> removed = new HashSet<>();
+        final List<String> added = new ArrayList<>();
+    }
+
+    private static Map<ProductSort, Index> emptyIndexes() {
+        Map<ProductSort, Index> indexes = new EnumMap<>(ProductSort.class);
+        for (ProductSort sort : ProductSort.values()) {
+            indexes.put(sort, new Index(SortedIds.empty(), PersistentMap.empty()));
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,388 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable sorted list of product ids split into chunks of at most {@value #MAX_CHUNK} ids
+ * A list derived with {@link #update} copies only the chunks holding removed or inserted ids and the small
+ * directory of chunks, every other chunk is shared with the list it was derived from. Positions are resolved
+ * with a binary search over the cumulative chunk sizes, so the list still serves pages as sublists.
+ * <p>
+ * A keyed list also keeps a {@code long} key per id, sorted like the ids, so the ids in a key range are
+ * found with binary searches, see {@link #firstAbove(long)}.
+ */
+public final class SortedIds extends AbstractList<String> implements RandomAccess {
+
+    /**
+     * Largest chunk, a chunk growing past it is split
+     */
+    static final int MAX_CHUNK = 1024;
+
+    /**
+     * Size of the chunks a list is built with, leaving room for inserts before a chunk splits
+     */
+    static final int BUILD_CHUNK = 512;
+
+    private static final SortedIds EMPTY = new SortedIds(new Chunk[0], new int[0], false);
+
+    private final Chunk[] chunks;
+    // Number of ids up to and including each chunk
+    private final int[] ends;
+    private final boolean keyed;
+
+    /**
+     * The ids of a chunk and their keys, null for a list without keys
+     */
+    private record Chunk(String[] ids, long[] keys) {
+    }
+
+    private SortedIds(Chunk[] chunks, int[] ends, boolean keyed) {
+        this.chunks = chunks;
+        this.ends = ends;
+        this.keyed = keyed;
+    }
+
+    /**
+     * Get the empty list
+     * @return a list without ids
+     */
+    public static SortedIds empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a list from sorted ids
+     * @param sorted the ids, already sorted, the array is not copied into the list
+     * @return the list
+     */
+    public static SortedIds of(String[] sorted) {
+        return of(sorted, null);
+    }
+
+    /**
+     * Create a keyed list from sorted ids and their keys
+     * @param sorted the ids, already sorted
+     * @param keys the key of every id, sorted like the ids, null for a list without keys
+     * @return the list
+     */
+    public static SortedIds of(String[] sorted, long[] keys) {
+        int count = (sorted.length + BUILD_CHUNK - 1) / BUILD_CHUNK;
+        Chunk[] chunks = new Chunk[count];
+        int[] ends = new int[count];
+        for (int i = 0; i < count; i++) {
+            int from = i * BUILD_CHUNK;
+            int to = Math.min(sorted.length, from + BUILD_CHUNK);
+            chunks[i] = new Chunk(Arrays.copyOfRange(sorted, from, to),
+                    keys == null ? null : Arrays.copyOfRange(keys, from, to));
+            ends[i] = to;
+        }
+        return new SortedIds(chunks, ends, keys != null);
+    }
+
+    /**
+     * Get a chunked list with the ids of a sorted list
+     * @param sorted the sorted ids, returned as is if it already is a chunked list
+     * @return the chunked list
+     */
+    public static SortedIds copyOf(List<String> sorted) {
+        return sorted instanceof SortedIds ids ? ids : of(sorted.toArray(String[]::new));
+    }
+
+    @Override
+    public String get(int index) {
+        int chunk = chunkOf(index);
+        return chunks[chunk].ids()[index - start(chunk)];
+    }
+
+    @Override
+    public int size() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+
+    /**
+     * Find the first position with a key greater than the given value
+     * @param value the value to search past
+     * @return the position, or the size of the list if every key is lower or equal
+     */
+    public int firstAbove(long value) {
+        if (!keyed) {
+            throw new IllegalStateException("The list has no keys");
+        }
+        int low = 0;
+        int high = chunks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            long[] keys = chunks[middle].keys();
+            if (keys[keys.length - 1] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == chunks.length) {
+            return size();
+        }
+        long[] keys = chunks[low].keys();
+        int position = 0;
+        int end = keys.length;
+        while (position < end) {
+            int middle = (position + end) >>> 1;
+            if (keys[middle] <= value) {
+                position = middle + 1;
+            } else {
+                end = middle;
+            }
+        }
+        return start(low) + position;
+    }
+
+    /**
+     * Create the list holding the ids of this one without the removed ids and with the added ones
+     * Removed ids are located with the order this list was sorted by, added ids with the order of the new list.
+     * Both orders must agree on every id that is neither removed nor added.
+     * @param removed the ids to drop, ids not in the list are ignored
+     * @param removedOrder the order of this list, able to compare the removed ids
+     * @param added the ids to insert, none of them in the list unless also removed
+     * @param order the order of the new list, able to compare the added ids
+     * @param key the key of an added id, null for a list without keys
+     * @return the new list, sharing every untouched chunk with this one
+     */
+    public SortedIds update(Collection<String> removed, Comparator<String> removedOrder,
+                            Collection<String> added, Comparator<String> order, ToLongFunction<String> key) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return this;
+        }
+        Map<Integer, List<Integer>> removedOffsets = new HashMap<>();
+        for (String id : removed) {
+            int chunk = chunkFor(id, removedOrder);
+            if (chunk < chunks.length) {
+                int offset = Arrays.binarySearch(chunks[chunk].ids(), id, removedOrder);
+                if (offset >= 0) {
+                    removedOffsets.computeIfAbsent(chunk, index -> new ArrayList<>()).add(offset);
+                }
+            }
+        }
+
+        List<Object> directory = new ArrayList<>(chunks.length + 1);
+        for (int i = 0; i < chunks.length; i++) {
+            List<Integer> offsets = removedOffsets.get(i);
+            if (offsets == null) {
+                directory.add(chunks[i]);
+            } else {
+                EditableChunk edited = new EditableChunk(chunks[i], offsets);
+                if (edited.ids.size() > 0) {
+                    directory.add(edited);
+                }
+            }
+        }
+
+        String[] additions = added.toArray(String[]::new);
+        Arrays.sort(additions, order);
+        for (String id : additions) {
+            int index = directoryIndexFor(directory, id, order);
+            EditableChunk chunk;
+            if (index == directory.size()) {
+                chunk = new EditableChunk();
+                directory.add(chunk);
+            } else if (directory.get(index) instanceof Chunk shared) {
+                chunk = new EditableChunk(shared, List.of());
+                directory.set(index, chunk);
+            } else {
+                chunk = (EditableChunk) directory.get(index);
+            }
+            chunk.insert(id, order, key);
+        }
+
+        List<Chunk> nextChunks = new ArrayList<>(directory.size() + 1);
+        for (Object entry : directory) {
+            if (entry instanceof Chunk shared) {
+                nextChunks.add(shared);
+            } else {
+                ((EditableChunk) entry).freezeInto(nextChunks, keyed || key != null);
+            }
+        }
+        if (nextChunks.isEmpty()) {
+            return EMPTY;
+        }
+        int[] nextEnds = new int[nextChunks.size()];
+        int total = 0;
+        for (int i = 0; i < nextEnds.length; i++) {
+            total += nextChunks.get(i).ids().length;
+            nextEnds[i] = total;
+        }
+        return new SortedIds(nextChunks.toArray(Chunk[]::new), nextEnds, keyed || key != null);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int chunk;
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            public String next() {
+                if (chunk >= chunks.length) {
+                    throw new NoSuchElementException();
+                }
+                String[] ids = chunks[chunk].ids();
+                String id = ids[offset++];
+                if (offset == ids.length) {
+                    chunk++;
+                    offset = 0;
+                }
+                return id;
+            }
+        };
+    }
+
+    /**
+     * Get the number of chunks, shared or not, holding the ids
+     * @return the number of chunks
+     */
+    int chunkCount() {
+        return chunks.length;
+    }
+
+    /**
+     * Check whether a chunk of this list is shared with another list
+     * @param other the list to compare with
+     * @param chunk the chunk of this list
+     * @return true if the other list holds the same chunk instance
+     */
+    boolean sharesChunk(SortedIds other, int chunk) {
+        return Arrays.stream(other.chunks).anyMatch(candidate -> candidate == chunks[chunk]);
+    }
+
+    private int start(int chunk) {
+        return chunk == 0 ? 0 : ends[chunk - 1];
+    }
+
+    private int chunkOf(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        int low = 0;
+        int high = ends.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The chunk that holds the id if it is in the list: the last chunk starting at or before it
+     */
+    private int chunkFor(String id, Comparator<String> order) {
+        int low = 0;
+        int high = chunks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(chunks[middle].ids()[0], id) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low == 0 ? chunks.length : low - 1;
+    }
+
+    /**
+     * The directory entry an id is inserted into: the last one starting before it, or the first one
+     */
+    private static int directoryIndexFor(List<Object> directory, String id, Comparator<String> order) {
+        int low = 0;
+        int high = directory.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(first(directory.get(middle)), id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low == 0 ? 0 : low - 1;
+    }
+
+    private static String first(Object entry) {
+        return entry instanceof Chunk shared ? shared.ids()[0] : ((EditableChunk) entry).ids.get(0);
+    }
+
+    /**
+     * A chunk copied by an update, modified in place until the update completes
+     */
+    private static final class EditableChunk {
+
+        final List<String> ids;
+        long[] keys;
+
+        EditableChunk() {
+            this.ids = new ArrayList<>();
+        }
+
+        EditableChunk(Chunk chunk, List<Integer> removedOffsets) {
+            this.ids = new ArrayList<>(chunk.ids().length + 8);
+            int[] removed = removedOffsets.stream().mapToInt(Integer::intValue).sorted().toArray();
+            long[] keys = chunk.keys() == null ? null : new long[chunk.ids().length + 8];
+            int next = 0;
+            for (int i = 0; i < chunk.ids().length; i++) {
+                if (next < removed.length && removed[next] == i) {
+                    next++;
+                    continue;
+                }
+                if (keys != null) {
+                    keys[ids.size()] = chunk.keys()[i];
+                }
+                ids.add(chunk.ids()[i]);
+            }
+            this.keys = keys;
+        }
+
+        void insert(String id, Comparator<String> order, ToLongFunction<String> key) {
+            int position = Collections.binarySearch(ids, id, order);
+            position = position < 0 ? -position - 1 : position;
+            if (key != null) {
+                if (keys == null) {
+                    keys = new long[ids.size() + 8];
+                } else if (keys.length == ids.size()) {
+                    keys = Arrays.copyOf(keys, keys.length * 2);
+                }
+                System.arraycopy(keys, position, keys, position + 1, ids.size() - position);
+                keys[position] = key.applyAsLong(id);
+            }
+            ids.add(position, id);
+        }
+
+        void freezeInto(List<Chunk> chunks, boolean keyed) {
+            int size = ids.size();
+            int pieces = size <= MAX_CHUNK ? 1 : (size + BUILD_CHUNK - 1) / BUILD_CHUNK;
+            for (int piece = 0; piece < pieces; piece++) {
+                int from = size * piece / pieces;
+                int to = size * (piece + 1) / pieces;
+                chunks.add(new Chunk(ids.subList(from, to).toArray(String[]::new),
+                        keyed ? Arrays.copyOfRange(keys, from, to) : null));
+            }
+        }
+    }
+}
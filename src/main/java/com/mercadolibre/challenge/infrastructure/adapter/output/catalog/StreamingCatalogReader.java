@@ -0,0 +1,88 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.domain.model.Product;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads a JSON array of products one element at a time using Jackson's streaming API
+ * Only the product being parsed is held in memory besides what the consumer keeps
+ */
+@Slf4j
+public class StreamingCatalogReader {
+
+    private final ObjectMapper objectMapper;
+    private final int progressInterval;
+
+    public StreamingCatalogReader(ObjectMapper objectMapper, int progressInterval) {
+        this.objectMapper = objectMapper;
+        this.progressInterval = Math.max(1, progressInterval);
+    }
+
+    /**
+     * Read every product in the file and hand it to the consumer
+     * @param file the JSON file containing a top-level array of products
+     * @param consumer the callback receiving each parsed product
+     * @return the number of products read
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public long read(File file, Consumer<Product> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(file)) {
+            return read(parser, file.getPath(), file.length(), consumer);
+        }
+    }
+
+    /**
+     * Read every product in the stream and hand it to the consumer
+     * @param inputStream the stream containing a top-level array of products
+     * @param source a description of the stream origin used in messages
+     * @param totalBytes the expected number of bytes in the stream, used to report progress
+     * @param consumer the callback receiving each parsed product
+     * @return the number of products read
+     * @throws IOException if the stream cannot be read or parsed
+     */
+    public long read(InputStream inputStream, String source, long totalBytes, Consumer<Product> consumer)
+            throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            return read(parser, source, totalBytes, consumer);
+        }
+    }
+
+    private long read(JsonParser parser, String source, long totalBytes, Consumer<Product> consumer)
+            throws IOException {
+        long count = 0;
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return 0;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new InitializationException("Expected a JSON array of products in " + source);
+        }
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new InitializationException("Expected a product object in " + source + " but found " + token
+                        + " at byte "
+                        + parser.currentLocation().getByteOffset());
+            }
+            consumer.accept(objectMapper.readValue(parser, Product.class));
+            count++;
+
+            if (count % progressInterval == 0) {
+                long bytesRead = parser.currentLocation().getByteOffset();
+                log.info("Loaded {} products from {} ({}% of {} bytes)",
+                        count, source, totalBytes > 0 ? bytesRead * 100 / totalBytes : 100, totalBytes);
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,535 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Prefix completions of a snapshot over the title terms and types of its products
+ * Every completion weighs the sum of the ratings of the products holding it, so words shared by many well
+ * rated products come first. Completions live in an array based trie where every node keeps its best
+ * completions, so a suggestion walks one node per prefix character and copies a precomputed list.
+ * <p>
+ * Later snapshots keep the trie and record the completions whose weight changed in a small overlay. Every
+ * node on the path of a changed completion gets a patched list, merged from the lists of its children when the
+ * snapshot is created, so a suggestion still copies a precomputed list. Once the overlay grows past a fraction
+ * of the completions the trie is rebuilt from the updated weights.
+ */
+public final class SuggestIndex {
+
+    /** The number of completions kept for every prefix */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    // Rebuild once the overlay reaches this fraction of the completions
+    private static final int COMPACTION_DIVISOR = 32;
+    private static final SuggestIndex EMPTY = fromSorted(new String[0], new int[0], new long[0]);
+    private static final Comparator<Completion> BEST_FIRST = Comparator.comparingLong(Completion::weight).reversed()
+            .thenComparing(Completion::text);
+
+    // Completions of the trie, sorted, with the number of products holding each one and their weight
+    private final String[] texts;
+    private final int[] counts;
+    private final long[] weights;
+    private final Trie trie;
+    // Completions whose products changed since the trie was built, a count of 0 removes the completion
+    private final NavigableMap<String, Completion> overlay;
+    // Overlaid completions that are not in the trie
+    private final NavigableMap<String, Completion> fresh;
+    // Best completions of the nodes on the path of an overlaid completion, replacing their precomputed list
+    private final PersistentMap<Integer, Completion[]> patched;
+
+    /**
+     * A completion and the products holding it
+     * @param text the completion
+     * @param count the number of products holding it
+     * @param weight the sum of the ratings of those products, in hundredths
+     */
+    private record Completion(String text, int count, long weight) {
+    }
+
+    private SuggestIndex(String[] texts, int[] counts, long[] weights, Trie trie,
+                         NavigableMap<String, Completion> overlay, NavigableMap<String, Completion> fresh,
+                         PersistentMap<Integer, Completion[]> patched) {
+        this.texts = texts;
+        this.counts = counts;
+        this.weights = weights;
+        this.trie = trie;
+        this.overlay = overlay;
+        this.fresh = fresh;
+        this.patched = patched;
+    }
+
+    /**
+     * Get the completions of an empty catalog
+     * @return an empty index
+     */
+    public static SuggestIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Collect the completions of every product of a catalog
+     * @param products the products
+     * @return the index
+     */
+    public static SuggestIndex build(Iterable<Product> products) {
+        Map<String, long[]> totals = new HashMap<>();
+        for (Product product : products) {
+            long weight = weight(product);
+            for (String text : completions(product)) {
+                long[] total = totals.computeIfAbsent(text, key -> new long[2]);
+                total[0]++;
+                total[1] += weight;
+            }
+        }
+        String[] texts = totals.keySet().toArray(String[]::new);
+        Arrays.parallelSort(texts);
+        int[] counts = new int[texts.length];
+        long[] weights = new long[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            long[] total = totals.get(texts[i]);
+            counts[i] = (int) total[0];
+            weights[i] = total[1];
+        }
+        return fromSorted(texts, counts, weights);
+    }
+
+    /**
+     * Get the number of completions in the trie
+     * @return the number of completions
+     */
+    public int completionCount() {
+        return texts.length;
+    }
+
+    /**
+     * Get the best completions of a prefix
+     * The prefix is folded like product text, so "Cám" completes to "camara".
+     * @param prefix the prefix typed so far
+     * @param limit the maximum number of completions, at most {@link #MAX_SUGGESTIONS}
+     * @return the completions, best first
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String normalized = TextAnalyzer.normalize(prefix);
+        int wanted = Math.min(limit, MAX_SUGGESTIONS);
+        if (normalized.isEmpty() || wanted <= 0) {
+            return List.of();
+        }
+        int node = trie.find(normalized);
+        Completion[] best;
+        if (node >= 0) {
+            best = patched.get(node);
+            if (best == null) {
+                String[] suggestions = new String[Math.min(wanted, trie.topLengths[node])];
+                for (int i = 0; i < suggestions.length; i++) {
+                    suggestions[i] = texts[trie.top[trie.topStarts[node] + i]];
+                }
+                return Collections.unmodifiableList(Arrays.asList(suggestions));
+            }
+        } else if (fresh.isEmpty()) {
+            return List.of();
+        } else {
+            // Only completions added after the trie was built can start with a prefix it does not hold
+            Best candidates = new Best();
+            fresh.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()
+                    .forEach(candidates::offer);
+            best = candidates.toArray();
+        }
+        String[] suggestions = new String[Math.min(wanted, best.length)];
+        for (int i = 0; i < suggestions.length; i++) {
+            suggestions[i] = best[i].text();
+        }
+        return Collections.unmodifiableList(Arrays.asList(suggestions));
+    }
+
+    /**
+     * Create the index of the next snapshot
+     * @param changes the changes that produce the next snapshot
+     * @return the new index, or this index if no change touches a title, type or rating
+     */
+    SuggestIndex apply(List<CatalogDiff.Change> changes) {
+        Map<String, long[]> deltas = new HashMap<>();
+        for (CatalogDiff.Change change : changes) {
+            if (!changesCompletions(change)) {
+                continue;
+            }
+            if (change.before() != null) {
+                addDelta(deltas, change.before(), -1);
+            }
+            if (change.after() != null) {
+                addDelta(deltas, change.after(), 1);
+            }
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        if (deltas.isEmpty()) {
+            return this;
+        }
+
+        TreeMap<String, Completion> nextOverlay = new TreeMap<>(overlay);
+        TreeMap<String, Completion> nextFresh = new TreeMap<>(fresh);
+        // Nodes on the path of every changed completion, with their prefix
+        TreeMap<Integer, String> touched = new TreeMap<>(Comparator.reverseOrder());
+        deltas.forEach((text, delta) -> {
+            Completion current = completion(text);
+            Completion next = new Completion(text, current.count() + (int) delta[0], current.weight() + delta[1]);
+            boolean inTrie = Arrays.binarySearch(texts, text) >= 0;
+            if (next.count() == 0 && !inTrie) {
+                nextOverlay.remove(text);
+                nextFresh.remove(text);
+            } else {
+                nextOverlay.put(text, next);
+                if (!inTrie) {
+                    nextFresh.put(text, next);
+                }
+            }
+            int node = 0;
+            for (int depth = 0; node >= 0; depth++) {
+                touched.put(node, text.substring(0, depth));
+                node = depth < text.length() ? trie.child(node, text.charAt(depth)) : -1;
+            }
+        });
+        if (nextOverlay.size() > Math.max(MIN_COMPACTION_THRESHOLD, texts.length / COMPACTION_DIVISOR)) {
+            return compact(nextOverlay);
+        }
+
+        // Children are numbered after their parent, so walking down the node numbers patches them first
+        PersistentMap.Transient<Integer, Completion[]> nextPatched = patched.asTransient();
+        touched.forEach((node, prefix) -> nextPatched.put(node, best(node, prefix, nextFresh, nextOverlay, nextPatched)));
+        return new SuggestIndex(texts, counts, weights, trie, Collections.unmodifiableNavigableMap(nextOverlay),
+                Collections.unmodifiableNavigableMap(nextFresh), nextPatched.persistent());
+    }
+
+    /**
+     * Merge the best completions of a node from its own completion, the lists of its children and the
+     * completions added below it that no child holds
+     */
+    private Completion[] best(int node, String prefix, NavigableMap<String, Completion> nextFresh,
+                              NavigableMap<String, Completion> nextOverlay,
+                              PersistentMap.Transient<Integer, Completion[]> nextPatched) {
+        Best candidates = new Best();
+        int text = trie.texts[node];
+        if (text >= 0) {
+            Completion overlaid = nextOverlay.get(texts[text]);
+            candidates.offer(overlaid == null ? new Completion(texts[text], counts[text], weights[text]) : overlaid);
+        }
+        for (int child = trie.firstChildren[node]; child < trie.firstChildren[node] + trie.childCounts[node]; child++) {
+            Completion[] childBest = nextPatched.get(child);
+            if (childBest != null) {
+                for (Completion completion : childBest) {
+                    candidates.offer(completion);
+                }
+                continue;
+            }
+            for (int i = trie.topStarts[child]; i < trie.topStarts[child] + trie.topLengths[child]; i++) {
+                int candidate = trie.top[i];
+                if (candidates.ranks(texts[candidate], weights[candidate])) {
+                    candidates.offer(new Completion(texts[candidate], counts[candidate], weights[candidate]));
+                }
+            }
+        }
+        int depth = prefix.length();
+        for (Completion added : nextFresh.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (added.text().length() == depth || trie.child(node, added.text().charAt(depth)) < 0) {
+                candidates.offer(added);
+            }
+        }
+        return candidates.toArray();
+    }
+
+    private Completion completion(String text) {
+        Completion overlaid = overlay.get(text);
+        if (overlaid != null) {
+            return overlaid;
+        }
+        int index = Arrays.binarySearch(texts, text);
+        return index < 0 ? new Completion(text, 0, 0) : new Completion(text, counts[index], weights[index]);
+    }
+
+    private SuggestIndex compact(NavigableMap<String, Completion> nextOverlay) {
+        List<Completion> merged = new ArrayList<>(texts.length + nextOverlay.size());
+        Iterator<Completion> overlaid = nextOverlay.values().iterator();
+        Completion pending = overlaid.hasNext() ? overlaid.next() : null;
+        int next = 0;
+        while (next < texts.length || pending != null) {
+            int order = pending == null ? 1 : next == texts.length ? -1 : pending.text().compareTo(texts[next]);
+            if (order > 0) {
+                merged.add(new Completion(texts[next], counts[next], weights[next]));
+                next++;
+                continue;
+            }
+            if (pending.count() > 0) {
+                merged.add(pending);
+            }
+            if (order == 0) {
+                next++;
+            }
+            pending = overlaid.hasNext() ? overlaid.next() : null;
+        }
+
+        String[] nextTexts = new String[merged.size()];
+        int[] nextCounts = new int[merged.size()];
+        long[] nextWeights = new long[merged.size()];
+        for (int i = 0; i < nextTexts.length; i++) {
+            nextTexts[i] = merged.get(i).text();
+            nextCounts[i] = merged.get(i).count();
+            nextWeights[i] = merged.get(i).weight();
+        }
+        return fromSorted(nextTexts, nextCounts, nextWeights);
+    }
+
+    private static SuggestIndex fromSorted(String[] texts, int[] counts, long[] weights) {
+        return new SuggestIndex(texts, counts, weights, Trie.build(texts, weights), Collections.emptyNavigableMap(),
+                Collections.emptyNavigableMap(), PersistentMap.empty());
+    }
+
+    private static void addDelta(Map<String, long[]> deltas, Product product, int sign) {
+        long weight = weight(product);
+        for (String text : completions(product)) {
+            long[] delta = deltas.computeIfAbsent(text, key -> new long[2]);
+            delta[0] += sign;
+            delta[1] += sign * weight;
+        }
+    }
+
+    private static Set<String> completions(Product product) {
+        Set<String> completions = new LinkedHashSet<>(TextAnalyzer.terms(product.getTitle()));
+        String type = TextAnalyzer.normalize(product.getType());
+        if (!type.isEmpty()) {
+            completions.add(type);
+        }
+        return completions;
+    }
+
+    private static long weight(Product product) {
+        return product.getRating() == null ? 0 : Math.round(product.getRating() * 100);
+    }
+
+    private static boolean changesCompletions(CatalogDiff.Change change) {
+        return !change.isUpdate()
+                || !Objects.equals(change.before().getTitle(), change.after().getTitle())
+                || !Objects.equals(change.before().getType(), change.after().getType())
+                || !Objects.equals(change.before().getRating(), change.after().getRating());
+    }
+
+    /**
+     * The best {@value #MAX_SUGGESTIONS} completions offered so far, best first
+     * Completions with a count of 0 were removed from the catalog and are skipped.
+     */
+    private static final class Best {
+        private final Completion[] best = new Completion[MAX_SUGGESTIONS];
+        private int length;
+
+        boolean ranks(String text, long weight) {
+            if (length < MAX_SUGGESTIONS) {
+                return true;
+            }
+            Completion last = best[length - 1];
+            return weight > last.weight() || (weight == last.weight() && text.compareTo(last.text()) < 0);
+        }
+
+        void offer(Completion completion) {
+            if (completion.count() == 0 || !ranks(completion.text(), completion.weight())) {
+                return;
+            }
+            int position = length == MAX_SUGGESTIONS ? length - 1 : length++;
+            while (position > 0 && BEST_FIRST.compare(completion, best[position - 1]) < 0) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = completion;
+        }
+
+        Completion[] toArray() {
+            return Arrays.copyOf(best, length);
+        }
+    }
+
+    /**
+     * Character trie over sorted completions, stored in parallel arrays
+     * Nodes are numbered breadth first so the children of a node are contiguous and sorted by label.
+     * Every node points to a range of {@link #top} holding its best completions, a node with a single
+     * child and no completion of its own shares the range of that child.
+     */
+    private static final class Trie {
+        private final char[] labels;
+        private final int[] firstChildren;
+        private final int[] childCounts;
+        // The completion ending at each node, or -1
+        private final int[] texts;
+        private final int[] topStarts;
+        private final int[] topLengths;
+        private final int[] top;
+
+        private Trie(char[] labels, int[] firstChildren, int[] childCounts, int[] texts,
+                     int[] topStarts, int[] topLengths, int[] top) {
+            this.labels = labels;
+            this.firstChildren = firstChildren;
+            this.childCounts = childCounts;
+            this.texts = texts;
+            this.topStarts = topStarts;
+            this.topLengths = topLengths;
+            this.top = top;
+        }
+
+        static Trie build(String[] sortedTexts, long[] weights) {
+            // Every node covers the range of sorted completions sharing its prefix
+            IntArray from = new IntArray();
+            IntArray to = new IntArray();
+            IntArray depths = new IntArray();
+            IntArray labels = new IntArray();
+            IntArray firstChildren = new IntArray();
+            IntArray childCounts = new IntArray();
+            IntArray texts = new IntArray();
+            from.add(0);
+            to.add(sortedTexts.length);
+            depths.add(0);
+            labels.add(0);
+            for (int node = 0; node < from.size(); node++) {
+                int next = from.get(node);
+                int end = to.get(node);
+                int depth = depths.get(node);
+                // A completion sorts before every longer completion it is a prefix of
+                if (next < end && sortedTexts[next].length() == depth) {
+                    texts.add(next++);
+                } else {
+                    texts.add(-1);
+                }
+                firstChildren.add(from.size());
+                while (next < end) {
+                    char label = sortedTexts[next].charAt(depth);
+                    int childEnd = next + 1;
+                    while (childEnd < end && sortedTexts[childEnd].charAt(depth) == label) {
+                        childEnd++;
+                    }
+                    from.add(next);
+                    to.add(childEnd);
+                    depths.add(depth + 1);
+                    labels.add(label);
+                    next = childEnd;
+                }
+                childCounts.add(from.size() - firstChildren.get(node));
+            }
+
+            int nodes = from.size();
+            char[] nodeLabels = new char[nodes];
+            for (int node = 0; node < nodes; node++) {
+                nodeLabels[node] = (char) labels.get(node);
+            }
+            int[] topStarts = new int[nodes];
+            int[] topLengths = new int[nodes];
+            IntArray top = new IntArray();
+            int[] best = new int[MAX_SUGGESTIONS];
+            // Children are numbered after their parent, so walking backwards sees them first
+            for (int node = nodes - 1; node >= 0; node--) {
+                int text = texts.get(node);
+                int firstChild = firstChildren.get(node);
+                int childCount = childCounts.get(node);
+                if (text < 0 && childCount == 1) {
+                    topStarts[node] = topStarts[firstChild];
+                    topLengths[node] = topLengths[firstChild];
+                    continue;
+                }
+                int length = 0;
+                if (text >= 0) {
+                    best[length++] = text;
+                }
+                for (int child = firstChild; child < firstChild + childCount; child++) {
+                    for (int i = 0; i < topLengths[child]; i++) {
+                        int candidate = top.get(topStarts[child] + i);
+                        if (length == MAX_SUGGESTIONS && !better(candidate, best[length - 1], weights)) {
+                            // Child lists are best first, the rest of this one cannot rank either
+                            break;
+                        }
+                        int position = length == MAX_SUGGESTIONS ? length - 1 : length++;
+                        while (position > 0 && better(candidate, best[position - 1], weights)) {
+                            best[position] = best[position - 1];
+                            position--;
+                        }
+                        best[position] = candidate;
+                    }
+                }
+                topStarts[node] = top.size();
+                topLengths[node] = length;
+                for (int i = 0; i < length; i++) {
+                    top.add(best[i]);
+                }
+            }
+            return new Trie(nodeLabels, firstChildren.toArray(), childCounts.toArray(), texts.toArray(),
+                    topStarts, topLengths, top.toArray());
+        }
+
+        /**
+         * Walk the trie along a prefix
+         * @param prefix the normalized prefix
+         * @return the node of the prefix, or -1 if no completion starts with it
+         */
+        int find(String prefix) {
+            int node = 0;
+            for (int i = 0; i < prefix.length() && node >= 0; i++) {
+                node = child(node, prefix.charAt(i));
+            }
+            return node;
+        }
+
+        private int child(int node, char label) {
+            int low = firstChildren[node];
+            int high = low + childCounts[node] - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (labels[middle] < label) {
+                    low = middle + 1;
+                } else if (labels[middle] > label) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean better(int text, int other, long[] weights) {
+            // Completions are numbered in sorted order, so the lower number wins a tie
+            return weights[text] > weights[other] || (weights[text] == weights[other] && text < other);
+        }
+    }
+
+    /**
+     * Growable int array
+     */
+    private static final class IntArray {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
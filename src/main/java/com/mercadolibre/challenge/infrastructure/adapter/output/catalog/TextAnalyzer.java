@@ -0,0 +1,87 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits product text into search terms
+ * Text is split on anything that is not a letter or a digit, lower cased, and Spanish accents are folded
+ * so "Batería" and "bateria" produce the same term. Very common Spanish words are dropped, they match
+ * almost every product and would only make the index bigger.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "o", "para", "por",
+            "que", "se", "sin", "su", "sus", "un", "una", "y");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Get the terms of a text in the order they appear
+     * @param text the text, may be null
+     * @return the terms, repeated as many times as they appear
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(c));
+            } else {
+                addTerm(terms, term);
+            }
+        }
+        addTerm(terms, term);
+        return terms;
+    }
+
+    /**
+     * Fold the case and accents of a text the same way terms are folded, keeping stop words
+     * Runs of characters that are not letters or digits become a single space.
+     * @param text the text, may be null
+     * @return the folded text, empty if the text has no letters or digits
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            } else if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        int length = normalized.length();
+        return length > 0 && normalized.charAt(length - 1) == ' ' ? normalized.substring(0, length - 1) : normalized.toString();
+    }
+
+    private static void addTerm(List<String> terms, StringBuilder term) {
+        if (term.isEmpty()) {
+            return;
+        }
+        String value = term.toString();
+        term.setLength(0);
+        if (!STOP_WORDS.contains(value)) {
+            terms.add(value);
+        }
+    }
+}
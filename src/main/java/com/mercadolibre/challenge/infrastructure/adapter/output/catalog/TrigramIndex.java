@@ -0,0 +1,258 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Character trigram index over the distinct terms of product titles, used to correct misspelled query terms
+ * Terms are padded with a boundary mark so "sam" yields "$sa", "sam" and "am$". A term within k edits of
+ * another one keeps all but at most 3k of its distinct trigrams, so only terms sharing that many trigrams
+ * and with a close length are confirmed with a Levenshtein distance bounded by k.
+ * <p>
+ * Terms are never removed, a term no product holds any more simply matches nothing in the search index.
+ * New terms of later snapshots are kept in a small set checked one by one, and the index is rebuilt from
+ * the catalog titles once that set grows past a fraction of the vocabulary.
+ */
+final class TrigramIndex {
+
+    static final TrigramIndex EMPTY = new TrigramIndex(new String[0], Map.of(), Set.of());
+
+    // Keep at most this many corrections of a single query term, closest first
+    private static final int MAX_EXPANSIONS = 16;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    // Rebuild once the added terms reach this fraction of the vocabulary
+    private static final int COMPACTION_DIVISOR = 32;
+    private static final char BOUNDARY = '$';
+    private static final Comparator<Correction> CLOSEST_FIRST = Comparator.comparingInt(Correction::distance)
+            .thenComparing(Correction::term);
+
+    // The vocabulary, sorted, and the trigrams of its terms as increasing term numbers
+    private final String[] terms;
+    private final Map<String, int[]> postings;
+    private final Set<String> added;
+
+    /**
+     * A vocabulary term close to a query term
+     * @param term the vocabulary term
+     * @param distance the number of edits between both terms
+     */
+    record Correction(String term, int distance) {
+    }
+
+    private TrigramIndex(String[] terms, Map<String, int[]> postings, Set<String> added) {
+        this.terms = terms;
+        this.postings = postings;
+        this.added = added;
+    }
+
+    /**
+     * Index the title terms of every product of a catalog
+     * @param products the products
+     * @return the index
+     */
+    static TrigramIndex build(Collection<Product> products) {
+        Set<String> vocabulary = products.parallelStream()
+                .flatMap(product -> TextAnalyzer.terms(product.getTitle()).stream())
+                .collect(HashSet::new, Set::add, Set::addAll);
+        String[] terms = vocabulary.toArray(String[]::new);
+        Arrays.parallelSort(terms);
+
+        Map<String, IntList> lists = new HashMap<>();
+        for (int term = 0; term < terms.length; term++) {
+            for (String trigram : trigrams(terms[term])) {
+                lists.computeIfAbsent(trigram, key -> new IntList()).add(term);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((trigram, list) -> postings.put(trigram, list.toArray()));
+        return new TrigramIndex(terms, Collections.unmodifiableMap(postings), Set.of());
+    }
+
+    /**
+     * Get the number of terms, including the ones added since the index was built
+     * @return the number of terms
+     */
+    int termCount() {
+        return terms.length + added.size();
+    }
+
+    /**
+     * Create the index of the next snapshot
+     * @param changes the changes that produce the next snapshot
+     * @param nextProducts the products of the next snapshot by id
+     * @return the new index, or this index if no title brings a new term
+     */
+    TrigramIndex apply(List<CatalogDiff.Change> changes, Map<String, Product> nextProducts) {
+        Set<String> nextAdded = null;
+        for (CatalogDiff.Change change : changes) {
+            if (change.after() == null
+                    || (change.before() != null && Objects.equals(change.before().getTitle(), change.after().getTitle()))) {
+                continue;
+            }
+            for (String term : TextAnalyzer.terms(change.after().getTitle())) {
+                if (Arrays.binarySearch(terms, term) < 0 && !added.contains(term)) {
+                    if (nextAdded == null) {
+                        nextAdded = new HashSet<>(added);
+                    }
+                    nextAdded.add(term);
+                }
+            }
+        }
+        if (nextAdded == null) {
+            return this;
+        }
+        if (nextAdded.size() > Math.max(MIN_COMPACTION_THRESHOLD, terms.length / COMPACTION_DIVISOR)) {
+            return build(nextProducts.values());
+        }
+        return new TrigramIndex(terms, postings, Collections.unmodifiableSet(nextAdded));
+    }
+
+    /**
+     * Find the vocabulary terms within the allowed number of edits of a term
+     * Terms of up to 2 characters are only matched exactly, up to 5 characters may have one edit and longer
+     * terms two.
+     * @param term an analyzed query term
+     * @return the closest terms, the term itself first if it is in the vocabulary
+     */
+    List<Correction> corrections(String term) {
+        int maxEdits = maxEdits(term);
+        List<Correction> corrections = new ArrayList<>();
+        for (String candidate : added) {
+            addIfClose(corrections, term, candidate, maxEdits);
+        }
+
+        Set<String> trigrams = trigrams(term);
+        List<int[]> lists = new ArrayList<>();
+        for (String trigram : trigrams) {
+            int[] list = postings.get(trigram);
+            if (list != null) {
+                lists.add(list);
+            }
+        }
+        // Every edit removes at most 3 trigrams. Short terms may then share none with a match, one is still required
+        int minShared = Math.max(1, trigrams.size() - 3 * maxEdits);
+        int[] positions = new int[lists.size()];
+        while (true) {
+            int next = Integer.MAX_VALUE;
+            for (int i = 0; i < lists.size(); i++) {
+                if (positions[i] < lists.get(i).length) {
+                    next = Math.min(next, lists.get(i)[positions[i]]);
+                }
+            }
+            if (next == Integer.MAX_VALUE) {
+                break;
+            }
+            int shared = 0;
+            for (int i = 0; i < lists.size(); i++) {
+                if (positions[i] < lists.get(i).length && lists.get(i)[positions[i]] == next) {
+                    shared++;
+                    positions[i]++;
+                }
+            }
+            if (shared >= minShared) {
+                addIfClose(corrections, term, terms[next], maxEdits);
+            }
+        }
+
+        corrections.sort(CLOSEST_FIRST);
+        return corrections.size() > MAX_EXPANSIONS ? corrections.subList(0, MAX_EXPANSIONS) : corrections;
+    }
+
+    private static void addIfClose(List<Correction> corrections, String term, String candidate, int maxEdits) {
+        if (Math.abs(term.length() - candidate.length()) > maxEdits) {
+            return;
+        }
+        int distance = distance(term, candidate, maxEdits);
+        if (distance <= maxEdits) {
+            corrections.add(new Correction(candidate, distance));
+        }
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Levenshtein distance computed only along the diagonal band that can stay within the bound
+     * @param left a term
+     * @param right another term
+     * @param bound the largest distance of interest
+     * @return the distance, or bound + 1 if it is larger than the bound
+     */
+    static int distance(String left, String right, int bound) {
+        int over = bound + 1;
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j <= bound ? j : over;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            int from = Math.max(1, i - bound);
+            int to = Math.min(right.length(), i + bound);
+            current[0] = i <= bound ? i : over;
+            if (from > 1) {
+                current[from - 1] = over;
+            }
+            int best = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(over, Math.min(substitution, Math.min(deletion, insertion)));
+                best = Math.min(best, current[j]);
+            }
+            if (to < right.length()) {
+                current[to + 1] = over;
+            }
+            if (best > bound) {
+                return over;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    private static Set<String> trigrams(String term) {
+        String padded = BOUNDARY + term + BOUNDARY;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Growable list of increasing term numbers
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
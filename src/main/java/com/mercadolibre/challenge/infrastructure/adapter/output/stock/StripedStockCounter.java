@@ -0,0 +1,166 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.stock;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Stock counter of a single product, split across several stripes so concurrent buyers of the same
+ * product do not all compare-and-set the same memory word
+ * Each thread takes units from its own stripe first and only visits the other stripes when its stripe
+ * runs short. Every stripe is decremented with a compare-and-set that refuses to go below zero, so the
+ * total never goes negative. A reservation spanning several stripes that cannot be fully served returns
+ * what it took, which may briefly make another reservation see less stock than there is.
+ * Stripes are spaced one cache line apart to avoid false sharing.
+ */
+public class StripedStockCounter {
+
+    // Ints per 64 byte cache line
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int mask;
+    private final AtomicInteger held = new AtomicInteger();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * @param stock the initial stock, spread evenly across the stripes
+     * @param stripes the number of stripes, rounded up to a power of two
+     */
+    public StripedStockCounter(int stock, int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.cells = new AtomicIntegerArray(size * PADDING);
+        for (int stripe = 0; stripe < size; stripe++) {
+            cells.set(stripe * PADDING, stock / size + (stripe < stock % size ? 1 : 0));
+        }
+    }
+
+    /**
+     * Take units out of the available stock and hold them for a reservation
+     * @param quantity the number of units
+     * @return true if the units were taken, false if there is not enough stock
+     */
+    public boolean tryReserve(int quantity) {
+        int home = homeStripe();
+        if (!takeExactly(home, quantity)) {
+            int remaining = quantity;
+            for (int i = 1; i <= mask && remaining > 0; i++) {
+                remaining -= takeUpTo((home + i) & mask, remaining);
+            }
+            remaining -= remaining > 0 ? takeUpTo(home, remaining) : 0;
+            if (remaining > 0) {
+                cells.getAndAdd(home * PADDING, quantity - remaining);
+                return false;
+            }
+        }
+        held.addAndGet(quantity);
+        dirty.set(true);
+        return true;
+    }
+
+    /**
+     * Return held units to the available stock
+     * @param quantity the number of units
+     */
+    public void release(int quantity) {
+        cells.getAndAdd(homeStripe() * PADDING, quantity);
+        held.addAndGet(-quantity);
+        dirty.set(true);
+    }
+
+    /**
+     * Drop held units for good
+     * @param quantity the number of units
+     */
+    public void confirm(int quantity) {
+        held.addAndGet(-quantity);
+        dirty.set(true);
+    }
+
+    /**
+     * Add units to or take units from the available stock, for a stock level written over the counter
+     * Held units stay held, so when fewer units are available than taken the rest are only lost as the
+     * reservations holding them are confirmed, and come back if they are released.
+     * @param units the units to add, negative to take units
+     */
+    public void adjust(int units) {
+        if (units > 0) {
+            cells.getAndAdd(homeStripe() * PADDING, units);
+        } else {
+            int remaining = -units;
+            for (int i = 0; i <= mask && remaining > 0; i++) {
+                remaining -= takeUpTo(i, remaining);
+            }
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * @return the units that can still be reserved
+     */
+    public int available() {
+        int total = 0;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            total += cells.get(stripe * PADDING);
+        }
+        return total;
+    }
+
+    /**
+     * @return the units held by open reservations
+     */
+    public int held() {
+        return held.get();
+    }
+
+    /**
+     * @return the stock the product has, counting units held by open reservations
+     */
+    public int stock() {
+        return available() + held();
+    }
+
+    /**
+     * Clear the changed flag
+     * Must be called before reading the stock to persist, so a change made while reading sets it again
+     * @return true if the stock changed since the previous call
+     */
+    public boolean clearDirty() {
+        return dirty.getAndSet(false);
+    }
+
+    int stripes() {
+        return mask + 1;
+    }
+
+    private int homeStripe() {
+        return (int) Thread.currentThread().threadId() & mask;
+    }
+
+    private boolean takeExactly(int stripe, int quantity) {
+        int index = stripe * PADDING;
+        int current;
+        do {
+            current = cells.get(index);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!cells.compareAndSet(index, current, current - quantity));
+        return true;
+    }
+
+    private int takeUpTo(int stripe, int quantity) {
+        int index = stripe * PADDING;
+        int current;
+        int taken;
+        do {
+            current = cells.get(index);
+            if (current == 0) {
+                return 0;
+            }
+            taken = Math.min(current, quantity);
+        } while (!cells.compareAndSet(index, current, current - taken));
+        return taken;
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.challenge.infrastructure.config;
+
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import lombok.With;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the catalog data file, bound from the {@code app.data} properties
+ * @param filePath JSON file holding the catalog
+ * @param loadMode how the data file is parsed on load
+ * @param progressInterval products between progress log lines while loading
+ * @param parallelism worker threads of the PARALLEL load mode, 0 for the number of available processors
+ * @param binarySnapshot whether a binary copy of the catalog is kept next to the data file
+ * @param watch whether the catalog is reloaded when the data file changes
+ * @param watchDebounceMillis quiet period merging bursts of file events into a single reload
+ * @param oplog operation log settings
+ */
+@ConfigurationProperties(prefix = "app.data")
+@With
+public record CatalogProperties(@DefaultValue("data/products.json") String filePath,
+                                @DefaultValue("BULK") CatalogLoadMode loadMode,
+                                @DefaultValue("10000") int progressInterval,
+                                @DefaultValue("0") int parallelism,
+                                @DefaultValue("false") boolean binarySnapshot,
+                                @DefaultValue("false") boolean watch,
+                                @DefaultValue("500") long watchDebounceMillis,
+                                @DefaultValue Oplog oplog) {
+
+    /**
+     * Settings of the operation log
+     * @param compactionThreshold writes logged since the last compaction before the log is folded into the data file
+     */
+    @With
+    public record Oplog(@DefaultValue("10000") int compactionThreshold) {
+    }
+
+    /**
+     * Default settings for the given data file
+     */
+    public static CatalogProperties of(String filePath) {
+        return new CatalogProperties(filePath, CatalogLoadMode.BULK, 10000, 0, false, false, 500, new Oplog(10000));
+    }
+
+    public CatalogProperties withCompactionThreshold(int compactionThreshold) {
+        return withOplog(oplog.withCompactionThreshold(compactionThreshold));
+    }
+}
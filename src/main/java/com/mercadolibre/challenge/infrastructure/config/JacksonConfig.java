@@ -2,7 +2,10 @@ package com.mercadolibre.challenge.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -29,6 +32,10 @@ public class JacksonConfig {
         // Enable pretty printing for better readability of the JSON file
         objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
         
+        // Write every field of a product response unless a request selects some
+        objectMapper.setFilterProvider(new SimpleFilterProvider()
+                .addFilter(ProductResponseDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+        
         return objectMapper;
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mercadolibre.challenge.infrastructure.config;
+
+import lombok.With;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of cursor pagination, bound from the {@code app.pagination} properties
+ * @param cursorTtlSeconds how long a replaced catalog version stays readable by the cursors it issued
+ * @param maxRetainedSnapshots upper bound of replaced catalog versions kept at once, the oldest expire first
+ */
+@ConfigurationProperties(prefix = "app.pagination")
+@With
+public record PaginationProperties(@DefaultValue("300") long cursorTtlSeconds,
+                                   @DefaultValue("256") int maxRetainedSnapshots) {
+
+    /**
+     * Default pagination settings
+     */
+    public static PaginationProperties defaults() {
+        return new PaginationProperties(300, 256);
+    }
+}
@@ -0,0 +1,52 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogReloadResult;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogReloader;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint to inspect and reload the product catalog
+ * GET /actuator/catalog returns the current snapshot, POST /actuator/catalog reloads the data file
+ */
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class CatalogEndpoint {
+
+    private final ProductAdapter productAdapter;
+    private final CatalogReloader catalogReloader;
+
+    /**
+     * Describe the catalog snapshot serving reads
+     * @return the snapshot version, size, number of types and sellers and last reload outcome
+     */
+    @ReadOperation
+    public Map<String, Object> catalog() {
+        CatalogSnapshot snapshot = productAdapter.currentSnapshot();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("version", snapshot.version());
+        details.put("products", snapshot.size());
+        details.put("types", snapshot.productsByType().size());
+        details.put("sellers", snapshot.sellerIndex().sellerCount());
+        catalogReloader.getLastResult().ifPresent(result -> details.put("lastReload", result));
+        return details;
+    }
+
+    /**
+     * Reload the catalog from the data file and publish it atomically
+     * @return the outcome of the reload
+     */
+    @WriteOperation
+    public CatalogReloadResult reload() {
+        return catalogReloader.reload();
+    }
+}
@@ -0,0 +1,46 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request level metrics of the batch product endpoint:
+ * products.batch.size, products.batch.missing and products.batch.duration
+ */
+@Component
+public class ProductBatchMetrics {
+
+    private final DistributionSummary batchSize;
+    private final DistributionSummary missingIds;
+    private final Timer duration;
+
+    public ProductBatchMetrics(MeterRegistry meterRegistry) {
+        this.batchSize = DistributionSummary.builder("products.batch.size")
+                .description("Product ids requested per batch")
+                .baseUnit("ids")
+                .register(meterRegistry);
+        this.missingIds = DistributionSummary.builder("products.batch.missing")
+                .description("Requested ids without a product per batch")
+                .baseUnit("ids")
+                .register(meterRegistry);
+        this.duration = Timer.builder("products.batch.duration")
+                .description("Time spent answering a batch of products")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record an answered batch
+     * @param requested the number of ids requested
+     * @param missing the number of ids without a product
+     * @param elapsedNanos the time spent answering the batch
+     */
+    public void record(int requested, int missing, long elapsedNanos) {
+        batchSize.record(requested);
+        missingIds.record(missing);
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,11 +1,28 @@
 package com.mercadolibre.challenge.infrastructure.controller;
 
 import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.model.ProductSort;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import com.mercadolibre.challenge.domain.port.input.CreateProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.DeleteProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.FilterProductsUseCasePort;
 import com.mercadolibre.challenge.domain.port.input.GetAllProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.GetFacetedProductsUseCasePort;
 import com.mercadolibre.challenge.domain.port.input.GetProductByIdUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.GetProductsByIdsUseCasePort;
 import com.mercadolibre.challenge.domain.port.input.GetProductsByTypeUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.SearchProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.SuggestProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.UpdateProductUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.FacetedPageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.FilteredPageResponseDTO;
 import com.mercadolibre.challenge.infrastructure.dto.PageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductBatchRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductBatchResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductRequestDTO;
 import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
 import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,17 +31,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for product endpoints
- * Only provides functionality to get all products and get product by ID
+ * Provides functionality to query, create, update and delete products
  */
 @Tag(name = "Product", description = "Product management API")
 @RestController
@@ -36,7 +59,17 @@ public class ProductController {
     private final GetProductByIdUseCasePort getProductByIdUseCasePort;
     private final GetAllProductsUseCasePort getAllProductsUseCase;
     private final GetProductsByTypeUseCasePort getProductsByTypeUseCasePort;
+    private final CreateProductUseCasePort createProductUseCasePort;
+    private final UpdateProductUseCasePort updateProductUseCasePort;
+    private final DeleteProductUseCasePort deleteProductUseCasePort;
+    private final SearchProductsUseCasePort searchProductsUseCasePort;
+    private final SuggestProductsUseCasePort suggestProductsUseCasePort;
+    private final GetFacetedProductsUseCasePort getFacetedProductsUseCasePort;
+    private final FilterProductsUseCasePort filterProductsUseCasePort;
+    private final GetProductsByIdsUseCasePort getProductsByIdsUseCasePort;
     private final ProductMapper productMapper;
+    private final ProductBatchMetrics productBatchMetrics;
+    private final ProductNdjsonWriter productNdjsonWriter;
 
     /**
      * Get all products
@@ -48,35 +81,255 @@ public class ProductController {
                 content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = ProductResponseDTO.class)))
     })
-    @GetMapping
-    public CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> getAllProducts() {
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> getAllProducts(
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
         log.info("REST request to get all products");
+        ProductFields productFields = ProductFields.parse(fields);
         return getAllProductsUseCase.execute()
-                .thenApply(products -> ResponseEntity.ok(productMapper.toResponseDTOs(products)));
+                .thenApply(products -> ResponseEntity.ok(productMapper.toResponseDTOs(products, productFields)));
+    }
+
+    /**
+     * Export all products as newline delimited JSON
+     * @return a response that writes the products one at a time as the client reads them
+     */
+    @Operation(summary = "Export all products",
+            description = "Streams every product as one JSON object per line, in id order and from the same "
+                    + "catalog version, without building the whole response in memory. "
+                    + "Selected with Accept: application/x-ndjson")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Products streamed",
+                content = @Content(mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = ProductResponseDTO.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> exportProducts(
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to export all products");
+        ProductFields productFields = ProductFields.parse(fields);
+        return getAllProductsUseCase.stream()
+                .thenApply(products -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(output -> {
+                            long written = productNdjsonWriter.write(products, productFields, output);
+                            log.debug("Exported {} products", written);
+                        }));
     }
     
     /**
      * Get all products with pagination
      * @param page the page number (0-based)
      * @param size the page size
+     * @param cursor the nextCursor of the previous page, takes precedence over the page number
+     * @param sort the order of the products, id order if not given
+     * @param direction the direction of the order
+     * @param minPrice the minimum price, inclusive
+     * @param maxPrice the maximum price, inclusive
      * @return a page of products
      */
-    @Operation(summary = "Get all products with pagination", description = "Returns a page of products")
+    @Operation(summary = "Get all products with pagination",
+            description = "Returns a page of products, optionally sorted and filtered by price. "
+                    + "Pass the nextCursor of a page as cursor to get the next one from the same catalog version")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved page of products",
                 content = @Content(mediaType = "application/json",
-                schema = @Schema(implementation = PageResponseDTO.class)))
+                schema = @Schema(implementation = PageResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, sort or price range",
+                content = @Content)
     })
     @GetMapping("/page")
     public CompletableFuture<ResponseEntity<PageResponseDTO<ProductResponseDTO>>> getAllProductsPaginated(
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("REST request to get all products with pagination: page={}, size={}", page, size);
-        PageRequest pageRequest = PageRequest.of(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Sort by price, rating, stock or title", example = "price")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Sort direction, asc or desc", example = "asc")
+            @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Minimum price, inclusive. Price filtered pages are sorted by price unless another sort is given",
+                    example = "100.00")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price, inclusive", example = "500.00")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to get all products with pagination: page={}, size={}, cursor={}, sort={} {}, price={}-{}",
+                page, size, cursor, sort, direction, minPrice, maxPrice);
+        ProductFields productFields = ProductFields.parse(fields);
+        PageRequest pageRequest = toPageRequest(page, size, cursor, sort, direction)
+                .withPriceRange(minPrice, maxPrice);
         return getAllProductsUseCase.execute(pageRequest)
-                .thenApply(productPage -> ResponseEntity.ok(productMapper.toPageResponseDTO(productPage)));
+                .thenApply(productPage -> ResponseEntity.ok(productMapper.toPageResponseDTO(productPage, productFields)));
+    }
+
+    /**
+     * Get a page of the products matching a facet selection with the facet counts of the listing
+     * @param type the product types, any of them may match
+     * @param seller the seller ids, any of them may match
+     * @param paymentMethod the payment method ids, any of them may match
+     * @param minRating the minimum rating in whole stars
+     * @param inStock whether only products with stock are listed
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return a page of matching products in id order and the facet counts
+     */
+    @Operation(summary = "Get filtered products with facet counts",
+            description = "Returns a page of the products matching every selected facet, together with the number "
+                    + "of matching products for every type, seller, payment method, rating and stock value. "
+                    + "Counts of a facet ignore the selection made on that facet")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of products and facet counts",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = FacetedPageResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid minimum rating",
+                content = @Content)
+    })
+    @GetMapping("/faceted")
+    public CompletableFuture<ResponseEntity<FacetedPageResponseDTO>> getFacetedProducts(
+            @Parameter(description = "Product types", example = "smartphone")
+            @RequestParam(required = false) Set<String> type,
+            @Parameter(description = "Seller ids", example = "seller-001")
+            @RequestParam(required = false) Set<String> seller,
+            @Parameter(description = "Payment method ids", example = "pm-002")
+            @RequestParam(required = false) Set<String> paymentMethod,
+            @Parameter(description = "Minimum rating in whole stars, from 1 to 5", example = "4")
+            @RequestParam(required = false) Integer minRating,
+            @Parameter(description = "Only list products with stock", example = "true")
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to get faceted products: type={}, seller={}, paymentMethod={}, minRating={}, "
+                + "inStock={}, page={}, size={}", type, seller, paymentMethod, minRating, inStock, page, size);
+        ProductFilter filter = ProductFilter.builder()
+                .types(type == null ? Set.of() : type)
+                .sellerIds(seller == null ? Set.of() : seller)
+                .paymentMethodIds(paymentMethod == null ? Set.of() : paymentMethod)
+                .minRating(minRating)
+                .inStock(inStock)
+                .build();
+        ProductFields productFields = ProductFields.parse(fields);
+        return getFacetedProductsUseCasePort.execute(filter, PageRequest.of(page, size))
+                .thenApply(facetedPage -> ResponseEntity.ok(
+                        productMapper.toFacetedPageResponseDTO(facetedPage, productFields)));
+    }
+
+    /**
+     * Get a page of the products matching a filter expression
+     * @param q the filter expression
+     * @param explain whether to return the plan of the query
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return a page of matching products in id order, and the plan if requested
+     */
+    @Operation(summary = "Filter products with an expression",
+            description = "Returns a page of the products matching an expression such as "
+                    + "price < 500 AND rating >= 4.5 AND seller.rating > 4.7. Fields are id, type, price, rating, "
+                    + "stock, seller.id, seller.rating and paymentMethod, compared with =, !=, <, <=, > or >= and "
+                    + "combined with AND, OR, NOT and parentheses. With explain=true the response also shows the "
+                    + "index or scan chosen to answer it, its estimates and timings")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of matching products",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = FilteredPageResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid expression",
+                content = @Content)
+    })
+    @GetMapping("/filter")
+    public CompletableFuture<ResponseEntity<FilteredPageResponseDTO>> filterProducts(
+            @Parameter(description = "Filter expression", required = true,
+                    example = "price < 500 AND rating >= 4.5 AND seller.rating > 4.7")
+            @RequestParam String q,
+            @Parameter(description = "Return the plan of the query", example = "false")
+            @RequestParam(defaultValue = "false") boolean explain,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to filter products: q={}, explain={}, page={}, size={}", q, explain, page, size);
+        ProductFields productFields = ProductFields.parse(fields);
+        return filterProductsUseCasePort.execute(q, explain, PageRequest.of(page, size))
+                .thenApply(filteredPage -> ResponseEntity.ok(
+                        productMapper.toFilteredPageResponseDTO(filteredPage, productFields)));
+    }
+
+    /**
+     * Search products by the words of their title and description
+     * @param q the words to search for
+     * @param fuzzy whether words also match title words a few typos away
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return a page of matching products, best match first
+     */
+    @Operation(summary = "Search products",
+            description = "Returns the products whose title or description contains any of the words, "
+                    + "best match first. Case and accents are ignored. In fuzzy mode words also match "
+                    + "title words one edit away, or two for words longer than 5 characters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of matching products",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = PageResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Empty query",
+                content = @Content)
+    })
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<PageResponseDTO<ProductResponseDTO>>> searchProducts(
+            @Parameter(description = "Words to search for", required = true, example = "cámara samsung")
+            @RequestParam String q,
+            @Parameter(description = "Also match misspelled words", example = "false")
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to search products: q={}, fuzzy={}, page={}, size={}", q, fuzzy, page, size);
+        ProductFields productFields = ProductFields.parse(fields);
+        return searchProductsUseCasePort.execute(q, fuzzy, PageRequest.of(page, size))
+                .thenApply(productPage -> ResponseEntity.ok(productMapper.toPageResponseDTO(productPage, productFields)));
+    }
+
+    /**
+     * Complete the prefix typed in the search box
+     * @param prefix the prefix typed so far
+     * @param limit the maximum number of completions
+     * @return the completions, best first
+     */
+    @Operation(summary = "Suggest completions",
+            description = "Returns title words and product types starting with the prefix, the ones shared by "
+                    + "more and better rated products first. Case and accents are ignored")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved completions"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit",
+                content = @Content)
+    })
+    @GetMapping("/suggest")
+    public CompletableFuture<ResponseEntity<List<String>>> suggest(
+            @Parameter(description = "Prefix typed so far", example = "cam")
+            @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of completions, at most 10", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("REST request to suggest completions: prefix={}, limit={}", prefix, limit);
+        return suggestProductsUseCasePort.execute(prefix, limit)
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -95,14 +348,51 @@ public class ProductController {
     @GetMapping("/{id}")
     public CompletableFuture<ResponseEntity<ProductResponseDTO>> getProductById(
             @Parameter(description = "ID of the product to retrieve", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
         log.info("REST request to get product with id: {}", id);
+        ProductFields productFields = ProductFields.parse(fields);
         return getProductByIdUseCasePort.execute(id)
                 .thenApply(optionalProduct -> optionalProduct
-                        .map(product -> ResponseEntity.ok(productMapper.toResponseDTO(product)))
+                        .map(product -> ResponseEntity.ok(productMapper.toResponseDTO(product, productFields)))
                         .orElse(ResponseEntity.notFound().build()));
     }
     
+    /**
+     * Get many products by ID at once
+     * @param request the product IDs
+     * @return the products found, in request order, and the IDs without a product
+     */
+    @Operation(summary = "Get products by IDs",
+            description = "Returns the products with the given IDs, read together from the same catalog version, "
+                    + "and the IDs without a product. Repeated IDs are returned once, at most "
+                    + GetProductsByIdsUseCasePort.MAX_IDS + " distinct IDs per request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved products",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProductBatchResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "No IDs, a blank ID or too many IDs",
+                content = @Content)
+    })
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<ProductBatchResponseDTO>> getProductsByIds(
+            @Valid @RequestBody ProductBatchRequestDTO request,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.debug("REST request to get a batch of {} products", request.ids().size());
+        long start = System.nanoTime();
+        ProductFields productFields = ProductFields.parse(fields);
+        return getProductsByIdsUseCasePort.execute(request.ids())
+                .thenApply(batch -> {
+                    productBatchMetrics.record(request.ids().size(), batch.getMissingIds().size(),
+                            System.nanoTime() - start);
+                    return ResponseEntity.ok(productMapper.toProductBatchResponseDTO(batch, productFields));
+                });
+    }
+
     /**
      * Get products by type
      * @param type the product type to filter by
@@ -117,10 +407,14 @@ public class ProductController {
     @GetMapping("/type/{type}")
     public CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> getProductsByType(
             @Parameter(description = "Type of products to retrieve", required = true)
-            @PathVariable String type) {
+            @PathVariable String type,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
         log.info("REST request to get products with type: {}", type);
+        ProductFields productFields = ProductFields.parse(fields);
         return getProductsByTypeUseCasePort.execute(type)
-                .thenApply(products -> ResponseEntity.ok(productMapper.toResponseDTOs(products)));
+                .thenApply(products -> ResponseEntity.ok(productMapper.toResponseDTOs(products, productFields)));
     }
     
     /**
@@ -128,13 +422,22 @@ public class ProductController {
      * @param type the product type to filter by
      * @param page the page number (0-based)
      * @param size the page size
+     * @param cursor the nextCursor of the previous page, takes precedence over the page number
+     * @param sort the order of the products, id order if not given
+     * @param direction the direction of the order
+     * @param minPrice the minimum price, inclusive
+     * @param maxPrice the maximum price, inclusive
      * @return a page of products of the specified type
      */
-    @Operation(summary = "Get products by type with pagination", description = "Returns a page of products filtered by type")
+    @Operation(summary = "Get products by type with pagination",
+            description = "Returns a page of products filtered by type, optionally sorted and filtered by price. "
+                    + "Pass the nextCursor of a page as cursor to get the next one from the same catalog version")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved page of products",
                 content = @Content(mediaType = "application/json",
-                schema = @Schema(implementation = PageResponseDTO.class)))
+                schema = @Schema(implementation = PageResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, sort or price range",
+                content = @Content)
     })
     @GetMapping("/type/{type}/page")
     public CompletableFuture<ResponseEntity<PageResponseDTO<ProductResponseDTO>>> getProductsByTypePaginated(
@@ -143,11 +446,118 @@ public class ProductController {
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("REST request to get products with type: {} and pagination: page={}, size={}", 
-                type, page, size);
-        PageRequest pageRequest = PageRequest.of(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Sort by price, rating, stock or title", example = "price")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Sort direction, asc or desc", example = "asc")
+            @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Minimum price, inclusive. Price filtered pages are sorted by price unless another sort is given",
+                    example = "100.00")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price, inclusive", example = "500.00")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to get products with type: {} and pagination: page={}, size={}, cursor={}, sort={} {}, price={}-{}", 
+                type, page, size, cursor, sort, direction, minPrice, maxPrice);
+        ProductFields productFields = ProductFields.parse(fields);
+        PageRequest pageRequest = toPageRequest(page, size, cursor, sort, direction)
+                .withPriceRange(minPrice, maxPrice);
         return getProductsByTypeUseCasePort.execute(type, pageRequest)
-                .thenApply(productPage -> ResponseEntity.ok(productMapper.toPageResponseDTO(productPage)));
+                .thenApply(productPage -> ResponseEntity.ok(productMapper.toPageResponseDTO(productPage, productFields)));
+    }
+
+    /**
+     * Create a new product
+     * @param request the product data
+     * @param fields the product fields to return, every field if not given
+     * @return the created product with its generated ID
+     */
+    @Operation(summary = "Create a product", description = "Creates a product and returns it once the write is durable")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Product created",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProductResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid product data or unknown field",
+                content = @Content)
+    })
+    @PostMapping
+    public CompletableFuture<ResponseEntity<ProductResponseDTO>> createProduct(
+            @Valid @RequestBody ProductRequestDTO request,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to create product with title: {}", request.title());
+        ProductFields productFields = ProductFields.parse(fields);
+        return createProductUseCasePort.execute(productMapper.toEntity(request))
+                .thenApply(product -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(productMapper.toResponseDTO(product, productFields)));
+    }
+
+    /**
+     * Replace an existing product
+     * @param id the product ID
+     * @param request the new product data
+     * @param fields the product fields to return, every field if not given
+     * @return the updated product
+     */
+    @Operation(summary = "Update a product",
+            description = "Replaces the data of a product, keeping its rating and reviews. "
+                    + "When a version is given the update only succeeds if the product is still at that version")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product updated",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProductResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid product data or unknown field",
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                content = @Content),
+        @ApiResponse(responseCode = "409", description = "Product was modified by another request",
+                content = @Content)
+    })
+    @PutMapping("/{id}")
+    public CompletableFuture<ResponseEntity<ProductResponseDTO>> updateProduct(
+            @Parameter(description = "ID of the product to update", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody ProductRequestDTO request,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to update product with id: {}", id);
+        ProductFields productFields = ProductFields.parse(fields);
+        return updateProductUseCasePort.execute(id, productMapper.toEntity(request), request.version())
+                .thenApply(product -> ResponseEntity.ok(productMapper.toResponseDTO(product, productFields)));
+    }
+
+    /**
+     * Delete a product
+     * @param id the product ID
+     * @return an empty response once the delete is durable
+     */
+    @Operation(summary = "Delete a product", description = "Deletes a product based on its ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Product deleted",
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                content = @Content)
+    })
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> deleteProduct(
+            @Parameter(description = "ID of the product to delete", required = true)
+            @PathVariable String id) {
+        log.info("REST request to delete product with id: {}", id);
+        return deleteProductUseCasePort.execute(id)
+                .thenApply(ignored -> ResponseEntity.noContent().build());
+    }
+
+    private PageRequest toPageRequest(int page, int size, String cursor, String sort, String direction) {
+        PageRequest pageRequest = cursor == null || cursor.isBlank()
+                ? PageRequest.of(page, size)
+                : PageRequest.after(productMapper.toPageCursor(cursor), size);
+        return pageRequest.sortedBy(sort == null || sort.isBlank() ? null : ProductSort.from(sort),
+                SortDirection.from(direction));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Writes only the product fields selected with the fields parameter
+ * The controllers already map only those fields, this advice keeps the fields left null out of the
+ * JSON instead of writing them as null.
+ */
+@RestControllerAdvice(assignableTypes = {ProductController.class, SellerController.class})
+public class ProductFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        ProductFields fields;
+        try {
+            fields = ProductFields.parse(servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER));
+        } catch (ProductValidationException e) {
+            // The controller already rejected the request, the body is an error
+            return;
+        }
+        if (!fields.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider().addFilter(ProductResponseDTO.FIELDS_FILTER,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(fields.fieldNames())));
+        }
+    }
+}
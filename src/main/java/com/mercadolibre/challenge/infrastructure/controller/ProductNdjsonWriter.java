@@ -0,0 +1,69 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes products as newline delimited JSON, one product per line
+ * Every product is mapped and serialized on its own, never indented, so a request holds one product and the
+ * generator buffer whatever the size of the catalog. The output is flushed every {@value #FLUSH_EVERY}
+ * products: with a slow client the flush blocks until the socket drains, pausing the export instead
+ * of letting unsent bytes pile up.
+ */
+@Component
+public class ProductNdjsonWriter {
+
+    static final int FLUSH_EVERY = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter productWriter;
+    private final ProductMapper productMapper;
+
+    public ProductNdjsonWriter(ObjectMapper objectMapper, ProductMapper productMapper) {
+        this.objectMapper = objectMapper;
+        this.productWriter = objectMapper.writerFor(ProductResponseDTO.class)
+                .without(SerializationFeature.INDENT_OUTPUT, SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.productMapper = productMapper;
+    }
+
+    /**
+     * Write the selected fields of every product of a stream and close the stream
+     * @param products the products to write
+     * @param fields the product fields to write
+     * @param output the destination, left open
+     * @return the number of products written
+     * @throws IOException if the destination cannot be written, for instance when the client went away
+     */
+    public long write(Stream<Product> products, ProductFields fields, OutputStream output) throws IOException {
+        ObjectWriter writer = fields.isAll() ? productWriter : productWriter.with(new SimpleFilterProvider()
+                .addFilter(ProductResponseDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields.fieldNames())));
+        long written = 0;
+        try (products; JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.setRootValueSeparator(null);
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, productMapper.toResponseDTO(iterator.next(), fields));
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,115 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import com.mercadolibre.challenge.domain.port.input.GetProductReviewsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.SubmitReviewUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.ProductReviewsResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ReviewRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ReviewSubmissionResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for reading and submitting the reviews of a product
+ */
+@Tag(name = "Review", description = "Product reviews API")
+@RestController
+@RequestMapping("/api/products/{id}/reviews")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductReviewController {
+
+    private final GetProductReviewsUseCasePort getProductReviewsUseCasePort;
+    private final SubmitReviewUseCasePort submitReviewUseCasePort;
+    private final ProductMapper productMapper;
+
+    /**
+     * Get the reviews of a product with pagination
+     * @param id the product ID
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @param sort the order of the reviews, date or rating
+     * @param direction the direction of the order
+     * @return a page of the reviews and the review count and rating histogram of the product
+     */
+    @Operation(summary = "Get the reviews of a product",
+            description = "Returns a page of the reviews of a product, newest first by default, together with the "
+                    + "review count, average rating and 1 to 5 star histogram over all of them")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of reviews",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProductReviewsResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid sort or direction",
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                content = @Content)
+    })
+    @GetMapping
+    public CompletableFuture<ResponseEntity<ProductReviewsResponseDTO>> getProductReviews(
+            @Parameter(description = "ID of the product", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Order of the reviews, date or rating", example = "date")
+            @RequestParam(defaultValue = "date") String sort,
+            @Parameter(description = "Sort direction, asc or desc", example = "desc")
+            @RequestParam(defaultValue = "desc") String direction) {
+        log.info("REST request to get reviews of product: {} with pagination: page={}, size={}, sort={}, direction={}",
+                id, page, size, sort, direction);
+        ReviewSort reviewSort = ReviewSort.from(sort);
+        PageRequest pageRequest = PageRequest.of(page, size).toBuilder()
+                .direction(SortDirection.from(direction))
+                .build();
+        return getProductReviewsUseCasePort.execute(id, reviewSort, pageRequest)
+                .thenApply(optionalReviews -> optionalReviews
+                        .map(reviews -> ResponseEntity.ok(productMapper.toProductReviewsResponseDTO(reviews)))
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * Submit a review of a product
+     * @param id the product ID
+     * @param request the review
+     * @return the stored review and the new rating of the product
+     */
+    @Operation(summary = "Submit a review",
+            description = "Stores a review of a product and updates the product rating to the exact average of "
+                    + "its review ratings. Reviews are written in batches, so the response can take a few milliseconds")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Review stored",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ReviewSubmissionResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid review",
+                content = @Content),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                content = @Content)
+    })
+    @PostMapping
+    public CompletableFuture<ResponseEntity<ReviewSubmissionResponseDTO>> submitReview(
+            @Parameter(description = "ID of the product", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody ReviewRequestDTO request) {
+        log.debug("REST request to submit a review of product with id: {}", id);
+        return submitReviewUseCasePort.execute(id, productMapper.toReviewEntity(request))
+                .thenApply(submission -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(productMapper.toReviewSubmissionResponseDTO(submission)));
+    }
+}
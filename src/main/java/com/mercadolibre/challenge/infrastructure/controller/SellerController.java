@@ -0,0 +1,105 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.port.input.GetSellerProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.GetSellerStatsUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.PageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.SellerStatsDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for the products and aggregates of sellers
+ */
+@Tag(name = "Seller", description = "Seller products and aggregates API")
+@RestController
+@RequestMapping("/api/sellers/{id}")
+@RequiredArgsConstructor
+@Slf4j
+public class SellerController {
+
+    private final GetSellerProductsUseCasePort getSellerProductsUseCasePort;
+    private final GetSellerStatsUseCasePort getSellerStatsUseCasePort;
+    private final ProductMapper productMapper;
+
+    /**
+     * Get the products of a seller with pagination
+     * @param id the seller ID
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @param cursor the nextCursor of the previous page, takes precedence over the page number
+     * @return a page of the products of the seller in id order
+     */
+    @Operation(summary = "Get the products of a seller",
+            description = "Returns a page of the products of a seller in id order, empty if the seller has none. "
+                    + "Pass the nextCursor of a page as cursor to get the next one from the same catalog version")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of products",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = PageResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                content = @Content)
+    })
+    @GetMapping("/products")
+    public CompletableFuture<ResponseEntity<PageResponseDTO<ProductResponseDTO>>> getSellerProducts(
+            @Parameter(description = "ID of the seller", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma separated product fields to return, every field but thumbnail if not given",
+                    example = "id,title,price,thumbnail")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to get products of seller: {} with pagination: page={}, size={}, cursor={}",
+                id, page, size, cursor);
+        ProductFields productFields = ProductFields.parse(fields);
+        PageRequest pageRequest = cursor == null || cursor.isBlank()
+                ? PageRequest.of(page, size)
+                : PageRequest.after(productMapper.toPageCursor(cursor), size);
+        return getSellerProductsUseCasePort.execute(id, pageRequest)
+                .thenApply(productPage -> ResponseEntity.ok(productMapper.toPageResponseDTO(productPage, productFields)));
+    }
+
+    /**
+     * Get the aggregates of a seller
+     * @param id the seller ID
+     * @return the product count, total stock and average rating of the seller
+     */
+    @Operation(summary = "Get the aggregates of a seller",
+            description = "Returns the product count, total stock and average product rating of a seller, "
+                    + "kept up to date with every catalog write")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved seller aggregates",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = SellerStatsDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Seller has no products",
+                content = @Content)
+    })
+    @GetMapping("/stats")
+    public CompletableFuture<ResponseEntity<SellerStatsDTO>> getSellerStats(
+            @Parameter(description = "ID of the seller", required = true)
+            @PathVariable String id) {
+        log.info("REST request to get stats of seller: {}", id);
+        return getSellerStatsUseCasePort.execute(id)
+                .thenApply(optionalStats -> optionalStats
+                        .map(stats -> ResponseEntity.ok(productMapper.toSellerStatsDTO(stats)))
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+}
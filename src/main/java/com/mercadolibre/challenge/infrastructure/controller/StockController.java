@@ -0,0 +1,115 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.port.input.ConfirmStockUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.ReleaseStockUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.ReserveStockUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationReferenceDTO;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.StockReservationMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for product stock reservations
+ */
+@Tag(name = "Stock", description = "Product stock reservation API")
+@RestController
+@RequestMapping("/api/products/{id}/stock")
+@RequiredArgsConstructor
+@Slf4j
+public class StockController {
+
+    private final ReserveStockUseCasePort reserveStockUseCasePort;
+    private final ReleaseStockUseCasePort releaseStockUseCasePort;
+    private final ConfirmStockUseCasePort confirmStockUseCasePort;
+    private final StockReservationMapper stockReservationMapper;
+
+    /**
+     * Reserve units of a product
+     * @param id the product ID
+     * @param request the quantity to reserve
+     * @return the reservation
+     */
+    @Operation(summary = "Reserve stock", description = "Holds units of a product until the reservation is confirmed, released or expires")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Stock reserved",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = StockReservationResponseDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                content = @Content),
+        @ApiResponse(responseCode = "409", description = "Not enough stock",
+                content = @Content)
+    })
+    @PostMapping("/reserve")
+    public CompletableFuture<ResponseEntity<StockReservationResponseDTO>> reserve(
+            @Parameter(description = "ID of the product to reserve", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody StockReservationRequestDTO request) {
+        log.debug("REST request to reserve {} units of product with id: {}", request.quantity(), id);
+        return reserveStockUseCasePort.execute(id, request.quantity())
+                .thenApply(reservation -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(stockReservationMapper.toResponseDTO(reservation)));
+    }
+
+    /**
+     * Release a reservation
+     * @param id the product ID
+     * @param request the reservation to release
+     * @return the released reservation
+     */
+    @Operation(summary = "Release reserved stock", description = "Returns the units of a reservation to the available stock")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservation released",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = StockReservationResponseDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Reservation not found or expired",
+                content = @Content)
+    })
+    @PostMapping("/release")
+    public CompletableFuture<ResponseEntity<StockReservationResponseDTO>> release(
+            @Parameter(description = "ID of the reserved product", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody StockReservationReferenceDTO request) {
+        log.debug("REST request to release reservation {} of product with id: {}", request.reservationId(), id);
+        return releaseStockUseCasePort.execute(id, request.reservationId())
+                .thenApply(reservation -> ResponseEntity.ok(stockReservationMapper.toResponseDTO(reservation)));
+    }
+
+    /**
+     * Confirm a reservation
+     * @param id the product ID
+     * @param request the reservation to confirm
+     * @return the confirmed reservation
+     */
+    @Operation(summary = "Confirm reserved stock", description = "Removes the units of a reservation from the stock for good")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservation confirmed",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = StockReservationResponseDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Reservation not found or expired",
+                content = @Content)
+    })
+    @PostMapping("/confirm")
+    public CompletableFuture<ResponseEntity<StockReservationResponseDTO>> confirm(
+            @Parameter(description = "ID of the reserved product", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody StockReservationReferenceDTO request) {
+        log.debug("REST request to confirm reservation {} of product with id: {}", request.reservationId(), id);
+        return confirmStockUseCasePort.execute(id, request.reservationId())
+                .thenApply(reservation -> ResponseEntity.ok(stockReservationMapper.toResponseDTO(reservation)));
+    }
+}
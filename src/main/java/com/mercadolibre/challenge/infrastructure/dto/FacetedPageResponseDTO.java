@@ -0,0 +1,14 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for a page of a filtered product listing and the facet counts of the listing
+ */
+@Builder
+@Jacksonized
+public record FacetedPageResponseDTO(
+    PageResponseDTO<ProductResponseDTO> page,
+    ProductFacetsDTO facets
+) {}
@@ -0,0 +1,22 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Map;
+
+/**
+ * DTO for the plan of a filter expression query
+ */
+@Builder
+@Jacksonized
+public record FilterPlanDTO(
+    String expression,
+    String accessPath,
+    String indexCondition,
+    Map<String, Long> estimatedRows,
+    Long examinedRows,
+    Long matchedRows,
+    Long planningMicros,
+    Long executionMicros
+) {}
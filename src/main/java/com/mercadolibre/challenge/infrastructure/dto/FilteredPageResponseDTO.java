@@ -0,0 +1,14 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for a page of the products matching a filter expression and the plan of the query when requested
+ */
+@Builder
+@Jacksonized
+public record FilteredPageResponseDTO(
+    PageResponseDTO<ProductResponseDTO> page,
+    FilterPlanDTO plan
+) {}
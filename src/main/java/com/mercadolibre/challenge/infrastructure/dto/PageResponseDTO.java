@@ -52,4 +52,9 @@ public class PageResponseDTO<T> {
      * Whether there is a next page
      */
     private boolean hasNext;
+    
+    /**
+     * Opaque token to request the next page with, null on the last page
+     */
+    private String nextCursor;
 }
\ No newline at end of file
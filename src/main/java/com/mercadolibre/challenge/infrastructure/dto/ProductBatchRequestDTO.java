@@ -0,0 +1,17 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * DTO for reading many products by id at once
+ */
+@Builder
+@Jacksonized
+public record ProductBatchRequestDTO(
+    @NotEmpty(message = "At least one product id is required")
+    List<String> ids
+) {}
@@ -0,0 +1,16 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * DTO for the products found for a batch of ids and the ids without a product
+ */
+@Builder
+@Jacksonized
+public record ProductBatchResponseDTO(
+    List<ProductResponseDTO> products,
+    List<String> missingIds
+) {}
@@ -0,0 +1,19 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Map;
+
+/**
+ * DTO for the facet counts of a product listing
+ */
+@Builder
+@Jacksonized
+public record ProductFacetsDTO(
+    Map<String, Integer> types,
+    Map<String, Integer> sellers,
+    Map<String, Integer> paymentMethods,
+    Map<Integer, Integer> minRating,
+    Integer inStock
+) {}
@@ -25,15 +25,18 @@ public record ProductRequestDTO(
     @DecimalMin(value = "0.01", message = "Price must be greater than zero")
     BigDecimal price,
     
-    List<String> images,
+    List<@NotNull(message = "Images must not contain null entries") String> images,
     
     @Valid
-    List<PaymentMethodDTO> paymentMethods,
+    List<@NotNull(message = "Payment methods must not contain null entries") PaymentMethodDTO> paymentMethods,
     
     @Valid
     SellerDTO seller,
     
     Integer stock,
     
-    String type
+    String type,
+    
+    // Version the changes are based on, used to detect concurrent updates
+    Long version
 ) {}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.mercadolibre.challenge.infrastructure.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.extern.jackson.Jacksonized;
 
@@ -8,19 +10,31 @@ import java.util.List;
 
 /**
  * DTO for product responses
+ * Serialized through the {@value #FIELDS_FILTER} filter, which writes every field unless the request
+ * selects some with the fields parameter
  */
 @Builder
 @Jacksonized
+@JsonFilter(ProductResponseDTO.FIELDS_FILTER)
 public record ProductResponseDTO(
     String id,
     String title,
     String description,
     BigDecimal price,
     List<String> images,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String thumbnail,
     List<PaymentMethodDTO> paymentMethods,
     SellerDTO seller,
     Integer stock,
     Double rating,
     List<ReviewDTO> reviews,
-    String type
-) {}
\ No newline at end of file
+    String type,
+    Long version
+) {
+
+    /**
+     * Id of the property filter selecting the fields of a product response
+     */
+    public static final String FIELDS_FILTER = "productFields";
+}
\ No newline at end of file
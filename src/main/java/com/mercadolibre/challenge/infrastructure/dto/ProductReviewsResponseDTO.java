@@ -0,0 +1,15 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for a page of the reviews of a product and the aggregates over all of them
+ */
+@Builder
+@Jacksonized
+public record ProductReviewsResponseDTO(
+    String productId,
+    ReviewSummaryDTO summary,
+    PageResponseDTO<ReviewDTO> page
+) {}
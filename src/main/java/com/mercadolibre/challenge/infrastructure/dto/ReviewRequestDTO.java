@@ -0,0 +1,27 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for review submission requests
+ */
+@Builder
+@Jacksonized
+public record ReviewRequestDTO(
+    String userId,
+
+    @NotBlank(message = "User name is required")
+    String userName,
+
+    String comment,
+
+    @NotNull(message = "Rating is required")
+    @Min(value = 1, message = "Rating must be between 1 and 5")
+    @Max(value = 5, message = "Rating must be between 1 and 5")
+    Integer rating
+) {}
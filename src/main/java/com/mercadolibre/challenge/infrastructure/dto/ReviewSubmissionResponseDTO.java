@@ -0,0 +1,16 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for a stored review and the rating of its product once it counts the review
+ */
+@Builder
+@Jacksonized
+public record ReviewSubmissionResponseDTO(
+    String productId,
+    ReviewDTO review,
+    Double rating,
+    Integer reviewCount
+) {}
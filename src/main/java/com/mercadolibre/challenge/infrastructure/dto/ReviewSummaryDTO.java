@@ -0,0 +1,17 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Map;
+
+/**
+ * DTO for the aggregates over the reviews of a product
+ */
+@Builder
+@Jacksonized
+public record ReviewSummaryDTO(
+    Integer reviewCount,
+    Double averageRating,
+    Map<Integer, Integer> histogram
+) {}
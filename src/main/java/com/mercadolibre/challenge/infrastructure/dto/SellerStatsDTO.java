@@ -0,0 +1,16 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for the aggregates over the products of a seller
+ */
+@Builder
+@Jacksonized
+public record SellerStatsDTO(
+    String sellerId,
+    Integer productCount,
+    Long totalStock,
+    Double averageRating
+) {}
@@ -0,0 +1,15 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO identifying an existing stock reservation, used to release or confirm it
+ */
+@Builder
+@Jacksonized
+public record StockReservationReferenceDTO(
+    @NotBlank(message = "Reservation id is required")
+    String reservationId
+) {}
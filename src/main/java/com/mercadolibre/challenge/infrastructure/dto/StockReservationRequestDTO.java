@@ -0,0 +1,17 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for stock reservation requests
+ */
+@Builder
+@Jacksonized
+public record StockReservationRequestDTO(
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be greater than zero")
+    Integer quantity
+) {}
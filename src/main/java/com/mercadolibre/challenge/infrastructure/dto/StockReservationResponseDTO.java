@@ -0,0 +1,19 @@
+package com.mercadolibre.challenge.infrastructure.dto;
+
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+
+/**
+ * DTO for stock reservation responses
+ */
+@Builder
+@Jacksonized
+public record StockReservationResponseDTO(
+    String reservationId,
+    String productId,
+    Integer quantity,
+    Instant expiresAt,
+    Integer remainingStock
+) {}
@@ -1,9 +1,13 @@
 package com.mercadolibre.challenge.infrastructure.exception;
 
 import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.CursorExpiredException;
 import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.domain.exception.InsufficientStockException;
 import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
 import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.exception.ReservationNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ReviewBacklogFullException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -88,6 +92,90 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle CursorExpiredException
+     * @param ex the exception
+     * @param request the web request
+     * @return 410 Gone response with error details
+     */
+    @ExceptionHandler(CursorExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleCursorExpiredException(
+            CursorExpiredException ex, WebRequest request) {
+        log.warn("Cursor expired: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.GONE.value(),
+                ex.getMessage(),
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.GONE);
+    }
+
+    /**
+     * Handle ReviewBacklogFullException
+     * @param ex the exception
+     * @param request the web request
+     * @return 503 Service Unavailable response with error details
+     */
+    @ExceptionHandler(ReviewBacklogFullException.class)
+    public ResponseEntity<ErrorResponse> handleReviewBacklogFullException(
+            ReviewBacklogFullException ex, WebRequest request) {
+        log.warn("Review backlog full: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handle ReservationNotFoundException
+     * @param ex the exception
+     * @param request the web request
+     * @return 404 Not Found response with error details
+     */
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleReservationNotFoundException(
+            ReservationNotFoundException ex, WebRequest request) {
+        log.error("Reservation not found: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                ex.getMessage(),
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle InsufficientStockException
+     * @param ex the exception
+     * @param request the web request
+     * @return 409 Conflict response with error details
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientStockException(
+            InsufficientStockException ex, WebRequest request) {
+        log.warn("Insufficient stock: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                request.getDescription(false),
+                LocalDateTime.now()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle InitializationException
      * @param ex the exception
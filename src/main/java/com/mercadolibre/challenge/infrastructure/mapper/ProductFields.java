@@ -0,0 +1,136 @@
+package com.mercadolibre.challenge.infrastructure.mapper;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The fields of the products a response includes, selected with the fields parameter
+ * The mapper only maps the selected fields and the serializer only writes them, so leaving out
+ * reviews or payment methods saves both the copy and the bytes. The id is always included. The
+ * thumbnail, the first image, is never part of the default fields and only returned when selected.
+ */
+public final class ProductFields {
+
+    /**
+     * A field of a product response
+     */
+    public enum Field {
+        ID("id"),
+        TITLE("title"),
+        DESCRIPTION("description"),
+        PRICE("price"),
+        IMAGES("images"),
+        THUMBNAIL("thumbnail"),
+        PAYMENT_METHODS("paymentMethods"),
+        SELLER("seller"),
+        STOCK("stock"),
+        RATING("rating"),
+        REVIEWS("reviews"),
+        TYPE("type"),
+        VERSION("version");
+
+        private static final Map<String, Field> BY_NAME = Arrays.stream(values())
+                .collect(Collectors.toUnmodifiableMap(Field::fieldName, Function.identity()));
+
+        private final String fieldName;
+
+        Field(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * Get the name of the field in the response
+         * @return the JSON property name
+         */
+        public String fieldName() {
+            return fieldName;
+        }
+    }
+
+    /**
+     * Every field of a product response but the thumbnail, used when no fields are selected
+     */
+    public static final ProductFields ALL = new ProductFields(EnumSet.complementOf(EnumSet.of(Field.THUMBNAIL)));
+
+    private final EnumSet<Field> fields;
+    private final Set<String> fieldNames;
+
+    private ProductFields(EnumSet<Field> fields) {
+        this.fields = fields;
+        this.fieldNames = Collections.unmodifiableSet(fields.stream()
+                .map(Field::fieldName)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Parse the fields parameter of a request
+     * @param fields comma separated field names, such as id,title,price,thumbnail
+     * @return the selected fields and the id, or every field if no fields are given
+     * @throws ProductValidationException if a name is not a field of a product response
+     */
+    public static ProductFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<Field> selected = EnumSet.of(Field.ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Field field = Field.BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new ProductValidationException("Unknown product field: " + trimmed);
+            }
+            selected.add(field);
+        }
+        return new ProductFields(selected);
+    }
+
+    /**
+     * Check whether a field is selected
+     * @param field the field
+     * @return true if the response includes the field
+     */
+    public boolean includes(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Get the names of the selected fields
+     * @return the JSON property names
+     */
+    public Set<String> fieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Check whether these are the default fields
+     * @return true if every default field is selected
+     */
+    public boolean isAll() {
+        return fields.equals(ALL.fields);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ProductFields productFields && fields.equals(productFields.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", fieldNames);
+    }
+}
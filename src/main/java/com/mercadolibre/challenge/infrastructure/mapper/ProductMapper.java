@@ -1,14 +1,27 @@
 package com.mercadolibre.challenge.infrastructure.mapper;
 
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.FilterPlan;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
 import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageCursor;
 import com.mercadolibre.challenge.domain.model.PaymentMethod;
 import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.model.ProductFacets;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
 import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.domain.model.ReviewSummary;
 import com.mercadolibre.challenge.domain.model.Seller;
+import com.mercadolibre.challenge.domain.model.SellerStats;
 import com.mercadolibre.challenge.infrastructure.dto.*;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -48,23 +61,59 @@ public class ProductMapper {
      * @return the response DTO
      */
     public ProductResponseDTO toResponseDTO(Product product) {
+        return toResponseDTO(product, ProductFields.ALL);
+    }
+
+    /**
+     * Convert a Product entity to a ProductResponseDTO with the selected fields only
+     * @param product the Product entity
+     * @param fields the fields to map, the others are left null
+     * @return the response DTO
+     */
+    public ProductResponseDTO toResponseDTO(Product product, ProductFields fields) {
         if (product == null) {
             return null;
         }
 
-        return ProductResponseDTO.builder()
-                .id(product.getId())
-                .title(product.getTitle())
-                .description(product.getDescription())
-                .price(product.getPrice())
-                .images(product.getImages())
-                .paymentMethods(mapPaymentMethodsToDTOs(product.getPaymentMethods()))
-                .seller(mapSellerToDTO(product.getSeller()))
-                .stock(product.getStock())
-                .rating(product.getRating())
-                .reviews(mapReviewsToDTOs(product.getReviews()))
-                .type(product.getType())
-                .build();
+        ProductResponseDTO.ProductResponseDTOBuilder builder = ProductResponseDTO.builder()
+                .id(product.getId());
+        if (fields.includes(ProductFields.Field.TITLE)) {
+            builder.title(product.getTitle());
+        }
+        if (fields.includes(ProductFields.Field.DESCRIPTION)) {
+            builder.description(product.getDescription());
+        }
+        if (fields.includes(ProductFields.Field.PRICE)) {
+            builder.price(product.getPrice());
+        }
+        if (fields.includes(ProductFields.Field.IMAGES)) {
+            builder.images(product.getImages());
+        }
+        if (fields.includes(ProductFields.Field.THUMBNAIL) && product.getImages() != null && !product.getImages().isEmpty()) {
+            builder.thumbnail(product.getImages().get(0));
+        }
+        if (fields.includes(ProductFields.Field.PAYMENT_METHODS)) {
+            builder.paymentMethods(mapPaymentMethodsToDTOs(product.getPaymentMethods()));
+        }
+        if (fields.includes(ProductFields.Field.SELLER)) {
+            builder.seller(mapSellerToDTO(product.getSeller()));
+        }
+        if (fields.includes(ProductFields.Field.STOCK)) {
+            builder.stock(product.getStock());
+        }
+        if (fields.includes(ProductFields.Field.RATING)) {
+            builder.rating(product.getRating());
+        }
+        if (fields.includes(ProductFields.Field.REVIEWS)) {
+            builder.reviews(mapReviewsToDTOs(product.getReviews()));
+        }
+        if (fields.includes(ProductFields.Field.TYPE)) {
+            builder.type(product.getType());
+        }
+        if (fields.includes(ProductFields.Field.VERSION)) {
+            builder.version(product.currentVersion());
+        }
+        return builder.build();
     }
 
     /**
@@ -73,12 +122,22 @@ public class ProductMapper {
      * @return the list of response DTOs
      */
     public List<ProductResponseDTO> toResponseDTOs(List<Product> products) {
+        return toResponseDTOs(products, ProductFields.ALL);
+    }
+
+    /**
+     * Convert a list of Product entities to a list of ProductResponseDTOs with the selected fields only
+     * @param products the list of Product entities
+     * @param fields the fields to map
+     * @return the list of response DTOs
+     */
+    public List<ProductResponseDTO> toResponseDTOs(List<Product> products, ProductFields fields) {
         if (products == null) {
             return new ArrayList<>();
         }
 
         return products.stream()
-                .map(this::toResponseDTO)
+                .map(product -> toResponseDTO(product, fields))
                 .toList();
     }
     
@@ -88,11 +147,21 @@ public class ProductMapper {
      * @return the PageResponseDTO of ProductResponseDTOs
      */
     public PageResponseDTO<ProductResponseDTO> toPageResponseDTO(Page<Product> page) {
+        return toPageResponseDTO(page, ProductFields.ALL);
+    }
+
+    /**
+     * Convert a Page of Product entities to a PageResponseDTO of ProductResponseDTOs with the selected fields only
+     * @param page the Page of Product entities
+     * @param fields the fields to map
+     * @return the PageResponseDTO of ProductResponseDTOs
+     */
+    public PageResponseDTO<ProductResponseDTO> toPageResponseDTO(Page<Product> page, ProductFields fields) {
         if (page == null) {
             return PageResponseDTO.<ProductResponseDTO>builder().build();
         }
         
-        List<ProductResponseDTO> content = toResponseDTOs(page.getContent());
+        List<ProductResponseDTO> content = toResponseDTOs(page.getContent(), fields);
         
         return PageResponseDTO.<ProductResponseDTO>builder()
                 .content(content)
@@ -102,30 +171,219 @@ public class ProductMapper {
                 .size(page.getSize())
                 .hasPrevious(page.hasPrevious())
                 .hasNext(page.hasNext())
+                .nextCursor(toCursorToken(page.getNextCursor()))
+                .build();
+    }
+
+    /**
+     * Convert a FacetedPage of Product entities to a FacetedPageResponseDTO
+     * @param facetedPage the FacetedPage of Product entities
+     * @return the FacetedPageResponseDTO
+     */
+    public FacetedPageResponseDTO toFacetedPageResponseDTO(FacetedPage<Product> facetedPage) {
+        return toFacetedPageResponseDTO(facetedPage, ProductFields.ALL);
+    }
+
+    /**
+     * Convert a FacetedPage of Product entities to a FacetedPageResponseDTO with the selected product fields only
+     * @param facetedPage the FacetedPage of Product entities
+     * @param fields the product fields to map
+     * @return the FacetedPageResponseDTO
+     */
+    public FacetedPageResponseDTO toFacetedPageResponseDTO(FacetedPage<Product> facetedPage, ProductFields fields) {
+        ProductFacets facets = facetedPage.getFacets();
+        return FacetedPageResponseDTO.builder()
+                .page(toPageResponseDTO(facetedPage.getPage(), fields))
+                .facets(ProductFacetsDTO.builder()
+                        .types(facets.getTypes())
+                        .sellers(facets.getSellers())
+                        .paymentMethods(facets.getPaymentMethods())
+                        .minRating(facets.getMinRating())
+                        .inStock(facets.getInStock())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Convert a FilteredPage of Product entities to a FilteredPageResponseDTO
+     * @param filteredPage the FilteredPage of Product entities
+     * @return the FilteredPageResponseDTO, without a plan unless the page has one
+     */
+    public FilteredPageResponseDTO toFilteredPageResponseDTO(FilteredPage<Product> filteredPage) {
+        return toFilteredPageResponseDTO(filteredPage, ProductFields.ALL);
+    }
+
+    /**
+     * Convert a FilteredPage of Product entities to a FilteredPageResponseDTO with the selected product fields only
+     * @param filteredPage the FilteredPage of Product entities
+     * @param fields the product fields to map
+     * @return the FilteredPageResponseDTO, without a plan unless the page has one
+     */
+    public FilteredPageResponseDTO toFilteredPageResponseDTO(FilteredPage<Product> filteredPage, ProductFields fields) {
+        FilterPlan plan = filteredPage.getPlan();
+        return FilteredPageResponseDTO.builder()
+                .page(toPageResponseDTO(filteredPage.getPage(), fields))
+                .plan(plan == null ? null : FilterPlanDTO.builder()
+                        .expression(plan.getExpression())
+                        .accessPath(plan.getAccessPath())
+                        .indexCondition(plan.getIndexCondition())
+                        .estimatedRows(plan.getEstimatedRows())
+                        .examinedRows(plan.getExaminedRows())
+                        .matchedRows(plan.getMatchedRows())
+                        .planningMicros(plan.getPlanningMicros())
+                        .executionMicros(plan.getExecutionMicros())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Convert a ProductBatch to a ProductBatchResponseDTO
+     * @param batch the products found and the ids without a product
+     * @return the ProductBatchResponseDTO
+     */
+    public ProductBatchResponseDTO toProductBatchResponseDTO(ProductBatch batch) {
+        return toProductBatchResponseDTO(batch, ProductFields.ALL);
+    }
+
+    /**
+     * Convert a ProductBatch to a ProductBatchResponseDTO with the selected product fields only
+     * @param batch the products found and the ids without a product
+     * @param fields the product fields to map
+     * @return the ProductBatchResponseDTO
+     */
+    public ProductBatchResponseDTO toProductBatchResponseDTO(ProductBatch batch, ProductFields fields) {
+        return ProductBatchResponseDTO.builder()
+                .products(toResponseDTOs(batch.getProducts(), fields))
+                .missingIds(batch.getMissingIds())
+                .build();
+    }
+
+    /**
+     * Convert SellerStats to a SellerStatsDTO
+     * @param stats the seller aggregates
+     * @return the SellerStatsDTO
+     */
+    public SellerStatsDTO toSellerStatsDTO(SellerStats stats) {
+        return SellerStatsDTO.builder()
+                .sellerId(stats.getSellerId())
+                .productCount(stats.getProductCount())
+                .totalStock(stats.getTotalStock())
+                .averageRating(stats.getAverageRating())
+                .build();
+    }
+
+    /**
+     * Convert ProductReviews to a ProductReviewsResponseDTO
+     * @param productReviews a page of the reviews of a product and their aggregates
+     * @return the ProductReviewsResponseDTO
+     */
+    public ProductReviewsResponseDTO toProductReviewsResponseDTO(ProductReviews productReviews) {
+        ReviewSummary summary = productReviews.getSummary();
+        Page<Review> page = productReviews.getPage();
+        return ProductReviewsResponseDTO.builder()
+                .productId(productReviews.getProductId())
+                .summary(ReviewSummaryDTO.builder()
+                        .reviewCount(summary.getReviewCount())
+                        .averageRating(summary.getAverageRating())
+                        .histogram(summary.getHistogram())
+                        .build())
+                .page(PageResponseDTO.<ReviewDTO>builder()
+                        .content(mapReviewsToDTOs(page.getContent()))
+                        .totalElements(page.getTotalElements())
+                        .totalPages(page.getTotalPages())
+                        .page(page.getPage())
+                        .size(page.getSize())
+                        .hasPrevious(page.hasPrevious())
+                        .hasNext(page.hasNext())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Convert a ReviewRequestDTO to a Review entity
+     * @param requestDTO the request DTO
+     * @return the Review entity, without id or creation time
+     */
+    public Review toReviewEntity(ReviewRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return null;
+        }
+
+        return Review.builder()
+                .userId(requestDTO.userId())
+                .userName(requestDTO.userName())
+                .comment(requestDTO.comment())
+                .rating(requestDTO.rating())
                 .build();
     }
 
     /**
-     * Update a Product entity with data from a ProductRequestDTO
-     * @param product the Product entity to update
+     * Convert a ReviewSubmission to a ReviewSubmissionResponseDTO
+     * @param submission the stored review and the rating of its product
+     * @return the ReviewSubmissionResponseDTO
+     */
+    public ReviewSubmissionResponseDTO toReviewSubmissionResponseDTO(ReviewSubmission submission) {
+        return ReviewSubmissionResponseDTO.builder()
+                .productId(submission.getProductId())
+                .review(mapReviewToDTO(submission.getReview()))
+                .rating(submission.getRating())
+                .reviewCount(submission.getReviewCount())
+                .build();
+    }
+
+    /**
+     * Encode a page cursor as an opaque URL safe token
+     * @param cursor the cursor
+     * @return the token, or null if there is no cursor
+     */
+    public String toCursorToken(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String value = cursor.getSnapshotVersion() + ":" + cursor.getLastId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #toCursorToken(PageCursor)}
+     * @param token the token
+     * @return the cursor
+     * @throws ProductValidationException if the token is not a valid cursor
+     */
+    public PageCursor toPageCursor(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new ProductValidationException("Invalid page cursor");
+            }
+            return PageCursor.of(Long.parseLong(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ProductValidationException("Invalid page cursor", e);
+        }
+    }
+
+    /**
+     * Copy a Product entity with data from a ProductRequestDTO
+     * @param product the Product entity to copy
      * @param requestDTO the request DTO with new data
-     * @return the updated Product entity
+     * @return the updated copy of the Product entity
      */
     public Product updateEntityFromDTO(Product product, ProductRequestDTO requestDTO) {
         if (product == null || requestDTO == null) {
             return product;
         }
 
-        product.setTitle(requestDTO.title());
-        product.setDescription(requestDTO.description());
-        product.setPrice(requestDTO.price());
-        product.setImages(requestDTO.images());
-        product.setPaymentMethods(mapPaymentMethodsToEntities(requestDTO.paymentMethods()));
-        product.setSeller(mapSellerToEntity(requestDTO.seller()));
-        product.setStock(requestDTO.stock());
-        product.setType(requestDTO.type());
-
-        return product;
+        return product.toBuilder()
+                .title(requestDTO.title())
+                .description(requestDTO.description())
+                .price(requestDTO.price())
+                .images(requestDTO.images())
+                .paymentMethods(mapPaymentMethodsToEntities(requestDTO.paymentMethods()))
+                .seller(mapSellerToEntity(requestDTO.seller()))
+                .stock(requestDTO.stock())
+                .type(requestDTO.type())
+                .build();
     }
 
     // Helper methods for mapping between entities and DTOs
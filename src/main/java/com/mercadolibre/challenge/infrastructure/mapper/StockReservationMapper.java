@@ -0,0 +1,31 @@
+package com.mercadolibre.challenge.infrastructure.mapper;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationResponseDTO;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper class for converting stock reservations to DTOs
+ */
+@Component
+public class StockReservationMapper {
+
+    /**
+     * Convert a StockReservation to a StockReservationResponseDTO
+     * @param reservation the reservation
+     * @return the response DTO
+     */
+    public StockReservationResponseDTO toResponseDTO(StockReservation reservation) {
+        if (reservation == null) {
+            return null;
+        }
+
+        return StockReservationResponseDTO.builder()
+                .reservationId(reservation.getId())
+                .productId(reservation.getProductId())
+                .quantity(reservation.getQuantity())
+                .expiresAt(reservation.getExpiresAt())
+                .remainingStock(reservation.getRemainingStock())
+                .build();
+    }
+}
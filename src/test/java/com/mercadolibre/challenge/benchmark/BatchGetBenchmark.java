@@ -0,0 +1,78 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Measures reading a cart worth of products from a 100k product catalog
+ * The "sequential" column waits for one findById per id, the "fan-out" column starts every findById
+ * and joins them all, the "batch" column is a single findByIds. Every batch has one id in ten missing.
+ * Only the adapter is measured, the HTTP round trip saved per id comes on top.
+ * Run with: mvn test -Dtest=BatchGetBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchGetBenchmark {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int[] BATCH_SIZES = {20, 50, 200};
+    private static final int REQUESTS = 200;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measureBatchLatency() throws Exception {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        Path file = tempDir.resolve("products.json");
+        SyntheticCatalog.writeJson(file, PRODUCTS, objectMapper);
+        ProductAdapter adapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(file.toString()).withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(Integer.MAX_VALUE),
+                PaginationProperties.defaults());
+        adapter.init();
+
+        Random random = new Random(3);
+        System.out.printf("%-8s %14s %14s %14s%n", "ids", "sequential us", "fan-out us", "batch us");
+        for (int batchSize : BATCH_SIZES) {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                ids.add(i % 10 == 9 ? "missing-" + i : String.format("prod-%07d", random.nextInt(PRODUCTS)));
+            }
+            long sequential = averageMicros(REQUESTS, () -> ids.forEach(id -> adapter.findById(id).join()));
+            long fanOut = averageMicros(REQUESTS, () -> fanOut(adapter, ids));
+            long batch = averageMicros(REQUESTS, () -> adapter.findByIds(ids).join());
+            System.out.printf("%-8d %14d %14d %14d%n", batchSize, sequential, fanOut, batch);
+        }
+        adapter.close();
+    }
+
+    private static List<Optional<Product>> fanOut(ProductAdapter adapter, List<String> ids) {
+        List<CompletableFuture<Optional<Product>>> futures = ids.stream().map(adapter::findById).toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductInterner;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Measures the retained heap of a parsed catalog with JOL, before and after sharing equal sellers,
+ * payment methods and types between products
+ * The sizes cover every object reachable from the products, reviews included, so the difference is
+ * what the interner saves per product on a catalog where sellers and payment methods repeat.
+ * Run with: mvn test -Dtest=CatalogFootprintBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CatalogFootprintBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareFootprintBeforeAndAfterInterning() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        System.out.printf("%-10s %14s %14s %10s %10s %10s%n",
+                "products", "before B/prod", "after B/prod", "saved", "sellers", "methods");
+        for (int size : SIZES) {
+            Path file = tempDir.resolve("products-" + size + ".json");
+            SyntheticCatalog.writeJson(file, size, objectMapper);
+            List<Product> loaded = objectMapper.readValue(file.toFile(), new TypeReference<List<Product>>() {});
+
+            long before = GraphLayout.parseInstance(loaded.toArray()).totalSize();
+            ProductInterner interner = new ProductInterner();
+            List<Product> products = loaded.stream().map(interner::intern).toList();
+            long after = GraphLayout.parseInstance(products.toArray()).totalSize();
+
+            System.out.printf("%-10d %14d %14d %9d%% %10d %10d%n", size, before / size, after / size,
+                    100 - after * 100 / before, interner.sellerCount(), interner.paymentMethodCount());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares catalog startup time of the bulk loader, the parallel chunked loader
+ * and a warm start from the binary snapshot, which skips JSON parsing but still builds the indexes
+ * Run with: mvn test -Dtest=CatalogStartupBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CatalogStartupBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int ROUNDS = 3;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareBulkAndParallelStartup() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        System.out.printf("%-10s %-10s %12s %12s%n", "products", "mode", "best ms", "file MB");
+
+        for (int size : SIZES) {
+            Path file = tempDir.resolve("products-" + size + ".json");
+            SyntheticCatalog.writeJson(file, size, objectMapper);
+            long megabytes = Files.size(file) / (1024 * 1024);
+
+            for (CatalogLoadMode mode : new CatalogLoadMode[]{CatalogLoadMode.BULK, CatalogLoadMode.PARALLEL}) {
+                long best = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    CatalogProperties properties = CatalogProperties.of(file.toString())
+                            .withLoadMode(mode).withProgressInterval(Integer.MAX_VALUE);
+                    ProductAdapter adapter = new ProductAdapter(objectMapper, properties, PaginationProperties.defaults());
+                    long start = System.nanoTime();
+                    adapter.init();
+                    best = Math.min(best, System.nanoTime() - start);
+                    adapter.close();
+                }
+                System.out.printf("%-10d %-10s %12d %12d%n", size, mode, best / 1_000_000, megabytes);
+            }
+
+            CatalogProperties snapshotProperties = CatalogProperties.of(file.toString())
+                    .withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(Integer.MAX_VALUE).withBinarySnapshot(true);
+            ProductAdapter writer = new ProductAdapter(objectMapper, snapshotProperties, PaginationProperties.defaults());
+            writer.init();
+            writer.close();
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                ProductAdapter adapter = new ProductAdapter(objectMapper, snapshotProperties,
+                        PaginationProperties.defaults());
+                long start = System.nanoTime();
+                adapter.init();
+                best = Math.min(best, System.nanoTime() - start);
+                adapter.close();
+            }
+            System.out.printf("%-10d %-10s %12d %12d%n", size, "SNAPSHOT", best / 1_000_000,
+                    Files.size(file.resolveSibling(file.getFileName() + ".snapshot")) / (1024 * 1024));
+            Files.delete(file.resolveSibling(file.getFileName() + ".snapshot"));
+            Files.delete(file);
+        }
+    }
+}
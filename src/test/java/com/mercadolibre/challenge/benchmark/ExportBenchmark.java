@@ -0,0 +1,107 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.controller.ProductNdjsonWriter;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Measures exporting the whole catalog as the catalog grows
+ * The "list" columns map every product into one List of DTOs and serialize it as a JSON array, as
+ * GET /api/products does, the "ndjson" columns write one product per line from the snapshot. Live heap
+ * is measured halfway through the output: the export is paused, the heap collected and the heap still in
+ * use compared with the heap in use before the export started.
+ * Run with: mvn test -Dtest=ExportBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExportBenchmark {
+
+    private static final int[] SIZES = {50_000, 200_000, 500_000};
+
+    @Test
+    void measureExport() throws Exception {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        ProductMapper productMapper = new ProductMapper();
+        ProductNdjsonWriter writer = new ProductNdjsonWriter(objectMapper, productMapper);
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        SyntheticCatalog.products(SIZES[SIZES.length - 1]).forEach(builder::add);
+        CatalogSnapshot snapshot = builder.build(1);
+
+        System.out.printf("%-10s %12s %14s %12s %14s%n", "products", "list ms", "list live MB", "ndjson ms", "ndjson live MB");
+        for (int size : SIZES) {
+            List<String> ids = snapshot.orderedIds().subList(0, size);
+            long[] list = measure(output -> {
+                List<Product> products = ids.stream().map(snapshot.products()::get).toList();
+                objectMapper.writeValue(output, productMapper.toResponseDTOs(products));
+            });
+            long[] ndjson = measure(output -> writer.write(ids.stream().map(snapshot.products()::get), ProductFields.ALL, output));
+            System.out.printf("%-10d %12d %14d %12d %14d%n", size, list[0], list[1], ndjson[0], ndjson[1]);
+        }
+    }
+
+    private interface Export {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    /**
+     * Time an export, then run it again to measure the heap it keeps alive halfway through
+     * @return the duration in ms and the live heap above the starting heap in MB
+     */
+    private static long[] measure(Export export) throws IOException {
+        CountingOutputStream timed = new CountingOutputStream(Long.MAX_VALUE);
+        long start = System.nanoTime();
+        export.writeTo(timed);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.gc();
+        long baseline = usedHeap();
+        CountingOutputStream probed = new CountingOutputStream(timed.bytes / 2);
+        export.writeTo(probed);
+        return new long[]{millis, Math.max(0, probed.usedAtProbe - baseline) >> 20};
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Discards the output, collecting the heap once when the given number of bytes was written
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private final long probeAt;
+        private long bytes;
+        private long usedAtProbe = -1;
+
+        CountingOutputStream(long probeAt) {
+            this.probeAt = probeAt;
+        }
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count(length);
+        }
+
+        private void count(int length) {
+            bytes += length;
+            if (usedAtProbe < 0 && bytes >= probeAt) {
+                System.gc();
+                usedAtProbe = usedHeap();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogDiff;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.FacetIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures a faceted listing page on a 1M product catalog
+ * The "scan" column walks every product once, keeping the page and counting each facet value against
+ * the other selected facets, the "bitmap" column answers from the facet index of the snapshot. The last
+ * lines show the cost of publishing a snapshot after stock and type edits.
+ * Run with: mvn test -Dtest=FacetBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FacetBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SCANS = 5;
+    private static final int QUERIES = 50;
+    private static final int[] EDITS = {1, 100, 10_000};
+    private static final Map<String, ProductFilter> FILTERS = Map.of(
+            "none", ProductFilter.builder().build(),
+            "type", ProductFilter.builder().types(Set.of("smartphone")).build(),
+            "type+pm+rating", ProductFilter.builder().types(Set.of("smartphone")).paymentMethodIds(Set.of("pm-002"))
+                    .minRating(4).inStock(true).build(),
+            "seller", ProductFilter.builder().sellerIds(Set.of("seller-042")).build());
+
+    @Test
+    void measureFacets() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        SyntheticCatalog.products(PRODUCTS).forEach(builder::add);
+        long buildStart = System.nanoTime();
+        CatalogSnapshot snapshot = builder.build(1);
+        System.out.printf("Built snapshot in %d ms%n", (System.nanoTime() - buildStart) / 1_000_000);
+
+        System.out.printf("%-16s %10s %14s %14s%n", "filter", "matches", "scan us", "bitmap us");
+        for (Map.Entry<String, ProductFilter> filter : FILTERS.entrySet()) {
+            FacetIndex.Result result = snapshot.facetIndex().find(filter.getValue(), 0, PAGE_SIZE);
+            long scan = averageMicros(SCANS, () -> scan(snapshot, filter.getValue()));
+            long bitmap = averageMicros(QUERIES, () -> snapshot.facetIndex().find(filter.getValue(), 0, PAGE_SIZE));
+            System.out.printf("%-16s %10d %14d %14d%n", filter.getKey(), result.total(), scan, bitmap);
+        }
+
+        System.out.printf("%-16s %14s %14s%n", "facet edits", "apply ms", "query us");
+        ProductFilter filter = FILTERS.get("type+pm+rating");
+        for (int edits : EDITS) {
+            List<CatalogDiff.Change> changes = new ArrayList<>();
+            for (int i = 0; i < edits; i++) {
+                Product before = snapshot.products().get(snapshot.orderedIds().get(i * (PRODUCTS / edits)));
+                changes.add(new CatalogDiff.Change(before.getId(), before,
+                        before.toBuilder().type("smartphone").stock(before.getStock() + 1).build()));
+            }
+            long applyStart = System.nanoTime();
+            CatalogSnapshot next = snapshot.apply(CatalogDiff.of(changes), 2);
+            long apply = (System.nanoTime() - applyStart) / 1_000_000;
+            long query = averageMicros(QUERIES, () -> next.facetIndex().find(filter, 0, PAGE_SIZE));
+            System.out.printf("%-16d %14d %14d%n", edits, apply, query);
+        }
+    }
+
+    private static List<String> scan(CatalogSnapshot snapshot, ProductFilter filter) {
+        List<String> page = new ArrayList<>();
+        Map<String, Integer> types = new HashMap<>();
+        Map<String, Integer> sellers = new HashMap<>();
+        Map<String, Integer> paymentMethods = new HashMap<>();
+        for (String id : snapshot.orderedIds()) {
+            Product product = snapshot.products().get(id);
+            boolean type = filter.getTypes().isEmpty() || filter.getTypes().contains(product.getType());
+            boolean seller = filter.getSellerIds().isEmpty() || filter.getSellerIds().contains(product.getSeller().getId());
+            boolean paymentMethod = filter.getPaymentMethodIds().isEmpty() || product.getPaymentMethods().stream()
+                    .map(PaymentMethod::getId).anyMatch(filter.getPaymentMethodIds()::contains);
+            boolean rating = filter.getMinRating() == null
+                    || (product.getRating() != null && product.getRating() >= filter.getMinRating());
+            boolean stock = !filter.isInStock() || product.getStock() > 0;
+            boolean rest = rating && stock;
+            if (seller && paymentMethod && rest) {
+                types.merge(product.getType(), 1, Integer::sum);
+            }
+            if (type && paymentMethod && rest) {
+                sellers.merge(product.getSeller().getId(), 1, Integer::sum);
+            }
+            if (type && seller && rest) {
+                product.getPaymentMethods().forEach(pm -> paymentMethods.merge(pm.getId(), 1, Integer::sum));
+            }
+            if (type && seller && paymentMethod && rest && page.size() < PAGE_SIZE) {
+                page.add(id);
+            }
+        }
+        return page;
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Measures mapping and serializing list responses with every field and with the fields of a listing grid
+ * Both columns map the products and write them with the application ObjectMapper, the "grid" one selects
+ * id,title,price,thumbnail as GET /api/products/page?fields=title,price,thumbnail does.
+ * Run with: mvn test -Dtest=FieldsBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FieldsBenchmark {
+
+    private static final int[] SIZES = {20, 100, 10_000};
+    private static final int PRODUCTS_PER_SIZE = 200_000;
+    private static final ProductFields GRID = ProductFields.parse("title,price,thumbnail");
+
+    @Test
+    void measureFields() {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        ProductMapper productMapper = new ProductMapper();
+        ObjectWriter allWriter = objectMapper.writer();
+        ObjectWriter gridWriter = objectMapper.writer(new SimpleFilterProvider().addFilter(
+                ProductResponseDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(GRID.fieldNames())));
+
+        System.out.printf("%-10s %12s %12s %12s %12s%n", "products", "all bytes", "grid bytes", "all us", "grid us");
+        for (int size : SIZES) {
+            List<Product> products = SyntheticCatalog.products(size).toList();
+            int requests = Math.max(5, PRODUCTS_PER_SIZE / size);
+            int allBytes = write(allWriter, productMapper.toResponseDTOs(products, ProductFields.ALL)).length;
+            int gridBytes = write(gridWriter, productMapper.toResponseDTOs(products, GRID)).length;
+            long all = averageMicros(requests, () -> write(allWriter, productMapper.toResponseDTOs(products, ProductFields.ALL)));
+            long grid = averageMicros(requests, () -> write(gridWriter, productMapper.toResponseDTOs(products, GRID)));
+            System.out.printf("%-10d %12d %12d %12d %12d%n", size, allBytes, gridBytes, all, grid);
+        }
+    }
+
+    private static byte[] write(ObjectWriter writer, List<ProductResponseDTO> products) {
+        try {
+            return writer.writeValueAsBytes(products);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.FilterPlanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the first page of filter expressions on a 1M product catalog
+ * The "scan" column tests the compiled expression on every product, the "planned" column lets the planner
+ * pick an index, shown with its estimated and examined candidates.
+ * Run with: mvn test -Dtest=FilterBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FilterBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SCANS = 5;
+    private static final int QUERIES = 50;
+    private static final String[] EXPRESSIONS = {
+        "price < 500 AND rating >= 4.5 AND seller.rating > 4.7",
+        "type = smartphone AND seller.rating > 4.7",
+        "type = tv AND price <= 200",
+        "seller.id = seller-042 AND paymentMethod = pm-002 AND stock > 0",
+        "seller.rating > 4.7 OR price < 10"
+    };
+
+    @Test
+    void measureFilter() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        SyntheticCatalog.products(PRODUCTS).forEach(builder::add);
+        CatalogSnapshot snapshot = builder.build(1);
+
+        System.out.printf("%-64s %14s %10s %10s %10s %12s %12s%n",
+                "expression", "path", "estimated", "examined", "matches", "scan us", "planned us");
+        for (String source : EXPRESSIONS) {
+            FilterExpression expression = FilterExpression.parse(source);
+            FilterPlanner.Result result = FilterPlanner.execute(snapshot, expression, 0, PAGE_SIZE);
+            long scan = averageMicros(SCANS, () -> scan(snapshot, expression));
+            long planned = averageMicros(QUERIES, () -> FilterPlanner.execute(snapshot, expression, 0, PAGE_SIZE));
+            System.out.printf("%-64s %14s %10d %10d %10d %12d %12d%n", source, result.plan().getAccessPath(),
+                    result.plan().getEstimatedRows().get(result.plan().getAccessPath()),
+                    result.plan().getExaminedRows(), result.total(), scan, planned);
+        }
+    }
+
+    private static List<String> scan(CatalogSnapshot snapshot, FilterExpression expression) {
+        List<String> matches = new ArrayList<>();
+        for (String id : snapshot.orderedIds()) {
+            if (expression.test(snapshot.products().get(id))) {
+                matches.add(id);
+            }
+        }
+        return matches.subList(0, Math.min(PAGE_SIZE, matches.size()));
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
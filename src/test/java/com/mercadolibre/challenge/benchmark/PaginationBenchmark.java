@@ -0,0 +1,94 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductSort;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures page latency of findAll as the catalog grows, for the first, middle and last page
+ * The "copy" column reproduces the previous approach of copying every product and skipping to the
+ * offset, the "slice" column is the id ordered index of the published snapshot. The last two columns
+ * compare sorting by price on every request with the price sort index of the snapshot
+ * Run with: mvn test -Dtest=PaginationBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PaginationBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 250_000};
+    private static final int PAGE_SIZE = 20;
+    private static final int REQUESTS = 200;
+    private static final int SORTING_REQUESTS = 10;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measurePageLatency() throws Exception {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        System.out.printf("%-10s %-8s %14s %14s %16s %16s%n",
+                "products", "page", "copy us", "slice us", "sort/request us", "price index us");
+
+        for (int size : SIZES) {
+            Path file = tempDir.resolve("products-" + size + ".json");
+            SyntheticCatalog.writeJson(file, size, objectMapper);
+            ProductAdapter adapter = new ProductAdapter(objectMapper,
+                    CatalogProperties.of(file.toString()).withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(Integer.MAX_VALUE),
+                    PaginationProperties.defaults());
+            adapter.init();
+
+            int lastPage = (size - 1) / PAGE_SIZE;
+            for (int page : new int[]{0, lastPage / 2, lastPage}) {
+                PageRequest pageRequest = PageRequest.of(page, PAGE_SIZE);
+                PageRequest byPrice = pageRequest.sortedBy(ProductSort.PRICE, SortDirection.DESC);
+                long copy = averageMicros(REQUESTS, () -> copyAndSkip(adapter, pageRequest));
+                long slice = averageMicros(REQUESTS, () -> adapter.findAll(pageRequest).join());
+                long sortPerRequest = averageMicros(SORTING_REQUESTS, () -> sortAndSkip(adapter, byPrice));
+                long sortIndex = averageMicros(REQUESTS, () -> adapter.findAll(byPrice).join());
+                System.out.printf("%-10d %-8d %14d %14d %16d %16d%n",
+                        size, page, copy, slice, sortPerRequest, sortIndex);
+            }
+            adapter.close();
+        }
+    }
+
+    private static List<Product> copyAndSkip(ProductAdapter adapter, PageRequest pageRequest) {
+        List<Product> allProducts = new ArrayList<>(adapter.currentSnapshot().products().values());
+        return allProducts.stream()
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getSize())
+                .toList();
+    }
+
+    private static List<Product> sortAndSkip(ProductAdapter adapter, PageRequest pageRequest) {
+        return adapter.currentSnapshot().products().values().stream()
+                .sorted(pageRequest.getSort().order().reversed())
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getSize())
+                .toList();
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,74 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Measures the first page of a price range query on a 1M product catalog
+ * The "scan" column compares the BigDecimal price of every product to count the matches and take the
+ * first page, the "index" column runs the two
+ * binary searches over the price index of the snapshot and resolves one page of the range.
+ * Synthetic prices are spread between 10.00 and 5009.99.
+ * Run with: mvn test -Dtest=PriceRangeBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PriceRangeBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SCANS = 10;
+    private static final int LOOKUPS = 10_000;
+    private static final String[][] RANGES = {{"100.00", "110.00"}, {"1000.00", "2000.00"}, {"10.00", "5009.99"}};
+
+    @Test
+    void measureRangeQueries() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        SyntheticCatalog.products(PRODUCTS).forEach(builder::add);
+        long buildStart = System.nanoTime();
+        CatalogSnapshot snapshot = builder.build(1);
+        System.out.printf("Built snapshot with sort and price indexes in %d ms%n",
+                (System.nanoTime() - buildStart) / 1_000_000);
+
+        System.out.printf("%-22s %10s %14s %14s%n", "range", "matches", "scan us", "index us");
+        for (String[] range : RANGES) {
+            BigDecimal min = new BigDecimal(range[0]);
+            BigDecimal max = new BigDecimal(range[1]);
+            int matches = snapshot.sortIndexes().idsInPriceRange(null, min, max, snapshot.products()).size();
+            long scan = averageMicros(SCANS, () -> scan(snapshot, min, max));
+            long index = averageMicros(LOOKUPS, () -> firstPage(snapshot, min, max));
+            System.out.printf("%-22s %10d %14d %14d%n", range[0] + "-" + range[1], matches, scan, index);
+        }
+    }
+
+    private static List<Product> scan(CatalogSnapshot snapshot, BigDecimal min, BigDecimal max) {
+        // Every match is collected because the page reports the total number of matches
+        List<Product> matches = snapshot.products().values().stream()
+                .filter(product -> product.getPrice() != null
+                        && product.getPrice().compareTo(min) >= 0 && product.getPrice().compareTo(max) <= 0)
+                .toList();
+        return matches.subList(0, Math.min(PAGE_SIZE, matches.size()));
+    }
+
+    private static List<Product> firstPage(CatalogSnapshot snapshot, BigDecimal min, BigDecimal max) {
+        List<String> ids = snapshot.sortIndexes().idsInPriceRange(null, min, max, snapshot.products());
+        return ids.subList(0, Math.min(PAGE_SIZE, ids.size())).stream()
+                .map(snapshot.products()::get)
+                .toList();
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,116 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.Seller;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Measures equals and hashCode of catalog products and the heap allocated by a read of one product
+ * Products get the given number of reviews. "hash" hashes the same products over and over, as a content
+ * hash or ETag of a cached product would. "equals diff" compares products with separately built copies
+ * that differ in the comment of their last review, as a catalog diff of a changed product does, and
+ * "equals same" compares them with equal copies. "read bytes" is the heap allocated by mapping a product
+ * of the cache to its response.
+ * Run with: mvn test -Dtest=ProductModelBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductModelBenchmark {
+
+    private static final int[] REVIEWS = {3, 100, 1_000};
+    private static final int PRODUCTS = 1_000;
+    private static final int OPERATIONS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    private static int sink;
+
+    @Test
+    void measureEqualsHashCodeAndReads() {
+        ProductMapper productMapper = new ProductMapper();
+        System.out.printf("%-10s %12s %16s %16s %12s%n", "reviews", "hash ns", "equals diff ns", "equals same ns", "read bytes");
+        for (int reviewCount : REVIEWS) {
+            Product[] products = new Product[PRODUCTS];
+            Product[] changed = new Product[PRODUCTS];
+            Product[] same = new Product[PRODUCTS];
+            for (int i = 0; i < PRODUCTS; i++) {
+                products[i] = withReviews(SyntheticCatalog.product(i), reviewCount, "Muy bueno");
+                changed[i] = withReviews(SyntheticCatalog.product(i), reviewCount, "Muy bueno, llegó rápido");
+                same[i] = withReviews(SyntheticCatalog.product(i), reviewCount, "Muy bueno");
+            }
+            int operations = Math.max(10_000, OPERATIONS / reviewCount);
+            double hash = nanosPerOperation(operations, i -> products[i % PRODUCTS].hashCode());
+            double equalsDiff = nanosPerOperation(operations, i -> products[i % PRODUCTS].equals(changed[i % PRODUCTS]) ? 1 : 0);
+            double equalsSame = nanosPerOperation(operations, i -> products[i % PRODUCTS].equals(same[i % PRODUCTS]) ? 1 : 0);
+            long readBytes = bytesPerOperation(PRODUCTS, i -> productMapper.toResponseDTO(products[i]).hashCode());
+            System.out.printf("%-10d %12.1f %16.1f %16.1f %12d%n", reviewCount, hash, equalsDiff, equalsSame, readBytes);
+        }
+    }
+
+    /**
+     * Build a product with freshly built children, so no part of it is shared with another product
+     */
+    private static Product withReviews(Product product, int reviewCount, String lastComment) {
+        List<Review> reviews = new ArrayList<>(reviewCount);
+        for (int r = 0; r < reviewCount; r++) {
+            reviews.add(Review.builder()
+                    .id(product.getId() + "-rev-" + r)
+                    .userId("user-" + r)
+                    .userName("Usuario " + r)
+                    .comment(r == reviewCount - 1 ? lastComment : "Comentario " + r)
+                    .rating(1 + r % 5)
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(r))
+                    .build());
+        }
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        for (PaymentMethod method : product.getPaymentMethods()) {
+            paymentMethods.add(PaymentMethod.builder().id(method.getId()).name(method.getName())
+                    .description(method.getDescription()).build());
+        }
+        Seller seller = product.getSeller();
+        return product.toBuilder()
+                .images(new ArrayList<>(product.getImages()))
+                .paymentMethods(paymentMethods)
+                .seller(Seller.builder().id(seller.getId()).name(seller.getName()).email(seller.getEmail())
+                        .phone(seller.getPhone()).rating(seller.getRating()).build())
+                .reviews(reviews)
+                .build();
+    }
+
+    private static double nanosPerOperation(int operations, IntUnaryOperator operation) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int result = 0;
+            for (int i = 0; i < operations; i++) {
+                result += operation.applyAsInt(i);
+            }
+            best = Math.min(best, (double) (System.nanoTime() - start) / operations);
+            sink += result;
+        }
+        return best;
+    }
+
+    private static long bytesPerOperation(int operations, IntUnaryOperator operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = threads.getCurrentThreadAllocatedBytes();
+            int result = 0;
+            for (int i = 0; i < operations; i++) {
+                result += operation.applyAsInt(i);
+            }
+            best = Math.min(best, (threads.getCurrentThreadAllocatedBytes() - start) / operations);
+            sink += result;
+        }
+        return best;
+    }
+}
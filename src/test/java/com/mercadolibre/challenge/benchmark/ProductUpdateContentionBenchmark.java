@@ -0,0 +1,147 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductVersions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compares the version check of product updates done with a compare-and-set per product
+ * against the same check done under a single read-write lock
+ * Every writer reads the current version and claims the next one, retrying on conflict.
+ * The "spread" scenario gives each writer its own products, the "hot" scenario makes all writers
+ * update the same product.
+ * Run with: mvn test -Dtest=ProductUpdateContentionBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductUpdateContentionBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int UPDATES_PER_THREAD = 1_000_000;
+    private static final int[] THREADS = {1, 2, 4, 8};
+
+    /**
+     * Claims the next version of a product
+     */
+    private interface VersionTable {
+        long current(String id);
+
+        boolean tryClaim(String id, long expectedVersion);
+    }
+
+    /**
+     * Lock based equivalent of {@link ProductVersions}
+     */
+    private static final class LockedVersions implements VersionTable {
+        private final Map<String, Long> versions = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        LockedVersions(Map<String, Product> products) {
+            products.forEach((id, product) -> versions.put(id, product.currentVersion()));
+        }
+
+        @Override
+        public long current(String id) {
+            lock.readLock().lock();
+            try {
+                return versions.get(id);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean tryClaim(String id, long expectedVersion) {
+            lock.writeLock().lock();
+            try {
+                if (versions.get(id) != expectedVersion) {
+                    return false;
+                }
+                versions.put(id, expectedVersion + 1);
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Test
+    void compareCompareAndSetWithLock() throws InterruptedException {
+        Map<String, Product> products = new HashMap<>();
+        String[] ids = new String[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            ids[i] = "prod-" + i;
+            products.put(ids[i], Product.builder().id(ids[i]).build());
+        }
+
+        System.out.printf("%-8s %-8s %-6s %14s %12s%n", "scenario", "table", "threads", "updates/ms", "conflicts");
+        for (boolean hot : new boolean[]{false, true}) {
+            for (int threads : THREADS) {
+                ProductVersions casVersions = new ProductVersions(products::get);
+                VersionTable cas = new VersionTable() {
+                    @Override
+                    public long current(String id) {
+                        return casVersions.current(id);
+                    }
+
+                    @Override
+                    public boolean tryClaim(String id, long expectedVersion) {
+                        try {
+                            casVersions.claim(id, expectedVersion);
+                            return true;
+                        } catch (ConcurrencyException e) {
+                            return false;
+                        }
+                    }
+                };
+                run(hot ? "hot" : "spread", "cas", cas, ids, threads, hot);
+                run(hot ? "hot" : "spread", "lock", new LockedVersions(products), ids, threads, hot);
+            }
+        }
+    }
+
+    private static void run(String scenario, String name, VersionTable table, String[] ids, int threads, boolean hot)
+            throws InterruptedException {
+        LongAdder conflicts = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            workers[t] = Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    // Spread writers walk disjoint slices of the catalog
+                    String id = hot ? ids[0] : ids[(worker * (ids.length / threads)) + (i % (ids.length / threads))];
+                    while (!table.tryClaim(id, table.current(id))) {
+                        conflicts.increment();
+                    }
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - begin) / 1_000_000);
+        System.out.printf("%-8s %-8s %-6d %14d %12d%n", scenario, name, threads,
+                (long) threads * UPDATES_PER_THREAD / elapsedMillis, conflicts.sum());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
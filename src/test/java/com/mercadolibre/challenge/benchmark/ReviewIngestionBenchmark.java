@@ -0,0 +1,120 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ReviewAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures review ingestion through the review adapter, with most reviews going to a few popular products
+ * Every client submits a review and waits for it to be durable before submitting the next one, so the
+ * latency includes the wait for the next flush and the fsync of the log. After every run the rating of
+ * every popular product is checked against the exact average of its reviews, and the number of log
+ * operations it took is reported next to the number of reviews it received.
+ * Run with: mvn test -Dtest=ReviewIngestionBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReviewIngestionBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int HOT_PRODUCTS = 10;
+    private static final int CLIENTS = 512;
+    private static final int REVIEWS_PER_CLIENT = 200;
+    private static final long[] FLUSH_INTERVALS = {2, 10, 50};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measureIngestion() throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        System.out.printf("%-10s %14s %10s %10s %14s %14s%n",
+                "flush ms", "reviews/s", "p50 us", "p99 us", "hot reviews", "hot log ops");
+        for (long flushInterval : FLUSH_INTERVALS) {
+            Path file = tempDir.resolve("products-" + flushInterval + ".json");
+            SyntheticCatalog.writeJson(file, PRODUCTS, objectMapper);
+            ProductAdapter productAdapter = new ProductAdapter(objectMapper,
+                    CatalogProperties.of(file.toString()).withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(Integer.MAX_VALUE),
+                    PaginationProperties.defaults());
+            productAdapter.init();
+            ReviewAdapter reviewAdapter = new ReviewAdapter(productAdapter, flushInterval, 100_000);
+            reviewAdapter.start();
+            try {
+                run(productAdapter, reviewAdapter, flushInterval);
+            } finally {
+                reviewAdapter.stop();
+                productAdapter.close();
+            }
+        }
+    }
+
+    private static void run(ProductAdapter productAdapter, ReviewAdapter reviewAdapter, long flushInterval)
+            throws InterruptedException {
+        long[] hotVersions = new long[HOT_PRODUCTS];
+        int[] hotReviews = new int[HOT_PRODUCTS];
+        for (int i = 0; i < HOT_PRODUCTS; i++) {
+            Product product = productAdapter.currentSnapshot().products().get(id(i));
+            hotVersions[i] = product.currentVersion();
+            hotReviews[i] = product.getReviews().size();
+        }
+        long[] latencies = new long[CLIENTS * REVIEWS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        long begin = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int r = 0; r < REVIEWS_PER_CLIENT; r++) {
+                    int index = random.nextInt(10) < 8 ? random.nextInt(HOT_PRODUCTS) : random.nextInt(PRODUCTS);
+                    Review review = Review.builder().id(reviewId(random)).userName("Usuario").rating(1 + random.nextInt(5)).build();
+                    long start = System.nanoTime();
+                    reviewAdapter.submit(id(index), review).join();
+                    latencies[next.getAndIncrement()] = System.nanoTime() - start;
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+
+        long received = 0;
+        long operations = 0;
+        for (int i = 0; i < HOT_PRODUCTS; i++) {
+            Product product = productAdapter.currentSnapshot().products().get(id(i));
+            double exact = product.getReviews().stream().mapToInt(Review::getRating).average().orElseThrow();
+            if (Math.abs(exact - product.getRating()) > 1e-9) {
+                throw new AssertionError("Rating of " + product.getId() + " is " + product.getRating() + ", expected " + exact);
+            }
+            received += product.getReviews().size() - hotReviews[i];
+            operations += product.currentVersion() - hotVersions[i];
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-10d %14d %10d %10d %14d %14d%n", flushInterval,
+                (long) latencies.length * 1_000_000_000L / elapsed,
+                latencies[latencies.length / 2] / 1000, latencies[latencies.length * 99 / 100] / 1000,
+                received, operations);
+    }
+
+    private static String reviewId(ThreadLocalRandom random) {
+        return Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+    }
+
+    private static String id(int index) {
+        return String.format("prod-%07d", index);
+    }
+}
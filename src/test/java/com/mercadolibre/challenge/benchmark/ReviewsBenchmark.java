@@ -0,0 +1,116 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.ReviewSummary;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ReviewIndex;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures reading a popular product with its embedded reviews against reading the first page of its reviews
+ * The "product" columns map and write the full product as GET /api/products/{id} does, the "page" columns
+ * the newest 20 reviews with the summary as GET /api/products/{id}/reviews does, answered from the
+ * precomputed orders, and "unindexed" counts and sorts the reviews on every request instead.
+ * Run with: mvn test -Dtest=ReviewsBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReviewsBenchmark {
+
+    private static final int[] REVIEW_COUNTS = {100, 1_000, 10_000};
+    private static final int REVIEWS_PER_COUNT = 5_000_000;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20).toBuilder().direction(SortDirection.DESC).build();
+
+    @Test
+    void measureReviews() {
+        ObjectWriter writer = new JacksonConfig().objectMapper().writer();
+        ProductMapper productMapper = new ProductMapper();
+
+        System.out.printf("%-10s %14s %12s %12s %12s %14s%n",
+                "reviews", "product bytes", "page bytes", "product us", "page us", "unindexed us");
+        for (int reviewCount : REVIEW_COUNTS) {
+            Product product = product(reviewCount);
+            ReviewIndex index = ReviewIndex.build(Map.of(product.getId(), product));
+            int requests = Math.max(20, REVIEWS_PER_COUNT / reviewCount);
+            int productBytes = write(writer, productMapper.toResponseDTO(product)).length;
+            int pageBytes = write(writer, productMapper.toProductReviewsResponseDTO(
+                    firstPage(product, index.reviews(product)))).length;
+            long productMicros = averageMicros(requests, () -> write(writer, productMapper.toResponseDTO(product)));
+            long pageMicros = averageMicros(requests, () -> write(writer, productMapper.toProductReviewsResponseDTO(
+                    firstPage(product, index.reviews(product)))));
+            long unindexedMicros = averageMicros(requests, () -> write(writer, productMapper.toProductReviewsResponseDTO(
+                    firstPage(product, ReviewIndex.Reviews.of(product.getReviews())))));
+            System.out.printf("%-10d %14d %12d %12d %12d %14d%n",
+                    reviewCount, productBytes, pageBytes, productMicros, pageMicros, unindexedMicros);
+        }
+    }
+
+    private static ProductReviews firstPage(Product product, ReviewIndex.Reviews reviews) {
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            histogram.put(rating, reviews.count(rating));
+        }
+        return ProductReviews.builder()
+                .productId(product.getId())
+                .summary(ReviewSummary.builder()
+                        .reviewCount(reviews.reviewCount())
+                        .averageRating(reviews.averageRating())
+                        .histogram(histogram)
+                        .build())
+                .page(Page.of(reviews.page(ReviewSort.DATE, SortDirection.DESC, FIRST_PAGE.getOffset(), FIRST_PAGE.getSize()),
+                        reviews.reviewCount(), FIRST_PAGE))
+                .build();
+    }
+
+    private static Product product(int reviewCount) {
+        Random random = new Random(reviewCount);
+        List<Review> reviews = new ArrayList<>(reviewCount);
+        for (int i = 0; i < reviewCount; i++) {
+            reviews.add(Review.builder()
+                    .id("rev-" + i)
+                    .userId("user-" + random.nextInt(100_000))
+                    .userName("Usuario " + random.nextInt(100_000))
+                    .comment("Muy buen producto, llegó en tiempo y forma, lo recomiendo " + random.nextInt(1000))
+                    .rating(1 + random.nextInt(5))
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000)))
+                    .build());
+        }
+        return SyntheticCatalog.product(0).toBuilder().reviews(reviews).build();
+    }
+
+    private static byte[] write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,99 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogDiff;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SearchIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.TextAnalyzer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures the first page of a full text query on a 1M product catalog
+ * The "scan" column lower cases the title and description of every product and checks them for any
+ * query term, the "index" column ranks the matches with the BM25 index of the snapshot.
+ * The synthetic vocabulary is small, so common words match about half of the catalog, which is the
+ * worst case for the index. Misspelled queries compare exact and fuzzy mode, titles end with a number so
+ * the title vocabulary holds about one term per product. The last lines show the cost of publishing a
+ * snapshot after text edits.
+ * Run with: mvn test -Dtest=SearchBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SearchBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SCANS = 5;
+    private static final int QUERIES = 200;
+    private static final int[] EDITS = {1, 100, 10_000};
+    private static final String[] QUERY_TEXTS = {"Samsung 4242", "sony cámara", "batería", "no existe"};
+    private static final String[] MISSPELLED = {"samsumg", "motorolla 42420", "procesadro", "xyzxyz"};
+
+    @Test
+    void measureSearch() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        SyntheticCatalog.products(PRODUCTS).forEach(builder::add);
+        long buildStart = System.nanoTime();
+        CatalogSnapshot snapshot = builder.build(1);
+        System.out.printf("Built snapshot with %d search terms in %d ms%n",
+                snapshot.searchIndex().termCount(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        System.out.printf("%-16s %10s %14s %14s%n", "query", "matches", "scan us", "index us");
+        for (String query : QUERY_TEXTS) {
+            SearchIndex.Result result = snapshot.searchIndex().search(query, 0, PAGE_SIZE);
+            long scan = averageMicros(SCANS, () -> scan(snapshot, query));
+            long index = averageMicros(QUERIES, () -> snapshot.searchIndex().search(query, 0, PAGE_SIZE));
+            System.out.printf("%-16s %10d %14d %14d%n", query, result.total(), scan, index);
+        }
+
+        System.out.printf("%-16s %10s %14s %14s%n", "fuzzy query", "matches", "exact us", "fuzzy us");
+        for (String query : MISSPELLED) {
+            SearchIndex.Result result = snapshot.searchIndex().search(query, true, 0, PAGE_SIZE);
+            long exact = averageMicros(QUERIES, () -> snapshot.searchIndex().search(query, 0, PAGE_SIZE));
+            long fuzzy = averageMicros(QUERIES, () -> snapshot.searchIndex().search(query, true, 0, PAGE_SIZE));
+            System.out.printf("%-16s %10d %14d %14d%n", query, result.total(), exact, fuzzy);
+        }
+
+        System.out.printf("%-16s %14s %14s%n", "text edits", "apply ms", "query us");
+        for (int edits : EDITS) {
+            List<CatalogDiff.Change> changes = new ArrayList<>();
+            for (int i = 0; i < edits; i++) {
+                Product before = snapshot.products().get(snapshot.orderedIds().get(i * (PRODUCTS / edits)));
+                changes.add(new CatalogDiff.Change(before.getId(), before,
+                        before.toBuilder().title(before.getTitle() + " renovado").build()));
+            }
+            long applyStart = System.nanoTime();
+            CatalogSnapshot next = snapshot.apply(CatalogDiff.of(changes), 2);
+            long apply = (System.nanoTime() - applyStart) / 1_000_000;
+            long query = averageMicros(QUERIES, () -> next.searchIndex().search("sony cámara", 0, PAGE_SIZE));
+            System.out.printf("%-16d %14d %14d%n", edits, apply, query);
+        }
+    }
+
+    private static List<String> scan(CatalogSnapshot snapshot, String query) {
+        List<String> terms = TextAnalyzer.terms(query);
+        List<String> matches = new ArrayList<>();
+        for (Product product : snapshot.products().values()) {
+            String text = (product.getTitle() + " " + product.getDescription()).toLowerCase(Locale.ROOT);
+            if (terms.stream().anyMatch(text::contains)) {
+                matches.add(product.getId());
+            }
+        }
+        return matches.subList(0, Math.min(PAGE_SIZE, matches.size()));
+    }
+
+    private static long averageMicros(int requests, Runnable request) {
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - start) / requests / 1_000;
+    }
+}
@@ -0,0 +1,156 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogDiff;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the time and the bytes allocated to publish the next snapshot for a small batch of writes
+ * Every scenario changes {@value #BATCH} products of a large catalog: a stock flush, a review flush, price updates,
+ * inserts, and a reload of a data file that differs from the published catalog in {@value #BATCH} products.
+ * The reload row measures applying the diff, comparing the file with the snapshot is listed separately because
+ * it reads every product whatever the size of the change. A second test chains review flushes on one product
+ * with many reviews, as a popular product gets them. Allocations are counted on the calling thread.
+ * Run with: mvn test -Dtest=SnapshotApplyBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SnapshotApplyBenchmark {
+
+    private static final int[] SIZES = {100_000, 400_000};
+    private static final int BATCH = 10;
+    private static final int ROUNDS = 40;
+    private static final int COMPARE_ROUNDS = 5;
+    private static final int[] POPULAR_REVIEWS = {10_000, 100_000};
+
+    @Test
+    void measureSmallBatchApply() {
+        System.out.printf("%-10s %-10s %12s %14s%n", "products", "batch", "avg us", "alloc KB");
+        for (int size : SIZES) {
+            CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+            SyntheticCatalog.products(size).forEach(builder::add);
+            CatalogSnapshot base = builder.build(1);
+
+            report(size, "stock", base, round -> CatalogDiff.fromOperations(base, operations(size, round,
+                    index -> ProductOperation.stock(id(index), base.products().get(id(index)).getStock(), round))));
+            report(size, "reviews", base, round -> CatalogDiff.fromOperations(base, operations(size, round,
+                    index -> ProductOperation.reviews(id(index), base.products().get(id(index)).currentVersion() + 1,
+                            List.of(review(index, round))))));
+            report(size, "price", base, round -> CatalogDiff.fromOperations(base, operations(size, round,
+                    index -> ProductOperation.update(base.products().get(id(index)).toBuilder()
+                            .price(BigDecimal.valueOf(round + index % 1000)).build()))));
+            report(size, "insert", base, round -> CatalogDiff.fromOperations(base, operations(size, round,
+                    index -> ProductOperation.create(SyntheticCatalog.product(size + index).toBuilder()
+                            .id(id(size + index)).build()))));
+
+            Map<String, Product> incoming = new HashMap<>(base.products());
+            for (int i = 0; i < BATCH; i++) {
+                String id = id(i * (size / BATCH));
+                incoming.put(id, incoming.get(id).toBuilder().title("Reloaded " + i).build());
+            }
+            CatalogDiff reloadDiff = CatalogDiff.between(base, incoming);
+            long start = System.nanoTime();
+            long allocated = allocatedBytes();
+            for (int round = 0; round < COMPARE_ROUNDS; round++) {
+                reloadDiff = CatalogDiff.between(base, incoming);
+            }
+            System.out.printf("%-10d %-10s %12d %14d%n", size, "reload cmp",
+                    (System.nanoTime() - start) / COMPARE_ROUNDS / 1000,
+                    (allocatedBytes() - allocated) / COMPARE_ROUNDS / 1024);
+            CatalogDiff diff = reloadDiff;
+            report(size, "reload", base, round -> diff);
+        }
+    }
+
+    @Test
+    void measureReviewFlushesOnPopularProduct() {
+        System.out.printf("%-10s %-10s %12s %14s%n", "reviews", "batch", "avg us", "alloc KB");
+        for (int reviewCount : POPULAR_REVIEWS) {
+            CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+            SyntheticCatalog.products(SIZES[0]).forEach(builder::add);
+            List<Review> reviews = new ArrayList<>(reviewCount);
+            for (int i = 0; i < reviewCount; i++) {
+                reviews.add(review(i, 0));
+            }
+            builder.add(SyntheticCatalog.product(0).toBuilder().id("prod-popular").reviews(reviews).build());
+            CatalogSnapshot snapshot = builder.build(1);
+
+            long start = 0;
+            long allocated = 0;
+            for (int round = 0; round < ROUNDS + ROUNDS / 4; round++) {
+                if (round == ROUNDS / 4) {
+                    start = System.nanoTime();
+                    allocated = allocatedBytes();
+                }
+                List<Review> submitted = new ArrayList<>(BATCH);
+                for (int i = 0; i < BATCH; i++) {
+                    submitted.add(review(reviewCount + round * BATCH + i, round + 1));
+                }
+                Product current = snapshot.products().get("prod-popular");
+                snapshot = snapshot.apply(CatalogDiff.fromOperations(snapshot, List.of(ProductOperation.reviews(
+                        "prod-popular", current.currentVersion() + 1, submitted))), snapshot.version() + 1);
+                snapshot.reviewIndex().reviews(snapshot.products().get("prod-popular"));
+            }
+            System.out.printf("%-10d %-10s %12d %14d%n", reviewCount, "reviews",
+                    (System.nanoTime() - start) / ROUNDS / 1000, (allocatedBytes() - allocated) / ROUNDS / 1024);
+        }
+    }
+
+    private static void report(int size, String batch, CatalogSnapshot base, IntFunction<CatalogDiff> diffs) {
+        for (int round = 0; round < ROUNDS / 4; round++) {
+            base.apply(diffs.apply(round), base.version() + 1);
+        }
+        List<CatalogDiff> prepared = new ArrayList<>(ROUNDS);
+        for (int round = 0; round < ROUNDS; round++) {
+            prepared.add(diffs.apply(round));
+        }
+        long start = System.nanoTime();
+        long allocated = allocatedBytes();
+        long checksum = 0;
+        for (CatalogDiff diff : prepared) {
+            checksum += base.apply(diff, base.version() + 1).size();
+        }
+        long perRoundAllocated = (allocatedBytes() - allocated) / ROUNDS;
+        long perRoundMicros = (System.nanoTime() - start) / ROUNDS / 1000;
+        System.out.printf("%-10d %-10s %12d %14d%n", size, batch, perRoundMicros, perRoundAllocated / 1024);
+        if (checksum == 0) {
+            throw new IllegalStateException("No snapshot applied");
+        }
+    }
+
+    private static List<ProductOperation> operations(int size, int round, IntFunction<ProductOperation> operation) {
+        List<ProductOperation> operations = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            operations.add(operation.apply((round * 7919 + i * (size / BATCH)) % size));
+        }
+        return operations;
+    }
+
+    private static Review review(int index, int round) {
+        return Review.builder()
+                .id("rev-bench-" + index + "-" + round)
+                .rating(1 + (index + round) % 5)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(round))
+                .build();
+    }
+
+    private static String id(int index) {
+        return String.format("prod-%07d", index);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,74 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.infrastructure.adapter.output.stock.StripedStockCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures reservation throughput of many buyers on a single product, comparing a single
+ * compare-and-set counter (one stripe) with striped counters
+ * Every buyer reserves one unit and releases every other reservation, so the stock never runs out
+ * and both the decrement and the increment paths are exercised.
+ * Stripes only pay off when buyers run on several cores at once, on a single core every configuration
+ * serializes the same way, so the number of cores is printed with the results.
+ * Run with: mvn test -Dtest=StockReservationBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockReservationBenchmark {
+
+    private static final int[] THREADS = {64, 128, 256};
+    private static final int[] STRIPES = {1, 8, 32};
+    private static final int RESERVATIONS_PER_THREAD = 100_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void compareSingleAndStripedCounters() throws InterruptedException {
+        System.out.printf("Available processors: %d%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-8s %-8s %16s %10s%n", "threads", "stripes", "reservations/ms", "failed");
+        for (int threads : THREADS) {
+            for (int stripes : STRIPES) {
+                long best = Long.MAX_VALUE;
+                long failed = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    StripedStockCounter counter = new StripedStockCounter(threads * RESERVATIONS_PER_THREAD, stripes);
+                    LongAdder failures = new LongAdder();
+                    best = Math.min(best, run(counter, threads, failures));
+                    failed = failures.sum();
+                }
+                System.out.printf("%-8d %-8d %16d %10d%n", threads, stripes,
+                        (long) threads * RESERVATIONS_PER_THREAD / Math.max(1, best / 1_000_000), failed);
+            }
+        }
+    }
+
+    private static long run(StripedStockCounter counter, int threads, LongAdder failures) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] buyers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            buyers[t] = Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < RESERVATIONS_PER_THREAD; i++) {
+                    if (!counter.tryReserve(1)) {
+                        failures.increment();
+                    } else if ((i & 1) == 0) {
+                        counter.release(1);
+                    }
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread buyer : buyers) {
+            buyer.join();
+        }
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogDiff;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SuggestIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures prefix completions over the title terms and types of a 1M product catalog
+ * Every prefix is completed as the user would type it, one keystroke at a time. The "bytes/call"
+ * column is the heap allocated by the calling thread per completion. The last lines repeat the
+ * keystrokes after rating changes have been recorded in the overlay of the index.
+ * Run with: mvn test -Dtest=SuggestBenchmark -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SuggestBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int CALLS = 200_000;
+    private static final int EDITS = 1_000;
+    private static final String[] TYPED = {"s", "sa", "sam", "sams", "samsung", "cám", "cámara", "4", "42", "424"};
+
+    @Test
+    void measureSuggestions() {
+        List<Product> products = SyntheticCatalog.products(PRODUCTS).toList();
+        long buildStart = System.nanoTime();
+        SuggestIndex index = SuggestIndex.build(products);
+        System.out.printf("Built %d completions in %d ms%n", index.completionCount(),
+                (System.nanoTime() - buildStart) / 1_000_000);
+        measure("trie", index);
+
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        products.forEach(builder::add);
+        CatalogSnapshot snapshot = builder.build(1);
+        List<CatalogDiff.Change> changes = new ArrayList<>();
+        for (int i = 0; i < EDITS; i++) {
+            Product before = products.get(i * (PRODUCTS / EDITS));
+            changes.add(new CatalogDiff.Change(before.getId(), before, before.toBuilder().rating(5.0).build()));
+        }
+        long applyStart = System.nanoTime();
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(changes), 2);
+        System.out.printf("Applied %d rating changes in %d ms%n", EDITS, (System.nanoTime() - applyStart) / 1_000_000);
+        measure("trie + overlay", next.suggestIndex());
+    }
+
+    private static void measure(String label, SuggestIndex index) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        System.out.printf("%-16s %-10s %-40s %10s %12s%n", label, "prefix", "top completions", "ns/call", "bytes/call");
+        for (String prefix : TYPED) {
+            for (int i = 0; i < CALLS; i++) {
+                index.suggest(prefix, SuggestIndex.MAX_SUGGESTIONS);
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                index.suggest(prefix, SuggestIndex.MAX_SUGGESTIONS);
+            }
+            long nanos = (System.nanoTime() - start) / CALLS;
+            long bytes = (threads.getCurrentThreadAllocatedBytes() - allocated) / CALLS;
+            String top = String.join(",", index.suggest(prefix, 3));
+            System.out.printf("%-16s %-10s %-40s %10d %12d%n", "", prefix, top, nanos, bytes);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.mercadolibre.challenge.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.Seller;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic generator of product catalogs shaped like data/products.json, used by the benchmarks
+ */
+public final class SyntheticCatalog {
+
+    static final String[] TYPES = {"smartphone", "laptop", "headphones", "tv", "shoes", "tablet", "camera", "watch"};
+    static final String[] BRANDS = {"Samsung", "Apple", "Sony", "LG", "Dell", "Nike", "Lenovo", "Xiaomi", "Motorola"};
+    static final String[] WORDS = {"pantalla", "batería", "cámara", "rápido", "liviano", "inalámbrico", "resistente",
+            "diseño", "calidad", "sonido", "memoria", "procesador", "garantía", "envío", "oferta"};
+
+    private static final int SELLERS = 200;
+    private static final PaymentMethod[] PAYMENT_METHODS = {
+            PaymentMethod.builder().id("pm-001").name("Tarjeta de Crédito").description("Visa, Mastercard").build(),
+            PaymentMethod.builder().id("pm-002").name("PayPal").description("Pago seguro online").build(),
+            PaymentMethod.builder().id("pm-003").name("Transferencia").description("Transferencia bancaria").build()
+    };
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * Generate a stream of products, the same index always yields an equal product
+     * @param size the number of products
+     * @return the products in id order
+     */
+    public static Stream<Product> products(int size) {
+        return IntStream.range(0, size).mapToObj(SyntheticCatalog::product);
+    }
+
+    /**
+     * Write a catalog of the given size as a JSON array without holding it in memory
+     * @param file the destination file
+     * @param size the number of products
+     * @param objectMapper the mapper used to serialize every product
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeJson(Path file, int size, ObjectMapper objectMapper) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(file.toFile(),
+                com.fasterxml.jackson.core.JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (int i = 0; i < size; i++) {
+                objectMapper.writeValue(generator, product(i));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Build the product with the given index
+     * @param index the product index
+     * @return the product
+     */
+    public static Product product(int index) {
+        Random random = new Random(index);
+        String brand = BRANDS[random.nextInt(BRANDS.length)];
+        String type = TYPES[index % TYPES.length];
+        int sellerIndex = random.nextInt(SELLERS);
+
+        List<Review> reviews = new ArrayList<>();
+        for (int r = 0; r < 1 + random.nextInt(3); r++) {
+            reviews.add(Review.builder()
+                    .id("rev-" + index + "-" + r)
+                    .userId("user-" + random.nextInt(10000))
+                    .userName("Usuario " + random.nextInt(10000))
+                    .comment(sentence(random, 8))
+                    .rating(1 + random.nextInt(5))
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(random.nextInt(500000)))
+                    .build());
+        }
+
+        return Product.builder()
+                .id(String.format("prod-%07d", index))
+                .title(brand + " " + type + " " + sentence(random, 2) + " " + index)
+                .description(sentence(random, 12))
+                .price(BigDecimal.valueOf(1000 + random.nextInt(500000)).movePointLeft(2).setScale(2, RoundingMode.UNNECESSARY))
+                .type(type)
+                .images(List.of("assets/images/" + index + "-1.jpg", "assets/images/" + index + "-2.jpg"))
+                .paymentMethods(List.of(PAYMENT_METHODS[0], PAYMENT_METHODS[1 + random.nextInt(2)]))
+                .seller(Seller.builder()
+                        .id(String.format("seller-%03d", sellerIndex))
+                        .name("Vendedor " + sellerIndex)
+                        .email("ventas" + sellerIndex + "@example.com")
+                        .phone("+54911" + (10000000 + sellerIndex))
+                        .rating(3.0 + (sellerIndex % 20) / 10.0)
+                        .build())
+                .stock(random.nextInt(200))
+                .rating(1.0 + random.nextInt(41) / 10.0)
+                .reviews(reviews)
+                .build();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.mercadolibre.challenge.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppendOnlyListTest {
+
+    @Test
+    void testPlusAllShouldMatchArrayListAcrossChunkBoundaries() {
+        List<Integer> expected = new ArrayList<>();
+        AppendOnlyList<Integer> list = AppendOnlyList.empty();
+        for (int batch : new int[]{1, 63, 0, 1, 64, 200, 5, 130}) {
+            AppendOnlyList<Integer> previous = list;
+            List<Integer> previousExpected = List.copyOf(expected);
+            List<Integer> appended = new ArrayList<>();
+            for (int i = 0; i < batch; i++) {
+                appended.add(expected.size() + i);
+            }
+            list = list.plusAll(appended);
+            expected.addAll(appended);
+
+            assertEquals(expected, list);
+            assertEquals(expected.hashCode(), list.hashCode());
+            assertEquals(previousExpected, previous);
+            assertTrue(list.startsWith(previous));
+        }
+    }
+
+    @Test
+    void testStartsWithShouldRequireTheSameInstances() {
+        AppendOnlyList<String> list = AppendOnlyList.copyOf(List.of(new String("a"), new String("b")));
+
+        assertTrue(list.plusAll(List.of("c")).startsWith(list));
+        assertTrue(list.startsWith(List.of(list.get(0))));
+        assertFalse(list.startsWith(List.of(new String("a"))));
+        assertFalse(list.startsWith(List.of("a", "b", "c")));
+    }
+
+    @Test
+    void testCopyOfShouldRejectNullElementsAndKeepAppendOnlyLists() {
+        List<String> withNull = new ArrayList<>(List.of("a"));
+        withNull.add(null);
+        AppendOnlyList<String> list = AppendOnlyList.copyOf(List.of("a"));
+
+        assertThrows(NullPointerException.class, () -> AppendOnlyList.copyOf(withNull));
+        assertSame(list, AppendOnlyList.copyOf(list));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.mercadolibre.challenge.domain.model;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterExpressionTest {
+
+    private final Product phone = Product.builder()
+            .id("prod-001")
+            .type("smartphone")
+            .price(new BigDecimal("499.99"))
+            .rating(4.6)
+            .stock(3)
+            .seller(Seller.builder().id("seller-001").rating(4.8).build())
+            .paymentMethods(List.of(PaymentMethod.builder().id("pm-001").build(), PaymentMethod.builder().id("pm-002").build()))
+            .build();
+
+    @Test
+    void testTestShouldEvaluateComparisonsAndConnectives() {
+        assertTrue(FilterExpression.parse("price < 500 AND rating >= 4.5 AND seller.rating > 4.7").test(phone));
+        assertFalse(FilterExpression.parse("price < 499.99").test(phone));
+        assertTrue(FilterExpression.parse("type = laptop OR (type = smartphone AND stock >= 3)").test(phone));
+        assertTrue(FilterExpression.parse("not type = 'laptop' and paymentMethod = pm-002").test(phone));
+        assertFalse(FilterExpression.parse("paymentMethod != \"pm-001\"").test(phone));
+        assertTrue(FilterExpression.parse("id=prod-001").test(phone));
+    }
+
+    @Test
+    void testComparisonOnMissingValueShouldNeverMatch() {
+        Product withoutPrice = Product.builder().id("prod-002").build();
+
+        assertFalse(FilterExpression.parse("price < 500").test(withoutPrice));
+        assertFalse(FilterExpression.parse("price >= 500").test(withoutPrice));
+        assertFalse(FilterExpression.parse("type != smartphone").test(withoutPrice));
+        assertTrue(FilterExpression.parse("NOT price < 500").test(withoutPrice));
+    }
+
+    @Test
+    void testParseShouldBindAndTighterThanOrAndPrintCanonicalForm() {
+        FilterExpression expression = FilterExpression.parse("TYPE = tv or price <= 10 AND Rating > 4");
+
+        assertInstanceOf(FilterExpression.Or.class, expression.root());
+        assertEquals("type = \"tv\" OR price <= 10 AND rating > 4", expression.toString());
+        assertEquals(List.of(expression.root()), expression.conjuncts());
+        assertEquals(2, FilterExpression.parse("(type = tv OR stock > 0) AND price <= 10").conjuncts().size());
+        assertEquals("(type = \"tv\" OR stock > 0) AND price <= 10",
+                FilterExpression.parse("(type = tv OR stock > 0) AND price <= 10").toString());
+    }
+
+    @Test
+    void testParseShouldRejectInvalidExpressions() {
+        for (String invalid : List.of("", "price <", "price < abc", "color = red", "type > tv", "price << 5",
+                "(price < 5", "price < 5 type = tv", "title = 'open", "price < 5 AND", "price ~ 5")) {
+            assertThrows(ProductValidationException.class, () -> FilterExpression.parse(invalid), invalid);
+        }
+        assertThrows(ProductValidationException.class, () -> FilterExpression.parse("(".repeat(40) + "stock > 0" + ")".repeat(40)));
+        assertThrows(ProductValidationException.class, () -> FilterExpression.parse("stock > 0 AND ".repeat(100) + "stock > 0"));
+    }
+
+    @Test
+    void testParseErrorShouldPointAtPosition() {
+        ProductValidationException exception = assertThrows(ProductValidationException.class,
+                () -> FilterExpression.parse("price < 5 AND colour = red"));
+
+        assertEquals("Invalid filter expression at position 15: unknown field 'colour'", exception.getMessage());
+    }
+}
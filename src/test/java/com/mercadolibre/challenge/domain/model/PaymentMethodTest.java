@@ -24,19 +24,15 @@ class PaymentMethodTest {
     }
 
     @Test
-    void testGettersAndSetters() {
-        PaymentMethod paymentMethod = new PaymentMethod();
-        String id = "pm-002";
-        String name = "PayPal";
-        String description = "Online payment";
+    void testToBuilderShouldCopyWithChanges() {
+        PaymentMethod paymentMethod = PaymentMethod.builder().id("pm-002").name("PayPal").build();
 
-        paymentMethod.setId(id);
-        paymentMethod.setName(name);
-        paymentMethod.setDescription(description);
+        PaymentMethod described = paymentMethod.toBuilder().description("Online payment").build();
 
-        assertEquals(id, paymentMethod.getId());
-        assertEquals(name, paymentMethod.getName());
-        assertEquals(description, paymentMethod.getDescription());
+        assertEquals("pm-002", described.getId());
+        assertEquals("PayPal", described.getName());
+        assertEquals("Online payment", described.getDescription());
+        assertNull(paymentMethod.getDescription());
     }
 
     @Test
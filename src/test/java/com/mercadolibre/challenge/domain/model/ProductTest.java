@@ -55,40 +55,33 @@ class ProductTest {
     }
 
     @Test
-    void testGettersAndSetters() {
-        Product product = new Product();
-        String id = "prod-002";
-        String title = "Another Product";
-        String description = "Another Description";
-        BigDecimal price = new BigDecimal("199.99");
-        List<String> images = new ArrayList<>();
-        List<PaymentMethod> paymentMethods = new ArrayList<>();
-        Seller seller = new Seller();
-        Integer stock = 20;
-        Double rating = 3.5;
-        List<Review> reviews = new ArrayList<>();
-
-        product.setId(id);
-        product.setTitle(title);
-        product.setDescription(description);
-        product.setPrice(price);
-        product.setImages(images);
-        product.setPaymentMethods(paymentMethods);
-        product.setSeller(seller);
-        product.setStock(stock);
-        product.setRating(rating);
-        product.setReviews(reviews);
+    void testToBuilderShouldCopyWithChanges() {
+        Product product = Product.builder().id("prod-002").title("Another Product").stock(20).build();
 
-        assertEquals(id, product.getId());
-        assertEquals(title, product.getTitle());
-        assertEquals(description, product.getDescription());
-        assertEquals(price, product.getPrice());
-        assertEquals(images, product.getImages());
-        assertEquals(paymentMethods, product.getPaymentMethods());
-        assertEquals(seller, product.getSeller());
-        assertEquals(stock, product.getStock());
-        assertEquals(rating, product.getRating());
-        assertEquals(reviews, product.getReviews());
+        Product restocked = product.toBuilder().stock(5).build();
+
+        assertEquals("prod-002", restocked.getId());
+        assertEquals("Another Product", restocked.getTitle());
+        assertEquals(5, restocked.getStock());
+        assertEquals(20, product.getStock());
+        assertNotEquals(product, restocked);
+    }
+
+    @Test
+    void testListsShouldBeUnmodifiableCopies() {
+        List<String> images = new ArrayList<>(List.of("image1.jpg"));
+        List<Review> reviews = new ArrayList<>(Arrays.asList(Review.builder().id("rev-001").build(), null));
+
+        Product product = Product.builder().id("prod-003").images(images).reviews(reviews).build();
+        images.add("image2.jpg");
+
+        assertEquals(List.of("image1.jpg"), product.getImages());
+        assertEquals(Arrays.asList(Review.builder().id("rev-001").build(), null), product.getReviews());
+        assertThrows(UnsupportedOperationException.class, () -> product.getImages().add("image3.jpg"));
+        assertThrows(UnsupportedOperationException.class, () -> product.getReviews().clear());
+        assertNull(product.getPaymentMethods());
+        // Lists of another product are shared rather than copied again
+        assertSame(product.getImages(), product.toBuilder().stock(1).build().getImages());
     }
 
     @Test
@@ -118,6 +111,8 @@ class ProductTest {
         assertEquals(product1.hashCode(), product2.hashCode());
         assertNotEquals(product1, product3);
         assertNotEquals(product1.hashCode(), product3.hashCode());
+        assertEquals(product1, product1.toBuilder().build());
+        assertNotEquals(product1, product1.toBuilder().version(2L).build());
     }
 
     @Test
@@ -131,5 +126,6 @@ class ProductTest {
 
         assertTrue(toString.contains("id=prod-001"));
         assertTrue(toString.contains("title=Test Product"));
+        assertFalse(toString.contains("hash="));
     }
 }
\ No newline at end of file
@@ -35,28 +35,17 @@ class ReviewTest {
     }
 
     @Test
-    void testGettersAndSetters() {
-        Review review = new Review();
-        String id = "rev-002";
-        String userId = "user-002";
-        String userName = "Another User";
-        String comment = "Good product";
-        Integer rating = 4;
+    void testToBuilderShouldCopyWithChanges() {
         LocalDateTime createdAt = LocalDateTime.of(2025, 7, 21, 15, 45);
+        Review review = Review.builder().userId("user-002").userName("Another User").comment("Good product").rating(4).build();
 
-        review.setId(id);
-        review.setUserId(userId);
-        review.setUserName(userName);
-        review.setComment(comment);
-        review.setRating(rating);
-        review.setCreatedAt(createdAt);
+        Review stored = review.toBuilder().id("rev-002").createdAt(createdAt).build();
 
-        assertEquals(id, review.getId());
-        assertEquals(userId, review.getUserId());
-        assertEquals(userName, review.getUserName());
-        assertEquals(comment, review.getComment());
-        assertEquals(rating, review.getRating());
-        assertEquals(createdAt, review.getCreatedAt());
+        assertEquals("rev-002", stored.getId());
+        assertEquals("Another User", stored.getUserName());
+        assertEquals(4, stored.getRating());
+        assertEquals(createdAt, stored.getCreatedAt());
+        assertNull(review.getId());
     }
 
     @Test
@@ -30,25 +30,15 @@ class SellerTest {
     }
 
     @Test
-    void testGettersAndSetters() {
-        Seller seller = new Seller();
-        String id = "seller-002";
-        String name = "Another Seller";
-        String email = "another@test.com";
-        String phone = "987654321";
-        Double rating = 3.8;
-
-        seller.setId(id);
-        seller.setName(name);
-        seller.setEmail(email);
-        seller.setPhone(phone);
-        seller.setRating(rating);
+    void testToBuilderShouldCopyWithChanges() {
+        Seller seller = Seller.builder().id("seller-002").name("Another Seller").rating(3.8).build();
 
-        assertEquals(id, seller.getId());
-        assertEquals(name, seller.getName());
-        assertEquals(email, seller.getEmail());
-        assertEquals(phone, seller.getPhone());
-        assertEquals(rating, seller.getRating());
+        Seller rated = seller.toBuilder().rating(4.1).build();
+
+        assertEquals("seller-002", rated.getId());
+        assertEquals("Another Seller", rated.getName());
+        assertEquals(4.1, rated.getRating());
+        assertEquals(3.8, seller.getRating());
     }
 
     @Test
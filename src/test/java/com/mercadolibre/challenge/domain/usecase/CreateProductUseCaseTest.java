@@ -0,0 +1,47 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateProductUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private CreateProductUseCase createProductUseCase;
+
+    @Test
+    void testExecuteShouldAssignIdAndStoreProduct() throws ExecutionException, InterruptedException {
+        Product product = Product.builder()
+                .title("Test Product")
+                .price(new BigDecimal("99.99"))
+                .build();
+        when(productPort.create(any(Product.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        Product result = createProductUseCase.execute(product).get();
+
+        assertNotNull(result.getId());
+        assertNull(product.getId());
+        assertEquals("Test Product", result.getTitle());
+        verify(productPort).create(result);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteProductUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private DeleteProductUseCase deleteProductUseCase;
+
+    private final String productId = "prod-001";
+
+    @Test
+    void testExecuteWhenProductExistsShouldDeleteIt() throws ExecutionException, InterruptedException {
+        when(productPort.findById(productId))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(Product.builder().id(productId).build())));
+        when(productPort.deleteById(productId)).thenReturn(CompletableFuture.completedFuture(null));
+
+        deleteProductUseCase.execute(productId).get();
+
+        verify(productPort).deleteById(productId);
+    }
+
+    @Test
+    void testExecuteWhenProductDoesNotExistShouldFail() {
+        when(productPort.findById(productId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> deleteProductUseCase.execute(productId).get());
+
+        assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+        verify(productPort, never()).deleteById(anyString());
+    }
+}
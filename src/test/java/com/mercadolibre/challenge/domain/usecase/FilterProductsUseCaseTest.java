@@ -0,0 +1,67 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FilterProductsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private FilterProductsUseCase filterProductsUseCase;
+
+    @Test
+    void testExecuteShouldFilterThroughPortWithCompiledExpression() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        FilteredPage<Product> filteredPage = FilteredPage.<Product>builder()
+                .page(Page.of(List.of(Product.builder().id("prod-001").build()), 1, pageRequest))
+                .build();
+        when(productPort.filter(any(FilterExpression.class), eq(true), eq(pageRequest)))
+                .thenReturn(CompletableFuture.completedFuture(filteredPage));
+
+        assertEquals(filteredPage, filterProductsUseCase.execute("price < 500", true, pageRequest).get());
+        filterProductsUseCase.execute("price < 500", true, pageRequest).get();
+
+        ArgumentCaptor<FilterExpression> expressions = ArgumentCaptor.forClass(FilterExpression.class);
+        verify(productPort, times(2)).filter(expressions.capture(), eq(true), eq(pageRequest));
+        assertEquals("price < 500", expressions.getValue().toString());
+        assertSame(expressions.getAllValues().get(0), expressions.getAllValues().get(1));
+    }
+
+    @Test
+    void testExecuteWithInvalidExpressionShouldFail() {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> filterProductsUseCase.execute("price <", false, PageRequest.of(0, 10)).get());
+
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        verifyNoInteractions(productPort);
+    }
+}
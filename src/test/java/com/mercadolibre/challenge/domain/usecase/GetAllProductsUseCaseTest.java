@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -50,6 +51,13 @@ class GetAllProductsUseCaseTest {
         );
     }
 
+    @Test
+    void testStreamShouldStreamThroughPort() throws ExecutionException, InterruptedException {
+        when(productPort.streamAll()).thenReturn(CompletableFuture.completedFuture(testProducts.stream()));
+
+        assertEquals(testProducts, getAllProductsUseCase.stream().get().toList());
+    }
+
     @Test
     void testExecuteWhenProductsExistShouldReturnAllProducts() throws ExecutionException, InterruptedException {
         when(productPort.findAll()).thenReturn(CompletableFuture.completedFuture(testProducts));
@@ -0,0 +1,60 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFacets;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetFacetedProductsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private GetFacetedProductsUseCase getFacetedProductsUseCase;
+
+    @Test
+    void testExecuteShouldFilterThroughPort() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        ProductFilter filter = ProductFilter.builder().types(Set.of("smartphone")).minRating(4).build();
+        FacetedPage<Product> facetedPage = FacetedPage.<Product>builder()
+                .page(Page.of(List.of(Product.builder().id("prod-001").build()), 1, pageRequest))
+                .facets(ProductFacets.builder().build())
+                .build();
+        when(productPort.findFaceted(filter, pageRequest)).thenReturn(CompletableFuture.completedFuture(facetedPage));
+
+        assertEquals(facetedPage, getFacetedProductsUseCase.execute(filter, pageRequest).get());
+    }
+
+    @Test
+    void testExecuteWithMinRatingOutOfRangeShouldFail() {
+        ProductFilter filter = ProductFilter.builder().minRating(6).build();
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> getFacetedProductsUseCase.execute(filter, PageRequest.of(0, 10)).get());
+
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        verifyNoInteractions(productPort);
+    }
+}
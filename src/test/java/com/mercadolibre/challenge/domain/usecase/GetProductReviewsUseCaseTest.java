@@ -0,0 +1,49 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetProductReviewsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private GetProductReviewsUseCase getProductReviewsUseCase;
+
+    @Test
+    void testExecuteShouldReadReviewsThroughPort() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(1, 5);
+        ProductReviews reviews = ProductReviews.builder().productId("prod-001").page(Page.empty()).build();
+        when(productPort.findReviews("prod-001", ReviewSort.RATING, pageRequest))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(reviews)));
+
+        assertEquals(Optional.of(reviews), getProductReviewsUseCase.execute("prod-001", ReviewSort.RATING, pageRequest).get());
+    }
+
+    @Test
+    void testExecuteWithoutSortShouldOrderByDate() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.ofDefault();
+        when(productPort.findReviews("prod-999", ReviewSort.DATE, pageRequest))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        assertTrue(getProductReviewsUseCase.execute("prod-999", null, pageRequest).get().isEmpty());
+    }
+}
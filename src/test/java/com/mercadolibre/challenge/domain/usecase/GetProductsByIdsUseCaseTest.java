@@ -0,0 +1,74 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.port.input.GetProductsByIdsUseCasePort;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetProductsByIdsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private GetProductsByIdsUseCase getProductsByIdsUseCase;
+
+    @Test
+    void testExecuteShouldReadDistinctIdsInRequestOrder() throws ExecutionException, InterruptedException {
+        ProductBatch batch = ProductBatch.builder()
+                .products(List.of(Product.builder().id("prod-002").build()))
+                .missingIds(List.of("prod-001"))
+                .build();
+        when(productPort.findByIds(List.of("prod-002", "prod-001"))).thenReturn(CompletableFuture.completedFuture(batch));
+
+        assertEquals(batch, getProductsByIdsUseCase.execute(List.of("prod-002", "prod-001", "prod-002")).get());
+    }
+
+    @Test
+    void testExecuteWithoutIdsShouldFail() {
+        assertValidationFailure(List.of());
+    }
+
+    @Test
+    void testExecuteWithBlankIdShouldFail() {
+        assertValidationFailure(Arrays.asList("prod-001", " "));
+        assertValidationFailure(Arrays.asList("prod-001", null));
+    }
+
+    @Test
+    void testExecuteWithTooManyIdsShouldFail() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= GetProductsByIdsUseCasePort.MAX_IDS; i++) {
+            ids.add("prod-" + i);
+        }
+
+        assertValidationFailure(ids);
+    }
+
+    private void assertValidationFailure(List<String> ids) {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> getProductsByIdsUseCase.execute(ids).get());
+
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        verifyNoInteractions(productPort);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetSellerProductsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private GetSellerProductsUseCase getSellerProductsUseCase;
+
+    @Test
+    void testExecuteShouldListThroughPort() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Page<Product> page = Page.of(List.of(Product.builder().id("prod-001").build()), 1, pageRequest);
+        when(productPort.findBySeller("seller-001", pageRequest)).thenReturn(CompletableFuture.completedFuture(page));
+
+        assertEquals(page, getSellerProductsUseCase.execute("seller-001", pageRequest).get());
+    }
+}
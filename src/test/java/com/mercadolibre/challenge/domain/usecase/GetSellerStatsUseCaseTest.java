@@ -0,0 +1,43 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.SellerStats;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetSellerStatsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private GetSellerStatsUseCase getSellerStatsUseCase;
+
+    @Test
+    void testExecuteShouldReadStatsThroughPort() throws ExecutionException, InterruptedException {
+        SellerStats stats = SellerStats.builder().sellerId("seller-001").productCount(2).totalStock(7L)
+                .averageRating(4.5).build();
+        when(productPort.findSellerStats("seller-001")).thenReturn(CompletableFuture.completedFuture(Optional.of(stats)));
+
+        assertEquals(Optional.of(stats), getSellerStatsUseCase.execute("seller-001").get());
+    }
+
+    @Test
+    void testExecuteWithUnknownSellerShouldReturnEmpty() throws ExecutionException, InterruptedException {
+        when(productPort.findSellerStats("seller-999")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        assertTrue(getSellerStatsUseCase.execute("seller-999").get().isEmpty());
+    }
+}
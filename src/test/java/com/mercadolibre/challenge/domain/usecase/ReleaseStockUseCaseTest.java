@@ -0,0 +1,33 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.domain.port.output.StockPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseStockUseCaseTest {
+
+    @Mock
+    private StockPort stockPort;
+
+    @InjectMocks
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Test
+    void testExecuteShouldReleaseThroughPort() throws ExecutionException, InterruptedException {
+        StockReservation reservation = StockReservation.builder().id("res-001").productId("prod-001").quantity(2).build();
+        when(stockPort.release("prod-001", "res-001")).thenReturn(CompletableFuture.completedFuture(reservation));
+
+        assertEquals(reservation, releaseStockUseCase.execute("prod-001", "res-001").get());
+    }
+}
@@ -0,0 +1,46 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.domain.port.output.StockPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReserveStockUseCaseTest {
+
+    @Mock
+    private StockPort stockPort;
+
+    @InjectMocks
+    private ReserveStockUseCase reserveStockUseCase;
+
+    @Test
+    void testExecuteShouldReserveThroughPort() throws ExecutionException, InterruptedException {
+        StockReservation reservation = StockReservation.builder().id("res-001").productId("prod-001").quantity(2).build();
+        when(stockPort.reserve("prod-001", 2)).thenReturn(CompletableFuture.completedFuture(reservation));
+
+        assertEquals(reservation, reserveStockUseCase.execute("prod-001", 2).get());
+    }
+
+    @Test
+    void testExecuteWithNonPositiveQuantityShouldFail() {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> reserveStockUseCase.execute("prod-001", 0).get());
+
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        verifyNoInteractions(stockPort);
+    }
+}
@@ -0,0 +1,50 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchProductsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Test
+    void testExecuteShouldSearchThroughPort() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Page<Product> page = Page.of(List.of(Product.builder().id("prod-001").build()), 1, pageRequest);
+        when(productPort.search("cámara", false, pageRequest)).thenReturn(CompletableFuture.completedFuture(page));
+
+        assertEquals(page, searchProductsUseCase.execute("cámara", false, pageRequest).get());
+    }
+
+    @Test
+    void testExecuteWithBlankQueryShouldFail() {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> searchProductsUseCase.execute(" ", false, PageRequest.of(0, 10)).get());
+
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        verifyNoInteractions(productPort);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.domain.port.output.ReviewPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubmitReviewUseCaseTest {
+
+    @Mock
+    private ReviewPort reviewPort;
+
+    @InjectMocks
+    private SubmitReviewUseCase submitReviewUseCase;
+
+    @Test
+    void testExecuteShouldAssignIdAndCreationTime() throws ExecutionException, InterruptedException {
+        Review review = Review.builder().userName("Ana").rating(4).build();
+        ReviewSubmission submission = ReviewSubmission.builder().productId("prod-001").review(review).rating(4.0).reviewCount(1).build();
+        ArgumentCaptor<Review> submitted = ArgumentCaptor.forClass(Review.class);
+        when(reviewPort.submit(eq("prod-001"), submitted.capture())).thenReturn(CompletableFuture.completedFuture(submission));
+
+        assertEquals(submission, submitReviewUseCase.execute("prod-001", review).get());
+        assertNotNull(submitted.getValue().getId());
+        assertNotNull(submitted.getValue().getCreatedAt());
+        assertEquals(review, submitted.getValue().toBuilder().id(null).createdAt(null).build());
+    }
+
+    @Test
+    void testExecuteWithRatingOutOfRangeShouldFail() {
+        CompletableFuture<ReviewSubmission> result =
+                submitReviewUseCase.execute("prod-001", Review.builder().userName("Ana").rating(6).build());
+
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        assertEquals("Rating must be between 1 and 5", exception.getCause().getMessage());
+        verifyNoInteractions(reviewPort);
+    }
+
+    @Test
+    void testExecuteWithoutUserNameShouldFail() {
+        CompletableFuture<ReviewSubmission> result =
+                submitReviewUseCase.execute("prod-001", Review.builder().userName(" ").rating(3).build());
+
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertEquals("User name is required", exception.getCause().getMessage());
+        verifyNoInteractions(reviewPort);
+    }
+}
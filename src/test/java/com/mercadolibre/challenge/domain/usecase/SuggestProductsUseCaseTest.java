@@ -0,0 +1,52 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestProductsUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private SuggestProductsUseCase suggestProductsUseCase;
+
+    @Test
+    void testExecuteShouldSuggestThroughPort() throws ExecutionException, InterruptedException {
+        when(productPort.suggest("cam", 5)).thenReturn(CompletableFuture.completedFuture(List.of("camara", "camera")));
+
+        assertEquals(List.of("camara", "camera"), suggestProductsUseCase.execute("cam", 5).get());
+    }
+
+    @Test
+    void testExecuteWithBlankPrefixShouldReturnNoSuggestions() throws ExecutionException, InterruptedException {
+        assertTrue(suggestProductsUseCase.execute("", 5).get().isEmpty());
+        verifyNoInteractions(productPort);
+    }
+
+    @Test
+    void testExecuteWithNonPositiveLimitShouldFail() {
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> suggestProductsUseCase.execute("cam", 0).get());
+
+        assertInstanceOf(ProductValidationException.class, exception.getCause());
+        verifyNoInteractions(productPort);
+    }
+}
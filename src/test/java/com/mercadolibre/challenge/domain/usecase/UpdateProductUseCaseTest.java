@@ -0,0 +1,85 @@
+package com.mercadolibre.challenge.domain.usecase;
+
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.port.output.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateProductUseCaseTest {
+
+    @Mock
+    private ProductPort productPort;
+
+    @InjectMocks
+    private UpdateProductUseCase updateProductUseCase;
+
+    private final String productId = "prod-001";
+
+    @Test
+    void testExecuteShouldKeepRatingAndReviews() throws ExecutionException, InterruptedException {
+        List<Review> reviews = List.of(Review.builder().id("rev-001").rating(5).build());
+        Product existing = Product.builder().id(productId).title("Old").rating(4.5).reviews(reviews)
+                .ratingSum(9L).ratingCount(2).version(3L).build();
+        Product changes = Product.builder().title("New").price(new BigDecimal("10.00")).build();
+        when(productPort.findById(productId)).thenReturn(CompletableFuture.completedFuture(Optional.of(existing)));
+        when(productPort.update(any(Product.class), eq(3L)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        Product result = updateProductUseCase.execute(productId, changes, null).get();
+
+        assertEquals(productId, result.getId());
+        assertEquals("New", result.getTitle());
+        assertEquals(4.5, result.getRating());
+        assertEquals(reviews, result.getReviews());
+        assertEquals(9L, result.getRatingSum());
+        assertEquals(2, result.getRatingCount());
+    }
+
+    @Test
+    void testExecuteWhenProductDoesNotExistShouldFail() {
+        when(productPort.findById(productId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> updateProductUseCase.execute(productId, Product.builder().title("New").build(), 1L).get());
+
+        assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+        verify(productPort, never()).update(any(Product.class), anyLong());
+    }
+
+    @Test
+    void testExecuteWithExpectedVersionShouldPassItToThePort() throws ExecutionException, InterruptedException {
+        Product existing = Product.builder().id(productId).title("Old").version(5L).build();
+        Product changes = Product.builder().title("New").build();
+        when(productPort.findById(productId)).thenReturn(CompletableFuture.completedFuture(Optional.of(existing)));
+        when(productPort.update(any(Product.class), eq(4L))).thenReturn(CompletableFuture.failedFuture(
+                new ConcurrencyException("Product prod-001 was modified concurrently")));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> updateProductUseCase.execute(productId, changes, 4L).get());
+
+        assertInstanceOf(ConcurrencyException.class, exception.getCause());
+    }
+}
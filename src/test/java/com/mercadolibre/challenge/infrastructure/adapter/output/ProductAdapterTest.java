@@ -2,11 +2,36 @@ package com.mercadolibre.challenge.infrastructure.adapter.output;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.CursorExpiredException;
 import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageCursor;
+import com.mercadolibre.challenge.domain.model.PageRequest;
 import com.mercadolibre.challenge.domain.model.PaymentMethod;
 import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.ProductSort;
 import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
 import com.mercadolibre.challenge.domain.model.Seller;
+import com.mercadolibre.challenge.domain.model.SellerStats;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogLoadMode;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogReloadResult;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ProductOperationLog;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,10 +45,14 @@ import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -129,7 +158,8 @@ class ProductAdapterTest {
         
         when(objectMapper.readValue(any(File.class), any(TypeReference.class))).thenReturn(testProducts);
 
-        fileProductAdapter = new ProductAdapter(objectMapper, dataFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
         fileProductAdapter.init();
 
         verify(objectMapper).readValue(any(File.class), any(TypeReference.class));
@@ -140,7 +170,8 @@ class ProductAdapterTest {
         File file = new File(dataFilePath);
         assertTrue(file.createNewFile());
 
-        fileProductAdapter = new ProductAdapter(objectMapper, dataFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
         assertDoesNotThrow(() -> fileProductAdapter.init());
     }
 
@@ -154,7 +185,8 @@ class ProductAdapterTest {
         when(objectMapper.readValue(any(File.class), any(TypeReference.class)))
             .thenThrow(new IOException("Test exception"));
 
-        fileProductAdapter = new ProductAdapter(objectMapper, dataFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
         assertThrows(InitializationException.class, () -> fileProductAdapter.init());
     }
 
@@ -167,7 +199,8 @@ class ProductAdapterTest {
         
         when(objectMapper.readValue(any(File.class), any(TypeReference.class))).thenReturn(testProducts);
         
-        fileProductAdapter = new ProductAdapter(objectMapper, dataFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
         fileProductAdapter.init();
         
         verify(objectMapper).readValue(any(File.class), any(TypeReference.class));
@@ -203,7 +236,8 @@ class ProductAdapterTest {
         
         when(objectMapper.readValue(any(File.class), any(TypeReference.class))).thenReturn(testProducts);
         
-        fileProductAdapter = new ProductAdapter(objectMapper, dataFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
         fileProductAdapter.init();
         
         verify(objectMapper).readValue(any(File.class), any(TypeReference.class));
@@ -222,7 +256,8 @@ class ProductAdapterTest {
         
         when(objectMapper.readValue(any(File.class), any(TypeReference.class))).thenReturn(testProducts);
         
-        fileProductAdapter = new ProductAdapter(objectMapper, dataFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
         fileProductAdapter.init();
         
         verify(objectMapper).readValue(any(File.class), any(TypeReference.class));
@@ -249,14 +284,709 @@ class ProductAdapterTest {
         assertEquals(2, product2.getReviews().size());
     }
     
+    @AfterEach
+    void tearDown() {
+        if (fileProductAdapter != null) {
+            fileProductAdapter.close();
+        }
+    }
+
     @Test
     void testInitShouldCreateDirectoryIfNotExists()  {
         Path nestedDir = tempDir.resolve("nested/directory");
         String nestedFilePath = nestedDir.resolve("test-products.json").toString();
         
-        fileProductAdapter = new ProductAdapter(objectMapper, nestedFilePath);
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(nestedFilePath), PaginationProperties.defaults());
         fileProductAdapter.init();
         
         assertTrue(Files.exists(nestedDir));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testInitInStreamingModeShouldLoadProductsAndTypeIndex() throws IOException, ExecutionException, InterruptedException {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        testProducts.set(0, testProducts.get(0).toBuilder().type("smartphone").build());
+        testProducts.set(1, testProducts.get(1).toBuilder().type("laptop").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        assertEquals(2, fileProductAdapter.findAll().get().size());
+        assertEquals("Test Product 1", fileProductAdapter.findById("prod-001").get().orElseThrow().getTitle());
+        List<Product> laptops = fileProductAdapter.findByType("laptop").get();
+        assertEquals(1, laptops.size());
+        assertEquals("prod-002", laptops.get(0).getId());
+    }
+
+    @Test
+    void testInitInStreamingModeWhenFileIsMalformedShouldThrowInitializationException() throws IOException {
+        Files.writeString(Path.of(dataFilePath), "[{\"id\": ");
+
+        fileProductAdapter = new ProductAdapter(new JacksonConfig().objectMapper(),
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        assertThrows(InitializationException.class, () -> fileProductAdapter.init());
+    }
+
+    @Test
+    void testInitInParallelModeShouldLoadProductsAndTypeIndex() throws IOException, ExecutionException, InterruptedException {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        testProducts.set(0, testProducts.get(0).toBuilder().type("laptop").build());
+        testProducts.set(1, testProducts.get(1).toBuilder().type("laptop").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath).withLoadMode(CatalogLoadMode.PARALLEL).withProgressInterval(1).withParallelism(2),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        assertEquals(2, fileProductAdapter.findAll().get().size());
+        assertEquals(2, fileProductAdapter.findByType("laptop").get().size());
+        assertEquals(5, fileProductAdapter.findById("prod-002").get().orElseThrow().getStock());
+    }
+
+    @Test
+    void testInitWithBinarySnapshotShouldReuseSnapshotOnNextStart() throws IOException, ExecutionException, InterruptedException {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        testProducts.set(0, testProducts.get(0).toBuilder().type("laptop").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+
+        new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath).withBinarySnapshot(true),
+                PaginationProperties.defaults()).init();
+        assertTrue(Files.exists(Path.of(dataFilePath + ".snapshot")));
+
+        fileProductAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFilePath).withProgressInterval(1).withBinarySnapshot(true),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        verifyNoInteractions(objectMapper);
+        assertEquals(2, fileProductAdapter.findAll().get().size());
+        assertEquals(1, fileProductAdapter.findByType("laptop").get().size());
+        assertEquals(testProducts.get(1), fileProductAdapter.findById("prod-002").get().orElseThrow());
+    }
+
+    @Test
+    void testReloadShouldPublishNewSnapshotWithoutTouchingPreviousOne() throws IOException, ExecutionException, InterruptedException {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        testProducts.set(0, testProducts.get(0).toBuilder().type("laptop").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+        CatalogSnapshot previous = fileProductAdapter.currentSnapshot();
+
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts.subList(1, 2)));
+        CatalogReloadResult result = fileProductAdapter.reload();
+
+        assertEquals(2, result.version());
+        assertEquals(1, result.products());
+        assertEquals(1, fileProductAdapter.findAll().get().size());
+        assertTrue(fileProductAdapter.findByType("laptop").get().isEmpty());
+        assertEquals(2, previous.size());
+        assertEquals(List.of("prod-001"), previous.productsByType().get("laptop"));
+    }
+
+    @Test
+    void testReloadWhenFileIsMalformedShouldKeepCurrentSnapshot() throws IOException, ExecutionException, InterruptedException {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Files.writeString(Path.of(dataFilePath), "[{\"id\": ");
+
+        assertThrows(InitializationException.class, () -> fileProductAdapter.reload());
+        assertEquals(1, fileProductAdapter.currentSnapshot().version());
+        assertEquals(2, fileProductAdapter.findAll().get().size());
+    }
+
+    @Test
+    void testReloadShouldApplyOnlyChangedProducts() throws IOException, ExecutionException, InterruptedException {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        testProducts.set(0, testProducts.get(0).toBuilder().type("laptop").build());
+        testProducts.set(1, testProducts.get(1).toBuilder().type("laptop").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+        Product unchanged = fileProductAdapter.findById("prod-001").get().orElseThrow();
+
+        testProducts.set(1, testProducts.get(1).toBuilder().type("tablet").stock(3).build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        CatalogReloadResult result = fileProductAdapter.reload();
+
+        assertEquals(0, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.typeChanges());
+        assertEquals(0, result.deleted());
+        assertEquals(1, result.unchanged());
+        assertEquals(1, result.touched());
+        assertSame(unchanged, fileProductAdapter.findById("prod-001").get().orElseThrow());
+        assertEquals(3, fileProductAdapter.findById("prod-002").get().orElseThrow().getStock());
+        assertEquals(1, fileProductAdapter.findByType("laptop").get().size());
+        assertEquals(1, fileProductAdapter.findByType("tablet").get().size());
+    }
+
+    @Test
+    void testWritesShouldBeVisibleOnceDurableAndReplayedOnNextStart() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        testProducts.set(0, testProducts.get(0).toBuilder().type("laptop").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Product created = Product.builder().id("prod-003").title("New Product").type("laptop").stock(1).build();
+        fileProductAdapter.create(created).get();
+        testProducts.set(0, testProducts.get(0).toBuilder().stock(7).build());
+        fileProductAdapter.update(testProducts.get(0), 0).get();
+        fileProductAdapter.deleteById("prod-002").get();
+
+        assertEquals(2, fileProductAdapter.findAll().get().size());
+        assertEquals(2, fileProductAdapter.findByType("laptop").get().size());
+        assertEquals(7, fileProductAdapter.findById("prod-001").get().orElseThrow().getStock());
+        assertEquals(4, fileProductAdapter.currentSnapshot().version());
+
+        ProductAdapter restarted = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        restarted.init();
+        assertEquals(fileProductAdapter.currentSnapshot().products(), restarted.currentSnapshot().products());
+        assertEquals(2, restarted.findByType("laptop").get().size());
+    }
+
+    @Test
+    void testUpdateAndDeleteOfMissingProductShouldFail() throws IOException {
+        Files.writeString(Path.of(dataFilePath), new JacksonConfig().objectMapper().writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(new JacksonConfig().objectMapper(),
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Product missing = Product.builder().id("missing").build();
+        ExecutionException updateFailure = assertThrows(ExecutionException.class,
+                () -> fileProductAdapter.update(missing, 0).get());
+        ExecutionException deleteFailure = assertThrows(ExecutionException.class,
+                () -> fileProductAdapter.deleteById("missing").get());
+
+        assertInstanceOf(ProductNotFoundException.class, updateFailure.getCause());
+        assertInstanceOf(ProductNotFoundException.class, deleteFailure.getCause());
+    }
+
+    @Test
+    void testCompactShouldFoldOperationLogIntoDataFile() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        fileProductAdapter.create(Product.builder().id("prod-003").title("New Product").build()).get();
+        fileProductAdapter.deleteById("prod-001").get();
+        fileProductAdapter.compact();
+
+        List<Product> stored = realObjectMapper.readValue(new File(dataFilePath), new TypeReference<List<Product>>() {});
+        assertEquals(List.of("prod-002", "prod-003"), stored.stream().map(Product::getId).toList());
+        assertTrue(ProductOperationLog.readAll(Path.of(dataFilePath), realObjectMapper).isEmpty());
+    }
+
+    @Test
+    void testHasDataFileChangedShouldIgnoreFilesWrittenByCompaction() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+        assertFalse(fileProductAdapter.hasDataFileChanged());
+
+        fileProductAdapter.create(Product.builder().id("prod-003").title("New Product").build()).get();
+        fileProductAdapter.compact();
+        assertFalse(fileProductAdapter.hasDataFileChanged());
+
+        Files.writeString(Path.of(dataFilePath), "[]");
+        assertTrue(fileProductAdapter.hasDataFileChanged());
+        fileProductAdapter.reload();
+        assertFalse(fileProductAdapter.hasDataFileChanged());
+    }
+
+    @Test
+    void testUpdateWithStaleVersionShouldFailWithConcurrencyException() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Product first = testProducts.get(0).toBuilder().stock(1).build();
+        Product second = testProducts.get(0).toBuilder().stock(2).build();
+
+        assertEquals(1L, fileProductAdapter.update(first, 0).get().getVersion());
+        ExecutionException conflict = assertThrows(ExecutionException.class,
+                () -> fileProductAdapter.update(second, 0).get());
+
+        assertInstanceOf(ConcurrencyException.class, conflict.getCause());
+        Product stored = fileProductAdapter.findById("prod-001").get().orElseThrow();
+        assertEquals(1, stored.getStock());
+        assertEquals(1L, stored.getVersion());
+        assertEquals(2L, fileProductAdapter.update(second, 1).get().getVersion());
+    }
+
+    @Test
+    void testUpdateOfDeletedProductShouldFail() throws Exception {
+        Files.writeString(Path.of(dataFilePath), new JacksonConfig().objectMapper().writeValueAsString(testProducts));
+        fileProductAdapter = new ProductAdapter(new JacksonConfig().objectMapper(),
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        fileProductAdapter.deleteById("prod-001").get();
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> fileProductAdapter.update(testProducts.get(0), 0).get());
+
+        assertInstanceOf(ProductNotFoundException.class, failure.getCause());
+    }
+
+    @Test
+    void testPagesShouldFollowIdOrderAndStayStable() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = new ArrayList<>();
+        for (int i = 9; i >= 0; i--) {
+            products.add(Product.builder().id("prod-" + i).type(i % 2 == 0 ? "even" : "odd").build());
+        }
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Page<Product> secondPage = fileProductAdapter.findAll(PageRequest.of(1, 4)).get();
+        Page<Product> lastPage = fileProductAdapter.findAll(PageRequest.of(2, 4)).get();
+        Page<Product> beyondLastPage = fileProductAdapter.findAll(PageRequest.of(5, 4)).get();
+        Page<Product> oddPage = fileProductAdapter.findByType("odd", PageRequest.of(0, 2)).get();
+
+        assertEquals(List.of("prod-4", "prod-5", "prod-6", "prod-7"), secondPage.getContent().stream().map(Product::getId).toList());
+        assertEquals(List.of("prod-8", "prod-9"), lastPage.getContent().stream().map(Product::getId).toList());
+        assertTrue(beyondLastPage.getContent().isEmpty());
+        assertEquals(10, beyondLastPage.getTotalElements());
+        assertEquals(List.of("prod-1", "prod-3"), oddPage.getContent().stream().map(Product::getId).toList());
+        assertEquals(5, oddPage.getTotalElements());
+        assertEquals(secondPage, fileProductAdapter.findAll(PageRequest.of(1, 4)).get());
+    }
+
+    @Test
+    void testCursorPagesShouldStayOnTheVersionThatIssuedTheCursor() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(10)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Page<Product> firstPage = fileProductAdapter.findAll(PageRequest.of(0, 4)).get();
+        fileProductAdapter.deleteById("prod-5").get();
+        fileProductAdapter.create(Product.builder().id("prod-45").build()).get();
+        Page<Product> secondPage = fileProductAdapter.findAll(PageRequest.after(firstPage.getNextCursor(), 4)).get();
+        Page<Product> lastPage = fileProductAdapter.findAll(PageRequest.after(secondPage.getNextCursor(), 4)).get();
+
+        assertEquals(PageCursor.of(firstPage.getNextCursor().getSnapshotVersion(), "prod-3"), firstPage.getNextCursor());
+        assertEquals(List.of("prod-4", "prod-5", "prod-6", "prod-7"), ids(secondPage));
+        assertEquals(1, secondPage.getPage());
+        assertEquals(List.of("prod-8", "prod-9"), ids(lastPage));
+        assertNull(lastPage.getNextCursor());
+        assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    void testCursorShouldKeepItsVersionAcrossManyCommitsWithinItsLifetime() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(10)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper, streaming(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Page<Product> firstPage = fileProductAdapter.findByType("even", PageRequest.of(0, 2)).get();
+        for (int i = 0; i < 10; i++) {
+            fileProductAdapter.create(Product.builder().id("prod-5" + i).type("even").build()).get();
+        }
+        fileProductAdapter.deleteById("prod-4").get();
+        Page<Product> secondPage = fileProductAdapter.findByType("even", PageRequest.after(firstPage.getNextCursor(), 2)).get();
+
+        assertEquals(List.of("prod-4", "prod-6"), ids(secondPage));
+        assertEquals(firstPage.getNextCursor().getSnapshotVersion(), secondPage.getNextCursor().getSnapshotVersion());
+    }
+
+    @Test
+    void testCursorOfExpiredVersionShouldThrowCursorExpiredException() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(10)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper, streaming(dataFilePath),
+                PaginationProperties.defaults().withCursorTtlSeconds(0));
+        fileProductAdapter.init();
+
+        Page<Product> firstPage = fileProductAdapter.findByType("even", PageRequest.of(0, 2)).get();
+        fileProductAdapter.deleteById("prod-4").get();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () ->
+                fileProductAdapter.findByType("even", PageRequest.after(firstPage.getNextCursor(), 2)).get());
+        assertInstanceOf(CursorExpiredException.class, exception.getCause());
+    }
+
+    @Test
+    void testCursorBeyondRetainedSnapshotLimitShouldThrowCursorExpiredException() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(10)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper, streaming(dataFilePath),
+                PaginationProperties.defaults().withMaxRetainedSnapshots(1));
+        fileProductAdapter.init();
+
+        Page<Product> firstPage = fileProductAdapter.findAll(PageRequest.of(0, 2)).get();
+        fileProductAdapter.deleteById("prod-4").get();
+        Page<Product> retained = fileProductAdapter.findAll(PageRequest.after(firstPage.getNextCursor(), 2)).get();
+        fileProductAdapter.deleteById("prod-6").get();
+
+        assertEquals(List.of("prod-2", "prod-3"), ids(retained));
+        ExecutionException exception = assertThrows(ExecutionException.class, () ->
+                fileProductAdapter.findAll(PageRequest.after(firstPage.getNextCursor(), 2)).get());
+        assertInstanceOf(CursorExpiredException.class, exception.getCause());
+    }
+
+    @Test
+    void testSortedPagesShouldFollowSortIndexAndContinueFromCursor() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(6);
+        for (int i = 0; i < products.size(); i++) {
+            products.set(i, products.get(i).toBuilder().price(new BigDecimal(10 + (i * 5) % 6)).build());
+        }
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        PageRequest byPriceDesc = PageRequest.of(0, 2).sortedBy(ProductSort.PRICE, SortDirection.DESC);
+        Page<Product> firstPage = fileProductAdapter.findAll(byPriceDesc).get();
+        Product cheaper = firstPage.getContent().get(1).toBuilder().price(new BigDecimal("1")).build();
+        fileProductAdapter.update(cheaper, cheaper.currentVersion()).get();
+        Page<Product> secondPage = fileProductAdapter.findAll(
+                PageRequest.after(firstPage.getNextCursor(), 2).sortedBy(ProductSort.PRICE, SortDirection.DESC)).get();
+        Page<Product> evenByPrice = fileProductAdapter.findByType("even",
+                PageRequest.of(0, 10).sortedBy(ProductSort.PRICE, SortDirection.ASC)).get();
+
+        assertEquals(List.of("prod-1", "prod-2"), ids(firstPage));
+        assertEquals(List.of("prod-3", "prod-4"), ids(secondPage));
+        assertEquals(List.of("prod-2", "prod-0", "prod-4"), ids(evenByPrice));
+    }
+
+    @Test
+    void testPriceFilteredPagesShouldBeServedInPriceOrderOrRequestedOrder() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(6);
+        for (int i = 0; i < products.size(); i++) {
+            products.set(i, products.get(i).toBuilder().price(new BigDecimal(10 + (i * 5) % 6)).stock(i).build());
+        }
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                CatalogProperties.of(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        PageRequest inRange = PageRequest.of(0, 2).withPriceRange(new BigDecimal("11"), new BigDecimal("14"));
+        Page<Product> firstPage = fileProductAdapter.findAll(inRange).get();
+        Page<Product> secondPage = fileProductAdapter.findAll(
+                PageRequest.after(firstPage.getNextCursor(), 2).withPriceRange(new BigDecimal("11"), new BigDecimal("14"))).get();
+        Page<Product> byStock = fileProductAdapter.findAll(
+                PageRequest.of(0, 10).sortedBy(ProductSort.STOCK, SortDirection.DESC).withPriceRange(null, new BigDecimal("12"))).get();
+        Page<Product> evenInRange = fileProductAdapter.findByType("even", inRange).get();
+
+        assertEquals(List.of("prod-5", "prod-4"), ids(firstPage));
+        assertEquals(4, firstPage.getTotalElements());
+        assertEquals(List.of("prod-3", "prod-2"), ids(secondPage));
+        assertNull(secondPage.getNextCursor());
+        assertEquals(List.of("prod-5", "prod-4", "prod-0"), ids(byStock));
+        assertEquals(List.of("prod-4", "prod-2"), ids(evenInRange));
+        assertThrows(ProductValidationException.class,
+                () -> PageRequest.of(0, 2).withPriceRange(new BigDecimal("14"), new BigDecimal("11")));
+    }
+
+    @Test
+    void testSearchShouldRankMatchesAndSeeCommittedWrites() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(3);
+        products.set(0, products.get(0).toBuilder().title("Cámara Sony").build());
+        products.set(1, products.get(1).toBuilder().title("Notebook").description("Incluye cámara web").build());
+        products.set(2, products.get(2).toBuilder().title("Mouse").build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Page<Product> cameras = fileProductAdapter.search("camara", false, PageRequest.of(0, 10)).get();
+        fileProductAdapter.create(Product.builder().id("prod-3").title("Cámara Canon").stock(1).build()).get();
+        fileProductAdapter.deleteById("prod-0").get();
+        Page<Product> afterWrites = fileProductAdapter.search("camara", false, PageRequest.of(0, 10)).get();
+
+        assertEquals(List.of("prod-0", "prod-1"), ids(cameras));
+        assertEquals(2, cameras.getTotalElements());
+        assertEquals(List.of("prod-3", "prod-1"), ids(afterWrites));
+    }
+
+    @Test
+    void testSuggestShouldCompleteFromCurrentSnapshot() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(2);
+        products.set(0, products.get(0).toBuilder().title("Cámara Sony").rating(4.0).build());
+        products.set(1, products.get(1).toBuilder().title("Campera").rating(4.5).build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        List<String> before = fileProductAdapter.suggest("cam", 10).get();
+        fileProductAdapter.create(Product.builder().id("prod-2").title("Cámara Canon").rating(5.0).stock(1).build()).get();
+
+        assertEquals(List.of("campera", "camara"), before);
+        assertEquals(List.of("camara", "campera"), fileProductAdapter.suggest("Cám", 10).get());
+        assertEquals(List.of("even"), fileProductAdapter.suggest("ev", 10).get());
+    }
+
+    @Test
+    void testFindFacetedShouldFilterCountAndSeeCommittedWrites() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(4);
+        products.replaceAll(product -> product.toBuilder().stock(1).build());
+        products.set(2, products.get(2).toBuilder().stock(0).build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+        ProductFilter evenInStock = ProductFilter.builder().types(Set.of("even")).inStock(true).build();
+
+        FacetedPage<Product> before = fileProductAdapter.findFaceted(evenInStock, PageRequest.of(0, 10)).get();
+        fileProductAdapter.create(Product.builder().id("prod-4").type("even").stock(3).build()).get();
+        fileProductAdapter.deleteById("prod-0").get();
+        FacetedPage<Product> after = fileProductAdapter.findFaceted(evenInStock, PageRequest.of(0, 10)).get();
+
+        assertEquals(List.of("prod-0"), ids(before.getPage()));
+        assertEquals(Map.of("even", 1, "odd", 2), before.getFacets().getTypes());
+        assertEquals(List.of("prod-4"), ids(after.getPage()));
+        assertEquals(1, after.getPage().getTotalElements());
+        assertEquals(Map.of("even", 1, "odd", 2), after.getFacets().getTypes());
+    }
+
+    @Test
+    void testFilterShouldExplainOnlyWhenRequestedAndSeeCommittedWrites() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(4);
+        for (int i = 0; i < products.size(); i++) {
+            products.set(i, products.get(i).toBuilder().price(BigDecimal.valueOf(100L * (i + 1))).build());
+        }
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+        FilterExpression cheapEven = FilterExpression.parse("type = even AND price <= 300");
+
+        FilteredPage<Product> before = fileProductAdapter.filter(cheapEven, false, PageRequest.of(0, 10)).get();
+        fileProductAdapter.create(Product.builder().id("prod-4").type("even").price(BigDecimal.TEN).build()).get();
+        FilteredPage<Product> after = fileProductAdapter.filter(cheapEven, true, PageRequest.of(0, 10)).get();
+
+        assertEquals(List.of("prod-0", "prod-2"), ids(before.getPage()));
+        assertNull(before.getPlan());
+        assertEquals(List.of("prod-0", "prod-2", "prod-4"), ids(after.getPage()));
+        assertEquals(3, after.getPlan().getMatchedRows());
+    }
+
+    @Test
+    void testFindBySellerAndStatsShouldSeeCommittedWrites() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(4);
+        for (int i = 0; i < products.size(); i++) {
+            products.set(i, products.get(i).toBuilder()
+                    .seller(Seller.builder().id(i % 2 == 0 ? "seller-even" : "seller-odd").build())
+                    .stock(i + 1)
+                    .rating(4.0 + i / 2)
+                    .build());
+        }
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Page<Product> before = fileProductAdapter.findBySeller("seller-even", PageRequest.of(0, 10)).get();
+        SellerStats statsBefore = fileProductAdapter.findSellerStats("seller-even").get().orElseThrow();
+        fileProductAdapter.create(Product.builder().id("prod-4").seller(Seller.builder().id("seller-even").build())
+                .stock(10).rating(3.0).build()).get();
+        fileProductAdapter.deleteById("prod-0").get();
+        Page<Product> after = fileProductAdapter.findBySeller("seller-even", PageRequest.of(0, 1)).get();
+        SellerStats statsAfter = fileProductAdapter.findSellerStats("seller-even").get().orElseThrow();
+
+        assertEquals(List.of("prod-0", "prod-2"), ids(before));
+        assertEquals(SellerStats.builder().sellerId("seller-even").productCount(2).totalStock(4).averageRating(4.5).build(),
+                statsBefore);
+        assertEquals(List.of("prod-2"), ids(after));
+        assertEquals(2, after.getTotalElements());
+        assertEquals(SellerStats.builder().sellerId("seller-even").productCount(2).totalStock(13).averageRating(4.0).build(),
+                statsAfter);
+        assertTrue(fileProductAdapter.findSellerStats("seller-none").get().isEmpty());
+    }
+
+    @Test
+    void testFindReviewsShouldPageSortedReviewsAndSeeCommittedWrites() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = idOnlyProducts(2);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            reviews.add(Review.builder().id("rev-" + i).rating(1 + i % 5)
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(i)).build());
+        }
+        products.set(0, products.get(0).toBuilder().reviews(reviews).build());
+        products.set(1, products.get(1).toBuilder()
+                .reviews(List.of(Review.builder().id("rev-a").rating(4).build()))
+                .build());
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(products));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        ProductReviews newest = fileProductAdapter.findReviews("prod-0", ReviewSort.DATE,
+                PageRequest.of(0, 3).toBuilder().direction(SortDirection.DESC).build()).get().orElseThrow();
+        ProductReviews lowest = fileProductAdapter.findReviews("prod-0", ReviewSort.RATING, PageRequest.of(1, 3)).get().orElseThrow();
+        ProductReviews few = fileProductAdapter.findReviews("prod-1", ReviewSort.DATE, PageRequest.of(0, 3)).get().orElseThrow();
+        Product reviewed = fileProductAdapter.findById("prod-0").get().orElseThrow().toBuilder().build();
+        List<Review> moreReviews = new ArrayList<>(reviews);
+        moreReviews.add(Review.builder().id("rev-new").rating(5).createdAt(LocalDateTime.of(2026, 1, 1, 0, 0)).build());
+        reviewed = reviewed.toBuilder().reviews(moreReviews).build();
+        fileProductAdapter.update(reviewed, 0).get();
+        ProductReviews afterWrite = fileProductAdapter.findReviews("prod-0", ReviewSort.DATE,
+                PageRequest.of(0, 1).toBuilder().direction(SortDirection.DESC).build()).get().orElseThrow();
+
+        assertEquals(List.of("rev-39", "rev-38", "rev-37"), reviewIds(newest));
+        assertEquals(40, newest.getPage().getTotalElements());
+        assertEquals(14, newest.getPage().getTotalPages());
+        assertEquals(Map.of(1, 8, 2, 8, 3, 8, 4, 8, 5, 8), newest.getSummary().getHistogram());
+        assertEquals(3.0, newest.getSummary().getAverageRating());
+        // Equal ratings are ordered by date, so the second page of one star reviews continues in date order
+        assertEquals(List.of("rev-15", "rev-20", "rev-25"), reviewIds(lowest));
+        assertEquals(1, few.getSummary().getReviewCount());
+        assertEquals(List.of("rev-new"), reviewIds(afterWrite));
+        assertEquals(41, afterWrite.getSummary().getReviewCount());
+        assertEquals(9, afterWrite.getSummary().getHistogram().get(5));
+        assertTrue(fileProductAdapter.findReviews("prod-9", ReviewSort.DATE, PageRequest.ofDefault()).get().isEmpty());
+    }
+
+    @Test
+    void testAddReviewsShouldBumpVersionSoStaleUpdatesCannotDropThem() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(2)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+        Product stale = fileProductAdapter.findById("prod-0").get().orElseThrow().toBuilder().title("Renamed").build();
+
+        Product reviewed = fileProductAdapter.addReviews("prod-0",
+                List.of(Review.builder().id("rev-1").rating(4).build(), Review.builder().id("rev-2").rating(1).build())).get();
+        ExecutionException conflict = assertThrows(ExecutionException.class,
+                () -> fileProductAdapter.update(stale, 0).get());
+
+        assertEquals(1L, reviewed.getVersion());
+        assertEquals(2.5, reviewed.getRating());
+        assertInstanceOf(ConcurrencyException.class, conflict.getCause());
+        Product fresh = fileProductAdapter.findById("prod-0").get().orElseThrow().toBuilder().title("Renamed").build();
+        Product updated = fileProductAdapter.update(fresh, 1).get();
+        assertEquals("Renamed", updated.getTitle());
+        assertEquals(2, updated.getReviews().size());
+        ExecutionException missing = assertThrows(ExecutionException.class,
+                () -> fileProductAdapter.addReviews("prod-9", List.of(Review.builder().id("rev-3").build())).get());
+        assertInstanceOf(ProductNotFoundException.class, missing.getCause());
+    }
+
+    @Test
+    void testFindByIdsShouldSplitFoundAndMissingInRequestOrder() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(4)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+        fileProductAdapter.create(Product.builder().id("prod-4").type("even").build()).get();
+
+        ProductBatch batch = fileProductAdapter.findByIds(List.of("prod-3", "prod-9", "prod-4", "prod-0")).get();
+
+        assertEquals(List.of("prod-3", "prod-4", "prod-0"), batch.getProducts().stream().map(Product::getId).toList());
+        assertEquals(List.of("prod-9"), batch.getMissingIds());
+    }
+
+    @Test
+    void testStreamAllShouldReadTheSnapshotCurrentWhenCreated() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(3)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper,
+                streaming(dataFilePath),
+                PaginationProperties.defaults());
+        fileProductAdapter.init();
+
+        Stream<Product> before = fileProductAdapter.streamAll().get();
+        fileProductAdapter.create(Product.builder().id("prod-3").type("odd").build()).get();
+        fileProductAdapter.deleteById("prod-0").get();
+
+        assertEquals(List.of("prod-0", "prod-1", "prod-2"), before.map(Product::getId).toList());
+        assertEquals(List.of("prod-1", "prod-2", "prod-3"),
+                fileProductAdapter.streamAll().get().map(Product::getId).toList());
+    }
+
+    @Test
+    void testWriteWhenAListenerFailsShouldSucceedAndNotifyTheOtherListeners() throws Exception {
+        ObjectMapper realObjectMapper = new JacksonConfig().objectMapper();
+        Files.writeString(Path.of(dataFilePath), realObjectMapper.writeValueAsString(idOnlyProducts(1)));
+        fileProductAdapter = new ProductAdapter(realObjectMapper, streaming(dataFilePath), PaginationProperties.defaults());
+        fileProductAdapter.init();
+        List<Long> notified = new ArrayList<>();
+        fileProductAdapter.addWriteListener((version, operations) -> {
+            throw new IllegalStateException("listener failed");
+        });
+        fileProductAdapter.addWriteListener((version, operations) -> notified.add(version));
+
+        Product created = fileProductAdapter.create(Product.builder().id("prod-1").build()).get();
+
+        assertEquals("prod-1", created.getId());
+        assertEquals(1, notified.size());
+        fileProductAdapter.close();
+        ProductAdapter reopened = new ProductAdapter(realObjectMapper, streaming(dataFilePath),
+                PaginationProperties.defaults());
+        reopened.init();
+        assertTrue(reopened.findById("prod-1").get().isPresent());
+        reopened.close();
+    }
+
+    private static CatalogProperties streaming(String dataFilePath) {
+        return CatalogProperties.of(dataFilePath).withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(1);
+    }
+
+    private static List<Product> idOnlyProducts(int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder().id("prod-" + i).type(i % 2 == 0 ? "even" : "odd").build());
+        }
+        return products;
+    }
+
+    private static List<String> reviewIds(ProductReviews productReviews) {
+        return productReviews.getPage().getContent().stream().map(Review::getId).toList();
+    }
+
+    private static List<String> ids(Page<Product> page) {
+        return page.getContent().stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,192 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ReviewBacklogFullException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReviewAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private ProductAdapter productAdapter;
+    private Path dataFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataFile = tempDir.resolve("products.json");
+        Files.writeString(dataFile, objectMapper.writeValueAsString(List.of(
+                Product.builder().id("prod-001").title("Phone").rating(4.8)
+                        .reviews(List.of(review(5), review(3))).build(),
+                Product.builder().id("prod-002").title("Case").build())));
+        productAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFile.toString()), PaginationProperties.defaults());
+        productAdapter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productAdapter.close();
+    }
+
+    @Test
+    void testFlushShouldAppendReviewsAndKeepTheRatingExact() throws Exception {
+        ReviewAdapter reviewAdapter = new ReviewAdapter(productAdapter, 1000, 100_000);
+
+        CompletableFuture<ReviewSubmission> first = reviewAdapter.submit("prod-001", review(1));
+        CompletableFuture<ReviewSubmission> second = reviewAdapter.submit("prod-001", review(4));
+        CompletableFuture<ReviewSubmission> other = reviewAdapter.submit("prod-002", review(2));
+        assertFalse(first.isDone());
+        reviewAdapter.flush().get();
+
+        // The static rating is replaced by the average of the existing reviews and the new ones
+        assertEquals(13 / 4.0, first.get().getRating());
+        assertEquals(4, second.get().getReviewCount());
+        assertEquals(2.0, other.get().getRating());
+        Product stored = productAdapter.findById("prod-001").get().orElseThrow();
+        assertEquals(13L, stored.getRatingSum());
+        assertEquals(4, stored.getRatingCount());
+        assertEquals(second.get().getReview(), stored.getReviews().get(3));
+
+        ProductAdapter restarted = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFile.toString()), PaginationProperties.defaults());
+        restarted.init();
+        Product replayed = restarted.findById("prod-001").get().orElseThrow();
+        assertEquals(stored.getReviews(), replayed.getReviews());
+        assertEquals(13 / 4.0, replayed.getRating());
+        restarted.close();
+    }
+
+    @Test
+    void testSubmitForMissingProductShouldFail() {
+        ReviewAdapter reviewAdapter = new ReviewAdapter(productAdapter, 1000, 100_000);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> reviewAdapter.submit("missing", review(5)).get());
+        assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void testReviewsOfAProductDeletedBeforeTheFlushShouldFail() throws Exception {
+        ReviewAdapter reviewAdapter = new ReviewAdapter(productAdapter, 1000, 100_000);
+        CompletableFuture<ReviewSubmission> submission = reviewAdapter.submit("prod-002", review(5));
+
+        productAdapter.deleteById("prod-002").get();
+        reviewAdapter.flush().get();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, submission::get);
+        assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void testConcurrentWriteShouldKeepReviewsForTheNextFlush() throws Exception {
+        ProductAdapter busyAdapter = mock(ProductAdapter.class);
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(Product.builder().id("prod-001").build());
+        when(busyAdapter.currentSnapshot()).thenReturn(builder.build(1));
+        Product reviewed = Product.builder().id("prod-001").rating(4.0).reviews(List.of(review(4), review(4))).build();
+        when(busyAdapter.addReviews(eq("prod-001"), anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new ConcurrencyException("in flight")))
+                .thenReturn(CompletableFuture.completedFuture(reviewed));
+        ReviewAdapter reviewAdapter = new ReviewAdapter(busyAdapter, 1000, 100_000);
+
+        CompletableFuture<ReviewSubmission> submission = reviewAdapter.submit("prod-001", review(4));
+        reviewAdapter.flush().get();
+        assertFalse(submission.isDone());
+        reviewAdapter.flush().get();
+
+        assertEquals(2, submission.get().getReviewCount());
+    }
+
+    @Test
+    void testStopShouldFailReviewsLeftWaitingAndRejectLaterSubmissions() {
+        ProductAdapter busyAdapter = mock(ProductAdapter.class);
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(Product.builder().id("prod-001").build());
+        when(busyAdapter.currentSnapshot()).thenReturn(builder.build(1));
+        when(busyAdapter.addReviews(eq("prod-001"), anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new ConcurrencyException("in flight")));
+        ReviewAdapter reviewAdapter = new ReviewAdapter(busyAdapter, 1000, 100_000);
+        reviewAdapter.start();
+
+        CompletableFuture<ReviewSubmission> submission = reviewAdapter.submit("prod-001", review(4));
+        reviewAdapter.stop();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, submission::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertTrue(reviewAdapter.submit("prod-001", review(5)).isCompletedExceptionally());
+    }
+
+    @Test
+    void testSubmitWhenTooManyReviewsAreWaitingShouldFail() throws Exception {
+        ReviewAdapter reviewAdapter = new ReviewAdapter(productAdapter, 1000, 2);
+
+        CompletableFuture<ReviewSubmission> first = reviewAdapter.submit("prod-001", review(4));
+        reviewAdapter.submit("prod-002", review(3));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> reviewAdapter.submit("prod-001", review(5)).get());
+        assertInstanceOf(ReviewBacklogFullException.class, exception.getCause());
+
+        reviewAdapter.flush().get();
+        assertEquals(3, first.get().getReviewCount());
+        assertFalse(reviewAdapter.submit("prod-001", review(5)).isCompletedExceptionally());
+    }
+
+    @Test
+    void testConcurrentSubmissionsShouldAllBeCounted() throws Exception {
+        ReviewAdapter reviewAdapter = new ReviewAdapter(productAdapter, 5, 100_000);
+        reviewAdapter.start();
+        List<CompletableFuture<ReviewSubmission>> submissions = new ArrayList<>();
+        long expectedSum = 8;
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 400; i++) {
+                int rating = 1 + i % 5;
+                expectedSum += rating;
+                submissions.add(CompletableFuture.supplyAsync(() -> reviewAdapter.submit("prod-001", review(rating)), executor)
+                        .thenCompose(submission -> submission));
+            }
+            CompletableFuture.allOf(submissions.toArray(CompletableFuture[]::new)).get();
+        } finally {
+            reviewAdapter.stop();
+        }
+
+        Product stored = productAdapter.findById("prod-001").get().orElseThrow();
+        assertEquals(402, stored.getReviews().size());
+        assertEquals(402, stored.getRatingCount());
+        assertEquals(expectedSum, stored.getRatingSum());
+        assertEquals((double) expectedSum / 402, stored.getRating());
+    }
+
+    private static Review review(int rating) {
+        return Review.builder().id(UUID.randomUUID().toString()).userName("Ana").rating(rating).build();
+    }
+}
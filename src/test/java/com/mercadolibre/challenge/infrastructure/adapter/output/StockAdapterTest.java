@@ -0,0 +1,178 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.exception.InsufficientStockException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.exception.ReservationNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private ProductAdapter productAdapter;
+    private Path dataFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataFile = tempDir.resolve("products.json");
+        Files.writeString(dataFile, objectMapper.writeValueAsString(List.of(
+                Product.builder().id("prod-001").title("Phone").stock(10).build(),
+                Product.builder().id("prod-002").title("Case").build())));
+        productAdapter = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFile.toString()), PaginationProperties.defaults());
+        productAdapter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productAdapter.close();
+    }
+
+    @Test
+    void testReserveShouldHoldUnitsUntilReleased() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+
+        StockReservation reservation = stockAdapter.reserve("prod-001", 4).get();
+        assertEquals(6, reservation.getRemainingStock());
+        assertEquals(clock.instant().plus(Duration.ofMinutes(10)), reservation.getExpiresAt());
+
+        StockReservation released = stockAdapter.release("prod-001", reservation.getId()).get();
+        assertEquals(10, released.getRemainingStock());
+        assertFailsWith(ReservationNotFoundException.class,
+                () -> stockAdapter.release("prod-001", reservation.getId()).get());
+    }
+
+    @Test
+    void testReserveShouldFailWhenStockRunsOutOrProductIsMissing() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+
+        stockAdapter.reserve("prod-001", 10).get();
+
+        assertFailsWith(InsufficientStockException.class, () -> stockAdapter.reserve("prod-001", 1).get());
+        assertFailsWith(InsufficientStockException.class, () -> stockAdapter.reserve("prod-002", 1).get());
+        assertFailsWith(ProductNotFoundException.class, () -> stockAdapter.reserve("missing", 1).get());
+    }
+
+    @Test
+    void testReleaseWithAnotherProductIdShouldFail() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+        StockReservation reservation = stockAdapter.reserve("prod-001", 1).get();
+
+        assertFailsWith(ReservationNotFoundException.class,
+                () -> stockAdapter.confirm("prod-002", reservation.getId()).get());
+    }
+
+    @Test
+    void testExpiredReservationsShouldReturnTheirUnits() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ZERO, 1000, 4, clock);
+        StockReservation reservation = stockAdapter.reserve("prod-001", 3).get();
+
+        stockAdapter.expireAndFlush();
+
+        assertFailsWith(ReservationNotFoundException.class,
+                () -> stockAdapter.confirm("prod-001", reservation.getId()).get());
+        assertEquals(10, stockAdapter.reserve("prod-001", 10).get().getQuantity());
+    }
+
+    @Test
+    void testFlushShouldPersistConfirmedStockInOneBatch() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+        for (int i = 0; i < 3; i++) {
+            StockReservation reservation = stockAdapter.reserve("prod-001", 2).get();
+            stockAdapter.confirm("prod-001", reservation.getId()).get();
+        }
+        stockAdapter.reserve("prod-001", 1).get();
+
+        stockAdapter.flush().get();
+        stockAdapter.flush().get();
+
+        Product stored = productAdapter.findById("prod-001").get().orElseThrow();
+        assertEquals(4, stored.getStock());
+        assertEquals("Phone", stored.getTitle());
+
+        ProductAdapter restarted = new ProductAdapter(objectMapper,
+                CatalogProperties.of(dataFile.toString()), PaginationProperties.defaults());
+        restarted.init();
+        assertEquals(4, restarted.findById("prod-001").get().orElseThrow().getStock());
+        restarted.close();
+    }
+
+    @Test
+    void testProductUpdateShouldKeepUnitsHeldByOpenReservations() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+        StockReservation reservation = stockAdapter.reserve("prod-001", 10).get();
+
+        Product restocked = Product.builder().id("prod-001").title("Phone").stock(20).build();
+        productAdapter.update(restocked, 0).get();
+
+        assertEquals(5, stockAdapter.reserve("prod-001", 5).get().getRemainingStock());
+        assertEquals(15, stockAdapter.release("prod-001", reservation.getId()).get().getRemainingStock());
+        stockAdapter.flush().get();
+        assertEquals(20, productAdapter.findById("prod-001").get().orElseThrow().getStock());
+    }
+
+    @Test
+    void testProductUpdateShouldRecordUnflushedSalesOverTheNewStock() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+        StockReservation reservation = stockAdapter.reserve("prod-001", 3).get();
+        stockAdapter.confirm("prod-001", reservation.getId()).get();
+
+        productAdapter.update(Product.builder().id("prod-001").title("Phone").stock(50).build(), 0).get();
+        stockAdapter.flush().get();
+
+        assertEquals(47, productAdapter.findById("prod-001").get().orElseThrow().getStock());
+    }
+
+    @Test
+    void testStockLevelComputedBeforeAnUpdateShouldNotOverwriteIt() throws Exception {
+        productAdapter.update(Product.builder().id("prod-001").title("Phone").stock(50).build(), 0).get();
+
+        productAdapter.updateStock(Map.of("prod-001", new ProductAdapter.StockUpdate(10, 7))).get();
+
+        assertEquals(50, productAdapter.findById("prod-001").get().orElseThrow().getStock());
+    }
+
+    @Test
+    void testProductDeleteShouldLetOpenReservationsComplete() throws Exception {
+        StockAdapter stockAdapter = new StockAdapter(productAdapter, Duration.ofMinutes(10), 1000, 4, clock);
+        StockReservation reservation = stockAdapter.reserve("prod-001", 2).get();
+
+        productAdapter.deleteById("prod-001").get();
+
+        assertEquals(2, stockAdapter.confirm("prod-001", reservation.getId()).get().getQuantity());
+        assertFailsWith(ProductNotFoundException.class, () -> stockAdapter.reserve("prod-001", 1).get());
+        stockAdapter.flush().get();
+        assertTrue(productAdapter.findById("prod-001").get().isEmpty());
+    }
+
+    private static void assertFailsWith(Class<? extends Throwable> expected,
+                                        Executable executable) {
+        ExecutionException exception = assertThrows(ExecutionException.class, executable);
+        assertInstanceOf(expected, exception.getCause());
+    }
+}
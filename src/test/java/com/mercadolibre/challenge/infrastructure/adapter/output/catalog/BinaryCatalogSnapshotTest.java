@@ -0,0 +1,124 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path sourceFile;
+    private Path snapshotFile;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sourceFile = tempDir.resolve("products.json");
+        Files.writeString(sourceFile, "[]");
+        snapshotFile = BinaryCatalogSnapshot.pathFor(sourceFile);
+
+        products = List.of(
+                Product.builder()
+                        .id("prod-001")
+                        .title("Cámara réflex")
+                        .description("Descripción con acentos")
+                        .price(new BigDecimal("1299.99"))
+                        .images(List.of("image1.jpg", "image2.jpg"))
+                        .paymentMethods(List.of(PaymentMethod.builder()
+                                .id("pm-001").name("Tarjeta de Crédito").description("Visa").build()))
+                        .seller(Seller.builder()
+                                .id("seller-001").name("Seller").email("s@test.com").phone("+54").rating(4.8).build())
+                        .stock(7)
+                        .rating(4.5)
+                        .reviews(List.of(Review.builder()
+                                .id("rev-001").userId("user-001").userName("Ana").comment("Excelente")
+                                .rating(5).createdAt(LocalDateTime.of(2025, 7, 20, 10, 30, 15, 123000000)).build()))
+                        .ratingSum(5L)
+                        .ratingCount(1)
+                        .type("camera")
+                        .build(),
+                Product.builder()
+                        .id("prod-002")
+                        .title("Minimal product")
+                        .build());
+    }
+
+    @Test
+    void testWriteThenReadShouldRestoreProductsAndTypeIndex() throws IOException {
+        write(products, Map.of("camera", List.of("prod-001")));
+
+        Optional<BinaryCatalogSnapshot.Contents> contents = BinaryCatalogSnapshot.read(snapshotFile, sourceFile);
+
+        assertTrue(contents.isPresent());
+        assertEquals(products, contents.get().products());
+        assertEquals(Map.of("camera", List.of("prod-001")), contents.get().productsByType());
+    }
+
+    @Test
+    void testReadMappedInSmallSegmentsShouldRestoreValuesSpanningSegments() throws IOException {
+        write(products, Map.of("camera", List.of("prod-001")));
+
+        Optional<BinaryCatalogSnapshot.Contents> contents = BinaryCatalogSnapshot.read(snapshotFile, sourceFile, 7);
+
+        assertTrue(contents.isPresent());
+        assertEquals(products, contents.get().products());
+        assertEquals(Map.of("camera", List.of("prod-001")), contents.get().productsByType());
+    }
+
+    @Test
+    void testReadWhenSnapshotIsMissingShouldReturnEmpty() throws IOException {
+        assertTrue(BinaryCatalogSnapshot.read(snapshotFile, sourceFile).isEmpty());
+    }
+
+    @Test
+    void testReadWhenSourceChangedShouldReturnEmpty() throws IOException {
+        write(products, Map.of());
+
+        Files.writeString(sourceFile, "[ ]");
+        Files.setLastModifiedTime(sourceFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        assertTrue(BinaryCatalogSnapshot.read(snapshotFile, sourceFile).isEmpty());
+    }
+
+    @Test
+    void testReadWhenSourceChangedWhileLoadingShouldReturnEmpty() throws IOException {
+        long loadedSize = Files.size(sourceFile);
+        FileTime loadedModified = Files.getLastModifiedTime(sourceFile);
+        Files.writeString(sourceFile, "[ ]");
+        Files.setLastModifiedTime(sourceFile, FileTime.fromMillis(loadedModified.toMillis() + 10_000));
+
+        BinaryCatalogSnapshot.write(snapshotFile, loadedSize, loadedModified, products, Map.of());
+
+        assertTrue(BinaryCatalogSnapshot.read(snapshotFile, sourceFile).isEmpty());
+    }
+
+    @Test
+    void testReadWhenFormatIsUnknownShouldReturnEmpty() throws IOException {
+        Files.write(snapshotFile, new byte[64]);
+
+        assertTrue(BinaryCatalogSnapshot.read(snapshotFile, sourceFile).isEmpty());
+    }
+
+    private void write(List<Product> products, Map<String, List<String>> productsByType) throws IOException {
+        BinaryCatalogSnapshot.write(snapshotFile, Files.size(sourceFile), Files.getLastModifiedTime(sourceFile),
+                products, productsByType);
+    }
+}
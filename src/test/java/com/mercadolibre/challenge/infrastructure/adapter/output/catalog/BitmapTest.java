@@ -0,0 +1,94 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitmapTest {
+
+    @Test
+    void testOperationsShouldMatchBitSetForSparseAndDenseChunks() {
+        Random random = new Random(11);
+        // Chunk 0 dense, chunk 1 sparse, chunk 3 only in one of them
+        BitSet left = randomBits(random, new int[]{0, 1, 3}, new double[]{0.5, 0.01, 0.2});
+        BitSet right = randomBits(random, new int[]{0, 1, 2}, new double[]{0.3, 0.5, 0.01});
+        Bitmap leftBitmap = bitmap(left);
+        Bitmap rightBitmap = bitmap(right);
+
+        BitSet and = (BitSet) left.clone();
+        and.and(right);
+        BitSet or = (BitSet) left.clone();
+        or.or(right);
+
+        assertEquals(left.cardinality(), leftBitmap.cardinality());
+        assertEquals(and, toBitSet(leftBitmap.and(rightBitmap)));
+        assertEquals(and.cardinality(), leftBitmap.andCardinality(rightBitmap));
+        assertEquals(or, toBitSet(leftBitmap.or(rightBitmap)));
+        assertEquals(or.cardinality(), leftBitmap.or(rightBitmap).cardinality());
+        for (int value = 0; value < 4 << 16; value += 7) {
+            assertEquals(left.get(value), leftBitmap.contains(value));
+        }
+    }
+
+    @Test
+    void testUpdateShouldAddAndRemoveValuesAndShareUntouchedChunks() {
+        Bitmap bitmap = Bitmap.of(new int[]{1, 5, 70_000, 140_000}, 4);
+
+        Bitmap next = bitmap.update(new int[]{2, 200_000}, new int[]{5, 140_000});
+
+        assertEquals(List.of(1, 5, 70_000, 140_000), values(bitmap, 0));
+        assertEquals(List.of(1, 2, 70_000, 200_000), values(next, 0));
+        assertEquals(4, next.cardinality());
+        assertSame(bitmap, bitmap.update(new int[0], new int[0]));
+    }
+
+    @Test
+    void testIteratorShouldSkipValuesAcrossChunks() {
+        BitSet bits = randomBits(new Random(3), new int[]{0, 2, 5}, new double[]{0.4, 0.02, 0.7});
+        Bitmap bitmap = bitmap(bits);
+        List<Integer> all = values(bitmap, 0);
+
+        for (int skip : new int[]{0, 1, 4095, 26_000, 27_500, all.size() - 1, all.size()}) {
+            assertEquals(all.subList(skip, all.size()), values(bitmap, skip), "skip " + skip);
+        }
+        assertEquals(bits.stream().boxed().toList(), all);
+    }
+
+    private static BitSet randomBits(Random random, int[] chunks, double[] densities) {
+        BitSet bits = new BitSet();
+        for (int c = 0; c < chunks.length; c++) {
+            for (int low = 0; low < 1 << 16; low++) {
+                if (random.nextDouble() < densities[c]) {
+                    bits.set(chunks[c] << 16 | low);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static Bitmap bitmap(BitSet bits) {
+        int[] values = bits.stream().toArray();
+        return Bitmap.of(values, values.length);
+    }
+
+    private static BitSet toBitSet(Bitmap bitmap) {
+        BitSet bits = new BitSet();
+        values(bitmap, 0).forEach(bits::set);
+        return bits;
+    }
+
+    private static List<Integer> values(Bitmap bitmap, int skip) {
+        List<Integer> values = new ArrayList<>();
+        PrimitiveIterator.OfInt iterator = bitmap.iterator(skip);
+        while (iterator.hasNext()) {
+            values.add(iterator.nextInt());
+        }
+        return values;
+    }
+}
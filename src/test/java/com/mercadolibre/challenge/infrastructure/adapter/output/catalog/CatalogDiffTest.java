@@ -0,0 +1,84 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogDiffTest {
+
+    @Test
+    void testBetweenShouldClassifyInsertsUpdatesDeletesAndTypeChanges() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(product("prod-001", "smartphone", "799.99"));
+        builder.add(product("prod-002", "laptop", "1299.99"));
+        builder.add(product("prod-003", "tablet", "499.99"));
+        builder.add(product("prod-004", "tv", "999.99"));
+        CatalogSnapshot current = builder.build(1);
+
+        Map<String, Product> incoming = Map.of(
+                "prod-001", product("prod-001", "smartphone", "799.99"),
+                "prod-002", product("prod-002", "laptop", "1199.99"),
+                "prod-003", product("prod-003", "laptop", "499.99"),
+                "prod-005", product("prod-005", "watch", "199.99"));
+
+        CatalogDiff diff = CatalogDiff.between(current, incoming);
+
+        assertEquals(1, diff.getInserted());
+        assertEquals(2, diff.getUpdated());
+        assertEquals(1, diff.getTypeChanges());
+        assertEquals(1, diff.getDeleted());
+        assertEquals(1, diff.getUnchanged());
+        assertTrue(diff.getChanges().stream().anyMatch(change -> change.isDelete() && change.id().equals("prod-004")));
+    }
+
+    @Test
+    void testBetweenWhenNothingChangedShouldBeEmpty() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(product("prod-001", "smartphone", "799.99"));
+        CatalogSnapshot current = builder.build(1);
+
+        CatalogDiff diff = CatalogDiff.between(current, Map.of("prod-001", product("prod-001", "smartphone", "799.99")));
+
+        assertTrue(diff.isEmpty());
+        assertEquals(1, diff.getUnchanged());
+    }
+
+    @Test
+    void testRebaseShouldCompareWrittenProductsWithTheCurrentSnapshot() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(product("prod-001", "smartphone", "799.99"));
+        builder.add(product("prod-002", "laptop", "1299.99"));
+        builder.add(product("prod-003", "tablet", "499.99"));
+        CatalogSnapshot earlier = builder.build(1);
+        Map<String, Product> incoming = new HashMap<>(Map.of(
+                "prod-001", product("prod-001", "smartphone", "899.99"),
+                "prod-002", product("prod-002", "laptop", "1299.99"),
+                "prod-003", product("prod-003", "tablet", "499.99")));
+        CatalogDiff loaded = CatalogDiff.between(earlier, incoming);
+        // prod-002 and prod-004 are written while the file loads, the written state is replayed on the file
+        Product written = product("prod-002", "laptop", "999.99");
+        Product created = product("prod-004", "tv", "999.99");
+        CatalogSnapshot current = earlier.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-002", earlier.products().get("prod-002"), written),
+                new CatalogDiff.Change("prod-004", null, created))), 2);
+        incoming.put("prod-002", written);
+        incoming.put("prod-004", created);
+
+        CatalogDiff rebased = loaded.rebase(earlier, current, incoming, Set.of("prod-002", "prod-004"));
+
+        assertEquals(List.of("prod-001"), rebased.getChanges().stream().map(CatalogDiff.Change::id).toList());
+        assertEquals(3, rebased.getUnchanged());
+        assertSame(loaded, loaded.rebase(earlier, current, incoming, Set.of()));
+    }
+
+    private static Product product(String id, String type, String price) {
+        return Product.builder().id(id).title("Product " + id).type(type).price(new BigDecimal(price)).build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogFileWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWatcherShouldReloadCatalogWhenDataFileChanges() throws IOException, InterruptedException {
+        Path dataFile = tempDir.resolve("products.json");
+        Files.writeString(dataFile, "[{\"id\": \"prod-001\"}]");
+        ProductAdapter productAdapter = new ProductAdapter(new JacksonConfig().objectMapper(),
+                CatalogProperties.of(dataFile.toString()).withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(1),
+                PaginationProperties.defaults());
+        productAdapter.init();
+        CatalogReloader catalogReloader = new CatalogReloader(productAdapter, new SimpleMeterRegistry());
+        CatalogFileWatcher watcher = new CatalogFileWatcher(catalogReloader, productAdapter,
+                CatalogProperties.of(dataFile.toString()).withWatchDebounceMillis(50));
+
+        watcher.start();
+        try {
+            Files.writeString(tempDir.resolve("unrelated.json"), "[]");
+            Files.writeString(dataFile, "[{\"id\": \"prod-001\"}, {\"id\": \"prod-002\"}]");
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (productAdapter.currentSnapshot().size() != 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            watcher.stop();
+        }
+
+        assertEquals(2, productAdapter.currentSnapshot().size());
+        assertTrue(productAdapter.currentSnapshot().version() >= 2);
+    }
+
+    @Test
+    void testWatcherShouldIgnoreDataFileWrittenByCompaction() throws Exception {
+        Path dataFile = tempDir.resolve("products.json");
+        Files.writeString(dataFile, "[{\"id\": \"prod-001\"}]");
+        ProductAdapter productAdapter = new ProductAdapter(new JacksonConfig().objectMapper(),
+                CatalogProperties.of(dataFile.toString()), PaginationProperties.defaults());
+        productAdapter.init();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CatalogReloader catalogReloader = new CatalogReloader(productAdapter, meterRegistry);
+        CatalogFileWatcher watcher = new CatalogFileWatcher(catalogReloader, productAdapter,
+                CatalogProperties.of(dataFile.toString()).withWatchDebounceMillis(50));
+
+        watcher.start();
+        try {
+            productAdapter.create(Product.builder().id("prod-002").build()).get();
+            productAdapter.compact();
+            Thread.sleep(500);
+        } finally {
+            watcher.stop();
+            productAdapter.close();
+        }
+
+        assertTrue(catalogReloader.getLastResult().isEmpty());
+        assertEquals(2, productAdapter.currentSnapshot().size());
+    }
+}
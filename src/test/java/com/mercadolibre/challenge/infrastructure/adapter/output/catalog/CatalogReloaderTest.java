@@ -0,0 +1,69 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.config.CatalogProperties;
+import com.mercadolibre.challenge.infrastructure.config.PaginationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogReloaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private ProductAdapter productAdapter;
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogReloader catalogReloader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dataFile = tempDir.resolve("products.json");
+        Files.writeString(dataFile, "[{\"id\": \"prod-001\", \"type\": \"laptop\"}]");
+        productAdapter = new ProductAdapter(new JacksonConfig().objectMapper(),
+                CatalogProperties.of(dataFile.toString()).withLoadMode(CatalogLoadMode.STREAMING).withProgressInterval(1),
+                PaginationProperties.defaults());
+        productAdapter.init();
+        meterRegistry = new SimpleMeterRegistry();
+        catalogReloader = new CatalogReloader(productAdapter, meterRegistry);
+    }
+
+    @Test
+    void testReloadShouldPublishNewSnapshotAndRecordMetrics() throws IOException {
+        Files.writeString(dataFile, "[{\"id\": \"prod-001\"}, {\"id\": \"prod-002\"}]");
+
+        CatalogReloadResult result = catalogReloader.reload();
+
+        assertEquals(2, result.version());
+        assertEquals(2, result.products());
+        assertEquals(result, catalogReloader.getLastResult().orElseThrow());
+        assertEquals(1, meterRegistry.get("catalog.reload.duration").timer().count());
+        assertEquals(2.0, meterRegistry.get("catalog.snapshot.version").gauge().value());
+        assertEquals(2.0, meterRegistry.get("catalog.snapshot.products").gauge().value());
+        assertEquals(1.0, meterRegistry.get("catalog.reload.entries").tag("change", "inserted").counter().count());
+        assertEquals(1.0, meterRegistry.get("catalog.reload.entries").tag("change", "updated").counter().count());
+        assertEquals(0.0, meterRegistry.get("catalog.reload.entries").tag("change", "deleted").counter().count());
+    }
+
+    @Test
+    void testReloadWhenFileIsMalformedShouldKeepSnapshotAndCountFailure() throws IOException {
+        Files.writeString(dataFile, "[{\"id\": ");
+
+        assertThrows(InitializationException.class, () -> catalogReloader.reload());
+
+        assertEquals(1, productAdapter.currentSnapshot().version());
+        assertEquals(1, productAdapter.currentSnapshot().size());
+        assertEquals(1.0, meterRegistry.get("catalog.reload.failures").counter().count());
+        assertTrue(catalogReloader.getLastResult().isEmpty());
+    }
+}
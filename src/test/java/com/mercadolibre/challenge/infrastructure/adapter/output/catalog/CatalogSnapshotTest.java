@@ -0,0 +1,135 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @Test
+    void testBuilderShouldIndexProductsByType() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(Product.builder().id("prod-001").type("laptop").build());
+        builder.add(Product.builder().id("prod-002").type("laptop").build());
+        builder.add(Product.builder().id("prod-003").build());
+
+        CatalogSnapshot snapshot = builder.build(3);
+
+        assertEquals(3, snapshot.version());
+        assertEquals(3, snapshot.size());
+        assertEquals(List.of("prod-001", "prod-002"), snapshot.productsByType().get("laptop"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.products().remove("prod-001"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.productsByType().get("laptop").clear());
+    }
+
+    @Test
+    void testBuilderWhenIdRepeatsShouldKeepLastProductAndMoveItsType() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(Product.builder().id("prod-001").title("Old").type("laptop").build());
+        builder.add(Product.builder().id("prod-001").title("New").type("tablet").build());
+
+        CatalogSnapshot snapshot = builder.build(1);
+
+        assertEquals("New", snapshot.products().get("prod-001").getTitle());
+        assertTrue(snapshot.productsByType().get("laptop").isEmpty());
+        assertEquals(List.of("prod-001"), snapshot.productsByType().get("tablet"));
+    }
+
+    @Test
+    void testBuilderShouldAcceptProductsFromSeveralThreads() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+
+        IntStream.range(0, 10_000).parallel()
+                .forEach(i -> builder.add(Product.builder().id("prod-" + i).type("type-" + i % 3).build()));
+
+        CatalogSnapshot snapshot = builder.build(1);
+        assertEquals(10_000, snapshot.size());
+        assertEquals(10_000, snapshot.productsByType().values().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void testEmptyShouldHaveVersionZero() {
+        assertEquals(0, CatalogSnapshot.empty().version());
+        assertEquals(0, CatalogSnapshot.empty().size());
+    }
+
+    @Test
+    void testApplyShouldWriteOnlyChangedEntriesAndShareUntouchedTypeLists() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(Product.builder().id("prod-001").title("Phone").type("smartphone").build());
+        builder.add(Product.builder().id("prod-002").title("Laptop").type("laptop").build());
+        builder.add(Product.builder().id("prod-003").title("Tablet").type("tablet").build());
+        builder.add(Product.builder().id("prod-004").title("Other laptop").type("laptop").build());
+        CatalogSnapshot current = builder.build(1);
+
+        CatalogDiff diff = CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-001", current.products().get("prod-001"),
+                        Product.builder().id("prod-001").title("Phone 2").type("smartphone").build()),
+                new CatalogDiff.Change("prod-002", current.products().get("prod-002"),
+                        Product.builder().id("prod-002").title("Laptop").type("tablet").build()),
+                new CatalogDiff.Change("prod-003", current.products().get("prod-003"), null),
+                new CatalogDiff.Change("prod-005", null,
+                        Product.builder().id("prod-005").title("Watch").type("watch").build())));
+
+        CatalogSnapshot next = current.apply(diff, 2);
+
+        assertEquals(2, next.version());
+        assertEquals(4, next.size());
+        assertEquals("Phone 2", next.products().get("prod-001").getTitle());
+        assertFalse(next.products().containsKey("prod-003"));
+        assertSame(current.products().get("prod-004"), next.products().get("prod-004"));
+        assertSame(current.productsByType().get("smartphone"), next.productsByType().get("smartphone"));
+        assertEquals(List.of("prod-004"), next.productsByType().get("laptop"));
+        assertEquals(List.of("prod-002"), next.productsByType().get("tablet"));
+        assertEquals(List.of("prod-005"), next.productsByType().get("watch"));
+        assertEquals(4, current.size());
+        assertEquals(List.of("prod-002", "prod-004"), current.productsByType().get("laptop"));
+        assertEquals(List.of("prod-001", "prod-002", "prod-004", "prod-005"), next.orderedIds());
+        assertEquals(List.of("prod-001", "prod-002", "prod-003", "prod-004"), current.orderedIds());
+    }
+
+    @Test
+    void testBuilderShouldSortPrimaryAndTypeIndexes() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        IntStream.of(5, 3, 9, 1, 7).parallel()
+                .forEach(i -> builder.add(Product.builder().id("prod-" + i).type(i > 4 ? "big" : "small").build()));
+
+        CatalogSnapshot snapshot = builder.build(1);
+
+        assertEquals(List.of("prod-1", "prod-3", "prod-5", "prod-7", "prod-9"), snapshot.orderedIds());
+        assertEquals(List.of("prod-5", "prod-7", "prod-9"), snapshot.productsByType().get("big"));
+        assertEquals(List.of("prod-1", "prod-3"), snapshot.productsByType().get("small"));
+    }
+
+    @Test
+    void testApplyShouldMergeInsertsIntoSortedIndexesAndShareThemOnUpdates() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        builder.add(Product.builder().id("b").type("laptop").build());
+        builder.add(Product.builder().id("d").type("laptop").build());
+        CatalogSnapshot current = builder.build(1);
+
+        CatalogSnapshot inserted = current.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("e", null, Product.builder().id("e").type("laptop").build()),
+                new CatalogDiff.Change("a", null, Product.builder().id("a").type("laptop").build()),
+                new CatalogDiff.Change("c", null, Product.builder().id("c").type("laptop").build()))), 2);
+        CatalogSnapshot updated = inserted.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("c", inserted.products().get("c"),
+                        Product.builder().id("c").title("New").type("laptop").build()))), 3);
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), inserted.orderedIds());
+        assertEquals(List.of("a", "b", "c", "d", "e"), inserted.productsByType().get("laptop"));
+        assertSame(inserted.orderedIds(), updated.orderedIds());
+        assertSame(inserted.productsByType().get("laptop"), updated.productsByType().get("laptop"));
+    }
+
+    @Test
+    void testApplyWhenDiffIsEmptyShouldReturnSameSnapshot() {
+        CatalogSnapshot current = new CatalogSnapshot.Builder().build(1);
+
+        assertSame(current, current.apply(CatalogDiff.of(List.of()), 2));
+    }
+}
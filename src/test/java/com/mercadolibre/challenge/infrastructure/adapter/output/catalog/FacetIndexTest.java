@@ -0,0 +1,124 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductFacets;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.model.Seller;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    @Test
+    void testFindShouldIntersectSelectedFacetsAndCountEveryValue() {
+        CatalogSnapshot snapshot = snapshot(List.of(
+                product("prod-1", "smartphone", "seller-1", List.of("pm-001", "pm-002"), 4.5, 3),
+                product("prod-2", "smartphone", "seller-2", List.of("pm-002"), 3.9, 0),
+                product("prod-3", "laptop", "seller-1", List.of("pm-002"), 4.0, 5),
+                product("prod-4", "smartphone", "seller-1", List.of("pm-001"), null, 2)));
+
+        FacetIndex.Result result = snapshot.facetIndex().find(ProductFilter.builder()
+                .types(Set.of("smartphone"))
+                .paymentMethodIds(Set.of("pm-002"))
+                .minRating(4)
+                .inStock(true)
+                .build(), 0, 10);
+        ProductFacets facets = result.facets();
+
+        assertEquals(List.of("prod-1"), result.ids());
+        assertEquals(1, result.total());
+        // Each facet is counted with the other selections only
+        assertEquals(Map.of("smartphone", 1, "laptop", 1), facets.getTypes());
+        assertEquals(Map.of("pm-001", 1, "pm-002", 1), facets.getPaymentMethods());
+        assertEquals(Map.of("seller-1", 1), facets.getSellers());
+        assertEquals(Map.of(1, 1, 2, 1, 3, 1, 4, 1), facets.getMinRating());
+        assertEquals(1, facets.getInStock());
+    }
+
+    @Test
+    void testFindWithoutSelectionShouldListAndCountWholeCatalogInIdOrder() {
+        CatalogSnapshot snapshot = snapshot(List.of(
+                product("prod-3", "laptop", "seller-1", List.of(), 4.0, 5),
+                product("prod-1", "smartphone", "seller-1", List.of(), 5.0, 3),
+                product("prod-2", "smartphone", "seller-2", List.of(), 2.0, 0)));
+
+        FacetIndex.Result firstPage = snapshot.facetIndex().find(ProductFilter.builder().build(), 0, 2);
+        FacetIndex.Result secondPage = snapshot.facetIndex().find(ProductFilter.builder().build(), 2, 2);
+
+        assertEquals(List.of("prod-1", "prod-2"), firstPage.ids());
+        assertEquals(List.of("prod-3"), secondPage.ids());
+        assertEquals(3, firstPage.total());
+        assertEquals(Map.of("laptop", 1, "smartphone", 2), firstPage.facets().getTypes());
+        assertEquals(Map.of(1, 3, 2, 3, 3, 2, 4, 2, 5, 1), firstPage.facets().getMinRating());
+        assertEquals(2, firstPage.facets().getInStock());
+    }
+
+    @Test
+    void testApplyShouldMatchAFreshlyBuiltIndex() {
+        Random random = new Random(5);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            products.add(randomProduct(random, i));
+        }
+        CatalogSnapshot snapshot = snapshot(products);
+        for (int round = 0; round < 30; round++) {
+            List<CatalogDiff.Change> changes = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                int index = random.nextInt(360);
+                String id = String.format("prod-%03d", index);
+                if (changes.stream().anyMatch(change -> change.id().equals(id))) {
+                    continue;
+                }
+                Product before = snapshot.products().get(id);
+                Product after = random.nextInt(3) == 0 ? null : randomProduct(random, index);
+                if (before != null || after != null) {
+                    changes.add(new CatalogDiff.Change(id, before, after));
+                }
+            }
+            snapshot = snapshot.apply(CatalogDiff.of(changes), snapshot.version() + 1);
+
+            FacetIndex rebuilt = FacetIndex.build(snapshot.orderedIds(), snapshot.products());
+            for (ProductFilter filter : List.of(
+                    ProductFilter.builder().build(),
+                    ProductFilter.builder().types(Set.of("tv", "laptop")).inStock(true).build(),
+                    ProductFilter.builder().sellerIds(Set.of("seller-1")).minRating(3).build(),
+                    ProductFilter.builder().paymentMethodIds(Set.of("pm-002")).build())) {
+                assertEquals(rebuilt.find(filter, 3, 20), snapshot.facetIndex().find(filter, 3, 20), filter.toString());
+            }
+        }
+    }
+
+    private static Product randomProduct(Random random, int index) {
+        String[] types = {"smartphone", "laptop", "tv"};
+        List<String> paymentMethods = random.nextBoolean() ? List.of("pm-001") : List.of("pm-001", "pm-002");
+        return product(String.format("prod-%03d", index), types[random.nextInt(types.length)],
+                "seller-" + random.nextInt(4), paymentMethods,
+                random.nextInt(5) == 0 ? null : random.nextInt(51) / 10.0, random.nextInt(3));
+    }
+
+    private static CatalogSnapshot snapshot(List<Product> products) {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        products.forEach(builder::add);
+        return builder.build(1);
+    }
+
+    private static Product product(String id, String type, String sellerId, List<String> paymentMethodIds,
+                                   Double rating, int stock) {
+        return Product.builder()
+                .id(id)
+                .type(type)
+                .seller(Seller.builder().id(sellerId).build())
+                .paymentMethods(paymentMethodIds.stream().map(pm -> PaymentMethod.builder().id(pm).build()).toList())
+                .rating(rating)
+                .stock(stock)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.FilterExpression;
+import com.mercadolibre.challenge.domain.model.FilterPlan;
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterPlannerTest {
+
+    private static final String[] TYPES = {"smartphone", "laptop", "tv", "camera"};
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        for (int i = 0; i < 400; i++) {
+            builder.add(Product.builder()
+                    .id(String.format("prod-%03d", i))
+                    .type(TYPES[i % TYPES.length])
+                    .price(BigDecimal.valueOf(i * 5L))
+                    .rating(1.0 + (i % 41) / 10.0)
+                    .stock(i % 10)
+                    .seller(Seller.builder().id("seller-" + i % 20).rating(4.0 + (i % 10) / 10.0).build())
+                    .paymentMethods(List.of(PaymentMethod.builder().id(i % 2 == 0 ? "pm-001" : "pm-002").build()))
+                    .build());
+        }
+        snapshot = builder.build(1);
+    }
+
+    @Test
+    void testExecuteShouldChooseAccessPathWithFewestCandidates() {
+        assertEquals("FULL_SCAN", plan("seller.rating > 4.7").getAccessPath());
+        assertEquals("TYPE_INDEX", plan("type = tv AND seller.rating > 4.7").getAccessPath());
+        assertEquals("PRICE_INDEX", plan("type = tv AND price < 100").getAccessPath());
+        assertEquals("FACET_BITMAPS", plan("type = tv AND seller.id = seller-2 AND price < 1500").getAccessPath());
+        assertEquals("FULL_SCAN", plan("type = tv OR price < 10").getAccessPath());
+    }
+
+    @Test
+    void testExecuteShouldReturnSameMatchesAsAScanOnEveryPath() {
+        for (String source : List.of(
+                "price < 500 AND rating >= 4.5 AND seller.rating > 4.7",
+                "type = camera AND price > 995.5 AND price <= 1500",
+                "rating >= 4.5 AND stock > 0 AND paymentMethod = pm-002",
+                "type = laptop AND seller.id = seller-1 AND stock >= 1",
+                "price > 100 AND price < 50",
+                "type = tv AND NOT price < 1000",
+                "rating > 10")) {
+            FilterExpression expression = FilterExpression.parse(source);
+            List<String> expected = snapshot.orderedIds().stream()
+                    .filter(id -> expression.test(snapshot.products().get(id)))
+                    .toList();
+
+            FilterPlanner.Result first = FilterPlanner.execute(snapshot, expression, 0, 5);
+            FilterPlanner.Result second = FilterPlanner.execute(snapshot, expression, 5, 1000);
+
+            assertEquals(expected.size(), first.total(), source);
+            assertEquals(expected.subList(0, Math.min(5, expected.size())), first.ids(), source);
+            assertEquals(expected.subList(Math.min(5, expected.size()), expected.size()), second.ids(), source);
+            assertEquals(expected.size(), first.plan().getMatchedRows(), source);
+        }
+    }
+
+    @Test
+    void testExecuteShouldExplainEstimatesAndIndexCondition() {
+        FilterPlan plan = plan("type = tv AND price < 100 AND seller.rating > 4.7");
+
+        assertEquals("type = \"tv\" AND price < 100 AND seller.rating > 4.7", plan.getExpression());
+        assertEquals("price < 100 AND type = \"tv\"", plan.getIndexCondition());
+        assertEquals(400L, plan.getEstimatedRows().get("FULL_SCAN"));
+        assertEquals(100L, plan.getEstimatedRows().get("TYPE_INDEX"));
+        assertEquals(5L, plan.getEstimatedRows().get("PRICE_INDEX"));
+        assertEquals(100L, plan.getEstimatedRows().get("FACET_BITMAPS"));
+        assertEquals(5, plan.getExaminedRows());
+        assertEquals(1, plan.getMatchedRows());
+        assertNull(plan("stock != 3").getIndexCondition());
+    }
+
+    @Test
+    void testExecuteShouldSeeProductsInsertedAfterTheIndexWasBuilt() {
+        Product product = Product.builder().id("prod-000a").type("tv").price(BigDecimal.ONE).stock(1)
+                .seller(Seller.builder().id("seller-2").build()).build();
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(new CatalogDiff.Change(product.getId(), null, product))), 2);
+
+        FilterPlanner.Result result = FilterPlanner.execute(next,
+                FilterExpression.parse("type = tv AND seller.id = seller-2 AND stock > 0"), 0, 3);
+
+        assertEquals("FACET_BITMAPS", result.plan().getAccessPath());
+        assertEquals(List.of("prod-000a", "prod-002", "prod-022"), result.ids());
+    }
+
+    private FilterPlan plan(String source) {
+        return FilterPlanner.execute(snapshot, FilterExpression.parse(source), 0, 10).plan();
+    }
+}
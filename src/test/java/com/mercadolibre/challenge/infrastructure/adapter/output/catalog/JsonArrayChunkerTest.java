@@ -0,0 +1,99 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.exception.InitializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayChunkerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSplitShouldCutAtObjectBoundariesIgnoringBracesInStrings() throws IOException {
+        String json = "[{\"id\":\"a\",\"title\":\"{not} a \\\"brace\\\" ]\"},{\"id\":\"b\",\"images\":[\"x\"]},{\"id\":\"c\"}]";
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, json);
+
+        List<ByteRange> ranges = JsonArrayChunker.split(file, json.length());
+
+        assertEquals(3, ranges.size());
+        assertEquals("{\"id\":\"a\",\"title\":\"{not} a \\\"brace\\\" ]\"}", slice(json, ranges.get(0)));
+        assertEquals("{\"id\":\"b\",\"images\":[\"x\"]}", slice(json, ranges.get(1)));
+        assertEquals("{\"id\":\"c\"}", slice(json, ranges.get(2)));
+    }
+
+    @Test
+    void testSplitAtAnyCutCountShouldResyncOnTopLevelElements() throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < 20; i++) {
+            json.append(i == 0 ? "" : ",\n")
+                    .append("{\"id\":\"p").append(i).append("\",\"title\":\"},{ \\\"x\\\\\",")
+                    .append("\"reviews\":[{\"id\":\"r1\"},{\"id\":\"r2\",\"tags\":[{},{}]}]}");
+        }
+        json.append("\n]\n");
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, json.toString());
+        List<String> elements = JsonArrayChunker.split(file, 1).stream()
+                .map(range -> slice(json.toString(), range))
+                .toList();
+
+        for (int chunks : IntStream.concat(IntStream.rangeClosed(1, 64), IntStream.of(json.length())).toArray()) {
+            List<ByteRange> ranges = JsonArrayChunker.split(file, chunks);
+
+            String joined = String.join(",\n", ranges.stream().map(range -> slice(json.toString(), range)).toList());
+            assertEquals(elements.get(0), joined, "chunks " + chunks);
+            for (ByteRange range : ranges) {
+                assertTrue(slice(json.toString(), range).startsWith("{\"id\":\"p"), "chunks " + chunks);
+            }
+        }
+    }
+
+    @Test
+    void testSplitWithSingleChunkShouldCoverAllElements() throws IOException {
+        String json = "[ {\"id\":\"a\"} , {\"id\":\"b\"} ]";
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, json);
+
+        List<ByteRange> ranges = JsonArrayChunker.split(file, 1);
+
+        assertEquals(1, ranges.size());
+        assertEquals("{\"id\":\"a\"} , {\"id\":\"b\"}", slice(json, ranges.get(0)));
+    }
+
+    @Test
+    void testSplitWhenArrayIsEmptyShouldReturnNoRanges() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "[ ]");
+
+        assertTrue(JsonArrayChunker.split(file, 4).isEmpty());
+    }
+
+    @Test
+    void testSplitWhenRootIsNotArrayShouldThrowInitializationException() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "{\"id\":\"a\"}");
+
+        assertThrows(InitializationException.class, () -> JsonArrayChunker.split(file, 4));
+    }
+
+    @Test
+    void testSplitWhenArrayIsTruncatedShouldThrowInitializationException() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "[{\"id\":\"a\"},{\"id\":");
+
+        assertThrows(InitializationException.class, () -> JsonArrayChunker.split(file, 4));
+    }
+
+    private static String slice(String json, ByteRange range) {
+        return json.substring((int) range.start(), (int) range.end());
+    }
+}
@@ -0,0 +1,47 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCatalogReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadShouldParseEveryProductAcrossChunks() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        List<Product> products = IntStream.range(0, 500)
+                .mapToObj(i -> Product.builder()
+                        .id("prod-" + i)
+                        .title("Product {" + i + "}")
+                        .price(BigDecimal.valueOf(i))
+                        .type(i % 2 == 0 ? "even" : "odd")
+                        .build())
+                .toList();
+        Path file = tempDir.resolve("products.json");
+        objectMapper.writeValue(file.toFile(), products);
+
+        Map<String, Product> loaded = new ConcurrentHashMap<>();
+        long count = new ParallelCatalogReader(objectMapper, 100, 4)
+                .read(file.toFile(), product -> loaded.put(product.getId(), product));
+
+        assertEquals(500, count);
+        assertEquals(500, loaded.size());
+        assertEquals("Product {42}", loaded.get("prod-42").getTitle());
+        assertEquals("odd", loaded.get("prod-499").getType());
+    }
+}
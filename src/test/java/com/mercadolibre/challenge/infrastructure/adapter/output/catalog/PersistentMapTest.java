@@ -0,0 +1,71 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentMapTest {
+
+    @Test
+    void testPlusAndMinusShouldLeaveThePreviousMapUntouched() {
+        PersistentMap<String, Integer> first = PersistentMap.<String, Integer>empty().plus("a", 1).plus("b", 2);
+
+        PersistentMap<String, Integer> second = first.plus("a", 10).minus("b").plus("c", 3);
+
+        assertEquals(Map.of("a", 1, "b", 2), first);
+        assertEquals(Map.of("a", 10, "c", 3), second);
+        assertSame(second, second.minus("missing"));
+    }
+
+    @Test
+    void testTransientShouldMatchHashMapUnderRandomChanges() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int round = 0; round < 50; round++) {
+            PersistentMap<Integer, Integer> previous = map;
+            Map<Integer, Integer> previousExpected = new HashMap<>(expected);
+            PersistentMap.Transient<Integer, Integer> batch = map.asTransient();
+            for (int i = 0; i < 500; i++) {
+                int key = random.nextInt(5000);
+                if (random.nextInt(3) == 0) {
+                    batch.remove(key);
+                    expected.remove(key);
+                } else {
+                    batch.put(key, round);
+                    expected.put(key, round);
+                }
+            }
+            map = batch.persistent();
+
+            assertEquals(expected, map);
+            assertEquals(expected.size(), map.size());
+            assertEquals(previousExpected, previous);
+        }
+    }
+
+    @Test
+    void testKeysWithEqualHashesShouldBeKeptApart() {
+        // "Aa" and "BB" share a hash code
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty()
+                .plus("Aa", 1).plus("BB", 2).plus("AaAa", 3).plus("BBBB", 4).plus("AaBB", 5);
+
+        PersistentMap<String, Integer> removed = map.minus("Aa").minus("AaBB");
+
+        assertEquals(Map.of("Aa", 1, "BB", 2, "AaAa", 3, "BBBB", 4, "AaBB", 5), map);
+        assertEquals(Map.of("BB", 2, "AaAa", 3, "BBBB", 4), removed);
+        assertNull(removed.get("Aa"));
+    }
+
+    @Test
+    void testTransientShouldRejectUseAfterPersistent() {
+        PersistentMap.Transient<String, Integer> batch = PersistentMap.<String, Integer>empty().asTransient();
+        batch.persistent();
+
+        assertThrows(IllegalStateException.class, () -> batch.put("a", 1));
+    }
+}
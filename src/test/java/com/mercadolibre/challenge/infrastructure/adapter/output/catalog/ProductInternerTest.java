@@ -0,0 +1,98 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.PaymentMethod;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.Seller;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductInternerTest {
+
+    @Test
+    void testInternShouldShareEqualSellersPaymentMethodsAndTypes() {
+        ProductInterner interner = new ProductInterner();
+
+        Product first = interner.intern(product(1, "seller-1", "pm-1", "pm-2"));
+        Product second = interner.intern(product(2, "seller-1", "pm-1", "pm-2"));
+        Product third = interner.intern(product(3, "seller-2", "pm-2"));
+
+        assertSame(first.getSeller(), second.getSeller());
+        assertNotSame(first.getSeller(), third.getSeller());
+        assertSame(first.getPaymentMethods(), second.getPaymentMethods());
+        assertSame(first.getPaymentMethods().get(1), third.getPaymentMethods().get(0));
+        assertSame(first.getType(), third.getType());
+        assertEquals(product(2, "seller-1", "pm-1", "pm-2"), second);
+        assertEquals(2, interner.sellerCount());
+        assertEquals(2, interner.paymentMethodCount());
+    }
+
+    @Test
+    void testInternShouldKeepMissingValues() {
+        Product product = Product.builder().id("prod-1").build();
+
+        Product interned = new ProductInterner().intern(product);
+
+        assertNull(interned.getSeller());
+        assertNull(interned.getType());
+        assertNull(interned.getPaymentMethods());
+        assertSame(product, interned);
+    }
+
+    @Test
+    void testInternShouldDropAndCountNullListEntries() {
+        ProductInterner interner = new ProductInterner();
+        Review review = Review.builder().id("rev-1").build();
+        Product product = Product.builder().id("prod-1")
+                .images(Arrays.asList("image1.jpg", null))
+                .paymentMethods(Arrays.asList(null, PaymentMethod.builder().id("pm-1").build()))
+                .reviews(Arrays.asList(null, review, null))
+                .build();
+
+        Product interned = interner.intern(product);
+
+        assertEquals(List.of("image1.jpg"), interned.getImages());
+        assertEquals(List.of(PaymentMethod.builder().id("pm-1").build()), interned.getPaymentMethods());
+        assertEquals(List.of(review), interned.getReviews());
+        assertEquals(4, interner.droppedNullCount());
+    }
+
+    @Test
+    void testInternShouldShrinkTheCatalogGraph() {
+        List<Product> loaded = IntStream.range(0, 500)
+                .mapToObj(i -> product(i, "seller-" + i % 10, "pm-1", "pm-" + (2 + i % 2)))
+                .toList();
+        long before = GraphLayout.parseInstance(loaded.toArray()).totalSize();
+
+        ProductInterner interner = new ProductInterner();
+        List<Product> products = loaded.stream().map(interner::intern).toList();
+        long after = GraphLayout.parseInstance(products.toArray()).totalSize();
+
+        assertTrue(after < before / 2, "before " + before + " bytes, after " + after + " bytes");
+    }
+
+    private static Product product(int index, String sellerId, String... paymentMethodIds) {
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        for (String id : paymentMethodIds) {
+            paymentMethods.add(paymentMethod(id));
+        }
+        return Product.builder()
+                .id("prod-" + index)
+                // A new string per product, as the JSON parser creates them
+                .type(new String("smartphone"))
+                .seller(Seller.builder().id(sellerId).name("Vendedor " + sellerId).email(sellerId + "@example.com").rating(4.5).build())
+                .paymentMethods(paymentMethods)
+                .build();
+    }
+
+    private static PaymentMethod paymentMethod(String id) {
+        return PaymentMethod.builder().id(id).name("Tarjeta de Crédito " + id).description("Hasta 12 cuotas").build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductOperationLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private Path dataFile;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = tempDir.resolve("products.json");
+    }
+
+    @Test
+    void testAppendShouldCommitConcurrentWritesInSharedBatches() throws Exception {
+        List<List<ProductOperation>> batches = new CopyOnWriteArrayList<>();
+        try (ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, batches::add)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                futures.add(operationLog.append(ProductOperation.create(product("prod-" + i))));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+            assertEquals(500, batches.stream().mapToInt(List::size).sum());
+            assertEquals(batches.size(), operationLog.getCommittedBatches());
+            assertTrue(operationLog.getCommittedBatches() < 500);
+            assertEquals(500, operationLog.getActiveOperations());
+        }
+
+        List<ProductOperation> replayed = ProductOperationLog.readAll(dataFile, objectMapper);
+        assertEquals(500, replayed.size());
+        assertEquals(1, replayed.get(0).sequence());
+        assertEquals("prod-499", replayed.get(499).productId());
+    }
+
+    @Test
+    void testReadAllShouldIgnoreTruncatedLastLine() throws Exception {
+        try (ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> { })) {
+            operationLog.append(ProductOperation.create(product("prod-001"))).get();
+            operationLog.append(ProductOperation.delete("prod-001")).get();
+        }
+        Files.writeString(ProductOperationLog.activeFileFor(dataFile), "{\"sequence\":3,\"ty",
+                StandardOpenOption.APPEND);
+
+        List<ProductOperation> replayed = ProductOperationLog.readAll(dataFile, objectMapper);
+
+        assertEquals(2, replayed.size());
+        assertEquals(ProductOperation.Type.DELETE, replayed.get(1).type());
+        assertNull(replayed.get(1).product());
+    }
+
+    @Test
+    void testRotateShouldMoveActiveOperationsAsideAndKeepSequence() throws Exception {
+        try (ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> { })) {
+            assertNull(operationLog.rotate());
+            operationLog.append(ProductOperation.create(product("prod-001"))).get();
+
+            Path rotated = operationLog.rotate();
+            operationLog.append(ProductOperation.update(product("prod-001"))).get();
+
+            assertEquals(ProductOperationLog.compactingFileFor(dataFile), rotated);
+            assertEquals(1, operationLog.getActiveOperations());
+            List<ProductOperation> replayed = ProductOperationLog.readAll(dataFile, objectMapper);
+            assertEquals(List.of(1L, 2L), replayed.stream().map(ProductOperation::sequence).toList());
+        }
+    }
+
+    @Test
+    void testReopenShouldContinueSequence() throws Exception {
+        try (ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> { })) {
+            operationLog.append(ProductOperation.create(product("prod-001"))).get();
+        }
+        try (ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> { })) {
+            assertEquals(1, operationLog.getActiveOperations());
+            operationLog.append(ProductOperation.create(product("prod-002"))).get();
+        }
+
+        assertEquals(2, ProductOperationLog.readAll(dataFile, objectMapper).get(1).sequence());
+    }
+
+    @Test
+    void testAppendAfterCloseShouldFail() throws Exception {
+        ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> { });
+        operationLog.close();
+
+        assertTrue(operationLog.append(ProductOperation.delete("prod-001")).isCompletedExceptionally());
+    }
+
+    @Test
+    void testCommitWhenCallbackFailsShouldKeepDurableBatchAndCompleteWriters() throws Exception {
+        try (ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> {
+            throw new IllegalStateException("listener failed");
+        })) {
+            operationLog.append(ProductOperation.create(product("prod-001"))).get();
+            operationLog.append(ProductOperation.create(product("prod-002"))).get();
+
+            assertEquals(2, operationLog.getActiveOperations());
+        }
+
+        List<ProductOperation> replayed = ProductOperationLog.readAll(dataFile, objectMapper);
+        assertEquals(List.of("prod-001", "prod-002"), replayed.stream().map(ProductOperation::productId).toList());
+    }
+
+    @Test
+    void testCloseWhileAppendingShouldCompleteEveryFuture() throws Exception {
+        ProductOperationLog operationLog = new ProductOperationLog(dataFile, objectMapper, operations -> { });
+        List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                futures.add(operationLog.append(ProductOperation.delete("prod-" + i)));
+            }
+        });
+        while (futures.size() < 100) {
+            Thread.onSpinWait();
+        }
+
+        operationLog.close();
+        writer.join();
+
+        assertTrue(futures.stream().allMatch(CompletableFuture::isDone));
+        long committed = futures.stream().filter(future -> !future.isCompletedExceptionally()).count();
+        assertEquals(committed, ProductOperationLog.readAll(dataFile, objectMapper).size());
+    }
+
+    private static Product product(String id) {
+        return Product.builder().id(id).title("Product " + id).stock(1).build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductOperationTest {
+
+    @Test
+    void testReviewOperationShouldSeedRatingFromExistingReviews() {
+        Product current = Product.builder().id("prod-001").rating(4.8).version(3L)
+                .reviews(List.of(review("rev-1", 5), review("rev-2", 2))).build();
+
+        Product reviewed = ProductOperation.reviews("prod-001", 4L, List.of(review("rev-3", 2))).applyTo(current);
+
+        assertEquals(List.of("rev-1", "rev-2", "rev-3"), reviewed.getReviews().stream().map(Review::getId).toList());
+        assertEquals(9L, reviewed.getRatingSum());
+        assertEquals(3, reviewed.getRatingCount());
+        assertEquals(3.0, reviewed.getRating());
+        assertEquals(4L, reviewed.getVersion());
+        assertEquals(2, current.getReviews().size());
+    }
+
+    @Test
+    void testReviewOperationShouldAddToRunningSumAndIgnoreUnratedReviews() {
+        Product current = Product.builder().id("prod-001").rating(4.0).ratingSum(8L).ratingCount(2)
+                .reviews(List.of(review("rev-1", 4), review("rev-2", 4))).build();
+
+        Product reviewed = ProductOperation.reviews("prod-001", 1L, List.of(review("rev-3", 1), review("rev-4", null)))
+                .applyTo(current);
+
+        assertEquals(4, reviewed.getReviews().size());
+        assertEquals(9L, reviewed.getRatingSum());
+        assertEquals(3, reviewed.getRatingCount());
+        assertEquals(3.0, reviewed.getRating());
+    }
+
+    @Test
+    void testReplayedReviewOperationShouldNotAppendTwice() {
+        ProductOperation operation = ProductOperation.reviews("prod-001", 2L, List.of(review("rev-2", 1)));
+        Product once = operation.applyTo(Product.builder().id("prod-001").reviews(List.of(review("rev-1", 5))).build());
+
+        Product twice = operation.applyTo(once);
+        Product later = once.toBuilder().version(3L).title("Renamed").build();
+
+        assertEquals(once, twice);
+        assertEquals(2, twice.getReviews().size());
+        assertEquals(3.0, twice.getRating());
+        assertSame(later, operation.applyTo(later));
+    }
+
+    @Test
+    void testReviewOperationOnMissingProductShouldKeepItMissing() {
+        assertNull(ProductOperation.reviews("prod-001", 1L, List.of(review("rev-1", 5))).applyTo(null));
+    }
+
+    @Test
+    void testStockOperationShouldOnlyApplyOverTheStockItWasComputedFrom() {
+        ProductOperation operation = ProductOperation.stock("prod-001", 10, 7);
+        Product current = Product.builder().id("prod-001").title("Phone").stock(10).build();
+        Product restocked = current.toBuilder().stock(50).build();
+
+        Product once = operation.applyTo(current);
+
+        assertEquals(7, once.getStock());
+        assertEquals("Phone", once.getTitle());
+        assertSame(once, operation.applyTo(once));
+        assertSame(restocked, operation.applyTo(restocked));
+        assertEquals(3, ProductOperation.stock("prod-001", 0, 3).applyTo(Product.builder().id("prod-001").build())
+                .getStock());
+    }
+
+    private static Review review(String id, Integer rating) {
+        return Review.builder().id(id).userName("Ana").rating(rating).build();
+    }
+}
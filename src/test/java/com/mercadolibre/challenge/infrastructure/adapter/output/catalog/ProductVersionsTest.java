@@ -0,0 +1,115 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.exception.ConcurrencyException;
+import com.mercadolibre.challenge.domain.exception.ProductNotFoundException;
+import com.mercadolibre.challenge.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductVersionsTest {
+
+    private ProductVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Product> published = Map.of(
+                "prod-001", Product.builder().id("prod-001").build(),
+                "prod-002", Product.builder().id("prod-002").version(7L).build());
+        versions = new ProductVersions(published::get);
+    }
+
+    @Test
+    void testClaimShouldStartFromPublishedVersion() {
+        assertEquals(0, versions.current("prod-001"));
+        assertEquals(1, versions.claim("prod-001", 0));
+        assertEquals(8, versions.claim("prod-002", 7));
+        assertEquals(ProductVersions.DELETED, versions.current("missing"));
+    }
+
+    @Test
+    void testClaimWithStaleVersionShouldThrowConcurrencyException() {
+        versions.claim("prod-001", 0);
+
+        ConcurrencyException exception = assertThrows(ConcurrencyException.class, () -> versions.claim("prod-001", 0));
+
+        assertTrue(exception.getMessage().contains("expected version 0 but found 1"));
+    }
+
+    @Test
+    void testClaimOfMissingOrDeletedProductShouldThrowProductNotFoundException() {
+        assertThrows(ProductNotFoundException.class, () -> versions.claim("missing", 0));
+
+        assertEquals(0, versions.claimDelete("prod-001"));
+        assertThrows(ProductNotFoundException.class, () -> versions.claim("prod-001", 0));
+        assertThrows(ProductNotFoundException.class, () -> versions.claimDelete("prod-001"));
+    }
+
+    @Test
+    void testReleaseShouldRestorePreviousVersionOnlyIfStillClaimed() {
+        long claimed = versions.claim("prod-001", 0);
+        versions.release("prod-001", claimed, 0);
+        assertEquals(0, versions.current("prod-001"));
+
+        versions.claim("prod-001", 0);
+        versions.claim("prod-001", 1);
+        versions.release("prod-001", 1, 0);
+        assertEquals(2, versions.current("prod-001"));
+    }
+
+    @Test
+    void testReseedShouldKeepClaimsInFlightAndMoveOtherCountersToTheReloadedVersion() {
+        Product published = Product.builder().id("prod-002").version(7L).build();
+        versions.claim("prod-002", 7);
+
+        versions.reseed("prod-002", published, Product.builder().id("prod-002").version(3L).build());
+
+        assertThrows(ConcurrencyException.class, () -> versions.claim("prod-002", 7));
+        assertEquals(8, versions.current("prod-002"));
+
+        versions.current("prod-001");
+        versions.reseed("prod-001", Product.builder().id("prod-001").build(),
+                Product.builder().id("prod-001").version(4L).build());
+        assertEquals(5, versions.claim("prod-001", 4));
+
+        versions.register("prod-003", 1);
+        versions.reseed("prod-003", null, null);
+        assertEquals(1, versions.current("prod-003"));
+    }
+
+    @Test
+    void testConcurrentClaimsOfSameVersionShouldLetExactlyOneWin() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                attempts.add(() -> {
+                    try {
+                        versions.claim("prod-002", 7);
+                        return true;
+                    } catch (ConcurrencyException e) {
+                        return false;
+                    }
+                });
+            }
+            int winners = 0;
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                winners += result.get() ? 1 : 0;
+            }
+
+            assertEquals(1, winners);
+            assertEquals(8, versions.current("prod-002"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.AppendOnlyList;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void testReviewsShouldCountEveryRatingAndSkipInvalidOnes() {
+        ReviewIndex.Reviews reviews = ReviewIndex.Reviews.of(Arrays.asList(
+                review("rev-1", 5, 1), review("rev-2", 4, 2), review("rev-3", 5, 3),
+                review("rev-4", null, 4), review("rev-5", 9, 5), null));
+
+        assertEquals(5, reviews.reviewCount());
+        assertEquals(List.of(0, 0, 0, 1, 2), List.of(reviews.count(1), reviews.count(2), reviews.count(3),
+                reviews.count(4), reviews.count(5)));
+        assertEquals(14 / 3.0, reviews.averageRating(), 1e-9);
+    }
+
+    @Test
+    void testReviewsWithoutRatingsShouldHaveNoAverage() {
+        assertNull(ReviewIndex.Reviews.of(null).averageRating());
+        assertEquals(0, ReviewIndex.Reviews.of(List.of()).reviewCount());
+    }
+
+    @Test
+    void testPageShouldSortByDateAndRatingInBothDirections() {
+        ReviewIndex.Reviews reviews = ReviewIndex.Reviews.of(List.of(
+                review("rev-1", 3, 10), review("rev-2", 5, 30), review("rev-3", 1, 20),
+                review("rev-4", 5, 40), review("rev-5", null, null)));
+
+        assertEquals(List.of("rev-4", "rev-2", "rev-3"), ids(reviews.page(ReviewSort.DATE, SortDirection.DESC, 0, 3)));
+        assertEquals(List.of("rev-1", "rev-5"), ids(reviews.page(ReviewSort.DATE, SortDirection.DESC, 3, 3)));
+        assertEquals(List.of("rev-5", "rev-1"), ids(reviews.page(ReviewSort.DATE, SortDirection.ASC, 0, 2)));
+        // Equal ratings are ordered by date
+        assertEquals(List.of("rev-4", "rev-2", "rev-1", "rev-3", "rev-5"),
+                ids(reviews.page(ReviewSort.RATING, SortDirection.DESC, 0, 10)));
+        assertEquals(List.of("rev-3", "rev-1"), ids(reviews.page(ReviewSort.RATING, SortDirection.ASC, 1, 2)));
+        assertEquals(List.of(), reviews.page(ReviewSort.DATE, SortDirection.DESC, 10, 10));
+    }
+
+    @Test
+    void testBuildShouldOnlyIndexProductsWithManyReviews() {
+        Product popular = product("prod-1", ReviewIndex.MIN_INDEXED_REVIEWS);
+        Product small = product("prod-2", 3);
+        CatalogSnapshot snapshot = snapshot(List.of(popular, small));
+        ReviewIndex index = snapshot.reviewIndex();
+
+        assertEquals(1, index.indexedCount());
+        // Indexed products are answered from the index, the rest are counted on every call
+        assertSame(index.reviews(popular), index.reviews(popular));
+        assertNotSame(index.reviews(small), index.reviews(small));
+        assertEquals(3, index.reviews(small).reviewCount());
+        assertEquals(ReviewIndex.MIN_INDEXED_REVIEWS, index.reviews(popular).reviewCount());
+    }
+
+    @Test
+    void testApplyShouldRebuildOnlyProductsWhoseReviewsChanged() {
+        CatalogSnapshot snapshot = snapshot(List.of(product("prod-1", 40), product("prod-2", 40), product("prod-3", 2)));
+        Product renamed = snapshot.products().get("prod-1").toBuilder().title("Renamed").build();
+        Product reviewed = snapshot.products().get("prod-2").toBuilder().build();
+        List<Review> moreReviews = new ArrayList<>(reviewed.getReviews());
+        moreReviews.add(review("rev-new", 1, 9999));
+        reviewed = reviewed.toBuilder().reviews(moreReviews).build();
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-1", snapshot.products().get("prod-1"), renamed),
+                new CatalogDiff.Change("prod-2", snapshot.products().get("prod-2"), reviewed))), 2);
+
+        assertSame(snapshot.reviewIndex().reviews(snapshot.products().get("prod-1")), next.reviewIndex().reviews(renamed));
+        assertEquals(41, next.reviewIndex().reviews(reviewed).reviewCount());
+        assertEquals(List.of("rev-new"), ids(next.reviewIndex().reviews(reviewed).page(ReviewSort.DATE, SortDirection.DESC, 0, 1)));
+    }
+
+    @Test
+    void testApplyWithoutIndexedProductsShouldReuseIndex() {
+        CatalogSnapshot snapshot = snapshot(List.of(product("prod-1", 40), product("prod-2", 2)));
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-2", snapshot.products().get("prod-2"), product("prod-2", 5)),
+                new CatalogDiff.Change("prod-3", null, product("prod-3", 1)))), 2);
+
+        assertSame(snapshot.reviewIndex(), next.reviewIndex());
+    }
+
+    @Test
+    void testApplyShouldMatchAFreshlyBuiltIndex() {
+        Random random = new Random(5);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            products.add(product(String.format("prod-%03d", i), random.nextInt(80)));
+        }
+        CatalogSnapshot snapshot = snapshot(products);
+        for (int round = 0; round < 20; round++) {
+            List<CatalogDiff.Change> changes = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                String id = String.format("prod-%03d", random.nextInt(70));
+                if (changes.stream().anyMatch(change -> change.id().equals(id))) {
+                    continue;
+                }
+                Product before = snapshot.products().get(id);
+                Product after = random.nextInt(4) == 0 ? null
+                        : before != null && random.nextBoolean() ? withAppendedReviews(before, random)
+                        : product(id, random.nextInt(80));
+                if (before != null || after != null) {
+                    changes.add(new CatalogDiff.Change(id, before, after));
+                }
+            }
+            snapshot = snapshot.apply(CatalogDiff.of(changes), snapshot.version() + 1);
+
+            ReviewIndex rebuilt = ReviewIndex.build(snapshot.products());
+            assertEquals(rebuilt.indexedCount(), snapshot.reviewIndex().indexedCount());
+            for (Product product : snapshot.products().values()) {
+                ReviewIndex.Reviews expected = rebuilt.reviews(product);
+                ReviewIndex.Reviews actual = snapshot.reviewIndex().reviews(product);
+                assertEquals(expected.reviewCount(), actual.reviewCount(), product.getId());
+                assertEquals(expected.averageRating(), actual.averageRating(), product.getId());
+                assertEquals(expected.page(ReviewSort.RATING, SortDirection.DESC, 0, 200),
+                        actual.page(ReviewSort.RATING, SortDirection.DESC, 0, 200), product.getId());
+                assertEquals(expected.page(ReviewSort.DATE, SortDirection.ASC, 0, 200),
+                        actual.page(ReviewSort.DATE, SortDirection.ASC, 0, 200), product.getId());
+            }
+        }
+    }
+
+    @Test
+    void testPlusShouldMatchSortingAllReviews() {
+        List<Review> existing = product("prod-1", 50).getReviews();
+        List<Review> appended = new ArrayList<>(Arrays.asList(review("rev-a", 3, 13), null, review("rev-b", 3, 13),
+                review("rev-c", 5, null), review("rev-d", 1, 200), review("rev-e", null, 0)));
+        List<Review> all = new ArrayList<>(existing);
+        all.addAll(appended);
+
+        ReviewIndex.Reviews merged = ReviewIndex.Reviews.of(existing).plus(existing, appended);
+        ReviewIndex.Reviews sorted = ReviewIndex.Reviews.of(all);
+
+        assertEquals(sorted.reviewCount(), merged.reviewCount());
+        assertEquals(sorted.averageRating(), merged.averageRating());
+        for (int rating = 1; rating <= 5; rating++) {
+            assertEquals(sorted.count(rating), merged.count(rating));
+        }
+        for (ReviewSort sort : ReviewSort.values()) {
+            assertEquals(sorted.page(sort, SortDirection.ASC, 0, 100), merged.page(sort, SortDirection.ASC, 0, 100));
+        }
+    }
+
+    @Test
+    void testApplyWithLaterReviewsShouldAppendToTheExistingOrders() {
+        CatalogSnapshot snapshot = snapshot(List.of(product("prod-1", 200)));
+        Product before = snapshot.products().get("prod-1");
+        List<Review> submitted = List.of(review("rev-x", 5, 500), review("rev-y", 2, 500), review("rev-z", null, 501));
+        Product after = before.toBuilder()
+                .reviews(AppendOnlyList.copyOf(before.getReviews()).plusAll(submitted)).build();
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(new CatalogDiff.Change("prod-1", before, after))), 2);
+
+        ReviewIndex.Reviews appended = next.reviewIndex().reviews(after);
+        ReviewIndex.Reviews sorted = ReviewIndex.Reviews.of(new ArrayList<>(after.getReviews()));
+        assertEquals(203, appended.reviewCount());
+        assertEquals(sorted.averageRating(), appended.averageRating());
+        for (ReviewSort sort : ReviewSort.values()) {
+            assertEquals(sorted.page(sort, SortDirection.ASC, 0, 300), appended.page(sort, SortDirection.ASC, 0, 300));
+            assertEquals(sorted.page(sort, SortDirection.DESC, 10, 50), appended.page(sort, SortDirection.DESC, 10, 50));
+        }
+    }
+
+    private static Product withAppendedReviews(Product product, Random random) {
+        List<Review> appended = new ArrayList<>();
+        for (int i = random.nextInt(4); i >= 0; i--) {
+            int size = product.getReviews().size() + appended.size();
+            // Later reviews are appended to the orders, earlier ones sort every review again
+            int minutes = random.nextBoolean() ? 100 + size : random.nextInt(97);
+            appended.add(review(product.getId() + "-new-" + size, 1 + random.nextInt(5), minutes));
+        }
+        return product.toBuilder().reviews(AppendOnlyList.copyOf(product.getReviews()).plusAll(appended)).build();
+    }
+
+    private static List<String> ids(List<Review> reviews) {
+        return reviews.stream().map(Review::getId).toList();
+    }
+
+    private static CatalogSnapshot snapshot(List<Product> products) {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        products.forEach(builder::add);
+        return builder.build(1);
+    }
+
+    private static Product product(String id, int reviewCount) {
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            reviews.add(review(id + "-rev-" + i, 1 + (i * 7 + id.hashCode() & 0x7fffffff) % 5, i * 13 % 97));
+        }
+        return Product.builder().id(id).type("smartphone").reviews(reviews).build();
+    }
+
+    private static Review review(String id, Integer rating, Integer minutes) {
+        return Review.builder()
+                .id(id)
+                .rating(rating)
+                .createdAt(minutes == null ? null : START.plusMinutes(minutes))
+                .build();
+    }
+}
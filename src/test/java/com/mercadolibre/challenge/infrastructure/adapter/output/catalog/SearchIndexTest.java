@@ -0,0 +1,100 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    @Test
+    void testSearchShouldRankTitleMatchesAndShorterDocumentsFirst() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "Auriculares Sony", "Sonido envolvente con cámara"),
+                product("prod-2", "Cámara Sony", "Cámara compacta"),
+                product("prod-3", "Televisor LG", "Sonido Dolby"),
+                product("prod-4", "Parlante", "Sin cámara"));
+
+        SearchIndex.Result cameras = snapshot.searchIndex().search("camara", 0, 10);
+        SearchIndex.Result sonyCamera = snapshot.searchIndex().search("CÁMARA sony", 0, 10);
+
+        assertEquals(List.of("prod-2", "prod-4", "prod-1"), cameras.ids());
+        assertEquals(3, cameras.total());
+        assertEquals("prod-2", sonyCamera.ids().getFirst());
+        assertEquals(3, sonyCamera.total());
+    }
+
+    @Test
+    void testSearchShouldPageThroughMatchesInRankOrder() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "Cámara", null),
+                product("prod-2", "Cámara", null),
+                product("prod-3", "Cámara", null),
+                product("prod-4", "Mouse", null));
+
+        assertEquals(List.of("prod-1", "prod-2"), snapshot.searchIndex().search("camara", 0, 2).ids());
+        assertEquals(List.of("prod-3"), snapshot.searchIndex().search("camara", 2, 2).ids());
+        assertTrue(snapshot.searchIndex().search("camara", 4, 2).ids().isEmpty());
+        assertTrue(snapshot.searchIndex().search("de la", 0, 2).ids().isEmpty());
+    }
+
+    @Test
+    void testApplyShouldMatchAFreshlyBuiltIndex() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "Cámara Sony", "Lente intercambiable"),
+                product("prod-2", "Cámara Canon", "Lente fijo"),
+                product("prod-3", "Notebook", "Cámara web"));
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-1", snapshot.products().get("prod-1"), product("prod-1", "Auriculares Sony", null)),
+                new CatalogDiff.Change("prod-2", snapshot.products().get("prod-2"), null),
+                new CatalogDiff.Change("prod-4", null, product("prod-4", "Cámara Nikon", "Lente zoom")))), 2);
+        CatalogSnapshot rebuilt = snapshot(new ArrayList<>(next.products().values()).toArray(Product[]::new));
+
+        for (String query : List.of("camara", "lente", "sony", "canon", "camara lente zoom")) {
+            assertEquals(rebuilt.searchIndex().search(query, 0, 10), next.searchIndex().search(query, 0, 10), query);
+        }
+        assertEquals(List.of("prod-1", "prod-2"), snapshot.searchIndex().search("lente", 0, 10).ids());
+    }
+
+    @Test
+    void testFuzzySearchShouldMatchMisspelledTitleTermsAfterExactMatches() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "Samsung Galaxy", null),
+                product("prod-2", "Celulares libres", null),
+                product("prod-3", "Celular samsumg", "Funda"),
+                product("prod-4", "Heladera", null));
+
+        assertEquals(List.of("prod-3"), snapshot.searchIndex().search("samsumg", 0, 10).ids());
+        assertEquals(List.of("prod-3", "prod-1"), snapshot.searchIndex().search("samsumg", true, 0, 10).ids());
+        assertEquals(List.of("prod-3", "prod-2"), snapshot.searchIndex().search("celular", true, 0, 10).ids());
+        assertEquals(2, snapshot.searchIndex().search("samsunk", true, 0, 10).total());
+        assertTrue(snapshot.searchIndex().search("fundas", true, 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void testApplyWhenTextIsUnchangedShouldShareIndex() {
+        CatalogSnapshot snapshot = snapshot(product("prod-1", "Cámara Sony", null));
+        Product restocked = snapshot.products().get("prod-1").toBuilder().stock(9).build();
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-1", snapshot.products().get("prod-1"), restocked))), 2);
+
+        assertSame(snapshot.searchIndex(), next.searchIndex());
+    }
+
+    private static CatalogSnapshot snapshot(Product... products) {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        for (Product product : products) {
+            builder.add(product);
+        }
+        return builder.build(1);
+    }
+
+    private static Product product(String id, String title, String description) {
+        return Product.builder().id(id).title(title).description(description).stock(1).build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Seller;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SellerIndexTest {
+
+    @Test
+    void testBuildShouldListIdsInOrderAndAggregateEverySeller() {
+        CatalogSnapshot snapshot = snapshot(List.of(
+                product("prod-3", "seller-1", 4.5, 3),
+                product("prod-1", "seller-1", 4.0, 2),
+                product("prod-2", "seller-2", 3.9, 0),
+                product("prod-4", "seller-1", null, 5),
+                product("prod-5", null, 5.0, 1)));
+        SellerIndex index = snapshot.sellerIndex();
+
+        assertEquals(List.of("prod-1", "prod-3", "prod-4"), index.ids("seller-1"));
+        assertEquals(List.of("prod-2"), index.ids("seller-2"));
+        assertEquals(List.of(), index.ids("seller-9"));
+        assertEquals(2, index.sellerCount());
+        assertEquals(new SellerIndex.Aggregate(3, 10, 850, 2), index.aggregate("seller-1"));
+        assertEquals(4.25, index.aggregate("seller-1").averageRating(), 1e-9);
+        assertNull(index.aggregate("seller-9"));
+    }
+
+    @Test
+    void testAverageRatingWithoutRatedProductsShouldBeNull() {
+        SellerIndex index = snapshot(List.of(product("prod-1", "seller-1", null, 2))).sellerIndex();
+
+        assertNull(index.aggregate("seller-1").averageRating());
+    }
+
+    @Test
+    void testApplyShouldMoveProductsBetweenSellersAndDropEmptySellers() {
+        CatalogSnapshot snapshot = snapshot(List.of(
+                product("prod-1", "seller-1", 4.0, 2),
+                product("prod-2", "seller-2", 3.0, 1),
+                product("prod-3", "seller-3", 5.0, 7)));
+        Product moved = product("prod-1", "seller-2", 5.0, 4);
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-1", snapshot.products().get("prod-1"), moved))), 2);
+        SellerIndex index = next.sellerIndex();
+
+        assertEquals(List.of(), index.ids("seller-1"));
+        assertNull(index.aggregate("seller-1"));
+        assertEquals(List.of("prod-1", "prod-2"), index.ids("seller-2"));
+        assertEquals(new SellerIndex.Aggregate(2, 5, 800, 2), index.aggregate("seller-2"));
+        // Untouched sellers are shared with the previous snapshot
+        assertSame(snapshot.sellerIndex().ids("seller-3"), index.ids("seller-3"));
+        assertSame(snapshot.sellerIndex().aggregate("seller-3"), index.aggregate("seller-3"));
+    }
+
+    @Test
+    void testApplyWithoutSellerStockOrRatingChangesShouldReuseIndex() {
+        CatalogSnapshot snapshot = snapshot(List.of(product("prod-1", "seller-1", 4.0, 2)));
+        Product renamed = product("prod-1", "seller-1", 4.0, 2);
+        renamed = renamed.toBuilder().title("Renamed").build();
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-1", snapshot.products().get("prod-1"), renamed))), 2);
+
+        assertSame(snapshot.sellerIndex(), next.sellerIndex());
+    }
+
+    @Test
+    void testApplyShouldMatchAFreshlyBuiltIndex() {
+        Random random = new Random(11);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            products.add(randomProduct(random, i));
+        }
+        CatalogSnapshot snapshot = snapshot(products);
+        for (int round = 0; round < 30; round++) {
+            List<CatalogDiff.Change> changes = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                int index = random.nextInt(360);
+                String id = String.format("prod-%03d", index);
+                if (changes.stream().anyMatch(change -> change.id().equals(id))) {
+                    continue;
+                }
+                Product before = snapshot.products().get(id);
+                Product after = random.nextInt(3) == 0 ? null : randomProduct(random, index);
+                if (before != null || after != null) {
+                    changes.add(new CatalogDiff.Change(id, before, after));
+                }
+            }
+            snapshot = snapshot.apply(CatalogDiff.of(changes), snapshot.version() + 1);
+
+            SellerIndex rebuilt = SellerIndex.build(snapshot.products());
+            assertEquals(rebuilt.sellerCount(), snapshot.sellerIndex().sellerCount());
+            for (int seller = 0; seller < 6; seller++) {
+                String sellerId = "seller-" + seller;
+                assertEquals(rebuilt.ids(sellerId), snapshot.sellerIndex().ids(sellerId), sellerId);
+                assertEquals(rebuilt.aggregate(sellerId), snapshot.sellerIndex().aggregate(sellerId), sellerId);
+            }
+        }
+    }
+
+    private static Product randomProduct(Random random, int index) {
+        return product(String.format("prod-%03d", index), "seller-" + random.nextInt(6),
+                random.nextInt(5) == 0 ? null : random.nextInt(51) / 10.0, random.nextInt(20));
+    }
+
+    private static CatalogSnapshot snapshot(List<Product> products) {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        products.forEach(builder::add);
+        return builder.build(1);
+    }
+
+    private static Product product(String id, String sellerId, Double rating, int stock) {
+        return Product.builder()
+                .id(id)
+                .type("smartphone")
+                .seller(sellerId == null ? null : Seller.builder().id(sellerId).build())
+                .rating(rating)
+                .stock(stock)
+                .build();
+    }
+}
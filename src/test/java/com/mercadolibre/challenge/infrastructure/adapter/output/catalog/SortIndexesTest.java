@@ -0,0 +1,153 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductSort;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortIndexesTest {
+
+    @Test
+    void testBuildShouldSortByKeyThenIdWithMissingKeysLast() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "laptop", "30.00", 4.5, 0, "beta"),
+                product("prod-2", "phone", "10.00", null, 7, "Alpha"),
+                product("prod-3", "laptop", null, 4.5, 2, null),
+                product("prod-4", "laptop", "10.00", 3.0, 7, "gamma"));
+
+        SortIndexes indexes = snapshot.sortIndexes();
+
+        assertEquals(List.of("prod-2", "prod-4", "prod-1", "prod-3"), indexes.ids(ProductSort.PRICE));
+        assertEquals(List.of("prod-4", "prod-1", "prod-3", "prod-2"), indexes.ids(ProductSort.RATING));
+        assertEquals(List.of("prod-1", "prod-3", "prod-2", "prod-4"), indexes.ids(ProductSort.STOCK));
+        assertEquals(List.of("prod-2", "prod-1", "prod-4", "prod-3"), indexes.ids(ProductSort.TITLE));
+        assertEquals(List.of("prod-4", "prod-1", "prod-3"), indexes.ids(ProductSort.PRICE, "laptop"));
+        assertTrue(indexes.ids(ProductSort.PRICE, "tablet").isEmpty());
+    }
+
+    @Test
+    void testApplyShouldMoveChangedProductsAndShareUntouchedOrders() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "laptop", "30.00", 4.5, 1, "a"),
+                product("prod-2", "laptop", "20.00", 4.0, 2, "b"),
+                product("prod-3", "phone", "10.00", 3.5, 3, "c"));
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-3", snapshot.products().get("prod-3"), product("prod-3", "laptop", "10.00", 3.5, 9, "c")),
+                new CatalogDiff.Change("prod-1", snapshot.products().get("prod-1"), null),
+                new CatalogDiff.Change("prod-4", null, product("prod-4", "phone", "25.00", 5.0, 0, "d")))), 2);
+
+        SortIndexes indexes = next.sortIndexes();
+        assertEquals(List.of("prod-3", "prod-2", "prod-4"), indexes.ids(ProductSort.PRICE));
+        assertEquals(List.of("prod-3", "prod-2"), indexes.ids(ProductSort.PRICE, "laptop"));
+        assertEquals(List.of("prod-4"), indexes.ids(ProductSort.PRICE, "phone"));
+        assertEquals(List.of("prod-4", "prod-2", "prod-3"), indexes.ids(ProductSort.STOCK));
+        assertEquals(List.of("prod-3", "prod-2", "prod-1"), snapshot.sortIndexes().ids(ProductSort.PRICE));
+    }
+
+    @Test
+    void testApplyWhenOnlyStockChangesShouldShareOtherOrders() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "laptop", "30.00", 4.5, 1, "a"),
+                product("prod-2", "laptop", "20.00", 4.0, 2, "b"));
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(new CatalogDiff.Change("prod-1",
+                snapshot.products().get("prod-1"), product("prod-1", "laptop", "30.00", 4.5, 5, "a")))), 2);
+
+        assertSame(snapshot.sortIndexes().ids(ProductSort.PRICE), next.sortIndexes().ids(ProductSort.PRICE));
+        assertSame(snapshot.sortIndexes().ids(ProductSort.TITLE, "laptop"), next.sortIndexes().ids(ProductSort.TITLE, "laptop"));
+        assertEquals(List.of("prod-2", "prod-1"), next.sortIndexes().ids(ProductSort.STOCK));
+    }
+
+    @Test
+    void testIdsInPriceRangeShouldReturnInclusiveRangeInPriceOrder() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "laptop", "30.00", null, null, null),
+                product("prod-2", "phone", "10.00", null, null, null),
+                product("prod-3", "laptop", null, null, null, null),
+                product("prod-4", "laptop", "19.999", null, null, null),
+                product("prod-5", "laptop", "20.01", null, null, null));
+
+        SortIndexes indexes = snapshot.sortIndexes();
+        Map<String, Product> products = snapshot.products();
+
+        assertEquals(List.of("prod-5", "prod-1"), indexes.idsInPriceRange(null, new BigDecimal("20"), null, products));
+        assertEquals(List.of("prod-2", "prod-4"), indexes.idsInPriceRange(null, null, new BigDecimal("20.00"), products));
+        assertEquals(List.of("prod-4", "prod-5"),
+                indexes.idsInPriceRange("laptop", new BigDecimal("15"), new BigDecimal("25"), products));
+        assertEquals(List.of("prod-2", "prod-4", "prod-5", "prod-1"), indexes.idsInPriceRange(null, null, null, products));
+        assertTrue(indexes.idsInPriceRange(null, new BigDecimal("31"), null, products).isEmpty());
+        assertTrue(indexes.idsInPriceRange("tablet", null, null, products).isEmpty());
+    }
+
+    @Test
+    void testIdsInPriceRangeShouldCompareBoundsInsideACentExactly() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "laptop", "100.001", null, null, null),
+                product("prod-2", "laptop", "100.004", null, null, null),
+                product("prod-3", "laptop", "100.006", null, null, null));
+
+        SortIndexes indexes = snapshot.sortIndexes();
+        Map<String, Product> products = snapshot.products();
+
+        assertEquals(List.of("prod-2", "prod-3"), indexes.idsInPriceRange(null, new BigDecimal("100.004"), null, products));
+        assertEquals(List.of("prod-1", "prod-2"), indexes.idsInPriceRange(null, null, new BigDecimal("100.004"), products));
+        assertEquals(List.of("prod-2"),
+                indexes.idsInPriceRange(null, new BigDecimal("100.002"), new BigDecimal("100.005"), products));
+    }
+
+    @Test
+    void testToCentsShouldSaturateHugeAndTinyPricesWithoutExpandingThem() {
+        assertEquals(Long.MAX_VALUE - 1, SortIndexes.toCents(new BigDecimal("1e999999999")));
+        assertEquals(Long.MIN_VALUE + 1, SortIndexes.toCents(new BigDecimal("-1e100000000")));
+        assertEquals(Long.MAX_VALUE - 1, SortIndexes.toCents(new BigDecimal("99999999999999999999")));
+        assertEquals(0, SortIndexes.toCents(new BigDecimal("1e-999999999")));
+        assertEquals(0, SortIndexes.toCents(new BigDecimal("0e999999999")));
+        assertEquals(1, SortIndexes.toCents(new BigDecimal("0.005")));
+        assertEquals(12346, SortIndexes.toCents(new BigDecimal("123.455")));
+    }
+
+    @Test
+    void testApplyShouldKeepPriceRangesInStepWithPriceChanges() {
+        CatalogSnapshot snapshot = snapshot(
+                product("prod-1", "laptop", "30.00", null, 1, null),
+                product("prod-2", "phone", "10.00", null, 1, null));
+
+        CatalogSnapshot repriced = snapshot.apply(CatalogDiff.of(List.of(new CatalogDiff.Change("prod-1",
+                snapshot.products().get("prod-1"), product("prod-1", "laptop", "5.00", null, 1, null)))), 2);
+        CatalogSnapshot restocked = repriced.apply(CatalogDiff.of(List.of(new CatalogDiff.Change("prod-2",
+                repriced.products().get("prod-2"), product("prod-2", "phone", "10.00", null, 9, null)))), 3);
+
+        assertEquals(List.of("prod-1"), repriced.sortIndexes().idsInPriceRange(null, null, new BigDecimal("6"),
+                repriced.products()));
+        assertEquals(List.of("prod-1"), repriced.sortIndexes().idsInPriceRange("laptop", null, new BigDecimal("6"),
+                repriced.products()));
+        assertEquals(List.of("prod-1", "prod-2"), restocked.sortIndexes().idsInPriceRange(null, null, null, restocked.products()));
+        assertEquals(List.of("prod-1"), snapshot.sortIndexes().idsInPriceRange(null, new BigDecimal("20"), null,
+                snapshot.products()));
+    }
+
+    private static CatalogSnapshot snapshot(Product... products) {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        for (Product product : products) {
+            builder.add(product);
+        }
+        return builder.build(1);
+    }
+
+    private static Product product(String id, String type, String price, Double rating, Integer stock, String title) {
+        return Product.builder()
+                .id(id)
+                .type(type)
+                .price(price == null ? null : new BigDecimal(price))
+                .rating(rating)
+                .stock(stock)
+                .title(title)
+                .build();
+    }
+}
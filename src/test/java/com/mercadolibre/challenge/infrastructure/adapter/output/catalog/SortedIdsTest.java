@@ -0,0 +1,96 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedIdsTest {
+
+    private static final Comparator<String> NATURAL = Comparator.naturalOrder();
+
+    @Test
+    void testUpdateShouldCopyOnlyTheTouchedChunks() {
+        SortedIds ids = SortedIds.of(ids(0, 10_000));
+
+        SortedIds next = ids.update(Set.of(id(10)), NATURAL, List.of(id(20_000)), NATURAL, null);
+
+        assertEquals(10_000, next.size());
+        assertFalse(next.contains(id(10)));
+        assertEquals(id(20_000), next.get(next.size() - 1));
+        long shared = IntStream.range(0, next.chunkCount())
+                .filter(chunk -> next.sharesChunk(ids, chunk)).count();
+        assertEquals(next.chunkCount() - 2, shared);
+        assertTrue(ids.contains(id(10)));
+    }
+
+    @Test
+    void testUpdateShouldMatchSortedSetUnderRandomChanges() {
+        Random random = new Random(7);
+        TreeSet<String> expected = new TreeSet<>(List.of(ids(0, 3000)));
+        SortedIds ids = SortedIds.of(ids(0, 3000));
+        for (int round = 0; round < 40; round++) {
+            Set<String> removed = new TreeSet<>();
+            List<String> added = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String id = id(random.nextInt(6000));
+                if (expected.contains(id)) {
+                    removed.add(id);
+                } else if (!added.contains(id)) {
+                    added.add(id);
+                }
+            }
+            ids = ids.update(removed, NATURAL, added, NATURAL, null);
+            expected.removeAll(removed);
+            expected.addAll(added);
+
+            assertEquals(new ArrayList<>(expected), ids);
+        }
+    }
+
+    @Test
+    void testFirstAboveShouldFindKeyBoundsAcrossChunks() {
+        String[] sorted = ids(0, 2000);
+        long[] keys = new long[sorted.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i / 10;
+        }
+        SortedIds ids = SortedIds.of(sorted, keys);
+
+        assertEquals(0, ids.firstAbove(-1));
+        assertEquals(1000, ids.firstAbove(99));
+        assertEquals(2000, ids.firstAbove(199));
+
+        SortedIds next = ids.update(Set.of(), NATURAL, List.of("prod-0000995a"), NATURAL, id -> 99);
+
+        assertEquals(1001, next.firstAbove(99));
+        assertEquals("prod-0000995a", next.get(996));
+    }
+
+    @Test
+    void testUpdateWithoutChangesShouldReturnTheSameList() {
+        SortedIds ids = SortedIds.of(ids(0, 10));
+
+        assertSame(ids, ids.update(Set.of(), NATURAL, List.of(), NATURAL, null));
+        assertTrue(ids.update(Set.of(ids(0, 10)), NATURAL, List.of(), NATURAL, null).isEmpty());
+    }
+
+    private static String[] ids(int from, int to) {
+        String[] ids = new String[to - from];
+        for (int i = from; i < to; i++) {
+            ids[i - from] = id(i);
+        }
+        return ids;
+    }
+
+    private static String id(int index) {
+        return String.format("prod-%07d", index);
+    }
+}
@@ -0,0 +1,87 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.exception.InitializationException;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingCatalogReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private StreamingCatalogReader reader;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        reader = new StreamingCatalogReader(objectMapper, 1);
+    }
+
+    @Test
+    void testReadShouldHandEachProductToConsumerInOrder() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, """
+                [
+                  {"id": "prod-001", "title": "Product 1", "type": "smartphone", "price": 10.5,
+                   "reviews": [{"id": "rev-001", "rating": 5, "createdAt": "2025-07-20T10:30:00"}]},
+                  {"id": "prod-002", "title": "Product 2", "type": "laptop", "price": 20}
+                ]
+                """);
+
+        List<Product> products = new ArrayList<>();
+        long count = reader.read(file.toFile(), products::add);
+
+        assertEquals(2, count);
+        assertEquals("prod-001", products.get(0).getId());
+        assertEquals("smartphone", products.get(0).getType());
+        assertEquals(1, products.get(0).getReviews().size());
+        assertEquals("prod-002", products.get(1).getId());
+    }
+
+    @Test
+    void testReadWhenArrayIsEmptyShouldReturnZero() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "[]");
+
+        assertEquals(0, reader.read(file.toFile(), product -> fail("No product expected")));
+    }
+
+    @Test
+    void testReadWhenArrayHoldsNonObjectElementShouldThrowInitializationException() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "[{\"id\": \"prod-001\"}, null, {\"id\": \"prod-002\"}]");
+        List<Product> products = new ArrayList<>();
+
+        assertThrows(InitializationException.class, () -> reader.read(file.toFile(), products::add));
+        assertEquals(1, products.size());
+    }
+
+    @Test
+    void testReadWhenArrayIsTruncatedShouldThrowIOException() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "[{\"id\": \"prod-001\"}");
+
+        assertThrows(IOException.class, () -> reader.read(file.toFile(), product -> { }));
+    }
+
+    @Test
+    void testReadWhenRootIsNotArrayShouldThrowInitializationException() throws IOException {
+        Path file = tempDir.resolve("products.json");
+        Files.writeString(file, "{\"id\": \"prod-001\"}");
+
+        assertThrows(InitializationException.class, () -> reader.read(file.toFile(), product -> { }));
+    }
+}
@@ -0,0 +1,161 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestIndexTest {
+
+    @Test
+    void testSuggestShouldRankCompletionsByRatingOfTheirProducts() {
+        SuggestIndex index = SuggestIndex.build(List.of(
+                product("prod-1", "Cámara Sony", "camera", 4.0),
+                product("prod-2", "Cámara Canon", "camera", 5.0),
+                product("prod-3", "Campera de abrigo", "clothing", 4.5),
+                product("prod-4", "Camiseta", "clothing", null)));
+
+        assertEquals(List.of("camara", "camera", "campera", "camiseta"), index.suggest("CÁM", 10));
+        assertEquals(List.of("camara", "camera"), index.suggest("cam", 2));
+        assertEquals(List.of("clothing"), index.suggest("cl", 10));
+        assertEquals(List.of("sony"), index.suggest("sony", 10));
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+        assertTrue(index.suggest(" ", 10).isEmpty());
+        assertTrue(index.suggest("de", 10).isEmpty());
+    }
+
+    @Test
+    void testSuggestShouldKeepAtMostMaxSuggestions() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            products.add(product("prod-" + i, "palabra" + i, null, (double) i));
+        }
+
+        List<String> suggestions = SuggestIndex.build(products).suggest("pal", 50);
+
+        assertEquals(SuggestIndex.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals("palabra29", suggestions.getFirst());
+    }
+
+    @Test
+    void testApplyShouldMatchAFreshlyBuiltIndex() {
+        Random random = new Random(7);
+        CatalogSnapshot snapshot = snapshot(randomProducts(random, 200));
+        for (int round = 0; round < 5; round++) {
+            List<CatalogDiff.Change> changes = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String id = "prod-" + random.nextInt(220);
+                Product before = snapshot.products().get(id);
+                Product after = random.nextInt(4) == 0 ? null : randomProduct(random, id);
+                if (before != null || after != null) {
+                    changes.add(new CatalogDiff.Change(id, before, after));
+                }
+                snapshot = snapshot.apply(CatalogDiff.of(changes), snapshot.version() + 1);
+                changes.clear();
+            }
+            assertSameSuggestions(SuggestIndex.build(snapshot.products().values()), snapshot.suggestIndex(),
+                    snapshot.products());
+        }
+    }
+
+    @Test
+    void testApplyPastCompactionThresholdShouldMatchAFreshlyBuiltIndex() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            products.add(product("prod-" + i, "modelo" + i, "tipo" + i % 3, 1.0));
+        }
+        CatalogSnapshot snapshot = snapshot(products);
+        List<CatalogDiff.Change> changes = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            Product before = snapshot.products().get("prod-" + i);
+            changes.add(new CatalogDiff.Change(before.getId(), before, before.toBuilder().rating(i % 10 / 2.0).build()));
+        }
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(changes), 2);
+
+        assertSameSuggestions(SuggestIndex.build(next.products().values()), next.suggestIndex(), next.products());
+        assertEquals(List.of("modelo1009", "modelo1019"), next.suggestIndex().suggest("modelo1", 2));
+    }
+
+    @Test
+    void testApplyShouldPatchTheBestCompletionsOfChangedPrefixes() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            products.add(product("prod-" + i, "palabra" + i, null, i / 10.0));
+        }
+        CatalogSnapshot snapshot = snapshot(products);
+        Product first = snapshot.products().get("prod-0");
+        Product added = product("prod-30", "Palanca", null, 5.0);
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-0", first, first.toBuilder().rating(4.0).build()),
+                new CatalogDiff.Change("prod-30", null, added))), 2);
+        CatalogSnapshot removed = next.apply(CatalogDiff.of(List.of(
+                new CatalogDiff.Change("prod-30", added, null))), 3);
+
+        assertEquals(List.of("palanca", "palabra0", "palabra29"), next.suggestIndex().suggest("pal", 3));
+        assertEquals(List.of("palabra0", "palabra29"), next.suggestIndex().suggest("palab", 2));
+        assertEquals(List.of("palanca"), next.suggestIndex().suggest("palan", 10));
+        assertEquals(List.of("palabra0", "palabra29"), removed.suggestIndex().suggest("pal", 2));
+        assertTrue(removed.suggestIndex().suggest("palan", 10).isEmpty());
+        assertEquals(List.of("palabra29", "palabra28"), snapshot.suggestIndex().suggest("pal", 2));
+    }
+
+    @Test
+    void testApplyWhenCompletionsAreUnchangedShouldShareIndex() {
+        CatalogSnapshot snapshot = snapshot(List.of(product("prod-1", "Cámara Sony", "camera", 4.0)));
+        Product before = snapshot.products().get("prod-1");
+
+        CatalogSnapshot next = snapshot.apply(CatalogDiff.of(List.of(new CatalogDiff.Change("prod-1", before,
+                before.toBuilder().description("Nueva descripción").stock(3).build()))), 2);
+
+        assertSame(snapshot.suggestIndex(), next.suggestIndex());
+    }
+
+    private static void assertSameSuggestions(SuggestIndex expected, SuggestIndex actual, Map<String, Product> products) {
+        Set<String> prefixes = new TreeSet<>();
+        for (Product product : products.values()) {
+            for (String term : TextAnalyzer.terms(product.getTitle())) {
+                for (int length = 1; length <= term.length(); length++) {
+                    prefixes.add(term.substring(0, length));
+                }
+            }
+        }
+        for (String prefix : prefixes) {
+            assertEquals(expected.suggest(prefix, SuggestIndex.MAX_SUGGESTIONS),
+                    actual.suggest(prefix, SuggestIndex.MAX_SUGGESTIONS), prefix);
+        }
+    }
+
+    private static List<Product> randomProducts(Random random, int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(randomProduct(random, "prod-" + i));
+        }
+        return products;
+    }
+
+    private static Product randomProduct(Random random, String id) {
+        String[] words = {"cámara", "camara", "campera", "cable", "casco", "celular", "cargador", "canon", "casa"};
+        String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                + random.nextInt(20);
+        return product(id, title, "tipo" + random.nextInt(3), random.nextInt(6) == 0 ? null : random.nextInt(51) / 10.0);
+    }
+
+    private static CatalogSnapshot snapshot(List<Product> products) {
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        products.forEach(builder::add);
+        return builder.build(1);
+    }
+
+    private static Product product(String id, String title, String type, Double rating) {
+        return Product.builder().id(id).title(title).type(type).rating(rating).build();
+    }
+}
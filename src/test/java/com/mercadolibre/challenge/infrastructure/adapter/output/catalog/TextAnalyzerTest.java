@@ -0,0 +1,34 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextAnalyzerTest {
+
+    @Test
+    void testTermsShouldFoldCaseAndSpanishAccents() {
+        assertEquals(List.of("camara", "rapida", "bateria", "nino"), TextAnalyzer.terms("Cámara RÁPIDA, batería-niño"));
+    }
+
+    @Test
+    void testTermsShouldDropStopWordsAndKeepDigits() {
+        assertEquals(List.of("pantalla", "6", "1", "pulgadas", "amoled"),
+                TextAnalyzer.terms("Pantalla de 6.1 pulgadas con la AMOLED"));
+    }
+
+    @Test
+    void testTermsOfNullOrBlankTextShouldBeEmpty() {
+        assertTrue(TextAnalyzer.terms(null).isEmpty());
+        assertTrue(TextAnalyzer.terms("  ,. ").isEmpty());
+    }
+
+    @Test
+    void testNormalizeShouldFoldTextAndKeepStopWords() {
+        assertEquals("camara de fotos", TextAnalyzer.normalize("  Cámara de FOTOS! "));
+        assertEquals("", TextAnalyzer.normalize("--"));
+        assertEquals("", TextAnalyzer.normalize(null));
+    }
+}
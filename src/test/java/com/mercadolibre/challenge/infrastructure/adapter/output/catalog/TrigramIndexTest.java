@@ -0,0 +1,82 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.catalog;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    void testDistanceShouldCountEditsUpToTheBound() {
+        assertEquals(0, TrigramIndex.distance("samsung", "samsung", 2));
+        assertEquals(1, TrigramIndex.distance("samsumg", "samsung", 2));
+        assertEquals(2, TrigramIndex.distance("celular", "celulares", 2));
+        assertEquals(1, TrigramIndex.distance("sony", "somy", 1));
+        assertEquals(2, TrigramIndex.distance("ab", "ba", 2));
+        assertEquals(3, TrigramIndex.distance("notebook", "netbooks", 2));
+    }
+
+    @Test
+    void testCorrectionsShouldFindTitleTermsWithinAllowedEdits() {
+        TrigramIndex index = TrigramIndex.build(List.of(
+                product("prod-1", "Samsung Galaxy"),
+                product("prod-2", "Celulares libres"),
+                product("prod-3", "Celular Motorola"),
+                product("prod-4", "TV LG")));
+
+        assertEquals(List.of(new TrigramIndex.Correction("samsung", 1)), index.corrections("samsumg"));
+        assertEquals(List.of(new TrigramIndex.Correction("celular", 0), new TrigramIndex.Correction("celulares", 2)),
+                index.corrections("celular"));
+        assertEquals(List.of(new TrigramIndex.Correction("motorola", 2)), index.corrections("motoroal"));
+        assertEquals(List.of(new TrigramIndex.Correction("lg", 0)), index.corrections("lg"));
+        assertTrue(index.corrections("lf").isEmpty());
+        assertTrue(index.corrections("heladera").isEmpty());
+    }
+
+    @Test
+    void testApplyShouldMakeNewTitleTermsCorrectable() {
+        Map<String, Product> products = new HashMap<>();
+        products.put("prod-1", product("prod-1", "Samsung Galaxy"));
+        TrigramIndex index = TrigramIndex.build(products.values());
+        Product after = product("prod-1", "Samsung Galaxy Buds");
+        products.put("prod-1", after);
+
+        TrigramIndex next = index.apply(List.of(new CatalogDiff.Change("prod-1", product("prod-1", "Samsung Galaxy"), after)), products);
+        TrigramIndex unchanged = next.apply(List.of(new CatalogDiff.Change("prod-1", after, after.toBuilder().stock(2).build())), products);
+
+        assertTrue(index.corrections("budz").isEmpty());
+        assertEquals(List.of(new TrigramIndex.Correction("buds", 1)), next.corrections("budz"));
+        assertEquals(3, next.termCount());
+        assertSame(next, unchanged);
+    }
+
+    @Test
+    void testApplyPastCompactionThresholdShouldRebuildFromCatalog() {
+        Map<String, Product> products = new HashMap<>();
+        products.put("prod-0", product("prod-0", "Samsung"));
+        TrigramIndex index = TrigramIndex.build(products.values());
+        List<CatalogDiff.Change> changes = new ArrayList<>();
+        for (int i = 1; i <= 1100; i++) {
+            Product product = product("prod-" + i, "modelo" + i);
+            products.put(product.getId(), product);
+            changes.add(new CatalogDiff.Change(product.getId(), null, product));
+        }
+
+        TrigramIndex next = index.apply(changes, products);
+
+        assertEquals(1101, next.termCount());
+        assertEquals(List.of(new TrigramIndex.Correction("modelo1099", 1), new TrigramIndex.Correction("modelo199", 1)),
+                next.corrections("modelo1x99").subList(0, 2));
+        assertEquals(List.of(new TrigramIndex.Correction("samsung", 1)), next.corrections("samsumg"));
+    }
+
+    private static Product product(String id, String title) {
+        return Product.builder().id(id).title(title).build();
+    }
+}
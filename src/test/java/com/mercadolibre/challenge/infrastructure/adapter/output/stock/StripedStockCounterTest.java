@@ -0,0 +1,108 @@
+package com.mercadolibre.challenge.infrastructure.adapter.output.stock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedStockCounterTest {
+
+    @Test
+    void testConstructorShouldSpreadStockAcrossPowerOfTwoStripes() {
+        StripedStockCounter counter = new StripedStockCounter(10, 3);
+
+        assertEquals(4, counter.stripes());
+        assertEquals(10, counter.available());
+        assertEquals(0, counter.held());
+    }
+
+    @Test
+    void testReserveShouldTakeUnitsFromSeveralStripesWhenNeeded() {
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+        assertTrue(counter.tryReserve(9));
+        assertEquals(1, counter.available());
+        assertEquals(9, counter.held());
+        assertEquals(10, counter.stock());
+    }
+
+    @Test
+    void testReserveWithoutEnoughStockShouldFailAndKeepStock() {
+        StripedStockCounter counter = new StripedStockCounter(5, 4);
+
+        assertFalse(counter.tryReserve(6));
+        assertEquals(5, counter.available());
+        assertEquals(0, counter.held());
+        assertFalse(counter.clearDirty());
+    }
+
+    @Test
+    void testReleaseAndConfirmShouldMoveHeldUnits() {
+        StripedStockCounter counter = new StripedStockCounter(10, 2);
+        counter.tryReserve(3);
+        counter.tryReserve(2);
+
+        counter.release(3);
+        counter.confirm(2);
+
+        assertEquals(8, counter.available());
+        assertEquals(0, counter.held());
+        assertEquals(8, counter.stock());
+        assertTrue(counter.clearDirty());
+        assertFalse(counter.clearDirty());
+    }
+
+    @Test
+    void testAdjustShouldMoveAvailableUnitsAndKeepHeldOnes() {
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+        counter.tryReserve(6);
+        counter.clearDirty();
+
+        counter.adjust(5);
+        assertEquals(9, counter.available());
+        assertEquals(6, counter.held());
+        assertTrue(counter.clearDirty());
+
+        counter.adjust(-12);
+        assertEquals(0, counter.available());
+        assertEquals(6, counter.held());
+
+        counter.release(6);
+        assertEquals(6, counter.available());
+    }
+
+    @Test
+    void testConcurrentReservationsShouldNeverOversell() throws InterruptedException {
+        StripedStockCounter counter = new StripedStockCounter(1000, 8);
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 200; i++) {
+                    if (counter.tryReserve(1 + i % 3)) {
+                        reserved.addAndGet(1 + i % 3);
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(reserved.get(), counter.held());
+        assertEquals(1000, counter.available() + reserved.get());
+        assertTrue(counter.available() >= 0);
+        assertTrue(counter.available() < 3);
+    }
+}
@@ -1,6 +1,7 @@
 package com.mercadolibre.challenge.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,4 +23,15 @@ class JacksonConfigTest {
         assertTrue(json.contains("2025-07-26T10:30:00"));
         assertFalse(json.contains("timestamp"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testObjectMapperShouldWriteEveryProductFieldWithoutSelection() throws Exception {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+        String json = objectMapper.writeValueAsString(ProductResponseDTO.builder().id("prod-001").title("Phone").build());
+
+        assertTrue(json.contains("\"title\" : \"Phone\""));
+        assertTrue(json.contains("\"reviews\" : null"));
+        assertFalse(json.contains("thumbnail"));
+    }
+}
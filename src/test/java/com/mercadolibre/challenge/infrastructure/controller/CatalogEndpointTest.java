@@ -0,0 +1,66 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.Seller;
+import com.mercadolibre.challenge.infrastructure.adapter.output.ProductAdapter;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogReloadResult;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogReloader;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.CatalogSnapshot;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.FacetIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.ReviewIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SearchIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SellerIndex;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SortIndexes;
+import com.mercadolibre.challenge.infrastructure.adapter.output.catalog.SuggestIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogEndpointTest {
+
+    @Mock
+    private ProductAdapter productAdapter;
+
+    @Mock
+    private CatalogReloader catalogReloader;
+
+    @InjectMocks
+    private CatalogEndpoint catalogEndpoint;
+
+    @Test
+    void testCatalogShouldDescribeCurrentSnapshot() {
+        CatalogReloadResult lastReload = new CatalogReloadResult(4, 1, 1, 0, 0, 0, 0, 12);
+        when(productAdapter.currentSnapshot()).thenReturn(new CatalogSnapshot(4,
+                Map.of("prod-001", Product.builder().id("prod-001").build()),
+                Map.of("laptop", List.of("prod-001")), List.of("prod-001"), SortIndexes.empty(), SearchIndex.empty(),
+                SuggestIndex.empty(), FacetIndex.empty(), SellerIndex.build(Map.of("prod-001", Product.builder()
+                        .id("prod-001").seller(Seller.builder().id("seller-001").build()).build())), ReviewIndex.empty()));
+        when(catalogReloader.getLastResult()).thenReturn(Optional.of(lastReload));
+
+        Map<String, Object> details = catalogEndpoint.catalog();
+
+        assertEquals(4L, details.get("version"));
+        assertEquals(1, details.get("products"));
+        assertEquals(1, details.get("types"));
+        assertEquals(1, details.get("sellers"));
+        assertEquals(lastReload, details.get("lastReload"));
+    }
+
+    @Test
+    void testReloadShouldDelegateToReloader() {
+        CatalogReloadResult result = new CatalogReloadResult(5, 10, 2, 1, 0, 0, 7, 30);
+        when(catalogReloader.reload()).thenReturn(result);
+
+        assertEquals(result, catalogEndpoint.reload());
+    }
+}
@@ -0,0 +1,26 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductBatchMetricsTest {
+
+    @Test
+    void testRecordShouldTrackSizeMissingIdsAndDuration() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductBatchMetrics metrics = new ProductBatchMetrics(meterRegistry);
+
+        metrics.record(20, 2, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.record(200, 0, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(2, meterRegistry.get("products.batch.size").summary().count());
+        assertEquals(220, meterRegistry.get("products.batch.size").summary().totalAmount());
+        assertEquals(200, meterRegistry.get("products.batch.size").summary().max());
+        assertEquals(2, meterRegistry.get("products.batch.missing").summary().totalAmount());
+        assertEquals(8, meterRegistry.get("products.batch.duration").timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+}
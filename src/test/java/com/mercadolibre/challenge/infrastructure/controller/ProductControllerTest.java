@@ -1,10 +1,33 @@
 package com.mercadolibre.challenge.infrastructure.controller;
 
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FacetedPage;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
 import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.model.ProductFacets;
+import com.mercadolibre.challenge.domain.model.ProductFilter;
+import com.mercadolibre.challenge.domain.port.input.CreateProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.DeleteProductUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.FilterProductsUseCasePort;
 import com.mercadolibre.challenge.domain.port.input.GetAllProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.GetFacetedProductsUseCasePort;
 import com.mercadolibre.challenge.domain.port.input.GetProductByIdUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.GetProductsByIdsUseCasePort;
 import com.mercadolibre.challenge.domain.port.input.GetProductsByTypeUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.SearchProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.SuggestProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.UpdateProductUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.FacetedPageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.FilteredPageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.PageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductBatchRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductBatchResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductRequestDTO;
 import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
 import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,18 +36,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,9 +73,39 @@ class ProductControllerTest {
     @Mock
     private GetProductsByTypeUseCasePort getProductsByTypeUseCasePort;
 
+    @Mock
+    private CreateProductUseCasePort createProductUseCasePort;
+
+    @Mock
+    private UpdateProductUseCasePort updateProductUseCasePort;
+
+    @Mock
+    private DeleteProductUseCasePort deleteProductUseCasePort;
+
+    @Mock
+    private GetFacetedProductsUseCasePort getFacetedProductsUseCasePort;
+
+    @Mock
+    private FilterProductsUseCasePort filterProductsUseCasePort;
+
+    @Mock
+    private SearchProductsUseCasePort searchProductsUseCasePort;
+
+    @Mock
+    private SuggestProductsUseCasePort suggestProductsUseCasePort;
+
+    @Mock
+    private GetProductsByIdsUseCasePort getProductsByIdsUseCasePort;
+
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductBatchMetrics productBatchMetrics;
+
+    @Mock
+    private ProductNdjsonWriter productNdjsonWriter;
+
     @InjectMocks
     private ProductController productController;
 
@@ -96,29 +159,43 @@ class ProductControllerTest {
     @Test
     void testGetAllProductsShouldReturnAllProducts() throws ExecutionException, InterruptedException {
         when(getAllProductsUseCasePort.execute()).thenReturn(CompletableFuture.completedFuture(testProducts));
-        when(productMapper.toResponseDTOs(testProducts)).thenReturn(testProductResponseDTOs);
+        when(productMapper.toResponseDTOs(testProducts, ProductFields.ALL)).thenReturn(testProductResponseDTOs);
 
-        CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> result = productController.getAllProducts();
+        CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> result = productController.getAllProducts(null);
         ResponseEntity<List<ProductResponseDTO>> responseEntity = result.get();
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(testProductResponseDTOs, responseEntity.getBody());
         verify(getAllProductsUseCasePort).execute();
-        verify(productMapper).toResponseDTOs(testProducts);
+        verify(productMapper).toResponseDTOs(testProducts, ProductFields.ALL);
+    }
+
+    @Test
+    void testExportProductsShouldStreamThroughNdjsonWriter() throws ExecutionException, InterruptedException, IOException {
+        Stream<Product> products = testProducts.stream();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(getAllProductsUseCasePort.stream()).thenReturn(CompletableFuture.completedFuture(products));
+
+        ResponseEntity<StreamingResponseBody> responseEntity = productController.exportProducts(null).get();
+        responseEntity.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, responseEntity.getHeaders().getContentType());
+        verify(productNdjsonWriter).write(products, ProductFields.ALL, output);
     }
 
     @Test
     void testGetProductByIdWhenProductExistsShouldReturnProduct() throws ExecutionException, InterruptedException {
         when(getProductByIdUseCasePort.execute(productId)).thenReturn(CompletableFuture.completedFuture(Optional.of(testProduct)));
-        when(productMapper.toResponseDTO(testProduct)).thenReturn(testProductResponseDTO);
+        when(productMapper.toResponseDTO(testProduct, ProductFields.ALL)).thenReturn(testProductResponseDTO);
 
-        CompletableFuture<ResponseEntity<ProductResponseDTO>> result = productController.getProductById(productId);
+        CompletableFuture<ResponseEntity<ProductResponseDTO>> result = productController.getProductById(productId, null);
         ResponseEntity<ProductResponseDTO> responseEntity = result.get();
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(testProductResponseDTO, responseEntity.getBody());
         verify(getProductByIdUseCasePort).execute(productId);
-        verify(productMapper).toResponseDTO(testProduct);
+        verify(productMapper).toResponseDTO(testProduct, ProductFields.ALL);
     }
 
     @Test
@@ -126,7 +203,7 @@ class ProductControllerTest {
         String nonExistentId = "non-existent-id";
         when(getProductByIdUseCasePort.execute(nonExistentId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
 
-        CompletableFuture<ResponseEntity<ProductResponseDTO>> result = productController.getProductById(nonExistentId);
+        CompletableFuture<ResponseEntity<ProductResponseDTO>> result = productController.getProductById(nonExistentId, null);
         ResponseEntity<ProductResponseDTO> responseEntity = result.get();
 
         assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -140,15 +217,15 @@ class ProductControllerTest {
         List<ProductResponseDTO> electronicsProductDTOs = List.of(testProductResponseDTO);
         
         when(getProductsByTypeUseCasePort.execute(type)).thenReturn(CompletableFuture.completedFuture(electronicsProducts));
-        when(productMapper.toResponseDTOs(electronicsProducts)).thenReturn(electronicsProductDTOs);
+        when(productMapper.toResponseDTOs(electronicsProducts, ProductFields.ALL)).thenReturn(electronicsProductDTOs);
 
-        CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> result = productController.getProductsByType(type);
+        CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> result = productController.getProductsByType(type, null);
         ResponseEntity<List<ProductResponseDTO>> responseEntity = result.get();
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(electronicsProductDTOs, responseEntity.getBody());
         verify(getProductsByTypeUseCasePort).execute(type);
-        verify(productMapper).toResponseDTOs(electronicsProducts);
+        verify(productMapper).toResponseDTOs(electronicsProducts, ProductFields.ALL);
     }
     
     @Test
@@ -158,14 +235,159 @@ class ProductControllerTest {
         List<ProductResponseDTO> emptyDTOList = Collections.emptyList();
         
         when(getProductsByTypeUseCasePort.execute(type)).thenReturn(CompletableFuture.completedFuture(emptyList));
-        when(productMapper.toResponseDTOs(emptyList)).thenReturn(emptyDTOList);
+        when(productMapper.toResponseDTOs(emptyList, ProductFields.ALL)).thenReturn(emptyDTOList);
 
-        CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> result = productController.getProductsByType(type);
+        CompletableFuture<ResponseEntity<List<ProductResponseDTO>>> result = productController.getProductsByType(type, null);
         ResponseEntity<List<ProductResponseDTO>> responseEntity = result.get();
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertTrue(responseEntity.getBody().isEmpty());
         verify(getProductsByTypeUseCasePort).execute(type);
-        verify(productMapper).toResponseDTOs(emptyList);
+        verify(productMapper).toResponseDTOs(emptyList, ProductFields.ALL);
+    }
+
+    @Test
+    void testCreateProductShouldReturnCreated() throws ExecutionException, InterruptedException {
+        ProductRequestDTO request = ProductRequestDTO.builder().title("Test Product").price(new BigDecimal("99.99")).build();
+        when(productMapper.toEntity(request)).thenReturn(testProduct);
+        when(createProductUseCasePort.execute(testProduct)).thenReturn(CompletableFuture.completedFuture(testProduct));
+        when(productMapper.toResponseDTO(testProduct, ProductFields.ALL)).thenReturn(testProductResponseDTO);
+
+        ResponseEntity<ProductResponseDTO> responseEntity = productController.createProduct(request, null).get();
+
+        assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
+        assertEquals(testProductResponseDTO, responseEntity.getBody());
+    }
+
+    @Test
+    void testUpdateProductShouldReturnUpdatedProduct() throws ExecutionException, InterruptedException {
+        ProductRequestDTO request = ProductRequestDTO.builder().title("Test Product").price(new BigDecimal("99.99"))
+                .version(2L).build();
+        when(productMapper.toEntity(request)).thenReturn(testProduct);
+        when(updateProductUseCasePort.execute(productId, testProduct, 2L)).thenReturn(CompletableFuture.completedFuture(testProduct));
+        when(productMapper.toResponseDTO(testProduct, ProductFields.parse("title,price"))).thenReturn(testProductResponseDTO);
+
+        ResponseEntity<ProductResponseDTO> responseEntity = productController.updateProduct(productId, request, "title,price")
+                .get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(testProductResponseDTO, responseEntity.getBody());
+    }
+
+    @Test
+    void testDeleteProductShouldReturnNoContent() throws ExecutionException, InterruptedException {
+        when(deleteProductUseCasePort.execute(productId)).thenReturn(CompletableFuture.completedFuture(null));
+
+        ResponseEntity<Void> responseEntity = productController.deleteProduct(productId).get();
+
+        assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
+        verify(deleteProductUseCasePort).execute(productId);
+    }
+
+    @Test
+    void testGetFacetedProductsShouldBuildFilterFromParameters() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        ProductFilter filter = ProductFilter.builder()
+                .types(Set.of("electronics"))
+                .minRating(4)
+                .inStock(true)
+                .build();
+        FacetedPage<Product> facetedPage = FacetedPage.<Product>builder()
+                .page(Page.of(List.of(testProduct), 1, pageRequest))
+                .facets(ProductFacets.builder().types(Map.of("electronics", 1)).inStock(1).build())
+                .build();
+        FacetedPageResponseDTO response = FacetedPageResponseDTO.builder().build();
+        when(getFacetedProductsUseCasePort.execute(filter, pageRequest)).thenReturn(CompletableFuture.completedFuture(facetedPage));
+        when(productMapper.toFacetedPageResponseDTO(facetedPage, ProductFields.ALL)).thenReturn(response);
+
+        ResponseEntity<FacetedPageResponseDTO> responseEntity =
+                productController.getFacetedProducts(Set.of("electronics"), null, null, 4, true, 0, 10, null).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+
+    @Test
+    void testFilterProductsShouldReturnPageOfMatches() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        FilteredPage<Product> filteredPage = FilteredPage.<Product>builder()
+                .page(Page.of(List.of(testProduct), 1, pageRequest))
+                .build();
+        FilteredPageResponseDTO response = FilteredPageResponseDTO.builder().build();
+        when(filterProductsUseCasePort.execute("price < 500", false, pageRequest))
+                .thenReturn(CompletableFuture.completedFuture(filteredPage));
+        when(productMapper.toFilteredPageResponseDTO(filteredPage, ProductFields.ALL)).thenReturn(response);
+
+        ResponseEntity<FilteredPageResponseDTO> responseEntity =
+                productController.filterProducts("price < 500", false, 0, 10, null).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+
+    @Test
+    void testSearchProductsShouldReturnPageOfMatches() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Page<Product> page = Page.of(List.of(testProduct), 1, pageRequest);
+        PageResponseDTO<ProductResponseDTO> pageResponse = PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(testProductResponseDTO))
+                .totalElements(1)
+                .build();
+        when(searchProductsUseCasePort.execute("test", true, pageRequest)).thenReturn(CompletableFuture.completedFuture(page));
+        when(productMapper.toPageResponseDTO(page, ProductFields.ALL)).thenReturn(pageResponse);
+
+        ResponseEntity<PageResponseDTO<ProductResponseDTO>> responseEntity =
+                productController.searchProducts("test", true, 0, 10, null).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(pageResponse, responseEntity.getBody());
+    }
+
+    @Test
+    void testSuggestShouldReturnCompletions() throws ExecutionException, InterruptedException {
+        when(suggestProductsUseCasePort.execute("tes", 10)).thenReturn(CompletableFuture.completedFuture(List.of("test")));
+
+        ResponseEntity<List<String>> responseEntity = productController.suggest("tes", 10).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(List.of("test"), responseEntity.getBody());
+    }
+
+    @Test
+    void testGetProductsByIdsShouldReturnFoundAndMissingAndRecordMetrics() throws ExecutionException, InterruptedException {
+        List<String> ids = List.of(productId, "prod-404");
+        ProductBatch batch = ProductBatch.builder().products(List.of(testProduct)).missingIds(List.of("prod-404")).build();
+        ProductBatchResponseDTO response = ProductBatchResponseDTO.builder()
+                .products(List.of(testProductResponseDTO))
+                .missingIds(List.of("prod-404"))
+                .build();
+        when(getProductsByIdsUseCasePort.execute(ids)).thenReturn(CompletableFuture.completedFuture(batch));
+        when(productMapper.toProductBatchResponseDTO(batch, ProductFields.ALL)).thenReturn(response);
+
+        ResponseEntity<ProductBatchResponseDTO> responseEntity =
+                productController.getProductsByIds(ProductBatchRequestDTO.builder().ids(ids).build(), null).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+        verify(productBatchMetrics).record(eq(2), eq(1), anyLong());
+    }
+
+    @Test
+    void testSearchProductsWithFieldsShouldMapOnlySelectedFields() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Page<Product> page = Page.of(testProducts, 2, pageRequest);
+        PageResponseDTO<ProductResponseDTO> pageResponse = PageResponseDTO.<ProductResponseDTO>builder().build();
+        when(searchProductsUseCasePort.execute("test", false, pageRequest)).thenReturn(CompletableFuture.completedFuture(page));
+        when(productMapper.toPageResponseDTO(page, ProductFields.parse("title,price"))).thenReturn(pageResponse);
+
+        ResponseEntity<PageResponseDTO<ProductResponseDTO>> responseEntity =
+                productController.searchProducts("test", false, 0, 10, "title,price").get();
+
+        assertEquals(pageResponse, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetAllProductsWithUnknownFieldShouldFail() {
+        assertThrows(ProductValidationException.class, () -> productController.getAllProducts("id,secret"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.dto.PageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFieldsResponseAdviceTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final ProductFieldsResponseAdvice advice = new ProductFieldsResponseAdvice();
+    private final PageResponseDTO<ProductResponseDTO> body = PageResponseDTO.<ProductResponseDTO>builder()
+            .content(List.of(ProductResponseDTO.builder().id("prod-001").title("Phone").price(BigDecimal.TEN).build()))
+            .totalElements(1)
+            .build();
+
+    @Test
+    void testWithFieldsShouldWriteOnlySelectedProductFields() throws Exception {
+        String json = write("title");
+
+        assertTrue(json.contains("\"title\" : \"Phone\""));
+        assertTrue(json.contains("\"id\" : \"prod-001\""));
+        assertTrue(json.contains("\"totalElements\" : 1"));
+        assertFalse(json.contains("price"));
+        assertFalse(json.contains("reviews"));
+    }
+
+    @Test
+    void testWithoutFieldsShouldWriteEveryField() throws Exception {
+        String json = write(null);
+
+        assertTrue(json.contains("\"price\" : 10"));
+        assertTrue(json.contains("\"reviews\" : null"));
+    }
+
+    @Test
+    void testWithUnknownFieldShouldLeaveBodyUnfiltered() throws Exception {
+        String json = write("secret");
+
+        assertTrue(json.contains("\"price\" : 10"));
+    }
+
+    private String write(String fields) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/page");
+        if (fields != null) {
+            request.setParameter(ProductFieldsResponseAdvice.FIELDS_PARAMETER, fields);
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        advice.beforeBodyWriteInternal(value, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+        return value.getFilters() == null
+                ? objectMapper.writeValueAsString(value.getValue())
+                : objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue());
+    }
+}
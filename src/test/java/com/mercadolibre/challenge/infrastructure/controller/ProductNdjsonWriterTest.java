@@ -0,0 +1,107 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.infrastructure.config.JacksonConfig;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductNdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final ProductNdjsonWriter writer = new ProductNdjsonWriter(objectMapper, new ProductMapper());
+
+    @Test
+    void testWriteShouldWriteOneCompactProductPerLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = writer.write(Stream.of(
+                Product.builder().id("prod-1").title("Phone").price(new BigDecimal("10.50")).build(),
+                Product.builder().id("prod-2").title("Laptop").build()), ProductFields.ALL, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2, written);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        ProductResponseDTO first = objectMapper.readValue(lines[0], ProductResponseDTO.class);
+        assertEquals("prod-1", first.id());
+        assertEquals(new BigDecimal("10.50"), first.price());
+        assertEquals("prod-2", objectMapper.readValue(lines[1], ProductResponseDTO.class).id());
+    }
+
+    @Test
+    void testWriteShouldFlushInBatchesCloseTheStreamAndLeaveTheOutputOpen() throws IOException {
+        int products = ProductNdjsonWriter.FLUSH_EVERY * 2 + 10;
+        CountingOutputStream output = new CountingOutputStream();
+        AtomicBoolean streamClosed = new AtomicBoolean();
+
+        long written = writer.write(IntStream.range(0, products)
+                .mapToObj(i -> Product.builder().id("prod-" + i).build())
+                .onClose(() -> streamClosed.set(true)), ProductFields.ALL, output);
+
+        assertEquals(products, written);
+        assertEquals(products, output.lines);
+        // Two batch flushes and the final one when the generator closes
+        assertEquals(3, output.flushes);
+        assertTrue(streamClosed.get());
+        assertFalse(output.closed);
+    }
+
+    @Test
+    void testWriteWithSelectedFieldsShouldWriteOnlyThem() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        writer.write(Stream.of(Product.builder().id("prod-1").title("Phone").price(BigDecimal.TEN)
+                .images(List.of("a.jpg", "b.jpg")).stock(3).build()), ProductFields.parse("title,thumbnail"), output);
+
+        assertEquals("{\"id\":\"prod-1\",\"title\":\"Phone\",\"thumbnail\":\"a.jpg\"}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteWithEmptyStreamShouldWriteNothing() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertEquals(0, writer.write(List.<Product>of().stream(), ProductFields.ALL, output));
+        assertEquals(0, output.size());
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int lines;
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] == '\n') {
+                    lines++;
+                }
+            }
+            super.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
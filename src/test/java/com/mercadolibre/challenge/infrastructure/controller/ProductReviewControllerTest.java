@@ -0,0 +1,100 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
+import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSort;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.domain.model.SortDirection;
+import com.mercadolibre.challenge.domain.port.input.GetProductReviewsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.SubmitReviewUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.ProductReviewsResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ReviewRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ReviewSubmissionResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReviewControllerTest {
+
+    @Mock
+    private GetProductReviewsUseCasePort getProductReviewsUseCasePort;
+
+    @Mock
+    private SubmitReviewUseCasePort submitReviewUseCasePort;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private ProductReviewController productReviewController;
+
+    @Test
+    void testGetProductReviewsShouldReturnPageAndSummary() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(2, 20).toBuilder().direction(SortDirection.ASC).build();
+        ProductReviews reviews = ProductReviews.builder().productId("prod-001").page(Page.empty()).build();
+        ProductReviewsResponseDTO response = ProductReviewsResponseDTO.builder().productId("prod-001").build();
+        when(getProductReviewsUseCasePort.execute("prod-001", ReviewSort.RATING, pageRequest))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(reviews)));
+        when(productMapper.toProductReviewsResponseDTO(reviews)).thenReturn(response);
+
+        ResponseEntity<ProductReviewsResponseDTO> responseEntity =
+                productReviewController.getProductReviews("prod-001", 2, 20, "rating", "asc").get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetProductReviewsWithUnknownProductShouldReturnNotFound() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(0, 10).toBuilder().direction(SortDirection.DESC).build();
+        when(getProductReviewsUseCasePort.execute("prod-999", ReviewSort.DATE, pageRequest))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        ResponseEntity<ProductReviewsResponseDTO> responseEntity =
+                productReviewController.getProductReviews("prod-999", 0, 10, "date", "desc").get();
+
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    }
+
+    @Test
+    void testGetProductReviewsWithUnknownSortShouldThrow() {
+        ProductValidationException exception = assertThrows(ProductValidationException.class,
+                () -> productReviewController.getProductReviews("prod-001", 0, 10, "helpful", "desc"));
+
+        assertEquals("Unknown review sort: helpful", exception.getMessage());
+    }
+
+    @Test
+    void testSubmitReviewShouldReturnCreated() throws ExecutionException, InterruptedException {
+        ReviewRequestDTO request = ReviewRequestDTO.builder().userName("Ana").rating(5).build();
+        Review review = Review.builder().userName("Ana").rating(5).build();
+        ReviewSubmission submission = ReviewSubmission.builder().productId("prod-001").review(review).rating(4.5).reviewCount(2).build();
+        ReviewSubmissionResponseDTO response = ReviewSubmissionResponseDTO.builder().productId("prod-001").rating(4.5).build();
+        when(productMapper.toReviewEntity(request)).thenReturn(review);
+        when(submitReviewUseCasePort.execute("prod-001", review)).thenReturn(CompletableFuture.completedFuture(submission));
+        when(productMapper.toReviewSubmissionResponseDTO(submission)).thenReturn(response);
+
+        ResponseEntity<ReviewSubmissionResponseDTO> responseEntity =
+                productReviewController.submitReview("prod-001", request).get();
+
+        assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+}
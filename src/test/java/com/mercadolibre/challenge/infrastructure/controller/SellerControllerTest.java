@@ -0,0 +1,103 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageCursor;
+import com.mercadolibre.challenge.domain.model.PageRequest;
+import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.SellerStats;
+import com.mercadolibre.challenge.domain.port.input.GetSellerProductsUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.GetSellerStatsUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.PageResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.SellerStatsDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductFields;
+import com.mercadolibre.challenge.infrastructure.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SellerControllerTest {
+
+    @Mock
+    private GetSellerProductsUseCasePort getSellerProductsUseCasePort;
+
+    @Mock
+    private GetSellerStatsUseCasePort getSellerStatsUseCasePort;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private SellerController sellerController;
+
+    @Test
+    void testGetSellerProductsShouldReturnPage() throws ExecutionException, InterruptedException {
+        PageRequest pageRequest = PageRequest.of(1, 5);
+        Page<Product> page = Page.of(List.of(Product.builder().id("prod-001").build()), 6, pageRequest);
+        PageResponseDTO<ProductResponseDTO> response = PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(ProductResponseDTO.builder().id("prod-001").build()))
+                .build();
+        when(getSellerProductsUseCasePort.execute("seller-001", pageRequest)).thenReturn(CompletableFuture.completedFuture(page));
+        when(productMapper.toPageResponseDTO(page, ProductFields.ALL)).thenReturn(response);
+
+        ResponseEntity<PageResponseDTO<ProductResponseDTO>> responseEntity =
+                sellerController.getSellerProducts("seller-001", 1, 5, null, null).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetSellerProductsWithCursorShouldSeekAfterIt() throws ExecutionException, InterruptedException {
+        PageCursor cursor = PageCursor.of(3, "prod-005");
+        PageRequest pageRequest = PageRequest.after(cursor, 5);
+        Page<Product> page = Page.of(List.of(), 0, pageRequest);
+        PageResponseDTO<ProductResponseDTO> response = PageResponseDTO.<ProductResponseDTO>builder().build();
+        when(productMapper.toPageCursor("token")).thenReturn(cursor);
+        when(getSellerProductsUseCasePort.execute("seller-001", pageRequest)).thenReturn(CompletableFuture.completedFuture(page));
+        when(productMapper.toPageResponseDTO(page, ProductFields.ALL)).thenReturn(response);
+
+        ResponseEntity<PageResponseDTO<ProductResponseDTO>> responseEntity =
+                sellerController.getSellerProducts("seller-001", 0, 5, "token", null).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetSellerStatsShouldReturnStats() throws ExecutionException, InterruptedException {
+        SellerStats stats = SellerStats.builder().sellerId("seller-001").productCount(2).totalStock(7L)
+                .averageRating(4.5).build();
+        SellerStatsDTO response = SellerStatsDTO.builder().sellerId("seller-001").productCount(2).totalStock(7L)
+                .averageRating(4.5).build();
+        when(getSellerStatsUseCasePort.execute("seller-001")).thenReturn(CompletableFuture.completedFuture(Optional.of(stats)));
+        when(productMapper.toSellerStatsDTO(stats)).thenReturn(response);
+
+        ResponseEntity<SellerStatsDTO> responseEntity = sellerController.getSellerStats("seller-001").get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(response, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetSellerStatsWithUnknownSellerShouldReturnNotFound() throws ExecutionException, InterruptedException {
+        when(getSellerStatsUseCasePort.execute("seller-999")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        ResponseEntity<SellerStatsDTO> responseEntity = sellerController.getSellerStats("seller-999").get();
+
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    }
+}
@@ -0,0 +1,90 @@
+package com.mercadolibre.challenge.infrastructure.controller;
+
+import com.mercadolibre.challenge.domain.model.StockReservation;
+import com.mercadolibre.challenge.domain.port.input.ConfirmStockUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.ReleaseStockUseCasePort;
+import com.mercadolibre.challenge.domain.port.input.ReserveStockUseCasePort;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationReferenceDTO;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.StockReservationResponseDTO;
+import com.mercadolibre.challenge.infrastructure.mapper.StockReservationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockControllerTest {
+
+    @Mock
+    private ReserveStockUseCasePort reserveStockUseCasePort;
+
+    @Mock
+    private ReleaseStockUseCasePort releaseStockUseCasePort;
+
+    @Mock
+    private ConfirmStockUseCasePort confirmStockUseCasePort;
+
+    @Mock
+    private StockReservationMapper stockReservationMapper;
+
+    @InjectMocks
+    private StockController stockController;
+
+    private StockReservation reservation;
+    private StockReservationResponseDTO responseDTO;
+    private final String productId = "prod-001";
+
+    @BeforeEach
+    void setUp() {
+        reservation = StockReservation.builder().id("res-001").productId(productId).quantity(2).remainingStock(8).build();
+        responseDTO = StockReservationResponseDTO.builder().reservationId("res-001").productId(productId)
+                .quantity(2).remainingStock(8).build();
+    }
+
+    @Test
+    void testReserveShouldReturnCreated() throws ExecutionException, InterruptedException {
+        when(reserveStockUseCasePort.execute(productId, 2)).thenReturn(CompletableFuture.completedFuture(reservation));
+        when(stockReservationMapper.toResponseDTO(reservation)).thenReturn(responseDTO);
+
+        ResponseEntity<StockReservationResponseDTO> responseEntity = stockController.reserve(productId,
+                StockReservationRequestDTO.builder().quantity(2).build()).get();
+
+        assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
+        assertEquals(responseDTO, responseEntity.getBody());
+    }
+
+    @Test
+    void testReleaseShouldReturnReleasedReservation() throws ExecutionException, InterruptedException {
+        when(releaseStockUseCasePort.execute(productId, "res-001")).thenReturn(CompletableFuture.completedFuture(reservation));
+        when(stockReservationMapper.toResponseDTO(reservation)).thenReturn(responseDTO);
+
+        ResponseEntity<StockReservationResponseDTO> responseEntity = stockController.release(productId,
+                StockReservationReferenceDTO.builder().reservationId("res-001").build()).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(responseDTO, responseEntity.getBody());
+    }
+
+    @Test
+    void testConfirmShouldReturnConfirmedReservation() throws ExecutionException, InterruptedException {
+        when(confirmStockUseCasePort.execute(productId, "res-001")).thenReturn(CompletableFuture.completedFuture(reservation));
+        when(stockReservationMapper.toResponseDTO(reservation)).thenReturn(responseDTO);
+
+        ResponseEntity<StockReservationResponseDTO> responseEntity = stockController.confirm(productId,
+                StockReservationReferenceDTO.builder().reservationId("res-001").build()).get();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(responseDTO, responseEntity.getBody());
+    }
+}
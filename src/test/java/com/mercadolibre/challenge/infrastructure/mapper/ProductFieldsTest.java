@@ -0,0 +1,39 @@
+package com.mercadolibre.challenge.infrastructure.mapper;
+
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFieldsTest {
+
+    @Test
+    void testParseWithoutFieldsShouldSelectEveryFieldButThumbnail() {
+        assertSame(ProductFields.ALL, ProductFields.parse(null));
+        assertSame(ProductFields.ALL, ProductFields.parse(" "));
+        assertTrue(ProductFields.ALL.includes(ProductFields.Field.REVIEWS));
+        assertFalse(ProductFields.ALL.includes(ProductFields.Field.THUMBNAIL));
+        assertTrue(ProductFields.ALL.isAll());
+    }
+
+    @Test
+    void testParseShouldAlwaysIncludeIdAndIgnoreBlanks() {
+        ProductFields fields = ProductFields.parse(" title, price,,thumbnail ");
+
+        assertEquals(Set.of("id", "title", "price", "thumbnail"), fields.fieldNames());
+        assertTrue(fields.includes(ProductFields.Field.PRICE));
+        assertFalse(fields.includes(ProductFields.Field.REVIEWS));
+        assertFalse(fields.isAll());
+        assertEquals(fields, ProductFields.parse("thumbnail,price,title,id"));
+    }
+
+    @Test
+    void testParseWithUnknownFieldShouldFail() {
+        ProductValidationException exception = assertThrows(ProductValidationException.class,
+                () -> ProductFields.parse("title,secret"));
+
+        assertEquals("Unknown product field: secret", exception.getMessage());
+    }
+}
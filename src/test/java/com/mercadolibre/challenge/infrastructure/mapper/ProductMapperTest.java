@@ -1,22 +1,42 @@
 package com.mercadolibre.challenge.infrastructure.mapper;
 
+import com.mercadolibre.challenge.domain.exception.ProductValidationException;
+import com.mercadolibre.challenge.domain.model.FilterPlan;
+import com.mercadolibre.challenge.domain.model.FilteredPage;
+import com.mercadolibre.challenge.domain.model.Page;
+import com.mercadolibre.challenge.domain.model.PageCursor;
+import com.mercadolibre.challenge.domain.model.PageRequest;
 import com.mercadolibre.challenge.domain.model.PaymentMethod;
 import com.mercadolibre.challenge.domain.model.Product;
+import com.mercadolibre.challenge.domain.model.ProductBatch;
+import com.mercadolibre.challenge.domain.model.ProductReviews;
 import com.mercadolibre.challenge.domain.model.Review;
+import com.mercadolibre.challenge.domain.model.ReviewSubmission;
+import com.mercadolibre.challenge.domain.model.ReviewSummary;
 import com.mercadolibre.challenge.domain.model.Seller;
+import com.mercadolibre.challenge.domain.model.SellerStats;
+import com.mercadolibre.challenge.infrastructure.dto.FilteredPageResponseDTO;
 import com.mercadolibre.challenge.infrastructure.dto.PaymentMethodDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductBatchResponseDTO;
 import com.mercadolibre.challenge.infrastructure.dto.ProductRequestDTO;
 import com.mercadolibre.challenge.infrastructure.dto.ProductResponseDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ProductReviewsResponseDTO;
 import com.mercadolibre.challenge.infrastructure.dto.ReviewDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ReviewRequestDTO;
+import com.mercadolibre.challenge.infrastructure.dto.ReviewSubmissionResponseDTO;
 import com.mercadolibre.challenge.infrastructure.dto.SellerDTO;
+import com.mercadolibre.challenge.infrastructure.dto.SellerStatsDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -265,4 +285,143 @@ class ProductMapperTest {
         assertEquals(product, result1);
         assertNull(result2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCursorTokenShouldRoundTrip() {
+        PageCursor cursor = PageCursor.of(42, "prod:001");
+
+        String token = productMapper.toCursorToken(cursor);
+
+        assertFalse(token.contains("prod"));
+        assertEquals(cursor, productMapper.toPageCursor(token));
+        assertNull(productMapper.toCursorToken(null));
+    }
+
+    @Test
+    void testToPageCursorWhenTokenIsInvalidShouldThrowValidationException() {
+        assertThrows(ProductValidationException.class, () -> productMapper.toPageCursor("not a cursor"));
+        String nonNumericVersion = Base64.getUrlEncoder().encodeToString("latest:prod-001".getBytes(StandardCharsets.UTF_8));
+        assertThrows(ProductValidationException.class, () -> productMapper.toPageCursor(nonNumericVersion));
+    }
+
+    @Test
+    void testToFilteredPageResponseDTOShouldMapPlanOnlyWhenPresent() {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Page<Product> page = Page.of(List.of(Product.builder().id("prod-001").build()), 1, pageRequest);
+        FilterPlan plan = FilterPlan.builder()
+                .expression("price < 500")
+                .accessPath("PRICE_INDEX")
+                .indexCondition("price < 500")
+                .estimatedRows(Map.of("FULL_SCAN", 10L, "PRICE_INDEX", 1L))
+                .examinedRows(1)
+                .matchedRows(1)
+                .build();
+
+        FilteredPageResponseDTO withPlan = productMapper.toFilteredPageResponseDTO(
+                FilteredPage.<Product>builder().page(page).plan(plan).build());
+        FilteredPageResponseDTO withoutPlan = productMapper.toFilteredPageResponseDTO(
+                FilteredPage.<Product>builder().page(page).build());
+
+        assertEquals("PRICE_INDEX", withPlan.plan().accessPath());
+        assertEquals(1L, withPlan.plan().estimatedRows().get("PRICE_INDEX"));
+        assertEquals(1L, withPlan.plan().matchedRows());
+        assertEquals(1, withPlan.page().getContent().size());
+        assertNull(withoutPlan.plan());
+    }
+
+    @Test
+    void testToSellerStatsDTOShouldMapAggregates() {
+        SellerStatsDTO dto = productMapper.toSellerStatsDTO(SellerStats.builder()
+                .sellerId("seller-001").productCount(3).totalStock(12).build());
+
+        assertEquals("seller-001", dto.sellerId());
+        assertEquals(3, dto.productCount());
+        assertEquals(12L, dto.totalStock());
+        assertNull(dto.averageRating());
+    }
+
+    @Test
+    void testToProductReviewsResponseDTOShouldMapSummaryAndPage() {
+        PageRequest pageRequest = PageRequest.of(1, 1);
+        ProductReviewsResponseDTO dto = productMapper.toProductReviewsResponseDTO(ProductReviews.builder()
+                .productId("prod-001")
+                .summary(ReviewSummary.builder().reviewCount(3).averageRating(4.0)
+                        .histogram(Map.of(1, 0, 2, 0, 3, 1, 4, 1, 5, 1)).build())
+                .page(Page.of(List.of(Review.builder().id("rev-2").userName("Ana").rating(4).build()), 3, pageRequest))
+                .build());
+
+        assertEquals("prod-001", dto.productId());
+        assertEquals(3, dto.summary().reviewCount());
+        assertEquals(4.0, dto.summary().averageRating());
+        assertEquals(1, dto.summary().histogram().get(5));
+        assertEquals(List.of("rev-2"), dto.page().getContent().stream().map(ReviewDTO::id).toList());
+        assertEquals(3, dto.page().getTotalElements());
+        assertTrue(dto.page().isHasPrevious());
+        assertTrue(dto.page().isHasNext());
+    }
+
+    @Test
+    void testToReviewEntityShouldMapRequest() {
+        Review review = productMapper.toReviewEntity(ReviewRequestDTO.builder()
+                .userId("user-1").userName("Ana").comment("Great").rating(5).build());
+
+        assertNull(review.getId());
+        assertEquals("user-1", review.getUserId());
+        assertEquals("Ana", review.getUserName());
+        assertEquals("Great", review.getComment());
+        assertEquals(5, review.getRating());
+    }
+
+    @Test
+    void testToReviewSubmissionResponseDTOShouldMapReviewAndRating() {
+        ReviewSubmissionResponseDTO dto = productMapper.toReviewSubmissionResponseDTO(ReviewSubmission.builder()
+                .productId("prod-001")
+                .review(Review.builder().id("rev-3").userName("Ana").rating(3).build())
+                .rating(4.25)
+                .reviewCount(4)
+                .build());
+
+        assertEquals("prod-001", dto.productId());
+        assertEquals("rev-3", dto.review().id());
+        assertEquals(4.25, dto.rating());
+        assertEquals(4, dto.reviewCount());
+    }
+
+    @Test
+    void testToProductBatchResponseDTOShouldMapProductsAndMissingIds() {
+        ProductBatchResponseDTO dto = productMapper.toProductBatchResponseDTO(ProductBatch.builder()
+                .products(List.of(Product.builder().id("prod-001").title("Phone").build()))
+                .missingIds(List.of("prod-404"))
+                .build());
+
+        assertEquals(1, dto.products().size());
+        assertEquals("prod-001", dto.products().get(0).id());
+        assertEquals(List.of("prod-404"), dto.missingIds());
+    }
+
+    @Test
+    void testToResponseDTOWithFieldsShouldMapOnlySelectedFields() {
+        Product product = Product.builder()
+                .id("prod-001")
+                .title("Phone")
+                .price(new BigDecimal("10.00"))
+                .images(List.of("front.jpg", "back.jpg"))
+                .reviews(List.of(Review.builder().id("rev-1").comment("Great").build()))
+                .paymentMethods(List.of(PaymentMethod.builder().id("pm-001").build()))
+                .stock(4)
+                .build();
+
+        ProductResponseDTO dto = productMapper.toResponseDTO(product, ProductFields.parse("title,price,thumbnail"));
+
+        assertEquals("prod-001", dto.id());
+        assertEquals("Phone", dto.title());
+        assertEquals(new BigDecimal("10.00"), dto.price());
+        assertEquals("front.jpg", dto.thumbnail());
+        assertNull(dto.images());
+        assertNull(dto.reviews());
+        assertNull(dto.paymentMethods());
+        assertNull(dto.stock());
+        assertNull(dto.version());
+        assertNull(productMapper.toResponseDTO(product).thumbnail());
+    }
+}